@@ -2,6 +2,7 @@
 
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.function.BiConsumer;
@@ -23,6 +24,7 @@
 import io.quarkus.bootstrap.runner.RunnerClassLoader;
 import io.quarkus.runtime.configuration.ConfigurationException;
 import io.quarkus.runtime.graal.DiagnosticPrinter;
+import io.quarkus.runtime.logging.RingBufferAsyncHandler;
 import io.quarkus.runtime.util.ExceptionUtil;
 import io.quarkus.runtime.util.StringUtil;
 import io.smallrye.config.ConfigValidationException;
@@ -238,6 +240,10 @@ public static void run(Application application, Class<? extends QuarkusApplicati
     private static void ensureConsoleLogsDrained() {
         AsyncHandler asyncHandler = null;
         for (Handler handler : InitialConfigurator.DELAYED_HANDLER.getHandlers()) {
+            if (handler instanceof RingBufferAsyncHandler ringBufferHandler) {
+                // the ring buffer handler tracks the flushed records, so there is no need to sleep
+                ringBufferHandler.awaitDrained(200, TimeUnit.MILLISECONDS);
+            }
             if (handler instanceof AsyncHandler) {
                 asyncHandler = (AsyncHandler) handler;
                 Handler[] nestedHandlers = asyncHandler.getHandlers();
@@ -22,6 +22,14 @@ public class LogMetricsHandlerRecorder {
 
     static final String METRIC_DESCRIPTION = "Number of log events, per log level. Non-standard levels are counted with the lower standard level.";
 
+    static final String DROPPED_METRIC_NAME = "log.async.dropped";
+
+    static final String DROPPED_METRIC_DESCRIPTION = "Number of log events discarded by the ring buffer async handlers, per log level.";
+
+    static final String QUEUE_DEPTH_METRIC_NAME = "log.async.queue.depth";
+
+    static final String QUEUE_DEPTH_METRIC_DESCRIPTION = "Number of log events waiting in the ring buffer async handlers.";
+
     static final List<Level> STANDARD_LEVELS = Arrays.asList(Level.FATAL, Level.ERROR, Level.WARN, Level.INFO, Level.DEBUG,
             Level.TRACE);
 
@@ -42,7 +50,12 @@ public void accept(MetricsFactory metricsFactory) {
                 for (Level level : STANDARD_LEVELS) {
                     metricsFactory.builder(METRIC_NAME).description(METRIC_DESCRIPTION).tag("level", level.getName())
                             .buildCounter(COUNTERS.get(level.intValue())::sum);
+                    metricsFactory.builder(DROPPED_METRIC_NAME).description(DROPPED_METRIC_DESCRIPTION)
+                            .tag("level", level.getName())
+                            .buildCounter(RingBufferAsyncHandler.DROPPED.get(level.intValue())::sum);
                 }
+                metricsFactory.builder(QUEUE_DEPTH_METRIC_NAME).description(QUEUE_DEPTH_METRIC_DESCRIPTION)
+                        .buildGauge(RingBufferAsyncHandler::queueDepth);
             }
         };
     }
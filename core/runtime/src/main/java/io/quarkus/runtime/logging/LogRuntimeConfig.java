@@ -516,5 +516,39 @@ interface AsyncConfig {
          */
         @WithDefault("block")
         OverflowAction overflow();
+
+        /**
+         * Ring buffer config
+         */
+        RingBufferConfig ringBuffer();
+
+        interface RingBufferConfig {
+
+            /**
+             * Indicates whether to pass the records to the handler through a lock-free ring buffer instead of a blocking
+             * queue.
+             * <p>
+             * The size of the ring buffer is the queue length rounded up to the next power of two. The handler is flushed
+             * once per batch of records instead of after each record.
+             */
+            @WithDefault("false")
+            boolean enabled();
+
+            /**
+             * Determine what happens when the ring buffer is full.
+             * <p>
+             * With {@code drop-debug-first}, the records with a level lower than {@code INFO} are discarded as soon as the
+             * ring buffer is three quarters full, and the other records block the publisher when the ring buffer is full.
+             * <p>
+             * If not set, the value of the {@code overflow} property is used.
+             */
+            Optional<RingBufferAsyncHandler.OverflowPolicy> overflow();
+
+            /**
+             * The maximum number of records passed to the handler before it is flushed
+             */
+            @WithDefault("256")
+            int batchSize();
+        }
     }
 }
@@ -848,7 +848,17 @@ private static Handler configureSocketHandler(final LogRuntimeConfig.SocketConfi
         }
     }
 
-    private static AsyncHandler createAsyncHandler(LogRuntimeConfig.AsyncConfig asyncConfig, Level level, Handler handler) {
+    private static ExtHandler createAsyncHandler(LogRuntimeConfig.AsyncConfig asyncConfig, Level level, Handler handler) {
+        if (asyncConfig.ringBuffer().enabled()) {
+            final RingBufferAsyncHandler ringBufferHandler = new RingBufferAsyncHandler(asyncConfig.queueLength(),
+                    asyncConfig.ringBuffer().overflow().orElse(asyncConfig.overflow() == AsyncHandler.OverflowAction.DISCARD
+                            ? RingBufferAsyncHandler.OverflowPolicy.DISCARD
+                            : RingBufferAsyncHandler.OverflowPolicy.BLOCK),
+                    asyncConfig.ringBuffer().batchSize());
+            ringBufferHandler.addHandler(handler);
+            ringBufferHandler.setLevel(level);
+            return ringBufferHandler;
+        }
         final AsyncHandler asyncHandler = new AsyncHandler(asyncConfig.queueLength());
         asyncHandler.setOverflowAction(asyncConfig.overflow());
         asyncHandler.addHandler(handler);
@@ -0,0 +1,345 @@
+package io.quarkus.runtime.logging;
+
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.Level;
+
+/**
+ * An asynchronous handler that passes the records to the nested handlers through a bounded lock-free ring buffer.
+ * <p>
+ * The publishing threads claim a slot of the ring buffer with a single CAS and never take a lock. A single consumer thread
+ * publishes the records to the nested handlers in batches and flushes the nested handlers once per batch, i.e. the nested
+ * handlers do not flush after each record.
+ * <p>
+ * The number of discarded records and the number of records waiting in the ring buffers are exposed as metrics by the
+ * {@link LogMetricsHandlerRecorder}.
+ */
+public class RingBufferAsyncHandler extends ExtHandler {
+
+    /**
+     * Determines what happens when a record is published and the ring buffer is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Wait until there is free space in the ring buffer.
+         */
+        BLOCK,
+        /**
+         * Discard the record.
+         */
+        DISCARD,
+        /**
+         * Discard the records with a level lower than {@code INFO} as soon as the ring buffer is three quarters full, so that
+         * the remaining space is reserved for more important records. The other records wait until there is free space in
+         * the ring buffer.
+         */
+        DROP_DEBUG_FIRST,
+    }
+
+    // standard level -> number of discarded records
+    static final NavigableMap<Integer, LongAdder> DROPPED;
+
+    static {
+        NavigableMap<Integer, LongAdder> dropped = new TreeMap<>();
+        for (Level level : LogMetricsHandlerRecorder.STANDARD_LEVELS) {
+            // Use integer value to match any non-standard equivalent level
+            dropped.put(level.intValue(), new LongAdder());
+        }
+        DROPPED = dropped;
+    }
+
+    // The open handlers, used to compute the queue depth
+    static final Set<RingBufferAsyncHandler> HANDLERS = ConcurrentHashMap.newKeySet();
+
+    private static final int NEW = 0;
+    private static final int RUNNING = 1;
+    private static final int CLOSED = 2;
+
+    private static final int SPIN_TRIES = 100;
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final ExtLogRecord[] buffer;
+    // The sequence of a slot is equal to the position if the slot is free, and to position + 1 if the slot holds a record
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final int highWaterMark;
+    private final OverflowPolicy overflowPolicy;
+    private final int batchSize;
+    private final AtomicLong tail;
+    private final AtomicInteger state;
+    private final Thread thread;
+
+    // Only written by the consumer thread
+    private volatile long head;
+    private volatile long flushed;
+    private volatile boolean sleeping;
+
+    /**
+     *
+     * @param capacity the capacity is rounded up to the next power of two, and to at least two since the consumer could not
+     *        tell a free slot from a full slot of a single slot ring buffer
+     * @param overflowPolicy
+     * @param batchSize the maximum number of records published to the nested handlers before they are flushed
+     */
+    public RingBufferAsyncHandler(int capacity, OverflowPolicy overflowPolicy, int batchSize) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Invalid ring buffer capacity: " + capacity);
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Invalid batch size: " + batchSize);
+        }
+        int size = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        this.buffer = new ExtLogRecord[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.mask = size - 1;
+        this.highWaterMark = size - (size >> 2);
+        this.overflowPolicy = overflowPolicy;
+        this.batchSize = batchSize;
+        this.tail = new AtomicLong();
+        this.state = new AtomicInteger(NEW);
+        this.thread = new Thread(this::consume, "quarkus-log-ring-buffer");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * @return the capacity of the ring buffer
+     */
+    public int getCapacity() {
+        return buffer.length;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * @return the approximate number of records waiting in the ring buffer
+     */
+    public int size() {
+        long size = tail.get() - head;
+        return size <= 0 ? 0 : (int) Math.min(size, buffer.length);
+    }
+
+    /**
+     * The nested handlers are flushed by this handler after each batch.
+     */
+    @Override
+    public void addHandler(Handler handler) throws SecurityException {
+        if (handler instanceof ExtHandler extHandler) {
+            extHandler.setAutoFlush(false);
+        }
+        super.addHandler(handler);
+    }
+
+    @Override
+    protected void doPublish(ExtLogRecord record) {
+        switch (state.get()) {
+            case NEW:
+                if (state.compareAndSet(NEW, RUNNING)) {
+                    HANDLERS.add(this);
+                    thread.start();
+                }
+                break;
+            case RUNNING:
+                break;
+            default:
+                return;
+        }
+        if (isCallerCalculationRequired()) {
+            record.copyAll();
+        } else {
+            record.disableCallerCalculation();
+            record.copyMdc();
+        }
+        if (Thread.currentThread() == thread) {
+            // A nested handler logs a message, waiting for free space would never end
+            publishToNestedHandlers(record);
+            return;
+        }
+        boolean lowLevel = record.getLevel().intValue() < Level.INFO.intValue();
+        if (overflowPolicy == OverflowPolicy.DROP_DEBUG_FIRST && lowLevel && size() >= highWaterMark) {
+            dropped(record);
+            return;
+        }
+        if (offer(record)) {
+            wakeUpConsumer();
+            return;
+        }
+        if (overflowPolicy == OverflowPolicy.DISCARD || (overflowPolicy == OverflowPolicy.DROP_DEBUG_FIRST && lowLevel)) {
+            dropped(record);
+            return;
+        }
+        int tries = 0;
+        while (!offer(record)) {
+            if (state.get() == CLOSED || Thread.currentThread().isInterrupted()) {
+                dropped(record);
+                return;
+            }
+            wakeUpConsumer();
+            if (tries++ < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(this, PARK_NANOS);
+            }
+        }
+        wakeUpConsumer();
+    }
+
+    @Override
+    public void close() throws SecurityException {
+        checkAccess(this);
+        if (state.getAndSet(CLOSED) == RUNNING) {
+            // Let the consumer publish the remaining records
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            HANDLERS.remove(this);
+        }
+        super.close();
+    }
+
+    /**
+     * Waits until all the records published before this method was called are passed to the nested handlers and the nested
+     * handlers are flushed, or the timeout expires.
+     *
+     * @param timeout
+     * @param unit
+     * @return {@code true} if the records were passed to the nested handlers
+     */
+    public boolean awaitDrained(long timeout, TimeUnit unit) {
+        long position = tail.get();
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (flushed < position) {
+            if (state.get() != RUNNING || System.nanoTime() - deadline >= 0) {
+                return flushed >= position;
+            }
+            wakeUpConsumer();
+            LockSupport.parkNanos(this, PARK_NANOS);
+        }
+        return true;
+    }
+
+    static long queueDepth() {
+        long depth = 0;
+        for (RingBufferAsyncHandler handler : HANDLERS) {
+            depth += handler.size();
+        }
+        return depth;
+    }
+
+    private boolean offer(ExtLogRecord record) {
+        long position = tail.get();
+        for (;;) {
+            int index = (int) position & mask;
+            long diff = sequences.get(index) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    buffer[index] = record;
+                    // Publish the record to the consumer
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                // The slot still holds the record published one lap ago, i.e. the ring buffer is full
+                return false;
+            } else {
+                // Another producer claimed the slot
+                position = tail.get();
+            }
+        }
+    }
+
+    private void wakeUpConsumer() {
+        if (sleeping) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private void consume() {
+        for (;;) {
+            int published = publishBatch();
+            if (published > 0) {
+                try {
+                    flush();
+                } catch (Throwable t) {
+                    reportError("Failed to flush nested handlers", t instanceof Exception e ? e : new RuntimeException(t),
+                            ErrorManager.FLUSH_FAILURE);
+                }
+                flushed = head;
+                continue;
+            }
+            if (state.get() == CLOSED) {
+                return;
+            }
+            sleeping = true;
+            // Check again after the flag is set, a producer that missed the flag published its record before
+            if (!isEmpty() || state.get() == CLOSED) {
+                sleeping = false;
+                continue;
+            }
+            LockSupport.park(this);
+            sleeping = false;
+        }
+    }
+
+    private boolean isEmpty() {
+        long position = head;
+        return sequences.get((int) position & mask) != position + 1;
+    }
+
+    private int publishBatch() {
+        long position = head;
+        int published = 0;
+        while (published < batchSize) {
+            int index = (int) position & mask;
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+            ExtLogRecord record = buffer[index];
+            buffer[index] = null;
+            // Release the slot for the next lap
+            sequences.set(index, position + buffer.length);
+            head = ++position;
+            published++;
+            try {
+                publishToNestedHandlers(record);
+            } catch (Throwable t) {
+                reportError("Failed to publish record", t instanceof Exception e ? e : new RuntimeException(t),
+                        ErrorManager.WRITE_FAILURE);
+            }
+        }
+        return published;
+    }
+
+    private static void dropped(ExtLogRecord record) {
+        Entry<Integer, LongAdder> counter = DROPPED.floorEntry(record.getLevel().intValue());
+        if (counter != null) {
+            counter.getValue().increment();
+        } else {
+            // Default to TRACE for anything lower
+            DROPPED.get(Level.TRACE.intValue()).increment();
+        }
+    }
+
+}
@@ -0,0 +1,197 @@
+package io.quarkus.runtime.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.LogRecord;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.Level;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.runtime.logging.RingBufferAsyncHandler.OverflowPolicy;
+
+public class RingBufferAsyncHandlerTest {
+
+    RingBufferAsyncHandler handler;
+
+    @AfterEach
+    public void tearDown() {
+        if (handler != null) {
+            handler.close();
+        }
+    }
+
+    @Test
+    public void capacityShouldBeRoundedUpToPowerOfTwo() {
+        assertEquals(2, new RingBufferAsyncHandler(1, OverflowPolicy.BLOCK, 1).getCapacity());
+        assertEquals(2, new RingBufferAsyncHandler(2, OverflowPolicy.BLOCK, 1).getCapacity());
+        assertEquals(512, new RingBufferAsyncHandler(512, OverflowPolicy.BLOCK, 1).getCapacity());
+        assertEquals(1024, new RingBufferAsyncHandler(513, OverflowPolicy.BLOCK, 1).getCapacity());
+    }
+
+    @Test
+    public void allRecordsShouldBePublishedInBatches() throws InterruptedException {
+        RecordingHandler nested = new RecordingHandler();
+        handler = new RingBufferAsyncHandler(16, OverflowPolicy.BLOCK, 8);
+        handler.addHandler(nested);
+        assertFalse(nested.isAutoFlush());
+
+        int producers = 4;
+        int records = 1000;
+        CountDownLatch done = new CountDownLatch(producers);
+        for (int i = 0; i < producers; i++) {
+            String name = "producer" + i;
+            new Thread(() -> {
+                for (int j = 0; j < records; j++) {
+                    handler.publish(new LogRecord(Level.INFO, name + ":" + j));
+                }
+                done.countDown();
+            }).start();
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertTrue(handler.awaitDrained(10, TimeUnit.SECONDS));
+
+        assertEquals(producers * records, nested.records.size());
+        assertTrue(nested.flushes.get() > 0);
+        assertTrue(nested.flushes.get() <= nested.records.size());
+        // The records of a producer are published in order
+        for (int i = 0; i < producers; i++) {
+            String prefix = "producer" + i + ":";
+            List<String> messages = nested.records.stream().map(LogRecord::getMessage).filter(m -> m.startsWith(prefix))
+                    .toList();
+            for (int j = 0; j < records; j++) {
+                assertEquals(prefix + j, messages.get(j));
+            }
+        }
+    }
+
+    @Test
+    public void allRecordsShouldBePublishedWithMinimalCapacity() throws InterruptedException {
+        RecordingHandler nested = new RecordingHandler();
+        handler = new RingBufferAsyncHandler(1, OverflowPolicy.BLOCK, 1);
+        handler.addHandler(nested);
+        for (int i = 0; i < 100; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message" + i));
+        }
+        assertTrue(handler.awaitDrained(10, TimeUnit.SECONDS));
+        assertEquals(100, nested.records.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("message" + i, nested.records.get(i).getMessage());
+        }
+    }
+
+    @Test
+    public void recordsShouldBeDiscardedWhenFull() throws InterruptedException {
+        BlockingHandler nested = new BlockingHandler();
+        handler = new RingBufferAsyncHandler(4, OverflowPolicy.DISCARD, 1);
+        handler.addHandler(nested);
+        long dropped = dropped(Level.INFO);
+
+        // The first record is taken by the consumer and blocks it
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        assertTrue(nested.blocked.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 10; i++) {
+            handler.publish(new LogRecord(Level.INFO, "next"));
+        }
+        assertEquals(4, handler.size());
+        assertEquals(dropped + 6, dropped(Level.INFO));
+
+        nested.release.countDown();
+        assertTrue(handler.awaitDrained(5, TimeUnit.SECONDS));
+        assertEquals(5, nested.records.size());
+    }
+
+    @Test
+    public void debugRecordsShouldBeDiscardedFirst() throws InterruptedException {
+        BlockingHandler nested = new BlockingHandler();
+        handler = new RingBufferAsyncHandler(8, OverflowPolicy.DROP_DEBUG_FIRST, 1);
+        handler.addHandler(nested);
+        long droppedDebug = dropped(Level.DEBUG);
+        long droppedInfo = dropped(Level.INFO);
+
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        assertTrue(nested.blocked.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 8; i++) {
+            handler.publish(new LogRecord(Level.DEBUG, "debug"));
+        }
+        // The last quarter of the ring buffer is reserved for the records with level INFO and higher
+        assertEquals(6, handler.size());
+        assertEquals(droppedDebug + 2, dropped(Level.DEBUG));
+        handler.publish(new LogRecord(Level.WARN, "warn"));
+        handler.publish(new LogRecord(Level.ERROR, "error"));
+        assertEquals(8, handler.size());
+        assertEquals(droppedInfo, dropped(Level.INFO));
+
+        nested.release.countDown();
+        assertTrue(handler.awaitDrained(5, TimeUnit.SECONDS));
+        assertEquals(9, nested.records.size());
+        assertEquals("error", nested.records.get(8).getMessage());
+    }
+
+    @Test
+    public void remainingRecordsShouldBePublishedOnClose() {
+        RecordingHandler nested = new RecordingHandler();
+        handler = new RingBufferAsyncHandler(1024, OverflowPolicy.BLOCK, 16);
+        handler.addHandler(nested);
+        for (int i = 0; i < 100; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message"));
+        }
+        handler.close();
+        handler = null;
+        assertEquals(100, nested.records.size());
+        assertTrue(nested.closed);
+    }
+
+    static long dropped(Level level) {
+        return RingBufferAsyncHandler.DROPPED.get(level.intValue()).sum();
+    }
+
+    static class RecordingHandler extends ExtHandler {
+
+        final List<ExtLogRecord> records = new CopyOnWriteArrayList<>();
+        final AtomicInteger flushes = new AtomicInteger();
+        volatile boolean closed;
+
+        @Override
+        protected void doPublish(ExtLogRecord record) {
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {
+            flushes.incrementAndGet();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    static class BlockingHandler extends RecordingHandler {
+
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        protected void doPublish(ExtLogRecord record) {
+            super.doPublish(record);
+            blocked.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+}
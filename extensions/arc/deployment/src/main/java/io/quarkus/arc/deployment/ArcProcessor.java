@@ -473,7 +473,8 @@ public ValidationPhaseBuildItem validate(ObserverRegistrationPhaseBuildItem obse
             List<ObserverConfiguratorBuildItem> observerConfigurationRegistry,
             List<UnremovableBeanBuildItem> unremovableBeans,
             BuildProducer<BytecodeTransformerBuildItem> bytecodeTransformer,
-            BuildProducer<SynthesisFinishedBuildItem> synthesisFinished) {
+            BuildProducer<SynthesisFinishedBuildItem> synthesisFinished,
+            ExecutorService buildExecutor) {
 
         for (ObserverConfiguratorBuildItem configurator : observerConfigurationRegistry) {
             // Just make sure the configurator is processed
@@ -485,8 +486,11 @@ public ValidationPhaseBuildItem validate(ObserverRegistrationPhaseBuildItem obse
 
         Consumer<BytecodeTransformer> bytecodeTransformerConsumer = new BytecodeTransformerConsumer(bytecodeTransformer);
 
+        boolean parallelBeanResolution = Boolean
+                .parseBoolean(System.getProperty("quarkus.arc.parallel-bean-resolution", "true"));
         beanProcessor.initialize(bytecodeTransformerConsumer,
-                unremovableBeans.stream().map(UnremovableBeanBuildItem::getPredicate).collect(Collectors.toList()));
+                unremovableBeans.stream().map(UnremovableBeanBuildItem::getPredicate).collect(Collectors.toList()),
+                parallelBeanResolution ? buildExecutor : null);
         BeanDeploymentValidator.ValidationContext validationContext = beanProcessor.validate(bytecodeTransformerConsumer);
 
         return new ValidationPhaseBuildItem(validationContext, beanProcessor);
@@ -8,11 +8,15 @@
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME_PARAM;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT_ALL;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTORS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDINGS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDING_CONTAINERS;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.KEYS_COLLECTION_TYPES;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.MULTI;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.REGISTER_REST_CLIENT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.VALUES_MAP_TYPES;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.WEIGHER;
 import static io.quarkus.cache.runtime.CacheBuildConfig.CAFFEINE_CACHE_TYPE;
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 import static io.quarkus.runtime.metrics.MetricsFactory.MICROMETER;
@@ -48,6 +52,7 @@
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem.ValidationErrorBuildItem;
 import io.quarkus.arc.processor.BeanInfo;
 import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.deployment.exception.CacheResultAllTargetException;
 import io.quarkus.cache.deployment.exception.ClassTargetException;
 import io.quarkus.cache.deployment.exception.KeyGeneratorConstructorException;
 import io.quarkus.cache.deployment.exception.PrivateMethodTargetException;
@@ -60,6 +65,7 @@
 import io.quarkus.cache.runtime.CacheInvalidateAllInterceptor;
 import io.quarkus.cache.runtime.CacheInvalidateInterceptor;
 import io.quarkus.cache.runtime.CacheManagerRecorder;
+import io.quarkus.cache.runtime.CacheResultAllInterceptor;
 import io.quarkus.cache.runtime.CacheResultInterceptor;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
@@ -68,6 +74,7 @@
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
 import io.quarkus.rest.client.reactive.spi.RestClientAnnotationsTransformerBuildItem;
 
@@ -95,6 +102,28 @@ RestClientAnnotationsTransformerBuildItem restClientAnnotationsTransformer() {
         return new RestClientAnnotationsTransformerBuildItem(new RestClientCacheAnnotationsTransformer());
     }
 
+    /**
+     * The custom weigher of a Caffeine cache is configured by class name at runtime, so every weigher implemented by the
+     * application is registered for reflection.
+     */
+    @BuildStep
+    void weighers(CombinedIndexBuildItem combinedIndex, BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
+        List<String> weighers = new ArrayList<>();
+        for (ClassInfo weigher : combinedIndex.getIndex().getAllKnownImplementors(WEIGHER)) {
+            String name = weigher.name().toString();
+            if (weigher.isInterface() || Modifier.isAbstract(weigher.flags())
+                    || name.startsWith("com.github.benmanes.caffeine.") || name.startsWith("io.quarkus.cache.runtime.")) {
+                continue;
+            }
+            weighers.add(name);
+        }
+        if (!weighers.isEmpty()) {
+            reflectiveClasses.produce(ReflectiveClassBuildItem.builder(weighers.toArray(new String[0]))
+                    .reason(getClass().getName())
+                    .constructors().build());
+        }
+    }
+
     @BuildStep
     CacheTypeBuildItem type(CacheBuildConfig config) {
         return new CacheTypeBuildItem(
@@ -207,6 +236,8 @@ private List<Throwable> validateInterceptorBindingTarget(AnnotationInstance bind
                         LOGGER.warnf("@CacheResult is not currently supported on a method returning %s [class=%s, method=%s]",
                                 MULTI, methodInfo.declaringClass().name(), methodInfo.name());
                     }
+                } else if (CACHE_RESULT_ALL.equals(binding.name())) {
+                    throwables.addAll(validateCacheResultAllTarget(methodInfo));
                 }
                 break;
             default:
@@ -216,6 +247,39 @@ private List<Throwable> validateInterceptorBindingTarget(AnnotationInstance bind
         return throwables;
     }
 
+    private List<Throwable> validateCacheResultAllTarget(MethodInfo methodInfo) {
+        List<Throwable> throwables = new ArrayList<>();
+        if (methodInfo.hasAnnotation(CACHE_RESULT)) {
+            throwables.add(new CacheResultAllTargetException(methodInfo, "it is also annotated with @CacheResult"));
+        }
+        if (!VALUES_MAP_TYPES.contains(methodInfo.returnType().name())) {
+            throwables.add(new CacheResultAllTargetException(methodInfo,
+                    "it must return a Map, possibly wrapped in a Uni or a CompletionStage"));
+        }
+        int keysPosition = -1;
+        if (methodInfo.parametersCount() == 1) {
+            keysPosition = 0;
+        } else {
+            for (AnnotationInstance cacheKey : methodInfo.annotations(CACHE_KEY)) {
+                if (cacheKey.target().kind() == Kind.METHOD_PARAMETER) {
+                    if (keysPosition != -1) {
+                        keysPosition = -2;
+                        break;
+                    }
+                    keysPosition = cacheKey.target().asMethodParameter().position();
+                }
+            }
+        }
+        if (keysPosition < 0) {
+            throwables.add(new CacheResultAllTargetException(methodInfo,
+                    "it must have exactly one parameter or exactly one parameter annotated with @CacheKey"));
+        } else if (!KEYS_COLLECTION_TYPES.contains(methodInfo.parameterType(keysPosition).name())) {
+            throwables.add(new CacheResultAllTargetException(methodInfo,
+                    "the keys parameter must be a Collection, a Set or a List"));
+        }
+        return throwables;
+    }
+
     private Optional<DotName> findCacheKeyGenerator(AnnotationInstance binding, AnnotationTarget target) {
         if (target.kind() == METHOD && (CACHE_RESULT.equals(binding.name()) || CACHE_INVALIDATE.equals(binding.name()))) {
             AnnotationValue keyGenerator = binding.value("keyGenerator");
@@ -286,6 +350,7 @@ List<BytecodeTransformerBuildItem> enhanceRestClientMethods(CombinedIndexBuildIt
         List<BytecodeTransformerBuildItem> bytecodeTransformers = new ArrayList<>();
         boolean cacheInvalidate = false;
         boolean cacheResult = false;
+        boolean cacheResultAll = false;
         boolean cacheInvalidateAll = false;
 
         for (AnnotationInstance registerRestClientAnnotation : combinedIndex.getIndex().getAnnotations(REGISTER_REST_CLIENT)) {
@@ -302,6 +367,10 @@ List<BytecodeTransformerBuildItem> enhanceRestClientMethods(CombinedIndexBuildIt
                         transform = true;
                         cacheResult = true;
                     }
+                    if (methodInfo.hasAnnotation(CACHE_RESULT_ALL)) {
+                        transform = true;
+                        cacheResultAll = true;
+                    }
                     if (methodInfo.hasAnnotation(CACHE_INVALIDATE_ALL) || methodInfo.hasAnnotation(CACHE_INVALIDATE_ALL_LIST)) {
                         cacheInvalidateAll = true;
                     }
@@ -324,6 +393,9 @@ List<BytecodeTransformerBuildItem> enhanceRestClientMethods(CombinedIndexBuildIt
         if (cacheResult) {
             unremovableBeans.produce(UnremovableBeanBuildItem.beanClassNames(CacheResultInterceptor.class.getName()));
         }
+        if (cacheResultAll) {
+            unremovableBeans.produce(UnremovableBeanBuildItem.beanClassNames(CacheResultAllInterceptor.class.getName()));
+        }
         if (cacheInvalidate) {
             unremovableBeans.produce(UnremovableBeanBuildItem.beanClassNames(CacheInvalidateInterceptor.class.getName()));
         }
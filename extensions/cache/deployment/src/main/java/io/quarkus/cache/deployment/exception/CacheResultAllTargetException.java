@@ -0,0 +1,23 @@
+package io.quarkus.cache.deployment.exception;
+
+import org.jboss.jandex.MethodInfo;
+
+/**
+ * This exception is thrown at build time during the validation phase if a method annotated with
+ * {@link io.quarkus.cache.CacheResultAll @CacheResultAll} does not declare a keys collection or does not return a map.
+ */
+@SuppressWarnings("serial")
+public class CacheResultAllTargetException extends RuntimeException {
+
+    private final MethodInfo methodInfo;
+
+    public CacheResultAllTargetException(MethodInfo methodInfo, String reason) {
+        super("@CacheResultAll is not allowed on this method: " + reason + " [class=" + methodInfo.declaringClass().name()
+                + ", method=" + methodInfo.name() + "]");
+        this.methodInfo = methodInfo;
+    }
+
+    public MethodInfo getMethodInfo() {
+        return methodInfo;
+    }
+}
@@ -0,0 +1,233 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheKey;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResultAll;
+import io.quarkus.cache.CaffeineCache;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+public class BulkOperationsTest {
+
+    private static final String CACHE_NAME = "test-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().withApplicationRoot(jar -> jar.addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @BeforeEach
+    void clear() {
+        cache.invalidateAll().await().indefinitely();
+        cachedService.invocations.clear();
+    }
+
+    @Test
+    public void testGetAll() {
+        List<Set<String>> loads = new CopyOnWriteArrayList<>();
+
+        Map<String, String> values = cache.<String, String> getAll(List.of("a", "b"), keys -> {
+            loads.add(keys);
+            return load(keys);
+        }).await().indefinitely();
+        assertEquals(Map.of("a", "A", "b", "B"), values);
+        assertEquals(List.of(Set.of("a", "b")), loads);
+
+        // Only the missing keys are loaded, with a single call of the loader.
+        values = cache.<String, String> getAll(List.of("a", "b", "c", "d"), keys -> {
+            loads.add(keys);
+            return load(keys);
+        }).await().indefinitely();
+        assertEquals(Map.of("a", "A", "b", "B", "c", "C", "d", "D"), values);
+        assertEquals(List.of(Set.of("a", "b"), Set.of("c", "d")), loads);
+
+        // Nothing is loaded if all the keys are cached.
+        values = cache.<String, String> getAllAsync(List.of("b", "c"), keys -> {
+            loads.add(keys);
+            return Uni.createFrom().item(load(keys));
+        }).await().indefinitely();
+        assertEquals(Map.of("b", "B", "c", "C"), values);
+        assertEquals(2, loads.size());
+
+        // The keys not returned by the loader are not cached.
+        values = cache.<String, String> getAllAsync(List.of("a", "missing"), keys -> {
+            loads.add(keys);
+            return Uni.createFrom().item(Map.of());
+        }).await().indefinitely();
+        assertEquals(Map.of("a", "A"), values);
+        assertEquals(Set.of("missing"), loads.get(2));
+        assertNull(cache.as(CaffeineCache.class).getIfPresent("missing"));
+    }
+
+    @Test
+    public void testPutAllAndInvalidateAll() throws Exception {
+        CaffeineCache caffeineCache = cache.as(CaffeineCache.class);
+        caffeineCache.putAll(Map.of("a", CompletableFuture.completedFuture("A"), "b", CompletableFuture.completedFuture("B"),
+                "c", CompletableFuture.completedFuture("C")));
+        assertEquals(Set.of("a", "b", "c"), caffeineCache.keySet());
+        assertEquals("B", caffeineCache.getIfPresent("b").get());
+
+        cache.invalidateAll(List.of("a", "b", "unknown")).await().indefinitely();
+        assertEquals(Set.of("c"), caffeineCache.keySet());
+    }
+
+    @Test
+    public void testCacheResultAll() {
+        Map<String, String> values = cachedService.load(Set.of("a", "b"));
+        assertEquals(Map.of("a", "A", "b", "B"), values);
+        assertEquals(List.of(Set.of("a", "b")), cachedService.invocations);
+
+        values = cachedService.load(Set.of("b", "c"));
+        assertEquals(Map.of("b", "B", "c", "C"), values);
+        assertEquals(List.of(Set.of("a", "b"), Set.of("c")), cachedService.invocations);
+
+        // The other parameters are passed unchanged.
+        Map<String, String> asyncValues = cachedService.loadAsync("prefix-", List.of("c", "d")).await().indefinitely();
+        assertEquals(Map.of("c", "C", "d", "prefix-D"), asyncValues);
+        assertEquals(Set.of("d"), cachedService.invocations.get(2));
+
+        assertTrue(cache.as(CaffeineCache.class).keySet().containsAll(Set.of("a", "b", "c", "d")));
+        assertFalse(cache.as(CaffeineCache.class).keySet().contains("e"));
+    }
+
+    @Test
+    public void testDefaultBulkOperations() {
+        SingleKeyCache singleKeyCache = new SingleKeyCache();
+        List<Set<String>> loads = new CopyOnWriteArrayList<>();
+
+        singleKeyCache.<String, String> get("a", key -> "cached").await().indefinitely();
+        Map<String, String> values = singleKeyCache.<String, String> getAll(List.of("a", "b", "c"), keys -> {
+            loads.add(keys);
+            return load(keys);
+        }).await().indefinitely();
+        // The missing keys are loaded with a single call of the loader.
+        assertEquals(Map.of("a", "cached", "b", "B", "c", "C"), values);
+        assertEquals(List.of(Set.of("b", "c")), loads);
+        assertEquals(Map.of("a", "cached", "b", "B", "c", "C"), singleKeyCache.entries);
+
+        values = singleKeyCache.<String, String> getAllAsync(List.of("c", "missing"), keys -> {
+            loads.add(keys);
+            return Uni.createFrom().item(Map.of());
+        }).await().indefinitely();
+        assertEquals(Map.of("c", "C"), values);
+        assertEquals(Set.of("missing"), loads.get(1));
+        assertFalse(singleKeyCache.entries.containsKey("missing"));
+
+        singleKeyCache.invalidateAll(List.of("a", "b", "unknown")).await().indefinitely();
+        assertEquals(Set.of("c"), singleKeyCache.entries.keySet());
+    }
+
+    private static Map<String, String> load(Set<String> keys) {
+        Map<String, String> values = new HashMap<>();
+        for (String key : keys) {
+            values.put(key, key.toUpperCase());
+        }
+        return values;
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        final List<Set<String>> invocations = new CopyOnWriteArrayList<>();
+
+        @CacheResultAll(cacheName = CACHE_NAME)
+        public Map<String, String> load(Set<String> keys) {
+            invocations.add(Set.copyOf(keys));
+            return BulkOperationsTest.load(keys);
+        }
+
+        @CacheResultAll(cacheName = CACHE_NAME)
+        public Uni<Map<String, String>> loadAsync(String prefix, @CacheKey List<String> keys) {
+            invocations.add(Set.copyOf(keys));
+            Map<String, String> values = new HashMap<>();
+            for (String key : keys) {
+                values.put(key, prefix + key.toUpperCase());
+            }
+            return Uni.createFrom().item(values);
+        }
+    }
+
+    /**
+     * A cache which only implements the single key operations.
+     */
+    static class SingleKeyCache implements Cache {
+
+        final Map<Object, Object> entries = new ConcurrentHashMap<>();
+
+        @Override
+        public String getName() {
+            return "single-key";
+        }
+
+        @Override
+        public Object getDefaultKey() {
+            return "default-key";
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
+            return Uni.createFrom().item(() -> (V) entries.computeIfAbsent(key, k -> valueLoader.apply((K) k)));
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
+            if (entries.containsKey(key)) {
+                return Uni.createFrom().item((V) entries.get(key));
+            }
+            return valueLoader.apply(key).invoke(value -> entries.putIfAbsent(key, value))
+                    .map(value -> (V) entries.get(key));
+        }
+
+        @Override
+        public Uni<Void> invalidate(Object key) {
+            entries.remove(key);
+            return Uni.createFrom().voidItem();
+        }
+
+        @Override
+        public Uni<Void> invalidateAll() {
+            entries.clear();
+            return Uni.createFrom().voidItem();
+        }
+
+        @Override
+        public Uni<Void> invalidateIf(Predicate<Object> predicate) {
+            entries.keySet().removeIf(predicate);
+            return Uni.createFrom().voidItem();
+        }
+
+        @Override
+        public <T extends Cache> T as(Class<T> type) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+
+import io.quarkus.builder.BuildChainBuilder;
+import io.quarkus.builder.BuildContext;
+import io.quarkus.builder.BuildStep;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheException;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests the weight-based eviction and the off-heap storage of the Caffeine caches.
+ */
+public class MaximumWeightCacheTest {
+
+    private static final String WEIGHTED_CACHE = "weighted-cache";
+    private static final String OFF_HEAP_CACHE = "off-heap-cache";
+    private static final String CUSTOM_WEIGHER_CACHE = "custom-weigher-cache";
+    private static final Set<String> REFLECTIVE_CLASSES = ConcurrentHashMap.newKeySet();
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClass(FixedWeigher.class))
+            .addBuildChainCustomizer(new Consumer<BuildChainBuilder>() {
+                @Override
+                public void accept(BuildChainBuilder builder) {
+                    builder.addBuildStep(new BuildStep() {
+                        @Override
+                        public void execute(BuildContext context) {
+                            for (ReflectiveClassBuildItem item : context.consumeMulti(ReflectiveClassBuildItem.class)) {
+                                REFLECTIVE_CLASSES.addAll(item.getClassNames());
+                            }
+                            context.produce(new FeatureBuildItem("reflective-classes-recorder"));
+                        }
+                    }).consumes(ReflectiveClassBuildItem.class).produces(FeatureBuildItem.class).build();
+                }
+            })
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + WEIGHTED_CACHE + "\".maximum-weight", "2K")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + OFF_HEAP_CACHE + "\".maximum-weight", "2K")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + OFF_HEAP_CACHE + "\".off-heap", "true")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + CUSTOM_WEIGHER_CACHE + "\".maximum-weight", "20")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + CUSTOM_WEIGHER_CACHE + "\".weigher",
+                    FixedWeigher.class.getName());
+
+    @CacheName(WEIGHTED_CACHE)
+    Cache weightedCache;
+
+    @CacheName(OFF_HEAP_CACHE)
+    Cache offHeapCache;
+
+    @CacheName(CUSTOM_WEIGHER_CACHE)
+    Cache customWeigherCache;
+
+    @Test
+    public void testWeightedEviction() {
+        CaffeineCacheImpl cache = (CaffeineCacheImpl) weightedCache;
+        assertEquals(2048L, cache.getCacheInfo().maximumWeight);
+        fill(cache);
+        long weightedSize = cache.getWeightedSize();
+        assertTrue(weightedSize > 0 && weightedSize <= 2048, "Unexpected weighted size: " + weightedSize);
+        assertTrue(cache.getSize() < 100);
+    }
+
+    @Test
+    public void testOffHeapValues() {
+        CaffeineCacheImpl cache = (CaffeineCacheImpl) offHeapCache;
+        assertTrue(cache.getCacheInfo().offHeap);
+
+        List<String> value = new ArrayList<>(List.of("foo", "bar"));
+        List<String> first = cache.get("key", k -> value).await().indefinitely();
+        List<String> second = cache.get("key", k -> List.of("other")).await().indefinitely();
+        assertEquals(value, first);
+        assertEquals(value, second);
+        // every read deserializes a new copy of the value
+        assertNotSame(first, second);
+
+        assertNull(cache.get("null-key", k -> null).await().indefinitely());
+
+        fill(cache);
+        long weightedSize = cache.getWeightedSize();
+        assertTrue(weightedSize > 0 && weightedSize <= 2048, "Unexpected weighted size: " + weightedSize);
+    }
+
+    @Test
+    public void testCustomWeigher() {
+        // The weigher is instantiated reflectively, so it must be registered for reflection in native mode
+        assertTrue(REFLECTIVE_CLASSES.contains(FixedWeigher.class.getName()));
+
+        CaffeineCacheImpl cache = (CaffeineCacheImpl) customWeigherCache;
+        assertEquals(FixedWeigher.class.getName(), cache.getCacheInfo().weigher);
+        fill(cache);
+        long weightedSize = cache.getWeightedSize();
+        assertTrue(weightedSize > 0 && weightedSize <= 20, "Unexpected weighted size: " + weightedSize);
+        assertEquals(weightedSize, cache.getSize() * FixedWeigher.WEIGHT);
+    }
+
+    @Test
+    public void testOffHeapNotSerializableValue() {
+        CacheException e = assertThrows(CacheException.class,
+                () -> offHeapCache.get("not-serializable", k -> new Object()).await().indefinitely());
+        assertTrue(e.getMessage().contains(OFF_HEAP_CACHE), e.getMessage());
+        assertTrue(e.getMessage().contains(Object.class.getName()), e.getMessage());
+
+        // A serializable value that references a value that is not serializable
+        e = assertThrows(CacheException.class,
+                () -> offHeapCache.get("nested", k -> new Holder(new Object())).await().indefinitely());
+        assertTrue(e.getMessage().contains(Holder.class.getName()), e.getMessage());
+        assertTrue(e.getMessage().contains(Object.class.getName()), e.getMessage());
+
+        // The failed computations are not cached
+        Holder holder = new Holder("foo");
+        assertEquals("foo", offHeapCache.<String, Holder> get("nested", k -> holder).await().indefinitely().value);
+    }
+
+    public static class FixedWeigher implements Weigher<Object, Object> {
+
+        static final int WEIGHT = 5;
+
+        @Override
+        public int weigh(Object key, Object value) {
+            return WEIGHT;
+        }
+    }
+
+    static class Holder implements Serializable {
+
+        final Object value;
+
+        Holder(Object value) {
+            this.value = value;
+        }
+    }
+
+    private static void fill(Cache cache) {
+        for (int i = 0; i < 100; i++) {
+            String value = String.valueOf(i).repeat(100);
+            assertEquals(value, cache.get(i, k -> value).await().indefinitely());
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+import io.quarkus.cache.runtime.caffeine.CaffeineRefreshStats;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests that stale values are returned while being refreshed in the background. The time is controlled by a fake ticker.
+ */
+public class RefreshAfterWriteTest {
+
+    private static final long REFRESH_AFTER_WRITE_MILLIS = 200;
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().withEmptyApplication();
+
+    private final FakeTicker ticker = new FakeTicker();
+
+    @Test
+    public void testBlockingRefresh() {
+        CaffeineCacheImpl cache = cache("blocking-cache");
+        AtomicInteger counter = new AtomicInteger();
+        Function<String, Integer> loader = k -> counter.incrementAndGet();
+
+        assertEquals(1, cache.get("key", loader).await().indefinitely());
+        ticker.advance(REFRESH_AFTER_WRITE_MILLIS - 1);
+        assertEquals(1, cache.get("key", loader).await().indefinitely());
+        assertEquals(1, counter.get());
+
+        ticker.advance(1);
+        // the stale value is returned, the refresh happens in the background
+        assertEquals(1, cache.get("key", loader).await().indefinitely());
+        CaffeineRefreshStats stats = cache.getRefreshStats();
+        await().atMost(Duration.ofSeconds(5)).until(() -> stats.refreshSuccessCount() == 1);
+        assertEquals(2, cache.get("key", loader).await().indefinitely());
+        assertEquals(1, stats.staleHitCount());
+        assertEquals(2, counter.get());
+    }
+
+    @Test
+    public void testUniRefresh() {
+        CaffeineCacheImpl cache = cache("uni-cache");
+        AtomicInteger counter = new AtomicInteger();
+        Function<String, Uni<Integer>> loader = k -> Uni.createFrom().item(counter::incrementAndGet);
+
+        assertEquals(1, cache.getAsync("key", loader).await().indefinitely());
+        ticker.advance(REFRESH_AFTER_WRITE_MILLIS);
+        assertEquals(1, cache.getAsync("key", loader).await().indefinitely());
+        CaffeineRefreshStats stats = cache.getRefreshStats();
+        await().atMost(Duration.ofSeconds(5)).until(() -> stats.refreshSuccessCount() == 1);
+        assertEquals(2, cache.getAsync("key", loader).await().indefinitely());
+        assertEquals(0, stats.refreshFailureCount());
+    }
+
+    @Test
+    public void testFailedRefreshBacksOff() {
+        CaffeineCacheImpl cache = cache("failing-cache");
+        AtomicInteger counter = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        Function<String, Integer> loader = k -> {
+            if (counter.get() > 0 && failures.get() < 1) {
+                failures.incrementAndGet();
+                throw new IllegalStateException("Refresh failed");
+            }
+            return counter.incrementAndGet();
+        };
+
+        assertEquals(1, cache.get("key", loader).await().indefinitely());
+        ticker.advance(REFRESH_AFTER_WRITE_MILLIS);
+        assertEquals(1, cache.get("key", loader).await().indefinitely());
+        CaffeineRefreshStats stats = cache.getRefreshStats();
+        await().atMost(Duration.ofSeconds(5)).until(() -> stats.refreshFailureCount() == 1);
+
+        // the stale value is kept and the refresh is not retried before the backoff period elapses
+        ticker.advance(REFRESH_AFTER_WRITE_MILLIS - 1);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(1, cache.get("key", loader).await().indefinitely());
+        }
+        assertEquals(1, failures.get());
+        assertEquals(0, stats.refreshSuccessCount());
+
+        ticker.advance(1);
+        assertEquals(1, cache.get("key", loader).await().indefinitely());
+        await().atMost(Duration.ofSeconds(5)).until(() -> stats.refreshSuccessCount() == 1);
+        assertEquals(2, cache.get("key", loader).await().indefinitely());
+        assertEquals(1, stats.refreshFailureCount());
+        assertTrue(stats.staleHitCount() >= 11);
+    }
+
+    private CaffeineCacheImpl cache(String name) {
+        CaffeineCacheInfo cacheInfo = new CaffeineCacheInfo();
+        cacheInfo.name = name;
+        cacheInfo.refreshAfterWrite = Duration.ofMillis(REFRESH_AFTER_WRITE_MILLIS);
+        return new CaffeineCacheImpl(cacheInfo, false, ticker);
+    }
+
+    static class FakeTicker implements Ticker {
+
+        private final AtomicLong nanos = new AtomicLong();
+
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+
+        void advance(long millis) {
+            nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package io.quarkus.cache;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * The default implementation of the bulk operations of {@link Cache}, based on the single key operations.
+ */
+final class BulkOperations {
+
+    private static final String NULL_KEYS_NOT_SUPPORTED_MSG = "Null keys are not supported by the Quarkus application data cache";
+
+    private BulkOperations() {
+    }
+
+    /**
+     * The cached values are looked up one by one first. Then the values of the missing keys are obtained with a single call of
+     * {@code valuesLoader} and stored one by one.
+     */
+    static <K, V> Uni<Map<K, V>> getAll(Cache cache, Collection<K> keys,
+            Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        if (keys.isEmpty()) {
+            return Uni.createFrom().item(Map.of());
+        }
+        List<Uni<Entry<K, V>>> lookups = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+            // A failing loader does not store anything, a null entry means that the key is not cached
+            lookups.add(cache.<K, V> getAsync(key, k -> Uni.createFrom().failure(AbsentValueException.INSTANCE))
+                    .map(value -> entry(key, value))
+                    .onFailure(AbsentValueException.class).recoverWithNull());
+        }
+        return Uni.join().all(lookups).andFailFast().flatMap(entries -> {
+            Map<K, V> result = new LinkedHashMap<>();
+            Set<K> missingKeys = new LinkedHashSet<>();
+            int i = 0;
+            for (K key : keys) {
+                Entry<K, V> entry = entries.get(i++);
+                if (entry == null) {
+                    missingKeys.add(key);
+                } else {
+                    result.put(key, entry.getValue());
+                }
+            }
+            if (missingKeys.isEmpty()) {
+                return Uni.createFrom().item(result);
+            }
+            return valuesLoader.apply(missingKeys).flatMap(loaded -> store(cache, missingKeys, loaded, result));
+        });
+    }
+
+    static Uni<Void> invalidateAll(Cache cache, Collection<?> keys) {
+        if (keys.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        List<Uni<Void>> invalidations = new ArrayList<>(keys.size());
+        for (Object key : keys) {
+            invalidations.add(cache.invalidate(key));
+        }
+        return Uni.join().all(invalidations).andFailFast().replaceWithVoid();
+    }
+
+    private static <K, V> Uni<Map<K, V>> store(Cache cache, Set<K> missingKeys, Map<K, V> loaded, Map<K, V> result) {
+        if (loaded == null || loaded.isEmpty()) {
+            return Uni.createFrom().item(result);
+        }
+        List<Uni<Entry<K, V>>> stores = new ArrayList<>(loaded.size());
+        for (Entry<K, V> entry : loaded.entrySet()) {
+            K key = entry.getKey();
+            if (missingKeys.contains(key)) {
+                // If the key was cached concurrently, the cached value is emitted
+                stores.add(cache.<K, V> getAsync(key, k -> Uni.createFrom().item(entry.getValue()))
+                        .map(value -> entry(key, value)));
+            }
+        }
+        if (stores.isEmpty()) {
+            return Uni.createFrom().item(result);
+        }
+        return Uni.join().all(stores).andFailFast().map(entries -> {
+            for (Entry<K, V> entry : entries) {
+                result.put(entry.getKey(), entry.getValue());
+            }
+            return result;
+        });
+    }
+
+    private static <K, V> Entry<K, V> entry(K key, V value) {
+        return new SimpleImmutableEntry<>(key, value);
+    }
+
+    @SuppressWarnings("serial")
+    private static class AbsentValueException extends RuntimeException {
+
+        static final AbsentValueException INSTANCE = new AbsentValueException();
+
+        private AbsentValueException() {
+            super(null, null, false, false);
+        }
+    }
+
+}
@@ -1,5 +1,8 @@
 package io.quarkus.cache;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -55,6 +58,54 @@ public interface Cache {
      */
     <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader);
 
+    /**
+     * Returns a lazy asynchronous action that will emit the cache values identified by {@code keys}. The values of all the
+     * keys which are not already associated with a value are obtained with a single call of {@code valuesLoader}.
+     * <p>
+     * The emitted map contains the keys found in the cache and the keys returned by {@code valuesLoader}. The keys which are
+     * not returned by {@code valuesLoader} are not cached and are not part of the emitted map.
+     * <p>
+     * The default implementation looks up and stores the entries one by one with {@link #getAsync(Object, Function)}. Cache
+     * implementations able to retrieve and store several entries with a single operation should override it.
+     *
+     * @param <K> cache key type
+     * @param <V> cache value type
+     * @param keys cache keys
+     * @param valuesLoader function used to compute the cache values of the keys not already associated with a value
+     * @return a lazy asynchronous action that will emit the cache values
+     * @throws NullPointerException if a key is {@code null}
+     * @throws CacheException if an exception is thrown during the cache values computation
+     */
+    default <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> valuesLoader) {
+        return getAllAsync(keys, new Function<Set<K>, Uni<Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> apply(Set<K> missingKeys) {
+                return Uni.createFrom().item(() -> valuesLoader.apply(missingKeys));
+            }
+        });
+    }
+
+    /**
+     * Returns a lazy asynchronous action that will emit the cache values identified by {@code keys}. The values of all the
+     * keys which are not already associated with a value are obtained with a single call of {@code valuesLoader}.
+     * <p>
+     * The emitted map contains the keys found in the cache and the keys returned by {@code valuesLoader}. The keys which are
+     * not returned by {@code valuesLoader} are not cached and are not part of the emitted map.
+     * <p>
+     * The default implementation looks up and stores the entries one by one with {@link #getAsync(Object, Function)}. Cache
+     * implementations able to retrieve and store several entries with a single operation should override it.
+     *
+     * @param <K> cache key type
+     * @param <V> cache value type
+     * @param keys cache keys
+     * @param valuesLoader function used to compute the cache values of the keys not already associated with a value
+     * @return a lazy asynchronous action that will emit the cache values
+     * @throws NullPointerException if a key is {@code null}
+     */
+    default <K, V> Uni<Map<K, V>> getAllAsync(Collection<K> keys, Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        return BulkOperations.getAll(this, keys, valuesLoader);
+    }
+
     /**
      * Removes the cache entry identified by {@code key} from the cache. If the key does not identify any cache entry, nothing
      * will happen.
@@ -69,6 +120,19 @@ public interface Cache {
      */
     Uni<Void> invalidateAll();
 
+    /**
+     * Removes the cache entries identified by {@code keys} from the cache. The keys which do not identify any cache entry are
+     * ignored.
+     * <p>
+     * The default implementation invalidates the keys one by one with {@link #invalidate(Object)}.
+     *
+     * @param keys cache keys
+     * @throws NullPointerException if a key is {@code null}
+     */
+    default Uni<Void> invalidateAll(Collection<?> keys) {
+        return BulkOperations.invalidateAll(this, keys);
+    }
+
     /**
      * Removes all cache entries whose keys match the given predicate.
      *
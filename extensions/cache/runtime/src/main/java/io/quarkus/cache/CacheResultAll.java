@@ -0,0 +1,42 @@
+package io.quarkus.cache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.interceptor.InterceptorBinding;
+
+/**
+ * Bulk variant of {@link CacheResult} for methods loading several values at once. When a method annotated with
+ * {@link CacheResultAll} is invoked, each element of its keys collection is used as a cache key. The values found in the cache
+ * are returned directly, and the annotated method is invoked once with the collection of the keys which are missing from the
+ * cache. The values returned by that invocation are stored in the cache.
+ * <p>
+ * The keys collection is:
+ * <ul>
+ * <li>the method argument if the method has exactly one argument,</li>
+ * <li>otherwise, the only method argument annotated with {@link CacheKey @CacheKey}.</li>
+ * </ul>
+ * The keys collection must be declared as a {@link java.util.Collection}, a {@link java.util.Set} or a
+ * {@link java.util.List}. The other arguments are passed unchanged when the method is invoked with the missing keys.
+ * <p>
+ * The method must return a {@link java.util.Map} of the cache keys to the cache values, possibly wrapped in a
+ * {@link io.smallrye.mutiny.Uni} or a {@link java.util.concurrent.CompletionStage}. The keys missing from that map are not
+ * cached and are not part of the result.
+ * <p>
+ * See {@link Cache#getAll(java.util.Collection, java.util.function.Function)} for details. This annotation cannot be
+ * combined with {@link CacheResult} on a single method.
+ */
+@InterceptorBinding
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CacheResultAll {
+
+    /**
+     * The name of the cache.
+     */
+    @Nonbinding
+    String cacheName();
+}
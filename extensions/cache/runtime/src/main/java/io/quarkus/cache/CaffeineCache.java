@@ -1,6 +1,7 @@
 package io.quarkus.cache;
 
 import java.time.Duration;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
@@ -43,6 +44,15 @@ public interface CaffeineCache extends Cache {
      */
     <V> void put(Object key, CompletableFuture<V> valueFuture);
 
+    /**
+     * Associates all the values of {@code valueFutures} with their keys in this cache. This method is equivalent to calling
+     * {@link #put(Object, CompletableFuture)} for each entry of {@code valueFutures}.
+     *
+     * @param valueFutures values to be associated with their keys
+     * @throws NullPointerException if a key or a value is null
+     */
+    <V> void putAll(Map<?, CompletableFuture<V>> valueFutures);
+
     /**
      * Changes the duration, initially set from the configuration, after which each entry should be automatically removed from
      * the cache once that duration has elapsed after the entry's creation, or the most recent replacement of its value.
@@ -75,4 +85,14 @@ public interface CaffeineCache extends Cache {
      * @throws IllegalStateException if the cache was not constructed with a {@code maximum-size} configuration value
      */
     void setMaximumSize(long maximumSize);
+
+    /**
+     * Changes the maximum total weight of the entries the cache may contain.
+     * <p>
+     * <b>Warning:</b> this method must not be invoked from within an atomic scope of a cache operation.
+     *
+     * @param maximumWeight the maximum weight of the cache
+     * @throws IllegalStateException if the cache was not constructed with a {@code maximum-weight} configuration value
+     */
+    void setMaximumWeight(long maximumWeight);
 }
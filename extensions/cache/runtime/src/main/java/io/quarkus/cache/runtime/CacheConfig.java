@@ -11,6 +11,7 @@
 import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigDocSection;
 import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
 import io.smallrye.config.WithParentName;
@@ -63,6 +64,32 @@ interface CaffeineCacheConfig {
              */
             OptionalLong maximumSize();
 
+            /**
+             * Maximum total weight of the entries the cache may contain. The weight of an entry is computed by the
+             * {@code weigher}. By default, the weight is an estimate of the entry size in bytes, so the value may be
+             * expressed as a memory size, e.g. {@code 512M}. This property cannot be combined with {@code maximum-size}.
+             * Like with {@code maximum-size}, the cache <b>may evict an entry before this limit is exceeded or temporarily
+             * exceed the threshold while evicting</b>.
+             */
+            Optional<MemorySize> maximumWeight();
+
+            /**
+             * Fully qualified name of a class implementing {@code com.github.benmanes.caffeine.cache.Weigher} that computes
+             * the weight of the cache entries when {@code maximum-weight} is set. The class must have a public no-args
+             * constructor. If not set, the weight is an estimate of the value size in bytes, which requires serializing the
+             * values that are not common JDK types.
+             */
+            Optional<String> weigher();
+
+            /**
+             * Whether the cache values should be stored off-heap, in serialized form. This reduces the pressure on the garbage
+             * collector for caches with many entries, at the cost of serializing values on write and deserializing them on
+             * each read. All cached values and the objects they reference must be {@link java.io.Serializable}, otherwise the
+             * write fails with a {@code CacheException}. When {@code maximum-weight} is set and no
+             * {@code weigher} is configured, the weight of an entry is the exact size of the serialized value in bytes.
+             */
+            Optional<Boolean> offHeap();
+
             /**
              * Specifies that each entry should be automatically removed from the cache once a fixed duration has elapsed after
              * the entry's creation, or the most recent replacement of its value.
@@ -75,6 +102,17 @@ interface CaffeineCacheConfig {
              */
             Optional<Duration> expireAfterAccess();
 
+            /**
+             * Specifies that an entry should be refreshed in the background once a fixed duration has elapsed after the
+             * entry's creation, or the most recent replacement of its value. The first read of such entry triggers the
+             * computation of a new value, while the current (stale) value is still returned to all callers until the
+             * computation completes. If the computation fails, the stale value is kept and the next attempt is made after
+             * this duration elapses again. The computation does not run in the context of the caller, i.e. the request
+             * context and the security identity are not available. Combined with {@code expire-after-write}, this duration
+             * should be shorter than the expiration, otherwise the entry expires before it is refreshed.
+             */
+            Optional<Duration> refreshAfterWrite();
+
             /**
              * Whether or not metrics are recorded if the application depends on the Micrometer extension. Setting this
              * value to {@code true} will enable the accumulation of cache stats inside Caffeine.
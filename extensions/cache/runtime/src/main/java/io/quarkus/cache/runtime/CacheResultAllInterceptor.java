@@ -0,0 +1,125 @@
+package io.quarkus.cache.runtime;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import jakarta.annotation.Priority;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheException;
+import io.quarkus.cache.CacheResultAll;
+import io.smallrye.mutiny.Uni;
+
+@CacheResultAll(cacheName = "") // The `cacheName` attribute is @Nonbinding.
+@Interceptor
+@Priority(CacheInterceptor.BASE_PRIORITY + 2)
+public class CacheResultAllInterceptor extends CacheInterceptor {
+
+    private static final Logger LOGGER = Logger.getLogger(CacheResultAllInterceptor.class);
+    private static final String INTERCEPTOR_BINDING_ERROR_MSG = "The Quarkus cache extension is not working properly (CacheResultAll interceptor binding retrieval failed), please create a GitHub issue in the Quarkus repository to help the maintainers fix this bug";
+
+    @AroundInvoke
+    public Object intercept(InvocationContext invocationContext) throws Throwable {
+        CacheInterceptionContext<CacheResultAll> interceptionContext = getInterceptionContext(invocationContext,
+                CacheResultAll.class, true);
+
+        if (interceptionContext.getInterceptorBindings().isEmpty()) {
+            // This should never happen.
+            LOGGER.warn(INTERCEPTOR_BINDING_ERROR_MSG);
+            return invocationContext.proceed();
+        }
+
+        CacheResultAll binding = interceptionContext.getInterceptorBindings().get(0);
+        Cache cache = cacheManager.getCache(binding.cacheName()).get();
+        Method method = invocationContext.getMethod();
+        // The keys collection position is validated at build time.
+        int position = interceptionContext.getCacheKeyParameterPositions().isEmpty() ? 0
+                : interceptionContext.getCacheKeyParameterPositions().get(0);
+        @SuppressWarnings("unchecked")
+        Collection<Object> keys = (Collection<Object>) invocationContext.getParameters()[position];
+        Class<?> keysType = method.getParameterTypes()[position];
+        LOGGER.debugf("Loading %s entries from cache [%s]", keys.size(), binding.cacheName());
+
+        try {
+            ReturnType returnType = determineReturnType(method.getReturnType());
+            if (returnType != ReturnType.NonAsync) {
+                Uni<Map<Object, Object>> cacheValues = cache.getAllAsync(keys,
+                        new Function<Set<Object>, Uni<Map<Object, Object>>>() {
+                            @SuppressWarnings("unchecked")
+                            @Override
+                            public Uni<Map<Object, Object>> apply(Set<Object> missingKeys) {
+                                try {
+                                    return (Uni<Map<Object, Object>>) asyncInvocationResultToUni(
+                                            proceed(invocationContext, position, missingKeys, keysType), returnType);
+                                } catch (CacheException e) {
+                                    throw e;
+                                } catch (Exception e) {
+                                    throw new CacheException(e);
+                                }
+                            }
+                        });
+                @SuppressWarnings({ "unchecked", "rawtypes" })
+                Uni<Object> result = (Uni) cacheValues;
+                return createAsyncResult(result, returnType);
+            } else {
+                return cache.getAll(keys, new Function<Set<Object>, Map<Object, Object>>() {
+                    @SuppressWarnings("unchecked")
+                    @Override
+                    public Map<Object, Object> apply(Set<Object> missingKeys) {
+                        try {
+                            LOGGER.debugf("Adding %s entries into cache [%s]", missingKeys.size(), binding.cacheName());
+                            return (Map<Object, Object>) proceed(invocationContext, position, missingKeys, keysType);
+                        } catch (CacheException e) {
+                            throw e;
+                        } catch (Throwable e) {
+                            throw new CacheException(e);
+                        }
+                    }
+                }).await().indefinitely();
+            }
+        } catch (CacheException e) {
+            if (e.getCause() != null) {
+                throw e.getCause();
+            } else {
+                throw e;
+            }
+        }
+    }
+
+    private static Object proceed(InvocationContext invocationContext, int position, Set<Object> missingKeys,
+            Class<?> keysType) throws Exception {
+        Object[] originalParameters = invocationContext.getParameters();
+        // The intercepted method is invoked with a new argument array, the original arguments remain untouched
+        Object[] parameters = new Object[originalParameters.length];
+        System.arraycopy(originalParameters, 0, parameters, 0, originalParameters.length);
+        parameters[position] = toKeysType(missingKeys, keysType);
+        invocationContext.setParameters(parameters);
+        try {
+            return invocationContext.proceed();
+        } finally {
+            // The interceptors invoked before this one must not observe the missing keys
+            invocationContext.setParameters(originalParameters);
+        }
+    }
+
+    private static Collection<Object> toKeysType(Set<Object> keys, Class<?> keysType) {
+        if (keysType.isInstance(keys)) {
+            return keys;
+        } else if (List.class.isAssignableFrom(keysType)) {
+            return new ArrayList<>(keys);
+        } else {
+            return new LinkedHashSet<>(keys);
+        }
+    }
+}
@@ -1,12 +1,18 @@
 package io.quarkus.cache.runtime.caffeine;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -17,6 +23,7 @@
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Policy;
 import com.github.benmanes.caffeine.cache.Policy.FixedExpiration;
+import com.github.benmanes.caffeine.cache.Ticker;
 import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
 import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 
@@ -25,6 +32,7 @@
 import io.quarkus.cache.runtime.AbstractCache;
 import io.quarkus.cache.runtime.NullValueConverter;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.vertx.core.Context;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
@@ -44,16 +52,35 @@ public class CaffeineCacheImpl extends AbstractCache implements CaffeineCache {
     private final CaffeineCacheInfo cacheInfo;
     private final StatsCounter statsCounter;
     private final boolean recordStats;
+    private final Function<Object, Object> toCacheValue;
+    private final Function<Object, Object> fromCacheValue;
+    private final long refreshAfterWriteNanos;
+    private final CaffeineRefreshStats refreshStats;
+    private final Ticker ticker;
 
     public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
+        this(cacheInfo, recordStats, Ticker.systemTicker());
+    }
+
+    /**
+     * @param cacheInfo the configuration of the cache
+     * @param recordStats whether the Caffeine stats of the cache are recorded
+     * @param ticker the time source used for the expiration and the refresh of the entries
+     */
+    public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats, Ticker ticker) {
         this.cacheInfo = cacheInfo;
-        Caffeine<Object, Object> builder = Caffeine.newBuilder();
+        this.ticker = ticker;
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().ticker(ticker);
         if (cacheInfo.initialCapacity != null) {
             builder.initialCapacity(cacheInfo.initialCapacity);
         }
         if (cacheInfo.maximumSize != null) {
             builder.maximumSize(cacheInfo.maximumSize);
         }
+        if (cacheInfo.maximumWeight != null) {
+            builder.maximumWeight(cacheInfo.maximumWeight);
+            builder.weigher(CaffeineCacheWeigher.create(cacheInfo));
+        }
         if (cacheInfo.expireAfterWrite != null) {
             builder.expireAfterWrite(cacheInfo.expireAfterWrite);
         }
@@ -75,6 +102,25 @@ public StatsCounter get() {
             statsCounter = StatsCounter.disabledStatsCounter();
         }
         cache = builder.buildAsync();
+        Function<Object, Object> toCacheValue = TO_CACHE_VALUE;
+        Function<Object, Object> fromCacheValue = FROM_CACHE_VALUE;
+        if (cacheInfo.offHeap) {
+            LOGGER.tracef("Storing values of cache [%s] off-heap", cacheInfo.name);
+            toCacheValue = toOffHeapCacheValue(cacheInfo.name);
+            fromCacheValue = FROM_OFF_HEAP_CACHE_VALUE;
+        }
+        if (cacheInfo.refreshAfterWrite != null) {
+            LOGGER.tracef("Refreshing values of cache [%s] after [%s]", cacheInfo.name, cacheInfo.refreshAfterWrite);
+            toCacheValue = RefreshableCacheValue.wrapping(toCacheValue, ticker);
+            fromCacheValue = RefreshableCacheValue.unwrapping(fromCacheValue);
+            refreshAfterWriteNanos = cacheInfo.refreshAfterWrite.toNanos();
+            refreshStats = new CaffeineRefreshStats();
+        } else {
+            refreshAfterWriteNanos = 0;
+            refreshStats = null;
+        }
+        this.toCacheValue = toCacheValue;
+        this.fromCacheValue = fromCacheValue;
     }
 
     @Override
@@ -116,60 +162,112 @@ public CompletionStage<V> get() {
                                     public CompletableFuture<Object> apply(Object key) {
                                         recorder.onValueAbsent();
                                         return valueLoader.apply((K) key)
-                                                .map(TO_CACHE_VALUE)
+                                                .map(toCacheValue)
                                                 .subscribeAsCompletionStage();
                                     }
                                 });
                         recorder.doRecord(key);
+                        if (refreshStats != null) {
+                            refreshIfStale(key, (CompletableFuture<Object>) result, new Supplier<CompletionStage<Object>>() {
+                                @Override
+                                public CompletionStage<Object> get() {
+                                    return valueLoader.apply(key)
+                                            .map(toCacheValue)
+                                            .subscribeAsCompletionStage();
+                                }
+                            });
+                        }
                         return result;
                     }
                 })
                 .map(fromCacheValue())
-                .emitOn(new Executor() {
-                    // We need make sure we go back to the original context when the cache value is computed.
-                    // Otherwise, we would always emit on the context having computed the value, which could
-                    // break the duplicated context isolation.
+                .emitOn(new CapturedContextExecutor(context));
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> valuesLoader) {
+        return Uni.createFrom().completionStage(new Supplier<CompletionStage<Map<K, V>>>() {
+            @Override
+            public CompletionStage<Map<K, V>> get() {
+                /*
+                 * The values loader is called on the calling thread, like in get(Object, Function). The entries are not
+                 * refreshed by the bulk operations, even if the cache is configured with refresh-after-write.
+                 */
+                return getAllFromCaffeine(keys, new Function<Set<K>, CompletableFuture<Map<Object, Object>>>() {
                     @Override
-                    public void execute(Runnable command) {
-                        Context ctx = Vertx.currentContext();
-                        if (context == null) {
-                            // We didn't capture a context
-                            if (ctx == null) {
-                                // We are not on a context => we can execute immediately.
-                                command.run();
-                            } else {
-                                // We are on a context.
-                                // We cannot continue on the current context as we may share a duplicated context.
-                                // We need a new one. Note that duplicate() does not duplicate the duplicated context,
-                                // but the root context.
-                                ((ContextInternal) ctx).duplicate()
-                                        .runOnContext(new Handler<Void>() {
-                                            @Override
-                                            public void handle(Void ignored) {
-                                                command.run();
-                                            }
-                                        });
-                            }
-                        } else {
-                            // We captured a context.
-                            if (ctx == context) {
-                                // We are on the same context => we can execute immediately
-                                command.run();
-                            } else {
-                                // 1) We are not on a context (ctx == null) => we need to switch to the captured context.
-                                // 2) We are on a different context (ctx != null) => we need to switch to the captured context.
-                                context.runOnContext(new Handler<Void>() {
+                    public CompletableFuture<Map<Object, Object>> apply(Set<K> missingKeys) {
+                        try {
+                            return CompletableFuture.completedFuture(toCacheValues(valuesLoader.apply(missingKeys)));
+                        } catch (Throwable t) {
+                            return CompletableFuture.failedFuture(t);
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Collection<K> keys, Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        Context context = Vertx.currentContext();
+        return Uni.createFrom().completionStage(new Supplier<CompletionStage<Map<K, V>>>() {
+            @Override
+            public CompletionStage<Map<K, V>> get() {
+                return getAllFromCaffeine(keys, new Function<Set<K>, CompletableFuture<Map<Object, Object>>>() {
+                    @Override
+                    public CompletableFuture<Map<Object, Object>> apply(Set<K> missingKeys) {
+                        return valuesLoader.apply(missingKeys)
+                                .map(new Function<Map<K, V>, Map<Object, Object>>() {
                                     @Override
-                                    public void handle(Void ignored) {
-                                        command.run();
+                                    public Map<Object, Object> apply(Map<K, V> values) {
+                                        return toCacheValues(values);
                                     }
-                                });
-                            }
+                                })
+                                .subscribeAsCompletionStage();
+                    }
+                });
+            }
+        }).emitOn(new CapturedContextExecutor(context));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K, V> CompletableFuture<Map<K, V>> getAllFromCaffeine(Collection<K> keys,
+            Function<Set<K>, CompletableFuture<Map<Object, Object>>> loader) {
+        for (K key : keys) {
+            Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        return cache.getAll(keys,
+                new BiFunction<Set<? extends Object>, Executor, CompletableFuture<Map<Object, Object>>>() {
+                    @Override
+                    public CompletableFuture<Map<Object, Object>> apply(Set<? extends Object> missingKeys,
+                            Executor executor) {
+                        LOGGER.tracef("Loading %s missing keys into cache [%s]", missingKeys.size(), cacheInfo.name);
+                        return loader.apply((Set<K>) missingKeys);
+                    }
+                })
+                .thenApply(new Function<Map<Object, Object>, Map<K, V>>() {
+                    @Override
+                    public Map<K, V> apply(Map<Object, Object> cacheValues) {
+                        Map<K, V> result = new LinkedHashMap<>(cacheValues.size());
+                        for (Map.Entry<Object, Object> entry : cacheValues.entrySet()) {
+                            result.put((K) entry.getKey(), cast(unwrapCacheValue(entry.getValue())));
                         }
+                        return result;
                     }
                 });
     }
 
+    private <K, V> Map<Object, Object> toCacheValues(Map<K, V> values) {
+        if (values == null || values.isEmpty()) {
+            return Map.of();
+        }
+        Map<Object, Object> cacheValues = new HashMap<>(values.size());
+        for (Map.Entry<K, V> entry : values.entrySet()) {
+            cacheValues.put(entry.getKey(), toCacheValue.apply(entry.getValue()));
+        }
+        return cacheValues;
+    }
+
     @Override
     public <V> CompletableFuture<V> getIfPresent(Object key) {
         Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
@@ -214,7 +312,7 @@ private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> v
             statsCounter.recordMisses(1);
             try {
                 Object value = valueLoader.apply(key);
-                newCacheValue.complete(NullValueConverter.toCacheValue(value));
+                newCacheValue.complete(toCacheValue.apply(value));
             } catch (Throwable t) {
                 cache.asMap().remove(key, newCacheValue);
                 newCacheValue.complete(new CaffeineComputationThrowable(t));
@@ -223,29 +321,99 @@ private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> v
         } else {
             LOGGER.tracef("Key [%s] found in cache [%s]", key, cacheInfo.name);
             statsCounter.recordHits(1);
+            if (refreshStats != null) {
+                refreshIfStale(key, existingCacheValue, new Supplier<CompletionStage<Object>>() {
+                    @Override
+                    public CompletionStage<Object> get() {
+                        // the value loader is blocking, so the refresh must not run on the calling thread; note that the
+                        // request context and the security identity of the caller are not propagated to the worker thread
+                        return CompletableFuture.supplyAsync(new Supplier<Object>() {
+                            @Override
+                            public Object get() {
+                                return toCacheValue.apply(valueLoader.apply(key));
+                            }
+                        }, Infrastructure.getDefaultWorkerPool());
+                    }
+                });
+            }
             return unwrapCacheValueOrThrowable(existingCacheValue);
         }
     }
 
+    /**
+     * If the value held by {@code cacheValue} is older than the {@code refresh-after-write} duration, starts a background
+     * computation of a new value using {@code reloader}, unless such computation is already in progress. The stale value
+     * is replaced when the computation succeeds, or kept in the cache if it fails. After a failure, the next attempt is
+     * made once another {@code refresh-after-write} duration has elapsed. The stale value is not replaced if the entry was
+     * invalidated or replaced in the meantime.
+     * <p>
+     * The refresh is not part of the request that read the stale value, which may even be completed when the refresh
+     * runs. Therefore, the request context and the security identity of the caller are not propagated and the value
+     * loaders of a cache with {@code refresh-after-write} must not depend on them.
+     */
+    private void refreshIfStale(Object key, CompletableFuture<Object> cacheValue,
+            Supplier<CompletionStage<Object>> reloader) {
+        if (!cacheValue.isDone() || cacheValue.isCompletedExceptionally()) {
+            return;
+        }
+        Object value = cacheValue.getNow(null);
+        if (!(value instanceof RefreshableCacheValue)) {
+            return;
+        }
+        RefreshableCacheValue refreshableValue = (RefreshableCacheValue) value;
+        long now = ticker.read();
+        if (!refreshableValue.isStale(now, refreshAfterWriteNanos)) {
+            return;
+        }
+        refreshStats.recordStaleHit();
+        if (!refreshableValue.startRefresh(now)) {
+            return;
+        }
+        LOGGER.tracef("Refreshing stale value of key [%s] in cache [%s]", key, cacheInfo.name);
+        CompletionStage<Object> newCacheValue;
+        try {
+            newCacheValue = reloader.get();
+        } catch (Throwable t) {
+            newCacheValue = CompletableFuture.failedFuture(t);
+        }
+        newCacheValue.whenComplete(new BiConsumer<Object, Throwable>() {
+            @Override
+            public void accept(Object newValue, Throwable failure) {
+                if (failure == null) {
+                    cache.asMap().replace(key, cacheValue, CompletableFuture.completedFuture(newValue));
+                    refreshStats.recordRefreshSuccess();
+                } else {
+                    LOGGER.debugf(failure, "Unable to refresh the value of key [%s] in cache [%s]", key, cacheInfo.name);
+                    refreshableValue.refreshFailed(ticker.read() + refreshAfterWriteNanos);
+                    refreshStats.recordRefreshFailure();
+                }
+            }
+        });
+    }
+
     private CompletableFuture<Object> unwrapCacheValueOrThrowable(CompletableFuture<Object> cacheValue) {
         return cacheValue.thenApply(new Function<>() {
             @Override
             public Object apply(Object value) {
-                // If there's a throwable encapsulated into a CaffeineComputationThrowable, it must be rethrown.
-                if (value instanceof CaffeineComputationThrowable) {
-                    Throwable cause = ((CaffeineComputationThrowable) value).getCause();
-                    if (cause instanceof RuntimeException) {
-                        throw (RuntimeException) cause;
-                    } else {
-                        throw new CacheException(cause);
-                    }
-                } else {
-                    return NullValueConverter.fromCacheValue(value);
-                }
+                return unwrapCacheValue(value);
             }
         });
     }
 
+    private Object unwrapCacheValue(Object value) {
+        // If there's a throwable encapsulated into a CaffeineComputationThrowable, it must be rethrown.
+        if (value instanceof CaffeineComputationThrowable) {
+            Throwable cause = ((CaffeineComputationThrowable) value).getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else {
+                throw new CacheException(cause);
+            }
+        } else {
+            return fromCacheValue.apply(value);
+        }
+    }
+
     @Override
     public Uni<Void> invalidate(Object key) {
         Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
@@ -269,6 +437,20 @@ public Void get() {
         });
     }
 
+    @Override
+    public Uni<Void> invalidateAll(Collection<?> keys) {
+        for (Object key : keys) {
+            Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        return Uni.createFrom().item(new Supplier<>() {
+            @Override
+            public Void get() {
+                cache.synchronous().invalidateAll(keys);
+                return null;
+            }
+        });
+    }
+
     @Override
     public Uni<Void> invalidateIf(Predicate<Object> predicate) {
         return Uni.createFrom().item(new Supplier<>() {
@@ -288,7 +470,18 @@ public Set<Object> keySet() {
     @SuppressWarnings("unchecked")
     @Override
     public <V> void put(Object key, CompletableFuture<V> valueFuture) {
-        cache.put(key, (CompletableFuture<Object>) valueFuture);
+        if (toCacheValue != TO_CACHE_VALUE) {
+            cache.put(key, valueFuture.thenApply(toCacheValue));
+        } else {
+            cache.put(key, (CompletableFuture<Object>) valueFuture);
+        }
+    }
+
+    @Override
+    public <V> void putAll(Map<?, CompletableFuture<V>> valueFutures) {
+        for (Map.Entry<?, CompletableFuture<V>> entry : valueFutures.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
     }
 
     @Override
@@ -318,7 +511,7 @@ public void setExpireAfterAccess(Duration duration) {
     @Override
     public void setMaximumSize(long maximumSize) {
         Optional<Policy.Eviction<Object, Object>> eviction = cache.synchronous().policy().eviction();
-        if (eviction.isPresent()) {
+        if (eviction.isPresent() && !eviction.get().isWeighted()) {
             eviction.get().setMaximum(maximumSize);
             cacheInfo.maximumSize = maximumSize;
         } else {
@@ -327,6 +520,38 @@ public void setMaximumSize(long maximumSize) {
         }
     }
 
+    @Override
+    public void setMaximumWeight(long maximumWeight) {
+        Optional<Policy.Eviction<Object, Object>> eviction = cache.synchronous().policy().eviction();
+        if (eviction.isPresent() && eviction.get().isWeighted()) {
+            eviction.get().setMaximum(maximumWeight);
+            cacheInfo.maximumWeight = maximumWeight;
+        } else {
+            throw new IllegalStateException("The maximum weight can only be changed if the cache was constructed with a " +
+                    "maximum-weight configuration value");
+        }
+    }
+
+    /**
+     * Returns the total weight of the cache entries, or {@code -1} if the cache was not constructed with
+     * a maximum-weight configuration value.
+     */
+    public long getWeightedSize() {
+        Optional<Policy.Eviction<Object, Object>> eviction = cache.synchronous().policy().eviction();
+        if (eviction.isPresent() && eviction.get().isWeighted()) {
+            return eviction.get().weightedSize().orElse(-1);
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the statistics of the background refreshes, or {@code null} if the cache was not constructed with
+     * a refresh-after-write configuration value.
+     */
+    public CaffeineRefreshStats getRefreshStats() {
+        return refreshStats;
+    }
+
     // For testing purposes only.
     public CaffeineCacheInfo getCacheInfo() {
         return cacheInfo;
@@ -348,7 +573,60 @@ private <T> T cast(Object value) {
 
     @SuppressWarnings("unchecked")
     private <V> Function<V, V> fromCacheValue() {
-        return (Function<V, V>) FROM_CACHE_VALUE;
+        return (Function<V, V>) fromCacheValue;
+    }
+
+    /**
+     * We need make sure we go back to the original context when the cache value is computed.
+     * Otherwise, we would always emit on the context having computed the value, which could
+     * break the duplicated context isolation.
+     */
+    private static class CapturedContextExecutor implements Executor {
+
+        private final Context context;
+
+        CapturedContextExecutor(Context context) {
+            this.context = context;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            Context ctx = Vertx.currentContext();
+            if (context == null) {
+                // We didn't capture a context
+                if (ctx == null) {
+                    // We are not on a context => we can execute immediately.
+                    command.run();
+                } else {
+                    // We are on a context.
+                    // We cannot continue on the current context as we may share a duplicated context.
+                    // We need a new one. Note that duplicate() does not duplicate the duplicated context,
+                    // but the root context.
+                    ((ContextInternal) ctx).duplicate()
+                            .runOnContext(new Handler<Void>() {
+                                @Override
+                                public void handle(Void ignored) {
+                                    command.run();
+                                }
+                            });
+                }
+            } else {
+                // We captured a context.
+                if (ctx == context) {
+                    // We are on the same context => we can execute immediately
+                    command.run();
+                } else {
+                    // 1) We are not on a context (ctx == null) => we need to switch to the captured context.
+                    // 2) We are on a different context (ctx != null) => we need to switch to the captured context.
+                    context.runOnContext(new Handler<Void>() {
+                        @Override
+                        public void handle(Void ignored) {
+                            command.run();
+                        }
+                    });
+                }
+            }
+        }
     }
 
     private interface StatsRecorder {
@@ -412,4 +690,26 @@ public Object apply(Object value) {
         }
     };
 
+    private static final Function<Object, Object> FROM_OFF_HEAP_CACHE_VALUE = new Function<Object, Object>() {
+
+        @Override
+        public Object apply(Object value) {
+            if (value instanceof OffHeapValue) {
+                return ((OffHeapValue) value).get();
+            }
+            return NullValueConverter.fromCacheValue(value);
+        }
+    };
+
+    private static Function<Object, Object> toOffHeapCacheValue(String cacheName) {
+        return new Function<Object, Object>() {
+
+            @Override
+            public Object apply(Object value) {
+                // null values are represented by a shared on-heap instance
+                return value == null ? NullValueConverter.toCacheValue(null) : OffHeapValue.of(cacheName, value);
+            }
+        };
+    }
+
 }
@@ -36,6 +36,34 @@ public static Set<CaffeineCacheInfo> build(Set<String> cacheNames, CacheConfig c
                     cacheInfo.maximumSize = defaultConfig.maximumSize().getAsLong();
                 }
 
+                if (namedCacheConfig != null && namedCacheConfig.maximumWeight().isPresent()) {
+                    cacheInfo.maximumWeight = namedCacheConfig.maximumWeight().get().asLongValue();
+                    if (namedCacheConfig.maximumSize().isEmpty()) {
+                        // the named cache configuration takes precedence over the default maximum size
+                        cacheInfo.maximumSize = null;
+                    }
+                } else if (defaultConfig.maximumWeight().isPresent()
+                        && (namedCacheConfig == null || namedCacheConfig.maximumSize().isEmpty())) {
+                    cacheInfo.maximumWeight = defaultConfig.maximumWeight().get().asLongValue();
+                }
+
+                if (cacheInfo.maximumSize != null && cacheInfo.maximumWeight != null) {
+                    throw new IllegalStateException("Both maximum-size and maximum-weight are configured for cache ["
+                            + cacheName + "], only one of them may be set");
+                }
+
+                if (namedCacheConfig != null && namedCacheConfig.weigher().isPresent()) {
+                    cacheInfo.weigher = namedCacheConfig.weigher().get();
+                } else if (defaultConfig.weigher().isPresent()) {
+                    cacheInfo.weigher = defaultConfig.weigher().get();
+                }
+
+                if (namedCacheConfig != null && namedCacheConfig.offHeap().isPresent()) {
+                    cacheInfo.offHeap = namedCacheConfig.offHeap().get();
+                } else if (defaultConfig.offHeap().isPresent()) {
+                    cacheInfo.offHeap = defaultConfig.offHeap().get();
+                }
+
                 if (namedCacheConfig != null && namedCacheConfig.expireAfterWrite().isPresent()) {
                     cacheInfo.expireAfterWrite = namedCacheConfig.expireAfterWrite().get();
                 } else if (defaultConfig.expireAfterWrite().isPresent()) {
@@ -48,6 +76,12 @@ public static Set<CaffeineCacheInfo> build(Set<String> cacheNames, CacheConfig c
                     cacheInfo.expireAfterAccess = defaultConfig.expireAfterAccess().get();
                 }
 
+                if (namedCacheConfig != null && namedCacheConfig.refreshAfterWrite().isPresent()) {
+                    cacheInfo.refreshAfterWrite = namedCacheConfig.refreshAfterWrite().get();
+                } else if (defaultConfig.refreshAfterWrite().isPresent()) {
+                    cacheInfo.refreshAfterWrite = defaultConfig.refreshAfterWrite().get();
+                }
+
                 if (namedCacheConfig != null && namedCacheConfig.metricsEnabled().isPresent()) {
                     cacheInfo.metricsEnabled = namedCacheConfig.metricsEnabled().get();
                 } else if (defaultConfig.metricsEnabled().isPresent()) {
@@ -0,0 +1,56 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+
+import io.quarkus.cache.CacheException;
+import io.quarkus.cache.runtime.NullValueConverter;
+
+/**
+ * Computes the weight of the values stored in a Caffeine cache. The internal representations of the values (null values,
+ * failed computations and off-heap values) are unwrapped before the actual value is passed to the delegate weigher.
+ */
+final class CaffeineCacheWeigher implements Weigher<Object, Object> {
+
+    // null if no custom weigher is configured
+    private final Weigher<Object, Object> delegate;
+
+    private CaffeineCacheWeigher(Weigher<Object, Object> delegate) {
+        this.delegate = delegate;
+    }
+
+    static CaffeineCacheWeigher create(CaffeineCacheInfo cacheInfo) {
+        if (cacheInfo.weigher == null) {
+            return new CaffeineCacheWeigher(null);
+        }
+        try {
+            Class<?> weigherClass = Class.forName(cacheInfo.weigher, true, Thread.currentThread().getContextClassLoader());
+            @SuppressWarnings("unchecked")
+            Weigher<Object, Object> weigher = (Weigher<Object, Object>) weigherClass.getConstructor().newInstance();
+            return new CaffeineCacheWeigher(weigher);
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new CacheException("Unable to create the weigher [" + cacheInfo.weigher + "] of cache [" + cacheInfo.name
+                    + "], it must implement " + Weigher.class.getName() + " and have a public no-args constructor", e);
+        }
+    }
+
+    @Override
+    public int weigh(Object key, Object value) {
+        if (value instanceof CaffeineComputationThrowable) {
+            // removed from the cache right away
+            return 0;
+        }
+        if (value instanceof RefreshableCacheValue) {
+            value = ((RefreshableCacheValue) value).value;
+        }
+        if (value instanceof OffHeapValue) {
+            OffHeapValue offHeapValue = (OffHeapValue) value;
+            // without a custom weigher, the weight of an off-heap value is its exact size
+            return delegate == null ? offHeapValue.size() : delegate.weigh(key, offHeapValue.get());
+        }
+        Object actualValue = NullValueConverter.fromCacheValue(value);
+        if (actualValue == null) {
+            return 1;
+        }
+        return delegate == null ? SizeEstimatingWeigher.INSTANCE.weigh(key, actualValue) : delegate.weigh(key, actualValue);
+    }
+}
@@ -0,0 +1,46 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of the background refreshes of a Caffeine cache configured with {@code refresh-after-write}.
+ */
+public class CaffeineRefreshStats {
+
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder refreshSuccesses = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+
+    void recordStaleHit() {
+        staleHits.increment();
+    }
+
+    void recordRefreshSuccess() {
+        refreshSuccesses.increment();
+    }
+
+    void recordRefreshFailure() {
+        refreshFailures.increment();
+    }
+
+    /**
+     * @return the number of cache hits that returned a value older than the refresh-after-write duration
+     */
+    public long staleHitCount() {
+        return staleHits.sum();
+    }
+
+    /**
+     * @return the number of values successfully refreshed in the background
+     */
+    public long refreshSuccessCount() {
+        return refreshSuccesses.sum();
+    }
+
+    /**
+     * @return the number of background refreshes that failed, the stale value was kept in the cache
+     */
+    public long refreshFailureCount() {
+        return refreshFailures.sum();
+    }
+}
@@ -0,0 +1,123 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+
+import io.quarkus.cache.CacheException;
+
+/**
+ * A cache value serialized into a direct {@link ByteBuffer}. Only this small handle lives on the heap, the serialized value
+ * is stored off-heap. The value is deserialized on each read, so every read returns a new copy of the value.
+ * <p>
+ * The values are serialized with Java serialization, i.e. the whole object graph of a value is written on each write and
+ * read on each read, and the serialized form is usually several times larger than a compact binary encoding. Transient
+ * fields are not stored and the identity of the value is not preserved. The direct memory is bounded by
+ * {@code -XX:MaxDirectMemorySize} and it is only released once the handle of an evicted value is garbage collected.
+ */
+final class OffHeapValue {
+
+    private final ByteBuffer buffer;
+
+    private OffHeapValue(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * @param cacheName the name of the cache, used in the error messages
+     * @param value the value to serialize
+     * @return the off-heap value
+     * @throws CacheException if the value or any value it references is not serializable
+     */
+    static OffHeapValue of(String cacheName, Object value) {
+        if (!(value instanceof Serializable)) {
+            // Fail before serializing anything
+            throw new CacheException(String.format(
+                    "Unable to store a value of type [%s] in cache [%s]: off-heap cache values must implement %s",
+                    value.getClass().getName(), cacheName, Serializable.class.getName()), null);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        } catch (NotSerializableException e) {
+            // The message of the exception is the name of the class that is not serializable. The exception is not used as
+            // the cause because the cache interceptors rethrow the cause of a CacheException.
+            throw new CacheException(String.format(
+                    "Unable to store a value of type [%s] in cache [%s]: it references a value of type [%s] that does not implement %s",
+                    value.getClass().getName(), cacheName, e.getMessage(), Serializable.class.getName()), null);
+        } catch (IOException e) {
+            throw new CacheException(e);
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.size());
+        buffer.put(bytes.toByteArray()).flip();
+        return new OffHeapValue(buffer.asReadOnlyBuffer());
+    }
+
+    Object get() {
+        try (ObjectInputStream in = new TcclObjectInputStream(new ByteBufferInputStream(buffer.duplicate()))) {
+            return in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new CacheException(e);
+        }
+    }
+
+    int size() {
+        return buffer.capacity();
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int read = Math.min(len, buffer.remaining());
+            buffer.get(b, off, read);
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+
+    private static final class TcclObjectInputStream extends ObjectInputStream {
+
+        TcclObjectInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        // ObjectInputStream resolves classes using the first non-platform class loader on the stack, which is the base
+        // runtime class loader in dev and test mode, so application classes would not be found
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            try {
+                return Class.forName(desc.getName(), false, Thread.currentThread().getContextClassLoader());
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+    }
+}
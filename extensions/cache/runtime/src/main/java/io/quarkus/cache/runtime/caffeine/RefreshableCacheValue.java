@@ -0,0 +1,72 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+
+/**
+ * A cache value that remembers when it was written, so that it can be refreshed in the background once it gets older than
+ * the {@code refresh-after-write} duration. A stale value is still returned to the callers until the refresh completes.
+ * A failed refresh is not retried before a given time, so that a failing value loader is not invoked on every read.
+ */
+final class RefreshableCacheValue {
+
+    final Object value;
+
+    private final long writeTime;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    // the ticker time before which a failed refresh is not retried
+    private volatile long retryAfter;
+
+    private RefreshableCacheValue(Object value, long writeTime) {
+        this.value = value;
+        this.writeTime = writeTime;
+        // nanoTime values may be negative, so the initial value must not be 0
+        this.retryAfter = writeTime;
+    }
+
+    boolean isStale(long now, long refreshAfterWriteNanos) {
+        return now - writeTime >= refreshAfterWriteNanos;
+    }
+
+    /**
+     * @param now the current time of the cache ticker, in nanoseconds
+     * @return {@code true} if the caller is responsible for refreshing the value, {@code false} if a refresh is already in
+     *         progress or if the previous refresh failed less than the backoff period ago
+     */
+    boolean startRefresh(long now) {
+        return now - retryAfter >= 0 && refreshing.compareAndSet(false, true);
+    }
+
+    /**
+     * Allows another refresh attempt after a failed one, once the ticker reaches {@code retryAfter}.
+     *
+     * @param retryAfter the time of the cache ticker, in nanoseconds, from which the value may be refreshed again
+     */
+    void refreshFailed(long retryAfter) {
+        this.retryAfter = retryAfter;
+        refreshing.set(false);
+    }
+
+    static Function<Object, Object> wrapping(Function<Object, Object> toCacheValue, Ticker ticker) {
+        return new Function<Object, Object>() {
+            @Override
+            public Object apply(Object value) {
+                return new RefreshableCacheValue(toCacheValue.apply(value), ticker.read());
+            }
+        };
+    }
+
+    static Function<Object, Object> unwrapping(Function<Object, Object> fromCacheValue) {
+        return new Function<Object, Object>() {
+            @Override
+            public Object apply(Object value) {
+                if (value instanceof RefreshableCacheValue) {
+                    return fromCacheValue.apply(((RefreshableCacheValue) value).value);
+                }
+                return fromCacheValue.apply(value);
+            }
+        };
+    }
+}
@@ -0,0 +1,125 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+
+/**
+ * Estimates the size of a cache value in bytes. Common JDK types are estimated from their shallow layout. Other
+ * {@link Serializable} values are estimated by the length of their serialized form, which is computed without
+ * retaining the serialized bytes. The estimate is computed once, when the value is written to the cache.
+ * <p>
+ * Serializing a value costs about as much as serializing it for any other purpose, so for large object graphs the estimate
+ * may dominate the cost of a write. Values that are neither common JDK types nor serializable, or that fail to serialize,
+ * are weighed as {@value #UNKNOWN} bytes. A custom weigher should be configured for such values.
+ */
+final class SizeEstimatingWeigher implements Weigher<Object, Object> {
+
+    static final SizeEstimatingWeigher INSTANCE = new SizeEstimatingWeigher();
+
+    private static final int OBJECT_HEADER = 16;
+    private static final int REFERENCE = 8;
+    private static final int UNKNOWN = 64;
+    // collections are only inspected to a limited depth, deeper elements are counted as unknown
+    private static final int MAX_DEPTH = 4;
+
+    @Override
+    public int weigh(Object key, Object value) {
+        return (int) Math.min(Integer.MAX_VALUE, estimate(value, 0));
+    }
+
+    private static long estimate(Object value, int depth) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof String) {
+            return OBJECT_HEADER + 24 + ((String) value).length();
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+            return OBJECT_HEADER + 8;
+        }
+        if (value instanceof Enum) {
+            // enum constants are shared
+            return REFERENCE;
+        }
+        if (value instanceof UUID) {
+            return OBJECT_HEADER + 16;
+        }
+        if (value instanceof byte[]) {
+            return OBJECT_HEADER + ((byte[]) value).length;
+        }
+        if (depth >= MAX_DEPTH) {
+            return UNKNOWN;
+        }
+        if (value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            Class<?> componentType = value.getClass().getComponentType();
+            if (componentType.isPrimitive()) {
+                return OBJECT_HEADER + (long) length * primitiveSize(componentType);
+            }
+            long size = OBJECT_HEADER + (long) length * REFERENCE;
+            for (int i = 0; i < length; i++) {
+                size += estimate(Array.get(value, i), depth + 1);
+            }
+            return size;
+        }
+        if (value instanceof Collection) {
+            long size = OBJECT_HEADER + 32;
+            for (Object element : (Collection<?>) value) {
+                size += REFERENCE + estimate(element, depth + 1);
+            }
+            return size;
+        }
+        if (value instanceof Map) {
+            long size = OBJECT_HEADER + 48;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                size += 32 + estimate(entry.getKey(), depth + 1) + estimate(entry.getValue(), depth + 1);
+            }
+            return size;
+        }
+        if (value instanceof Serializable) {
+            CountingOutputStream counter = new CountingOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(counter)) {
+                out.writeObject(value);
+            } catch (IOException e) {
+                return UNKNOWN;
+            }
+            return OBJECT_HEADER + counter.count;
+        }
+        return UNKNOWN;
+    }
+
+    private static int primitiveSize(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        } else if (type == int.class || type == float.class) {
+            return 4;
+        } else if (type == short.class || type == char.class) {
+            return 2;
+        } else {
+            return 1;
+        }
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
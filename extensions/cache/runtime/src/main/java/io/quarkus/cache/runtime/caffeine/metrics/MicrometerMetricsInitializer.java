@@ -4,8 +4,10 @@
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
 
+import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.quarkus.cache.runtime.caffeine.CaffeineRefreshStats;
 
 /**
  * An instance of this class is created during the instantiation of the Caffeine caches when the application depends on a
@@ -26,4 +28,23 @@ public void recordMetrics(AsyncCache<Object, Object> cache, String cacheName) {
         // The 'tags' vararg is purposely empty here. Tags should be configured using MeterFilter.
         CaffeineCacheMetrics.monitor(Metrics.globalRegistry, cache, cacheName);
     }
+
+    @Override
+    public void recordRefreshMetrics(CaffeineRefreshStats refreshStats, String cacheName) {
+        LOGGER.tracef("Initializing Micrometer refresh metrics for cache [%s]", cacheName);
+        FunctionCounter.builder("cache.gets.stale", refreshStats, CaffeineRefreshStats::staleHitCount)
+                .tag("cache", cacheName)
+                .description("The number of times cache lookup methods have returned a value due for refresh")
+                .register(Metrics.globalRegistry);
+        FunctionCounter.builder("cache.refreshes", refreshStats, CaffeineRefreshStats::refreshSuccessCount)
+                .tag("cache", cacheName)
+                .tag("result", "success")
+                .description("The number of values refreshed in the background")
+                .register(Metrics.globalRegistry);
+        FunctionCounter.builder("cache.refreshes", refreshStats, CaffeineRefreshStats::refreshFailureCount)
+                .tag("cache", cacheName)
+                .tag("result", "failure")
+                .description("The number of values refreshed in the background")
+                .register(Metrics.globalRegistry);
+    }
 }
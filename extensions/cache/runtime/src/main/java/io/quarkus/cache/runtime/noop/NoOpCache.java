@@ -1,5 +1,9 @@
 package io.quarkus.cache.runtime.noop;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -35,6 +39,21 @@ public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
         return valueLoader.apply(key);
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> valuesLoader) {
+        return Uni.createFrom().item(new Supplier<Map<K, V>>() {
+            @Override
+            public Map<K, V> get() {
+                return valuesLoader.apply(new LinkedHashSet<>(keys));
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Collection<K> keys, Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        return valuesLoader.apply(new LinkedHashSet<>(keys));
+    }
+
     @Override
     public Uni<Void> invalidate(Object key) {
         return Uni.createFrom().voidItem();
@@ -45,6 +64,11 @@ public Uni<Void> invalidateAll() {
         return Uni.createFrom().voidItem();
     }
 
+    @Override
+    public Uni<Void> invalidateAll(Collection<?> keys) {
+        return Uni.createFrom().voidItem();
+    }
+
     @Override
     public Uni<Void> invalidateIf(Predicate<Object> predicate) {
         return Uni.createFrom().voidItem();
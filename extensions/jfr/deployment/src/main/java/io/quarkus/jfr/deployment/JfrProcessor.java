@@ -1,5 +1,10 @@
 package io.quarkus.jfr.deployment;
 
+import java.util.Optional;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.jboss.logging.Logger;
+
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.deployment.Capabilities;
 import io.quarkus.deployment.Capability;
@@ -7,23 +12,32 @@
 import io.quarkus.deployment.annotations.*;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.RuntimeInitializedClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
+import io.quarkus.jfr.runtime.JfrProfilingRecorder;
 import io.quarkus.jfr.runtime.JfrRecorder;
 import io.quarkus.jfr.runtime.OTelIdProducer;
 import io.quarkus.jfr.runtime.QuarkusIdProducer;
+import io.quarkus.jfr.runtime.config.JfrBuildTimeConfig;
 import io.quarkus.jfr.runtime.config.JfrRuntimeConfig;
 import io.quarkus.jfr.runtime.http.rest.classic.ClassicServerFilter;
 import io.quarkus.jfr.runtime.http.rest.classic.ClassicServerRecorderProducer;
 import io.quarkus.jfr.runtime.http.rest.reactive.ReactiveServerFilters;
 import io.quarkus.jfr.runtime.http.rest.reactive.ReactiveServerRecorderProducer;
+import io.quarkus.jfr.runtime.http.rest.reactive.ServerBlockingDispatchRecordingHandler;
 import io.quarkus.jfr.runtime.http.rest.reactive.ServerStartRecordingHandler;
 import io.quarkus.resteasy.common.spi.ResteasyJaxrsProviderBuildItem;
 import io.quarkus.resteasy.reactive.server.spi.GlobalHandlerCustomizerBuildItem;
 import io.quarkus.resteasy.reactive.spi.CustomContainerRequestFilterBuildItem;
+import io.quarkus.vertx.http.deployment.spi.RouteBuildItem;
 
 @BuildSteps
 public class JfrProcessor {
 
+    private static final Logger LOG = Logger.getLogger(JfrProcessor.class);
+
     @BuildStep
     FeatureBuildItem feature() {
         return new FeatureBuildItem(Feature.JFR);
@@ -68,6 +82,8 @@ void registerRestIntegration(Capabilities capabilities,
 
             globalHandlerCustomizerProducer
                     .produce(new GlobalHandlerCustomizerBuildItem(new ServerStartRecordingHandler.Customizer()));
+            globalHandlerCustomizerProducer
+                    .produce(new GlobalHandlerCustomizerBuildItem(new ServerBlockingDispatchRecordingHandler.Customizer()));
         }
     }
 
@@ -88,7 +104,49 @@ void registerResteasyClassicIntegration(Capabilities capabilities,
 
     @BuildStep
     @Record(ExecutionTime.RUNTIME_INIT)
-    public void runtimeInit(JfrRecorder recorder, JfrRuntimeConfig runtimeConfig) {
-        recorder.runtimeInit(runtimeConfig);
+    public void runtimeInit(JfrRecorder recorder, JfrRuntimeConfig runtimeConfig, Capabilities capabilities) {
+        recorder.runtimeInit(runtimeConfig, capabilities.isPresent(Capability.VERTX_CORE));
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void registerProfilingEndpoint(Capabilities capabilities,
+            JfrBuildTimeConfig buildTimeConfig,
+            JfrRuntimeConfig runtimeConfig,
+            ShutdownContextBuildItem shutdownContext,
+            JfrProfilingRecorder recorder,
+            BuildProducer<RouteBuildItem> routes) {
+
+        if (buildTimeConfig.endpointEnabled() && capabilities.isPresent(Capability.VERTX_HTTP)) {
+            // The HTTP extension is optional, its build time config cannot be injected
+            boolean managementEnabled = ConfigProvider.getConfig()
+                    .getOptionalValue("quarkus.management.enabled", Boolean.class).orElse(false);
+            if (!managementEnabled && !buildTimeConfig.endpointMainRouterEnabled()) {
+                // The endpoint starts and stops recordings, do not expose it unauthenticated on the main router
+                LOG.warn("The JFR profiling endpoint is not exposed as the management interface is disabled, "
+                        + "enable the management interface or set quarkus.jfr.endpoint.main-router-enabled=true "
+                        + "and secure the endpoint with HTTP security policies");
+                return;
+            }
+            routes.produce(RouteBuildItem.newManagementRoute(buildTimeConfig.endpointPath())
+                    .withRoutePathConfigKey("quarkus.jfr.endpoint.path")
+                    .withRequestHandler(recorder.profilingHandler(runtimeConfig, shutdownContext))
+                    .asBlockingRoute()
+                    .displayOnNotFoundPage("JFR Profiling")
+                    .build());
+        }
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void registerProfilingMetrics(Optional<MetricsCapabilityBuildItem> metricsCapability,
+            JfrRuntimeConfig runtimeConfig,
+            ShutdownContextBuildItem shutdownContext,
+            JfrProfilingRecorder recorder,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+
+        if (metricsCapability.isPresent()) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.profilingSummary(runtimeConfig, shutdownContext)));
+        }
     }
 }
@@ -0,0 +1,54 @@
+package io.quarkus.jfr.runtime;
+
+import java.util.function.Consumer;
+
+import io.quarkus.jfr.runtime.config.JfrRuntimeConfig;
+import io.quarkus.jfr.runtime.profiling.ProfilingHandler;
+import io.quarkus.jfr.runtime.profiling.ProfilingRecording;
+import io.quarkus.jfr.runtime.profiling.ProfilingSummary;
+import io.quarkus.runtime.ShutdownContext;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Kept apart from {@link JfrRecorder} as it references Vert.x Web, which is only present with the HTTP extension.
+ */
+@Recorder
+public class JfrProfilingRecorder {
+
+    public Handler<RoutingContext> profilingHandler(JfrRuntimeConfig runtimeConfig, ShutdownContext shutdownContext) {
+        JfrRuntimeConfig.Profiling config = runtimeConfig.profiling();
+        ProfilingRecording recording = new ProfilingRecording(config.maxAge(), config.maxSize().asLongValue(),
+                config.settings());
+        shutdownContext.addShutdownTask(new Runnable() {
+            @Override
+            public void run() {
+                recording.stop();
+            }
+        });
+        return new ProfilingHandler(recording);
+    }
+
+    public Consumer<MetricsFactory> profilingSummary(JfrRuntimeConfig runtimeConfig, ShutdownContext shutdownContext) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                JfrRuntimeConfig.Profiling config = runtimeConfig.profiling();
+                if (!config.metricsEnabled()) {
+                    return;
+                }
+                ProfilingSummary summary = new ProfilingSummary(config.metricsPeriod());
+                summary.registerMetrics(metricsFactory);
+                summary.start();
+                shutdownContext.addShutdownTask(new Runnable() {
+                    @Override
+                    public void run() {
+                        summary.close();
+                    }
+                });
+            }
+        };
+    }
+}
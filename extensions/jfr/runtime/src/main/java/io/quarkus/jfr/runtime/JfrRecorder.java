@@ -2,17 +2,24 @@
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.jfr.runtime.arc.InterceptorChainEvent;
+import io.quarkus.jfr.runtime.arc.JfrArcMonitor;
+import io.quarkus.jfr.runtime.arc.RequestContextEvent;
 import io.quarkus.jfr.runtime.config.JfrRuntimeConfig;
+import io.quarkus.jfr.runtime.http.rest.RestBlockingDispatchEvent;
 import io.quarkus.jfr.runtime.http.rest.RestEndEvent;
 import io.quarkus.jfr.runtime.http.rest.RestPeriodEvent;
 import io.quarkus.jfr.runtime.http.rest.RestStartEvent;
+import io.quarkus.jfr.runtime.vertx.EventLoopLagEvent;
+import io.quarkus.jfr.runtime.vertx.EventLoopLagProbe;
 import io.quarkus.runtime.annotations.Recorder;
 import jdk.jfr.FlightRecorder;
 
 @Recorder
 public class JfrRecorder {
 
-    public void runtimeInit(JfrRuntimeConfig runtimeConfig) {
+    public void runtimeInit(JfrRuntimeConfig runtimeConfig, boolean vertxPresent) {
 
         Logger logger = Logger.getLogger(JfrRecorder.class);
 
@@ -24,6 +31,21 @@ public void runtimeInit(JfrRuntimeConfig runtimeConfig) {
                 logger.info("quarkus-jfr for REST server is disabled at runtime");
                 this.disabledRestJfr();
             }
+            if (runtimeConfig.arcEnabled()) {
+                FlightRecorder.register(InterceptorChainEvent.class);
+                FlightRecorder.register(RequestContextEvent.class);
+                // the monitor does not allocate anything unless the events are enabled in the recording settings
+                Arc.setMonitor(new JfrArcMonitor());
+            } else {
+                logger.info("quarkus-jfr for ArC is disabled at runtime");
+                this.disabledArcJfr();
+            }
+            if (vertxPresent && runtimeConfig.vertxEnabled()) {
+                // the probe is only invoked by JFR while the event is enabled
+                FlightRecorder.addPeriodicEvent(EventLoopLagEvent.class, new EventLoopLagProbe());
+            } else if (vertxPresent) {
+                logger.info("quarkus-jfr for Vert.x is disabled at runtime");
+            }
         }
     }
 
@@ -31,9 +53,16 @@ public void disabledRestJfr() {
         FlightRecorder.unregister(RestStartEvent.class);
         FlightRecorder.unregister(RestEndEvent.class);
         FlightRecorder.unregister(RestPeriodEvent.class);
+        FlightRecorder.unregister(RestBlockingDispatchEvent.class);
+    }
+
+    public void disabledArcJfr() {
+        FlightRecorder.unregister(InterceptorChainEvent.class);
+        FlightRecorder.unregister(RequestContextEvent.class);
     }
 
     public void disabledQuarkusJfr() {
         this.disabledRestJfr();
+        this.disabledArcJfr();
     }
 }
@@ -0,0 +1,42 @@
+package io.quarkus.jfr.runtime.arc;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Label("Interceptor Chain")
+@Category({ "Quarkus", "CDI" })
+@Name("quarkus.InterceptorChain")
+@Description("An intercepted method has been invoked, including its @AroundInvoke interceptors")
+@StackTrace(false)
+@Enabled(false)
+public class InterceptorChainEvent extends Event {
+
+    @Label("Declaring Class")
+    @Description("Class declaring the intercepted method")
+    protected String declaringClass;
+
+    @Label("Method")
+    @Description("Name of the intercepted method")
+    protected String method;
+
+    @Label("Interceptors")
+    @Description("Number of interceptors in the chain")
+    protected int interceptors;
+
+    public void setDeclaringClass(String declaringClass) {
+        this.declaringClass = declaringClass;
+    }
+
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    public void setInterceptors(int interceptors) {
+        this.interceptors = interceptors;
+    }
+}
@@ -0,0 +1,60 @@
+package io.quarkus.jfr.runtime.arc;
+
+import java.lang.reflect.Method;
+
+import io.quarkus.arc.ArcMonitor;
+import jdk.jfr.EventType;
+
+/**
+ * Records the interceptor chains and the request contexts of ArC as JFR events.
+ * <p>
+ * The event types are checked before the events are allocated, so that nothing is allocated on these hot paths unless the
+ * events are enabled in the recording settings. {@link EventType#isEnabled()} reflects the settings of the running
+ * recordings, so the events are recorded as soon as a recording enables them.
+ */
+public class JfrArcMonitor implements ArcMonitor {
+
+    private static final EventType INTERCEPTOR_CHAIN = EventType.getEventType(InterceptorChainEvent.class);
+    private static final EventType REQUEST_CONTEXT = EventType.getEventType(RequestContextEvent.class);
+
+    @Override
+    public Object interceptorChainStarted(Method method, int interceptors) {
+        if (!INTERCEPTOR_CHAIN.isEnabled()) {
+            return null;
+        }
+        InterceptorChainEvent event = new InterceptorChainEvent();
+        event.setDeclaringClass(method.getDeclaringClass().getName());
+        event.setMethod(method.getName());
+        event.setInterceptors(interceptors);
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void interceptorChainEnded(Object token) {
+        InterceptorChainEvent event = (InterceptorChainEvent) token;
+        event.end();
+        if (event.shouldCommit()) {
+            event.commit();
+        }
+    }
+
+    @Override
+    public Object requestContextActivated() {
+        if (!REQUEST_CONTEXT.isEnabled()) {
+            return null;
+        }
+        RequestContextEvent event = new RequestContextEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void requestContextDestroyed(Object token) {
+        RequestContextEvent event = (RequestContextEvent) token;
+        event.end();
+        if (event.shouldCommit()) {
+            event.commit();
+        }
+    }
+}
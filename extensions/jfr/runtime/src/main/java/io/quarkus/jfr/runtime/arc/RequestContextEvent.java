@@ -0,0 +1,18 @@
+package io.quarkus.jfr.runtime.arc;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Label("Request Context")
+@Category({ "Quarkus", "CDI" })
+@Name("quarkus.RequestContext")
+@Description("A CDI request context has been active during this period, from its activation to its destruction")
+@StackTrace(false)
+@Enabled(false)
+public class RequestContextEvent extends Event {
+}
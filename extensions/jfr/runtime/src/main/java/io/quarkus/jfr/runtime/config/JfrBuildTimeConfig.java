@@ -0,0 +1,42 @@
+package io.quarkus.jfr.runtime.config;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import io.smallrye.config.WithName;
+
+@ConfigMapping(prefix = "quarkus.jfr")
+@ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+public interface JfrBuildTimeConfig {
+
+    /**
+     * If true, the profiling endpoint is exposed on the management interface.
+     * <code>POST</code> starts a bounded recording, <code>GET</code> downloads the data recorded so far and
+     * <code>DELETE</code> stops the recording.
+     * The endpoint is only available when the HTTP extension is present.
+     * Default value is <code>false</code>
+     */
+    @WithName("endpoint.enabled")
+    @WithDefault("false")
+    boolean endpointEnabled();
+
+    /**
+     * If true, the profiling endpoint is exposed on the main HTTP server when the management interface is disabled.
+     * The endpoint does not authenticate the requests, it must then be secured with HTTP security policies, e.g.
+     * <code>quarkus.http.auth.permission.jfr.paths=/q/jfr</code>.
+     * If false and the management interface is disabled, the endpoint is not exposed.
+     * Default value is <code>false</code>
+     */
+    @WithName("endpoint.main-router-enabled")
+    @WithDefault("false")
+    boolean endpointMainRouterEnabled();
+
+    /**
+     * The path of the profiling endpoint.
+     * By default, this value is resolved as a path relative to <code>${quarkus.management.root-path}</code>.
+     */
+    @WithName("endpoint.path")
+    @WithDefault("jfr")
+    String endpointPath();
+}
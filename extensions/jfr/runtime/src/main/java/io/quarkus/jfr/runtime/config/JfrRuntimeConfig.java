@@ -1,7 +1,10 @@
 package io.quarkus.jfr.runtime.config;
 
+import java.time.Duration;
+
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
 import io.smallrye.config.WithName;
@@ -27,4 +30,71 @@ public interface JfrRuntimeConfig {
     @WithName("rest.enabled")
     @WithDefault("true")
     boolean restEnabled();
+
+    /**
+     * If false, only ArC events (interceptor chains and CDI request contexts) in quarkus-jfr are not recorded even if JFR
+     * is enabled.
+     * In this case, other quarkus-jfr, Java standard API and virtual machine information will be recorded according to the
+     * setting.
+     * Default value is <code>true</code>
+     */
+    @WithName("arc.enabled")
+    @WithDefault("true")
+    boolean arcEnabled();
+
+    /**
+     * If false, only Vert.x events (event loop lag) in quarkus-jfr are not recorded even if JFR is enabled.
+     * In this case, other quarkus-jfr, Java standard API and virtual machine information will be recorded according to the
+     * setting.
+     * Default value is <code>true</code>
+     */
+    @WithName("vertx.enabled")
+    @WithDefault("true")
+    boolean vertxEnabled();
+
+    /**
+     * Continuous profiling
+     */
+    Profiling profiling();
+
+    interface Profiling {
+
+        /**
+         * The maximum age of the data kept by the recording started from the profiling endpoint.
+         * Older chunks are discarded.
+         */
+        @WithDefault("10M")
+        Duration maxAge();
+
+        /**
+         * The maximum size of the data kept by the recording started from the profiling endpoint.
+         * Older chunks are discarded.
+         */
+        @WithDefault("64M")
+        MemorySize maxSize();
+
+        /**
+         * The JFR settings used by the recording started from the profiling endpoint.
+         * Either <code>default</code> or <code>profile</code>, or the name of a custom configuration available in
+         * <code>$JAVA_HOME/lib/jfr</code>.
+         */
+        @WithDefault("profile")
+        String settings();
+
+        /**
+         * If true, the CPU load and the allocation rate of the JVM are sampled with JFR and exposed as metrics, when a
+         * metrics extension is present.
+         * Default value is <code>false</code>
+         */
+        @WithName("metrics.enabled")
+        @WithDefault("false")
+        boolean metricsEnabled();
+
+        /**
+         * The period over which the CPU load and the allocation rate exposed as metrics are aggregated.
+         */
+        @WithName("metrics.period")
+        @WithDefault("10S")
+        Duration metricsPeriod();
+    }
 }
@@ -0,0 +1,18 @@
+package io.quarkus.jfr.runtime.http.rest;
+
+import io.quarkus.jfr.runtime.http.AbstractHttpEvent;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Label("REST Blocking Dispatch")
+@Category({ "Quarkus", "HTTP" })
+@Name("quarkus.RestBlockingDispatch")
+@Description("REST Server request has been waiting for a worker thread or a virtual thread during this period")
+@StackTrace(false)
+@Enabled(false)
+public class RestBlockingDispatchEvent extends AbstractHttpEvent {
+}
@@ -15,6 +15,15 @@ public ReactiveServerFilters(ReactiveServerRecorder recorder) {
         this.recorder = recorder;
     }
 
+    /**
+     * Executed first on the thread a blocking resource method has been dispatched to.
+     * If the dispatch from the event loop has been recorded, the event ends here.
+     */
+    @ServerRequestFilter(priority = Integer.MIN_VALUE)
+    public void dispatchedFilter() {
+        recorder.endBlockingDispatchEventIfNecessary();
+    }
+
     /**
      * Executed if request processing proceeded correctly.
      * We now have to update the start event with the resource class and method data and also commit the event.
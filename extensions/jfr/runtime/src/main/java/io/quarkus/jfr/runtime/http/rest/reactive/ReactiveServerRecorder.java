@@ -2,6 +2,7 @@
 
 import io.quarkus.jfr.runtime.IdProducer;
 import io.quarkus.jfr.runtime.http.AbstractHttpEvent;
+import io.quarkus.jfr.runtime.http.rest.RestBlockingDispatchEvent;
 import io.quarkus.jfr.runtime.http.rest.RestEndEvent;
 import io.quarkus.jfr.runtime.http.rest.RestPeriodEvent;
 import io.quarkus.jfr.runtime.http.rest.RestStartEvent;
@@ -19,6 +20,8 @@ class ReactiveServerRecorder {
 
     private volatile RestPeriodEvent durationEvent;
 
+    private volatile RestBlockingDispatchEvent blockingDispatchEvent;
+
     public ReactiveServerRecorder(RequestInfo requestInfo, IdProducer idProducer) {
         this.requestInfo = requestInfo;
         this.idProducer = idProducer;
@@ -83,6 +86,28 @@ public ReactiveServerRecorder endPeriodEvent() {
         return this;
     }
 
+    public ReactiveServerRecorder beginBlockingDispatchEvent() {
+        RestBlockingDispatchEvent event = new RestBlockingDispatchEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            blockingDispatchEvent = event;
+        }
+        return this;
+    }
+
+    public ReactiveServerRecorder endBlockingDispatchEventIfNecessary() {
+        var event = blockingDispatchEvent;
+        if (event != null) {
+            blockingDispatchEvent = null;
+            event.end();
+            if (event.shouldCommit()) {
+                setHttpInfo(event);
+                event.commit();
+            }
+        }
+        return this;
+    }
+
     private void setHttpInfo(AbstractHttpEvent event) {
         event.setTraceId(idProducer.getTraceId());
         event.setSpanId(idProducer.getSpanId());
@@ -0,0 +1,46 @@
+package io.quarkus.jfr.runtime.http.rest.reactive;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.resteasy.reactive.common.model.ResourceClass;
+import org.jboss.resteasy.reactive.server.core.BlockingOperationSupport;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.model.HandlerChainCustomizer;
+import org.jboss.resteasy.reactive.server.model.ServerResourceMethod;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.jfr.runtime.http.rest.RestBlockingDispatchEvent;
+
+/**
+ * Starts a {@link RestBlockingDispatchEvent} right before a blocking resource method is dispatched from the event loop to
+ * a worker thread or a virtual thread.
+ * The event is ended by {@link ReactiveServerFilters#dispatchedFilter()}, the first request filter running on that thread.
+ */
+public class ServerBlockingDispatchRecordingHandler implements ServerRestHandler {
+
+    private static final ServerBlockingDispatchRecordingHandler INSTANCE = new ServerBlockingDispatchRecordingHandler();
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) {
+        if (BlockingOperationSupport.isBlockingAllowed()) {
+            // already running on a thread that can block, there is no dispatch to record
+            return;
+        }
+        ReactiveServerRecorder recorder = Arc.container().instance(ReactiveServerRecorder.class).get();
+        recorder.beginBlockingDispatchEvent();
+    }
+
+    public static class Customizer implements HandlerChainCustomizer {
+        @Override
+        public List<ServerRestHandler> handlers(Phase phase, ResourceClass resourceClass,
+                ServerResourceMethod serverResourceMethod) {
+            if (phase == Phase.AFTER_MATCH
+                    && (serverResourceMethod.isBlocking() || serverResourceMethod.isRunOnVirtualThread())) {
+                return Collections.singletonList(INSTANCE);
+            }
+            return Collections.emptyList();
+        }
+    }
+}
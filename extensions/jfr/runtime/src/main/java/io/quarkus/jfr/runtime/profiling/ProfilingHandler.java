@@ -0,0 +1,83 @@
+package io.quarkus.jfr.runtime.profiling;
+
+import java.nio.file.Path;
+
+import org.jboss.logging.Logger;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Controls the {@link ProfilingRecording}:
+ * <ul>
+ * <li>{@code POST} starts the recording,</li>
+ * <li>{@code GET} streams the chunks retained so far,</li>
+ * <li>{@code DELETE} stops the recording and discards its chunks.</li>
+ * </ul>
+ * This handler must be registered as a blocking route, the chunks are dumped to a temporary file which is then sent with
+ * {@link HttpServerResponse#sendFile(String)}, so that the recording is never copied into the heap.
+ */
+public class ProfilingHandler implements Handler<RoutingContext> {
+
+    private static final Logger LOG = Logger.getLogger(ProfilingHandler.class);
+
+    private final ProfilingRecording recording;
+
+    public ProfilingHandler(ProfilingRecording recording) {
+        this.recording = recording;
+    }
+
+    @Override
+    public void handle(RoutingContext ctx) {
+        HttpMethod method = ctx.request().method();
+        try {
+            if (HttpMethod.POST.equals(method)) {
+                boolean started = recording.start();
+                ctx.response()
+                        .setStatusCode(started ? HttpResponseStatus.CREATED.code() : HttpResponseStatus.OK.code())
+                        .end();
+            } else if (HttpMethod.DELETE.equals(method)) {
+                boolean stopped = recording.stop();
+                ctx.response()
+                        .setStatusCode(stopped ? HttpResponseStatus.NO_CONTENT.code() : HttpResponseStatus.NOT_FOUND.code())
+                        .end();
+            } else if (HttpMethod.GET.equals(method)) {
+                sendChunks(ctx);
+            } else {
+                ctx.response().setStatusCode(HttpResponseStatus.METHOD_NOT_ALLOWED.code())
+                        .putHeader(HttpHeaderNames.ALLOW, "GET, POST, DELETE")
+                        .end();
+            }
+        } catch (Exception e) {
+            ctx.fail(e);
+        }
+    }
+
+    private void sendChunks(RoutingContext ctx) throws Exception {
+        Path file = recording.dump();
+        if (file == null) {
+            ctx.response().setStatusCode(HttpResponseStatus.NOT_FOUND.code()).end();
+            return;
+        }
+        String path = file.toString();
+        ctx.response()
+                .putHeader(HttpHeaderNames.CONTENT_TYPE, "application/octet-stream")
+                .putHeader(HttpHeaderNames.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + ProfilingRecording.NAME + ".jfr\"")
+                .sendFile(path)
+                .onComplete(new Handler<>() {
+                    @Override
+                    public void handle(AsyncResult<Void> result) {
+                        if (result.failed()) {
+                            LOG.debugf(result.cause(), "Unable to send the JFR recording %s", path);
+                        }
+                        ctx.vertx().fileSystem().delete(path);
+                    }
+                });
+    }
+}
@@ -0,0 +1,84 @@
+package io.quarkus.jfr.runtime.profiling;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+/**
+ * A bounded, disk-backed recording that can be started, dumped and stopped on demand.
+ * <p>
+ * The recording only keeps the chunks that fit in the configured maximum age and size, so it can be left running.
+ */
+public class ProfilingRecording {
+
+    static final String NAME = "quarkus-profiling";
+
+    private final Duration maxAge;
+    private final long maxSize;
+    private final String settings;
+
+    private Recording recording;
+
+    public ProfilingRecording(Duration maxAge, long maxSize, String settings) {
+        this.maxAge = maxAge;
+        this.maxSize = maxSize;
+        this.settings = settings;
+    }
+
+    /**
+     * @return {@code true} if the recording has been started, {@code false} if it was already running
+     */
+    public synchronized boolean start() throws IOException, ParseException {
+        if (recording != null) {
+            return false;
+        }
+        Recording r = new Recording(Configuration.getConfiguration(settings));
+        r.setName(NAME);
+        r.setToDisk(true);
+        r.setMaxAge(maxAge);
+        r.setMaxSize(maxSize);
+        r.start();
+        recording = r;
+        return true;
+    }
+
+    /**
+     * @return {@code true} if the recording has been stopped, {@code false} if it was not running
+     */
+    public synchronized boolean stop() {
+        if (recording == null) {
+            return false;
+        }
+        recording.close();
+        recording = null;
+        return true;
+    }
+
+    public synchronized boolean isRunning() {
+        return recording != null;
+    }
+
+    /**
+     * Writes the chunks retained so far to a new temporary file, the recording keeps running.
+     *
+     * @return the file, which must be deleted by the caller, or {@code null} if the recording is not running
+     */
+    public synchronized Path dump() throws IOException {
+        if (recording == null) {
+            return null;
+        }
+        Path file = Files.createTempFile(NAME + "-", ".jfr");
+        try {
+            recording.dump(file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return file;
+    }
+}
@@ -0,0 +1,89 @@
+package io.quarkus.jfr.runtime.profiling;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Streams the CPU load and the sampled allocations of the JVM and exposes them, aggregated per period, as metrics.
+ * <p>
+ * Only {@code jdk.CPULoad} and the throttled {@code jdk.ObjectAllocationSample} events are enabled in the stream, so the
+ * overhead stays in the range of the default JFR settings.
+ */
+public class ProfilingSummary {
+
+    private final RecordingStream stream;
+    private final LongAdder allocatedBytes = new LongAdder();
+
+    private volatile double jvmUser;
+    private volatile double jvmSystem;
+    private volatile double machineTotal;
+    private volatile double allocationRate;
+
+    // only accessed by the stream thread
+    private long lastAllocatedBytes;
+    private Instant lastPeriod;
+
+    public ProfilingSummary(Duration period) {
+        stream = new RecordingStream();
+        stream.enable("jdk.CPULoad").withPeriod(period);
+        stream.enable("jdk.ObjectAllocationSample").with("throttle", "150/s");
+        stream.onEvent("jdk.ObjectAllocationSample", this::onAllocation);
+        stream.onEvent("jdk.CPULoad", this::onCpuLoad);
+    }
+
+    private void onAllocation(RecordedEvent event) {
+        allocatedBytes.add(event.getLong("weight"));
+    }
+
+    private void onCpuLoad(RecordedEvent event) {
+        jvmUser = event.getFloat("jvmUser");
+        jvmSystem = event.getFloat("jvmSystem");
+        machineTotal = event.getFloat("machineTotal");
+
+        // the allocation rate is aggregated over the same period as the CPU load
+        // events are delivered in batches, so the period is measured with the event timestamps and not on arrival
+        Instant now = event.getEndTime();
+        long allocated = allocatedBytes.sum();
+        if (lastPeriod != null) {
+            long elapsed = Duration.between(lastPeriod, now).toNanos();
+            if (elapsed > 0) {
+                allocationRate = (allocated - lastAllocatedBytes) * 1_000_000_000d / elapsed;
+            }
+        }
+        lastAllocatedBytes = allocated;
+        lastPeriod = now;
+    }
+
+    public void start() {
+        stream.startAsync();
+    }
+
+    public void close() {
+        stream.close();
+    }
+
+    public void registerMetrics(MetricsFactory metricsFactory) {
+        metricsFactory.builder("jfr.cpu.jvm.user")
+                .description("CPU load of the JVM in user mode, between 0 and 1, as sampled by JFR")
+                .buildGauge(() -> jvmUser);
+        metricsFactory.builder("jfr.cpu.jvm.system")
+                .description("CPU load of the JVM in kernel mode, between 0 and 1, as sampled by JFR")
+                .buildGauge(() -> jvmSystem);
+        metricsFactory.builder("jfr.cpu.machine")
+                .description("CPU load of the machine, between 0 and 1, as sampled by JFR")
+                .buildGauge(() -> machineTotal);
+        metricsFactory.builder("jfr.allocation.sampled")
+                .description("Estimated number of bytes allocated on the heap, from the JFR allocation samples")
+                .unit("bytes")
+                .buildCounter(allocatedBytes::sum);
+        metricsFactory.builder("jfr.allocation.rate")
+                .description("Estimated number of bytes allocated on the heap per second during the last period")
+                .unit("bytes")
+                .buildGauge(() -> allocationRate);
+    }
+}
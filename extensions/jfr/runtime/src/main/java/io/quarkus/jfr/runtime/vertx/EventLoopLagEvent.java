@@ -0,0 +1,26 @@
+package io.quarkus.jfr.runtime.vertx;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+
+/**
+ * Measures how long a task submitted to a Vert.x event loop waits before it runs.
+ * <p>
+ * This is a periodic event: at each period, a probe task is submitted to every event loop, and the event is committed by
+ * the event loop thread once the probe runs.
+ */
+@Label("Event Loop Lag")
+@Category({ "Quarkus", "Vert.x" })
+@Name("quarkus.EventLoopLag")
+@Description("A task has been waiting in the queue of an event loop during this period")
+@StackTrace(false)
+@Enabled(false)
+@Period("1 s")
+public class EventLoopLagEvent extends Event {
+}
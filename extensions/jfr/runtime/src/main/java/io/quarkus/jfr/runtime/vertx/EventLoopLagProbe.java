@@ -0,0 +1,34 @@
+package io.quarkus.jfr.runtime.vertx;
+
+import java.util.function.Supplier;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.quarkus.vertx.core.runtime.VertxCoreRecorder;
+import io.vertx.core.Vertx;
+
+/**
+ * The hook of the periodic {@link EventLoopLagEvent}, only invoked by JFR while the event is enabled.
+ */
+public class EventLoopLagProbe implements Runnable {
+
+    @Override
+    public void run() {
+        Supplier<Vertx> vertx = VertxCoreRecorder.getVertx();
+        if (vertx == null) {
+            return;
+        }
+        for (EventExecutor eventLoop : vertx.get().nettyEventLoopGroup()) {
+            EventLoopLagEvent event = new EventLoopLagEvent();
+            event.begin();
+            eventLoop.execute(new Runnable() {
+                @Override
+                public void run() {
+                    event.end();
+                    if (event.shouldCommit()) {
+                        event.commit();
+                    }
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package io.quarkus.load.shedding.benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.quarkus.load.shedding.runtime.LoadSheddingRuntimeConfig;
+import io.quarkus.load.shedding.runtime.OverloadDetector;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+/**
+ * Compares the default (synchronized) overload detector with the striped one.
+ * <p>
+ * Run {@link #main(String[])} to execute the benchmark with 1 to 128 threads,
+ * or use the JMH command line with the {@code -t} option to select the number of threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OverloadDetectorBenchmark {
+    @Param({ "false", "true" })
+    boolean striped;
+
+    OverloadDetector detector;
+
+    @Setup
+    public void setup() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withMapping(LoadSheddingRuntimeConfig.class)
+                .withDefaultValue("quarkus.load-shedding.striped.enabled", String.valueOf(striped))
+                .build();
+        detector = new OverloadDetector(config.getConfigMapping(LoadSheddingRuntimeConfig.class));
+    }
+
+    @Benchmark
+    public boolean request() {
+        boolean overloaded = detector.isOverloaded();
+        detector.requestBegin();
+        detector.requestEnd(ThreadLocalRandom.current().nextLong(1_000, 2_000));
+        return overloaded;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads = 1; threads <= 128; threads *= 2) {
+            Options options = new OptionsBuilder()
+                    .include(OverloadDetectorBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
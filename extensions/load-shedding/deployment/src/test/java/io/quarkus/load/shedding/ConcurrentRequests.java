@@ -0,0 +1,79 @@
+package io.quarkus.load.shedding;
+
+import static io.restassured.RestAssured.when;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends requests from several threads at once and counts the failed ones.
+ */
+final class ConcurrentRequests {
+
+    private ConcurrentRequests() {
+    }
+
+    /**
+     * Sends {@code numRequests} {@code GET} requests to given {@code path} from each of {@code numThreads} threads.
+     *
+     * @return the number of requests rejected with {@code 503}
+     */
+    static int countRejected(String path, int numThreads, int numRequests) throws InterruptedException {
+        return run(numThreads, numRequests, (thread, request) -> when().get(path).then().extract().statusCode() == 503);
+    }
+
+    /**
+     * Performs {@code numRequests} requests from each of {@code numThreads} threads. All threads start at the same time.
+     * An exception thrown by a request fails the whole run.
+     *
+     * @return the number of failed requests
+     */
+    static int run(int numThreads, int numRequests, Request request) throws InterruptedException {
+        AtomicInteger numErrors = new AtomicInteger();
+        List<Throwable> exceptions = new CopyOnWriteArrayList<>();
+        CountDownLatch begin = new CountDownLatch(1);
+        CountDownLatch end = new CountDownLatch(numThreads);
+        for (int i = 0; i < numThreads; i++) {
+            int thread = i;
+            new Thread(() -> {
+                try {
+                    begin.await();
+                    for (int j = 0; j < numRequests; j++) {
+                        if (request.failed(thread, j)) {
+                            numErrors.incrementAndGet();
+                        }
+                    }
+                } catch (Throwable e) {
+                    exceptions.add(e);
+                } finally {
+                    end.countDown();
+                }
+            }).start();
+        }
+
+        begin.countDown();
+        end.await();
+
+        if (!exceptions.isEmpty()) {
+            AssertionError error = new AssertionError("Requests failed with an exception");
+            exceptions.forEach(error::addSuppressed);
+            throw error;
+        }
+        return numErrors.get();
+    }
+
+    @FunctionalInterface
+    interface Request {
+
+        /**
+         * @param thread the index of the thread
+         * @param request the index of the request within the thread
+         * @return {@code true} if the request failed
+         */
+        boolean failed(int thread, int request) throws Exception;
+
+    }
+
+}
@@ -0,0 +1,92 @@
+package io.quarkus.load.shedding;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class RouteLoadSheddingTest {
+    private static final int NUM_THREADS = 10;
+    private static final int NUM_REQUESTS = 5;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(MyResource.class))
+            .overrideConfigKey("quarkus.load-shedding.initial-limit", "100")
+            .overrideConfigKey("quarkus.load-shedding.priority.enabled", "false")
+            .overrideConfigKey("quarkus.load-shedding.routes.slow.paths", "/slow/*")
+            .overrideConfigKey("quarkus.load-shedding.routes.slow.initial-limit", "1")
+            .overrideConfigKey("quarkus.load-shedding.routes.slow.max-limit", "1")
+            .overrideConfigKey("quarkus.load-shedding.routes.queued.paths", "/queued,/queued-echo")
+            .overrideConfigKey("quarkus.load-shedding.routes.queued.initial-limit", "1")
+            .overrideConfigKey("quarkus.load-shedding.routes.queued.max-limit", "1")
+            .overrideConfigKey("quarkus.load-shedding.routes.queued.max-queue-size", "100")
+            .overrideConfigKey("quarkus.load-shedding.routes.queued.max-wait", "1m");
+
+    @Test
+    public void slowRouteIsLimited() throws InterruptedException {
+        assertThat(run("/slow/report")).isPositive();
+    }
+
+    @Test
+    public void fastRouteIsNotAffected() throws InterruptedException {
+        assertThat(run("/fast")).isZero();
+    }
+
+    @Test
+    public void queuedRequestsAreNotRejected() throws InterruptedException {
+        assertThat(run("/queued")).isZero();
+    }
+
+    @Test
+    public void queuedRequestBodiesAreNotLost() throws InterruptedException {
+        int numErrors = ConcurrentRequests.run(NUM_THREADS, NUM_REQUESTS, (thread, request) -> {
+            String body = "body-" + thread + "-" + request;
+            String response = given().body(body).post("/queued-echo").then().statusCode(200).extract().asString();
+            return !response.equals(body);
+        });
+        assertThat(numErrors).isZero();
+    }
+
+    private static int run(String path) throws InterruptedException {
+        return ConcurrentRequests.countRejected(path, NUM_THREADS, NUM_REQUESTS);
+    }
+
+    @Path("/")
+    public static class MyResource {
+        @GET
+        @Path("/slow/report")
+        public String slow() throws InterruptedException {
+            Thread.sleep(50);
+            return "Hello, world!";
+        }
+
+        @GET
+        @Path("/fast")
+        public String fast() throws InterruptedException {
+            Thread.sleep(50);
+            return "Hello, world!";
+        }
+
+        @GET
+        @Path("/queued")
+        public String queued() throws InterruptedException {
+            Thread.sleep(10);
+            return "Hello, world!";
+        }
+
+        @POST
+        @Path("/queued-echo")
+        public String queuedEcho(String body) throws InterruptedException {
+            Thread.sleep(10);
+            return body;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package io.quarkus.load.shedding;
+
+/**
+ * Computes the limit of concurrent requests, based on samples of finished requests.
+ * The overload detector signals an overload situation when the number of current
+ * requests reaches the limit.
+ * <p>
+ * By default, one of the built-in algorithms is used, as selected by the
+ * {@code quarkus.load-shedding.algorithm} configuration property. If an implementation
+ * of this interface is provided as a CDI bean, it is used instead. There must be at most
+ * one such bean after CDI typesafe resolution.
+ * <p>
+ * The overload detector never calls an algorithm concurrently, so implementations
+ * do not need to be thread-safe. The returned limit is always adjusted to be at least 1
+ * and at most {@code quarkus.load-shedding.max-limit}.
+ */
+public interface LimitAlgorithm {
+    /**
+     * Computes a new limit after one or more requests finished. When the striped overload
+     * detection is enabled, one call represents all the requests finished in a sampling window;
+     * otherwise, each finished request results in one call, with {@code numSamples} equal to 1
+     * and {@code minRequestTime} equal to {@code requestTime}.
+     *
+     * @param currentLimit the current limit
+     * @param requestTime the (average) duration of the finished requests, in microseconds
+     * @param minRequestTime the minimum duration of the finished requests, in microseconds
+     * @param currentRequests the (maximum) number of requests in progress when the requests finished
+     * @param numSamples the number of finished requests
+     * @return the new limit
+     */
+    long update(long currentLimit, long requestTime, long minRequestTime, int currentRequests, long numSamples);
+}
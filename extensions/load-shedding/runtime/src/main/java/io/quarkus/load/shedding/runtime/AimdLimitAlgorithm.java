@@ -0,0 +1,29 @@
+package io.quarkus.load.shedding.runtime;
+
+import io.quarkus.load.shedding.LimitAlgorithm;
+
+/**
+ * An additive increase / multiplicative decrease limit algorithm. The limit is decreased
+ * by a backoff ratio whenever the request time exceeds a configured threshold, and increased
+ * by 1 when the requests finish in time and the limit is being utilized.
+ */
+final class AimdLimitAlgorithm implements LimitAlgorithm {
+    private final double backoffRatio;
+    private final long timeoutInMicros;
+
+    AimdLimitAlgorithm(LoadSheddingRuntimeConfig.Aimd config) {
+        backoffRatio = config.backoffRatio();
+        timeoutInMicros = config.timeout().toNanos() / 1_000;
+    }
+
+    @Override
+    public long update(long currentLimit, long requestTime, long minRequestTime, int currentRequests, long numSamples) {
+        if (requestTime > timeoutInMicros) {
+            return (long) (currentLimit * backoffRatio);
+        }
+        if (2L * currentRequests >= currentLimit) {
+            return currentLimit + 1;
+        }
+        return currentLimit;
+    }
+}
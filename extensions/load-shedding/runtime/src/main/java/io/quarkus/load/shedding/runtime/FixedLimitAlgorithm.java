@@ -0,0 +1,14 @@
+package io.quarkus.load.shedding.runtime;
+
+import io.quarkus.load.shedding.LimitAlgorithm;
+
+/**
+ * A limit algorithm that never changes the limit. Useful when the capacity of the service
+ * is known in advance and is configured as the initial limit.
+ */
+final class FixedLimitAlgorithm implements LimitAlgorithm {
+    @Override
+    public long update(long currentLimit, long requestTime, long minRequestTime, int currentRequests, long numSamples) {
+        return currentLimit;
+    }
+}
@@ -0,0 +1,76 @@
+package io.quarkus.load.shedding.runtime;
+
+import io.quarkus.load.shedding.LimitAlgorithm;
+
+/**
+ * A limit algorithm based on the gradient between a long-term exponentially smoothed average
+ * request time and the current request time, as implemented by the {@code Gradient2Limit} in
+ * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * Compared to {@linkplain VegasLimitAlgorithm Vegas}, it does not rely on the lowest request time
+ * ever seen and reacts faster to latency increases.
+ * <p>
+ * The estimated limit is kept within {@code [1, maxLimit]}, so that it does not drift beyond the limits
+ * enforced by the {@link OverloadDetector} and does not need many updates to return from there.
+ */
+final class Gradient2LimitAlgorithm implements LimitAlgorithm {
+    private static final int WARMUP_SAMPLES = 10;
+    private static final int MIN_LIMIT = 1;
+
+    private final double tolerance;
+    private final double smoothing;
+    private final int queueSize;
+    private final double longWindowFactor;
+    private final int maxLimit;
+
+    private double longRequestTime;
+    private int warmupCount;
+    private double estimatedLimit = -1;
+
+    Gradient2LimitAlgorithm(LoadSheddingRuntimeConfig.Gradient2 config, int maxLimit) {
+        tolerance = config.tolerance();
+        smoothing = config.smoothing();
+        queueSize = config.queueSize();
+        longWindowFactor = 2.0 / (config.longWindow() + 1);
+        this.maxLimit = maxLimit;
+    }
+
+    @Override
+    public long update(long currentLimit, long requestTime, long minRequestTime, int currentRequests, long numSamples) {
+        if (estimatedLimit < 0) {
+            estimatedLimit = clamp(currentLimit);
+        }
+
+        double shortRequestTime = Math.max(1, requestTime);
+        double longRequestTime = updateLongRequestTime(shortRequestTime);
+
+        // speed up return to baseline after a long period of low utilization
+        if (longRequestTime / shortRequestTime > 2) {
+            this.longRequestTime = longRequestTime * 0.95;
+        }
+
+        // don't grow the limit if we are app limited
+        if (currentRequests < estimatedLimit / 2) {
+            return currentLimit;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRequestTime / shortRequestTime));
+        double newLimit = estimatedLimit * gradient + queueSize;
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        estimatedLimit = clamp(newLimit);
+        return (long) estimatedLimit;
+    }
+
+    private double clamp(double limit) {
+        return Math.max(MIN_LIMIT, Math.min(maxLimit, limit));
+    }
+
+    private double updateLongRequestTime(double sample) {
+        if (warmupCount < WARMUP_SAMPLES) {
+            warmupCount++;
+            longRequestTime += (sample - longRequestTime) / warmupCount;
+        } else {
+            longRequestTime = longRequestTime * (1 - longWindowFactor) + sample * longWindowFactor;
+        }
+        return longRequestTime;
+    }
+}
@@ -1,5 +1,8 @@
 package io.quarkus.load.shedding.runtime;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import jakarta.annotation.Priority;
 import jakarta.enterprise.event.Observes;
 import jakarta.inject.Singleton;
@@ -10,40 +13,87 @@
 import io.vertx.core.Handler;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
 
 @Singleton
 public class HttpLoadShedding {
     public void init(@Observes @Priority(-1_000_000_000) Router router, OverloadDetector detector,
-            PriorityLoadShedding priority, LoadSheddingRuntimeConfig config) {
+            PriorityLoadShedding priority, HttpRequestClassifier classifier, LoadSheddingRuntimeConfig config) {
 
         if (!config.enabled()) {
             return;
         }
 
+        Map<String, RouteLimiter> routeLimiters = new HashMap<>();
+        for (Map.Entry<String, LoadSheddingRuntimeConfig.RouteLoadShedding> entry : config.routes().entrySet()) {
+            LoadSheddingRuntimeConfig.RouteLoadShedding route = entry.getValue();
+            OverloadDetector routeDetector = new OverloadDetector(config,
+                    route.initialLimit().orElse(config.initialLimit()), route.maxLimit().orElse(config.maxLimit()));
+            routeLimiters.put(entry.getKey(), new RouteLimiter(routeDetector, route.maxQueueSize(),
+                    route.maxWait().toMillis()));
+        }
+
         router.route().order(-1_000_000_000).handler(ctx -> {
-            if (detector.isOverloaded() && priority.shedLoad(ctx.request())) {
-                HttpServerResponse response = ctx.response();
-                response.setStatusCode(HttpResponseStatus.SERVICE_UNAVAILABLE.code());
-                response.headers().add(HttpHeaderNames.CONNECTION, "close");
-                response.endHandler(new Handler<Void>() {
-                    @Override
-                    public void handle(Void ignored) {
-                        ctx.request().connection().close();
-                    }
-                });
-                response.end();
+            RouteLimiter routeLimiter = null;
+            OverloadDetector currentDetector = detector;
+            if (!routeLimiters.isEmpty()) {
+                String partition = classifier.partition(ctx.request());
+                if (partition != null) {
+                    routeLimiter = routeLimiters.get(partition);
+                    currentDetector = routeLimiter.detector;
+                }
+            }
+
+            if (currentDetector.isOverloaded() && priority.shedLoad(ctx.request())) {
+                if (routeLimiter == null || !routeLimiter.enqueue(ctx, new Proceed(routeLimiter),
+                        HttpLoadShedding::reject)) {
+                    reject(ctx);
+                }
             } else {
-                detector.requestBegin();
-                long start = System.nanoTime();
-                ctx.addEndHandler(new Handler<AsyncResult<Void>>() {
-                    @Override
-                    public void handle(AsyncResult<Void> ignored) {
-                        long end = System.nanoTime();
-                        detector.requestEnd((end - start) / 1_000);
-                    }
-                });
-                ctx.next();
+                proceed(ctx, currentDetector, routeLimiter);
             }
         });
     }
+
+    private static void reject(RoutingContext ctx) {
+        HttpServerResponse response = ctx.response();
+        response.setStatusCode(HttpResponseStatus.SERVICE_UNAVAILABLE.code());
+        response.headers().add(HttpHeaderNames.CONNECTION, "close");
+        response.endHandler(new Handler<Void>() {
+            @Override
+            public void handle(Void ignored) {
+                ctx.request().connection().close();
+            }
+        });
+        response.end();
+    }
+
+    private static void proceed(RoutingContext ctx, OverloadDetector detector, RouteLimiter routeLimiter) {
+        detector.requestBegin();
+        long start = System.nanoTime();
+        ctx.addEndHandler(new Handler<AsyncResult<Void>>() {
+            @Override
+            public void handle(AsyncResult<Void> ignored) {
+                long end = System.nanoTime();
+                detector.requestEnd((end - start) / 1_000);
+                if (routeLimiter != null) {
+                    routeLimiter.requestEnd();
+                }
+            }
+        });
+        ctx.next();
+    }
+
+    private static final class Proceed implements RouteLimiter.Action {
+        private final RouteLimiter routeLimiter;
+
+        Proceed(RouteLimiter routeLimiter) {
+            this.routeLimiter = routeLimiter;
+        }
+
+        @Override
+        public void run(RoutingContext ctx) {
+            proceed(ctx, routeLimiter.detector, routeLimiter);
+        }
+    }
 }
@@ -1,5 +1,11 @@
 package io.quarkus.load.shedding.runtime;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
 import io.quarkus.load.shedding.RequestClassifier;
@@ -7,6 +13,25 @@
 
 @Singleton
 public class HttpRequestClassifier implements RequestClassifier<HttpServerRequest> {
+    // sorted by path length in descending order, so that the most specific match is found first
+    private final List<RoutePath> routePaths;
+
+    @Inject
+    HttpRequestClassifier(LoadSheddingRuntimeConfig config) {
+        List<RoutePath> routePaths = new ArrayList<>();
+        for (Map.Entry<String, LoadSheddingRuntimeConfig.RouteLoadShedding> route : config.routes().entrySet()) {
+            for (String path : route.getValue().paths()) {
+                if (path.endsWith("/*")) {
+                    routePaths.add(new RoutePath(path.substring(0, path.length() - 2), true, route.getKey()));
+                } else {
+                    routePaths.add(new RoutePath(path, false, route.getKey()));
+                }
+            }
+        }
+        routePaths.sort(Comparator.comparingInt((RoutePath it) -> it.path.length()).reversed());
+        this.routePaths = routePaths;
+    }
+
     @Override
     public boolean appliesTo(Object request) {
         return request instanceof HttpServerRequest;
@@ -21,4 +46,37 @@ public int cohort(HttpServerRequest request) {
         }
         return hour + host.hashCode();
     }
+
+    /**
+     * Returns the name of the configured route to which the given {@code request} belongs,
+     * or {@code null} if it doesn't belong to any route and is subject to the global limit.
+     *
+     * @param request the request, never {@code null}
+     * @return the name of the route, or {@code null}
+     */
+    public String partition(HttpServerRequest request) {
+        if (routePaths.isEmpty()) {
+            return null;
+        }
+        String path = request.path();
+        if (path == null) {
+            return null;
+        }
+        for (RoutePath routePath : routePaths) {
+            if (routePath.matches(path)) {
+                return routePath.route;
+            }
+        }
+        return null;
+    }
+
+    private record RoutePath(String path, boolean prefix, String route) {
+        boolean matches(String requestPath) {
+            if (!prefix) {
+                return requestPath.equals(path);
+            }
+            return requestPath.startsWith(path)
+                    && (requestPath.length() == path.length() || requestPath.charAt(path.length()) == '/');
+        }
+    }
 }
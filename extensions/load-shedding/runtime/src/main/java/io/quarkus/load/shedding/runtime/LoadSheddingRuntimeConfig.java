@@ -1,5 +1,11 @@
 package io.quarkus.load.shedding.runtime;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+
+import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -22,6 +28,13 @@ public interface LoadSheddingRuntimeConfig {
     @WithDefault("1000")
     int maxLimit();
 
+    /**
+     * The algorithm used to compute the limit of concurrent requests. Ignored when
+     * an implementation of {@link io.quarkus.load.shedding.LimitAlgorithm} is provided as a CDI bean.
+     */
+    @WithDefault("vegas")
+    Algorithm algorithm();
+
     /**
      * The {@code alpha} factor of the Vegas overload detection algorithm.
      */
@@ -46,11 +59,34 @@ public interface LoadSheddingRuntimeConfig {
     @WithDefault("100")
     int initialLimit();
 
+    /**
+     * Configuration of the Gradient2 limit algorithm.
+     */
+    Gradient2 gradient2();
+
+    /**
+     * Configuration of the AIMD limit algorithm.
+     */
+    Aimd aimd();
+
+    /**
+     * Configuration of the striped overload detection.
+     */
+    StripedOverloadDetection striped();
+
     /**
      * Configuration of priority load shedding.
      */
     PriorityLoadShedding priority();
 
+    /**
+     * Per-route load shedding configuration. HTTP requests matching a route are subject
+     * to a limit of concurrent requests that is computed independently of the global limit
+     * and of other routes, so that slow routes do not affect fast ones.
+     */
+    @ConfigDocMapKey("route-name")
+    Map<String, RouteLoadShedding> routes();
+
     @ConfigGroup
     interface PriorityLoadShedding {
         /**
@@ -59,4 +95,131 @@ interface PriorityLoadShedding {
         @WithDefault("true")
         boolean enabled();
     }
+
+    @ConfigGroup
+    interface RouteLoadShedding {
+        /**
+         * The paths that this route applies to. If the path ends in {@code /*} then this is treated
+         * as a path prefix, otherwise it is treated as an exact match.
+         * <p>
+         * Matches are done on a length basis, so the most specific path match takes precedence.
+         */
+        List<String> paths();
+
+        /**
+         * The initial limit of concurrent requests allowed for this route.
+         * Defaults to the global {@code quarkus.load-shedding.initial-limit}.
+         */
+        OptionalInt initialLimit();
+
+        /**
+         * The maximum number of concurrent requests allowed for this route.
+         * Defaults to the global {@code quarkus.load-shedding.max-limit}.
+         */
+        OptionalInt maxLimit();
+
+        /**
+         * The maximum number of requests that may wait for a free slot when the route is overloaded.
+         * When the queue is full, requests are rejected immediately. By default, no request waits.
+         */
+        @WithDefault("0")
+        int maxQueueSize();
+
+        /**
+         * The maximum time a request may wait in the queue. If no slot becomes free in this time,
+         * the request is rejected.
+         */
+        @WithDefault("1s")
+        Duration maxWait();
+    }
+
+    @ConfigGroup
+    interface StripedOverloadDetection {
+        /**
+         * Whether the overload detector should accumulate request samples in striped counters
+         * and recompute the limit once per sampling window, instead of recomputing it under a lock
+         * after each request. This avoids a global serialization point on machines with many cores.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The number of stripes. Must be greater than zero and is rounded up to the nearest power of 2.
+         * Defaults to twice the number of available processors.
+         */
+        OptionalInt stripes();
+
+        /**
+         * The length of the sampling window, after which the limit is recomputed.
+         */
+        @WithDefault("100ms")
+        Duration window();
+    }
+
+    @ConfigGroup
+    interface Gradient2 {
+        /**
+         * The tolerance of the ratio between the long-term average request time and the current
+         * request time, before the limit is reduced. For example, the value of {@code 2.0} means
+         * that the current request time may be twice as long as the long-term average before
+         * the limit is reduced.
+         */
+        @WithDefault("1.5")
+        double tolerance();
+
+        /**
+         * The smoothing factor applied to limit changes, between 0 and 1. Lower values make
+         * the limit change more slowly.
+         */
+        @WithDefault("0.2")
+        double smoothing();
+
+        /**
+         * The number of samples over which the long-term average request time is computed.
+         */
+        @WithDefault("600")
+        int longWindow();
+
+        /**
+         * The number of requests allowed to queue up above the estimated limit.
+         */
+        @WithDefault("4")
+        int queueSize();
+    }
+
+    @ConfigGroup
+    interface Aimd {
+        /**
+         * The ratio by which the limit is multiplied when requests take longer than the timeout.
+         */
+        @WithDefault("0.9")
+        double backoffRatio();
+
+        /**
+         * The request time after which the limit is reduced.
+         */
+        @WithDefault("5s")
+        Duration timeout();
+    }
+
+    enum Algorithm {
+        /**
+         * An adaptation of TCP Vegas, based on the comparison of request times
+         * with the lowest request time seen.
+         */
+        VEGAS,
+        /**
+         * The Gradient2 algorithm, based on the comparison of request times with their
+         * long-term average. Reacts faster to latency spikes than Vegas.
+         */
+        GRADIENT2,
+        /**
+         * An additive increase / multiplicative decrease algorithm, based on a request time threshold.
+         */
+        AIMD,
+        /**
+         * A fixed limit, equal to the initial limit.
+         */
+        FIXED,
+    }
 }
@@ -1,46 +1,87 @@
 package io.quarkus.load.shedding.runtime;
 
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
+import io.quarkus.load.shedding.LimitAlgorithm;
+
 /**
- * An overload detector based on TCP Vegas, as implemented by
- * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * An overload detector that compares the number of current requests with a limit
+ * computed by a {@link LimitAlgorithm}. By default, the limit algorithm is based on TCP Vegas,
+ * as implemented by <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * <p>
+ * By default, the limit is recomputed after each request under a lock. When the striped mode
+ * is enabled, request samples are accumulated in {@link StripedSamples} and the limit is recomputed
+ * once per sampling window by a single thread that wins a CAS, so that request completion
+ * never blocks.
  */
 @Singleton
 public class OverloadDetector {
-    private static final int[] LOG10_PLUS_1_TABLE = new int[1_000];
-
-    static {
-        LOG10_PLUS_1_TABLE[0] = 1;
-        for (int i = 1; i < 1_000; i++) {
-            LOG10_PLUS_1_TABLE[i] = 1 + (int) Math.log10(i);
-        }
-    }
-
     private final int maxLimit;
-    private final int alphaFactor;
-    private final int betaFactor;
-    private final double probeFactor;
+    private final LimitAlgorithm algorithm;
 
     private final AtomicInteger currentRequests = new AtomicInteger();
     private volatile long currentLimit;
 
-    private long lowestRequestTime = Long.MAX_VALUE;
-    private double probeCount = 0.0;
-    private double probeJitter;
+    // only used in the striped mode
+    private final StripedSamples samples;
+    private final StripedSamples.Window window;
+    private final long windowNanos;
+    private final AtomicBoolean updating;
+    private volatile long nextWindow;
 
-    @Inject
     public OverloadDetector(LoadSheddingRuntimeConfig config) {
-        maxLimit = config.maxLimit();
-        alphaFactor = config.alphaFactor();
-        betaFactor = config.betaFactor();
-        probeFactor = config.probeFactor();
-        currentLimit = config.initialLimit();
-        resetProbeJitter();
+        this(config, createAlgorithm(config, config.maxLimit()));
+    }
+
+    @Inject
+    OverloadDetector(LoadSheddingRuntimeConfig config, Instance<LimitAlgorithm> customAlgorithm) {
+        this(config, customAlgorithm.isResolvable() ? customAlgorithm.get() : createAlgorithm(config, config.maxLimit()));
+    }
+
+    /**
+     * Creates an overload detector with given limits and with the built-in limit algorithm.
+     * Used for per-route load shedding.
+     */
+    OverloadDetector(LoadSheddingRuntimeConfig config, int initialLimit, int maxLimit) {
+        this(config, initialLimit, maxLimit, createAlgorithm(config, maxLimit));
+    }
+
+    private OverloadDetector(LoadSheddingRuntimeConfig config, LimitAlgorithm algorithm) {
+        this(config, config.initialLimit(), config.maxLimit(), algorithm);
+    }
+
+    private OverloadDetector(LoadSheddingRuntimeConfig config, int initialLimit, int maxLimit, LimitAlgorithm algorithm) {
+        this.maxLimit = maxLimit;
+        this.algorithm = algorithm;
+        this.currentLimit = initialLimit;
+
+        LoadSheddingRuntimeConfig.StripedOverloadDetection striped = config.striped();
+        if (striped.enabled()) {
+            samples = new StripedSamples(striped.stripes().orElseGet(StripedSamples::defaultStripes));
+            window = new StripedSamples.Window();
+            windowNanos = striped.window().toNanos();
+            updating = new AtomicBoolean();
+            nextWindow = System.nanoTime() + windowNanos;
+        } else {
+            samples = null;
+            window = null;
+            windowNanos = 0;
+            updating = null;
+        }
+    }
+
+    private static LimitAlgorithm createAlgorithm(LoadSheddingRuntimeConfig config, int maxLimit) {
+        return switch (config.algorithm()) {
+            case VEGAS -> new VegasLimitAlgorithm(config);
+            case GRADIENT2 -> new Gradient2LimitAlgorithm(config.gradient2(), maxLimit);
+            case AIMD -> new AimdLimitAlgorithm(config.aimd());
+            case FIXED -> new FixedLimitAlgorithm();
+        };
     }
 
     public boolean isOverloaded() {
@@ -54,56 +95,45 @@ public void requestBegin() {
     public void requestEnd(long timeInMicros) {
         int current = currentRequests.getAndDecrement();
 
-        update(timeInMicros, current);
-    }
-
-    private synchronized void update(long requestTime, int currentRequests) {
-        probeCount++;
-        if (probeFactor * probeJitter * currentLimit <= probeCount) {
-            resetProbeJitter();
-            probeCount = 0.0;
-            lowestRequestTime = requestTime;
-            return;
-        }
-
-        if (requestTime < lowestRequestTime) {
-            lowestRequestTime = requestTime;
-            return;
+        if (samples != null) {
+            samples.record(timeInMicros, current);
+            updateStriped();
+        } else {
+            updateSynchronized(timeInMicros, current);
         }
+    }
 
-        long currentLimit = this.currentLimit;
+    private synchronized void updateSynchronized(long requestTime, int currentRequests) {
+        update(requestTime, requestTime, currentRequests, 1);
+    }
 
-        if (2L * currentRequests < currentLimit) {
+    private void updateStriped() {
+        long now = System.nanoTime();
+        if (now - nextWindow < 0 || !updating.compareAndSet(false, true)) {
             return;
         }
-
-        int queueSize = (int) Math.ceil(currentLimit * (1.0 - (double) lowestRequestTime / (double) requestTime));
-
-        int currentLimitLog10Plus1;
-        if (currentLimit >= 0 && currentLimit < 1_000) {
-            currentLimitLog10Plus1 = LOG10_PLUS_1_TABLE[(int) currentLimit];
-        } else {
-            currentLimitLog10Plus1 = 1 + (int) Math.log10(currentLimit);
-        }
-        int alpha = alphaFactor * currentLimitLog10Plus1;
-        int beta = betaFactor * currentLimitLog10Plus1;
-
-        long newLimit;
-        if (queueSize <= currentLimitLog10Plus1) {
-            newLimit = currentLimit + beta;
-        } else if (queueSize < alpha) {
-            newLimit = currentLimit + currentLimitLog10Plus1;
-        } else if (queueSize > beta) {
-            newLimit = currentLimit - currentLimitLog10Plus1;
-        } else {
-            return;
+        try {
+            // recheck, another thread might have just finished the window
+            if (now - nextWindow < 0) {
+                return;
+            }
+            nextWindow = now + windowNanos;
+            samples.drain(window);
+            if (window.count > 0) {
+                update(window.averageRequestTime(), window.min, window.maxInFlight, window.count);
+            }
+        } finally {
+            updating.set(false);
         }
-
-        newLimit = Math.max(1, Math.min(maxLimit, newLimit));
-        this.currentLimit = newLimit;
     }
 
-    private void resetProbeJitter() {
-        probeJitter = ThreadLocalRandom.current().nextDouble(0.5, 1);
+    // must only be called by a single thread at a time
+    private void update(long requestTime, long minRequestTime, int currentRequests, long numSamples) {
+        long currentLimit = this.currentLimit;
+        long newLimit = algorithm.update(currentLimit, requestTime, minRequestTime, currentRequests, numSamples);
+        newLimit = Math.max(1, Math.min(maxLimit, newLimit));
+        if (newLimit != currentLimit) {
+            this.currentLimit = newLimit;
+        }
     }
 }
@@ -0,0 +1,110 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * A limiter for a single route. Has its own {@link OverloadDetector} and a bounded queue
+ * of requests waiting for a free slot. A waiting request is rejected when its deadline passes.
+ */
+final class RouteLimiter {
+    final OverloadDetector detector;
+
+    private final int maxQueueSize;
+    private final long maxWaitMillis;
+
+    // guarded by `this`
+    private final ArrayDeque<Waiter> queue = new ArrayDeque<>();
+
+    RouteLimiter(OverloadDetector detector, int maxQueueSize, long maxWaitMillis) {
+        this.detector = detector;
+        this.maxQueueSize = maxQueueSize;
+        this.maxWaitMillis = Math.max(1, maxWaitMillis);
+    }
+
+    /**
+     * Puts given request into the queue. The request is paused while it waits, so that its body
+     * is not lost before the body handler runs. When a slot becomes free, the request is resumed and
+     * the {@code proceed} action is invoked on the request's context. When the deadline passes first,
+     * the {@code reject} action is invoked.
+     *
+     * @return whether the request was put into the queue; {@code false} if the queue is full
+     */
+    boolean enqueue(RoutingContext ctx, Action proceed, Action reject) {
+        if (maxQueueSize <= 0) {
+            return false;
+        }
+        Vertx vertx = ctx.vertx();
+        Waiter waiter = new Waiter(ctx, vertx.getOrCreateContext(), proceed);
+        ctx.request().pause();
+        // the timer is started before the waiter is published, so that `requestEnd` always cancels the right timer
+        waiter.timerId = vertx.setTimer(maxWaitMillis, ignored -> {
+            if (waiter.claim()) {
+                synchronized (this) {
+                    queue.remove(waiter);
+                }
+                reject.run(ctx);
+            }
+        });
+        boolean added;
+        synchronized (this) {
+            added = queue.size() < maxQueueSize && queue.add(waiter);
+        }
+        if (!added && waiter.claim()) {
+            vertx.cancelTimer(waiter.timerId);
+            ctx.request().resume();
+            return false;
+        }
+        // if the waiter could not be claimed, the request was already rejected by the timer
+        return true;
+    }
+
+    /**
+     * Called when a request to this route ends. Resumes the first request waiting in the queue, if any.
+     */
+    void requestEnd() {
+        while (true) {
+            Waiter waiter;
+            synchronized (this) {
+                waiter = queue.poll();
+            }
+            if (waiter == null) {
+                return;
+            }
+            if (waiter.claim()) {
+                waiter.ctx.vertx().cancelTimer(waiter.timerId);
+                waiter.context.runOnContext(ignored -> {
+                    waiter.ctx.request().resume();
+                    waiter.proceed.run(waiter.ctx);
+                });
+                return;
+            }
+        }
+    }
+
+    interface Action {
+        void run(RoutingContext ctx);
+    }
+
+    private static final class Waiter extends AtomicBoolean {
+        final RoutingContext ctx;
+        final Context context;
+        final Action proceed;
+        // set before the waiter is published to the queue
+        volatile long timerId;
+
+        Waiter(RoutingContext ctx, Context context, Action proceed) {
+            this.ctx = ctx;
+            this.context = context;
+            this.proceed = proceed;
+        }
+
+        boolean claim() {
+            return compareAndSet(false, true);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Striped accumulator of request samples. Each thread records its samples into one of several
+ * stripes, selected by the thread identity, so that concurrent request completions on different
+ * cores do not contend on a single memory location. The stripes are only aggregated when
+ * a sampling window is {@linkplain #drain(Window) drained}.
+ * <p>
+ * Draining is not atomic with respect to concurrent recording; a sample recorded concurrently
+ * with draining may be attributed to the next window, or its fields may be split across
+ * two windows. That is acceptable for the purpose of limit estimation.
+ */
+final class StripedSamples {
+    // every stripe occupies 16 longs (128 bytes) to avoid false sharing between stripes
+    private static final int STRIPE_SHIFT = 4;
+
+    private static final int COUNT = 0;
+    private static final int SUM = 1;
+    private static final int MIN = 2;
+    private static final int MAX_IN_FLIGHT = 3;
+
+    private final int mask;
+    private final AtomicLongArray data;
+
+    StripedSamples(int stripes) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("The number of stripes must be greater than zero: " + stripes);
+        }
+        // round up to the nearest power of 2
+        int size = stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.mask = size - 1;
+        this.data = new AtomicLongArray(size << STRIPE_SHIFT);
+        for (int i = 0; i < size; i++) {
+            data.set((i << STRIPE_SHIFT) + MIN, Long.MAX_VALUE);
+        }
+    }
+
+    static int defaultStripes() {
+        return Runtime.getRuntime().availableProcessors() * 2;
+    }
+
+    int stripes() {
+        return mask + 1;
+    }
+
+    void record(long requestTime, int currentRequests) {
+        int base = stripe() << STRIPE_SHIFT;
+        data.getAndIncrement(base + COUNT);
+        data.getAndAdd(base + SUM, requestTime);
+        long min;
+        while (requestTime < (min = data.get(base + MIN))) {
+            if (data.weakCompareAndSetVolatile(base + MIN, min, requestTime)) {
+                break;
+            }
+        }
+        long max;
+        while (currentRequests > (max = data.get(base + MAX_IN_FLIGHT))) {
+            if (data.weakCompareAndSetVolatile(base + MAX_IN_FLIGHT, max, currentRequests)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Aggregates all stripes into given {@code window} and resets them.
+     *
+     * @param window the window to fill, must not be {@code null}
+     * @return the given {@code window}
+     */
+    Window drain(Window window) {
+        long count = 0;
+        long sum = 0;
+        long min = Long.MAX_VALUE;
+        long maxInFlight = 0;
+        for (int i = 0; i <= mask; i++) {
+            int base = i << STRIPE_SHIFT;
+            count += data.getAndSet(base + COUNT, 0);
+            sum += data.getAndSet(base + SUM, 0);
+            min = Math.min(min, data.getAndSet(base + MIN, Long.MAX_VALUE));
+            maxInFlight = Math.max(maxInFlight, data.getAndSet(base + MAX_IN_FLIGHT, 0));
+        }
+        window.count = count;
+        window.sum = sum;
+        window.min = min;
+        window.maxInFlight = (int) maxInFlight;
+        return window;
+    }
+
+    private int stripe() {
+        long id = Thread.currentThread().getId();
+        // Fibonacci hashing spreads sequential thread IDs evenly across stripes
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+
+    static final class Window {
+        long count;
+        long sum;
+        long min;
+        int maxInFlight;
+
+        long averageRequestTime() {
+            return count == 0 ? 0 : sum / count;
+        }
+    }
+}
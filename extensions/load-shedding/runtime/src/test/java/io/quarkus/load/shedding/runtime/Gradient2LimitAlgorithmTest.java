@@ -0,0 +1,54 @@
+package io.quarkus.load.shedding.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class Gradient2LimitAlgorithmTest {
+
+    private static final int MAX_LIMIT = 10;
+
+    @Test
+    public void testEstimatedLimitIsClampedToMaxLimit() {
+        Gradient2LimitAlgorithm algorithm = new Gradient2LimitAlgorithm(new Gradient2Config(), MAX_LIMIT);
+
+        // The initial limit is above the max limit
+        long limit = 100;
+        for (int i = 0; i < 1000; i++) {
+            // Stable request times and a fully utilized limit, i.e. the estimated limit would grow indefinitely
+            limit = algorithm.update(limit, 100, 100, MAX_LIMIT, 1);
+            assertEquals(MAX_LIMIT, limit);
+        }
+
+        // The limit is decreased by the first update with increased request times
+        limit = algorithm.update(limit, 1000, 100, MAX_LIMIT, 1);
+        assertTrue(limit < MAX_LIMIT, "Limit not decreased: " + limit);
+    }
+
+    static class Gradient2Config implements LoadSheddingRuntimeConfig.Gradient2 {
+
+        @Override
+        public double tolerance() {
+            return 1.5;
+        }
+
+        @Override
+        public double smoothing() {
+            // Apply the new limit right away
+            return 1.0;
+        }
+
+        @Override
+        public int longWindow() {
+            return 600;
+        }
+
+        @Override
+        public int queueSize() {
+            return 4;
+        }
+
+    }
+
+}
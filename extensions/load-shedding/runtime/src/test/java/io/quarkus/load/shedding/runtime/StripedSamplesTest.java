@@ -0,0 +1,46 @@
+package io.quarkus.load.shedding.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class StripedSamplesTest {
+
+    @Test
+    public void testStripesAreRoundedUpToPowerOfTwo() {
+        assertEquals(1, new StripedSamples(1).stripes());
+        assertEquals(2, new StripedSamples(2).stripes());
+        assertEquals(4, new StripedSamples(3).stripes());
+        assertEquals(16, new StripedSamples(16).stripes());
+        assertEquals(32, new StripedSamples(17).stripes());
+    }
+
+    @Test
+    public void testInvalidStripes() {
+        assertThrows(IllegalArgumentException.class, () -> new StripedSamples(0));
+        assertThrows(IllegalArgumentException.class, () -> new StripedSamples(-1));
+    }
+
+    @Test
+    public void testDrain() {
+        StripedSamples samples = new StripedSamples(1);
+        samples.record(10, 1);
+        samples.record(30, 3);
+        samples.record(20, 2);
+
+        StripedSamples.Window window = samples.drain(new StripedSamples.Window());
+        assertEquals(3, window.count);
+        assertEquals(20, window.averageRequestTime());
+        assertEquals(10, window.min);
+        assertEquals(3, window.maxInFlight);
+
+        // The stripes are reset
+        window = samples.drain(window);
+        assertEquals(0, window.count);
+        assertEquals(0, window.averageRequestTime());
+        assertEquals(Long.MAX_VALUE, window.min);
+        assertEquals(0, window.maxInFlight);
+    }
+
+}
@@ -37,6 +37,8 @@ public class HttpBinderProcessor {
 
     private static final String REST_CLIENT_REQUEST_FILTER = "jakarta.ws.rs.client.ClientRequestFilter";
     private static final String REST_CLIENT_METRICS_FILTER = "io.quarkus.micrometer.runtime.binder.RestClientMetricsFilter";
+    private static final String REST_CLIENT_HEDGING_LISTENER = "org.jboss.resteasy.reactive.client.api.HedgingListener";
+    private static final String REST_CLIENT_HEDGING_METRICS = "io.quarkus.micrometer.runtime.binder.RestClientHedgingMetrics";
 
     static class HttpServerBinderEnabled implements BooleanSupplier {
         MicrometerConfig mConfig;
@@ -109,6 +111,9 @@ void registerProvider(BuildProducer<AdditionalIndexedClassesBuildItem> additiona
             BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
         additionalIndexed.produce(new AdditionalIndexedClassesBuildItem(REST_CLIENT_METRICS_FILTER));
         additionalBeans.produce(new AdditionalBeanBuildItem(REST_CLIENT_METRICS_FILTER));
+        if (QuarkusClassLoader.isClassPresentAtRuntime(REST_CLIENT_HEDGING_LISTENER)) {
+            createAdditionalBean(additionalBeans, REST_CLIENT_HEDGING_METRICS);
+        }
     }
 
     private void createAdditionalBean(BuildProducer<AdditionalBeanBuildItem> additionalBeans, String className) {
@@ -0,0 +1,61 @@
+package io.quarkus.micrometer.runtime.binder;
+
+import java.net.URI;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.jboss.resteasy.reactive.client.api.HedgingListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Counts the hedged requests of the REST Client, and how many of them completed before the original request.
+ */
+@Singleton
+@SuppressWarnings("unused") // this is used by io.quarkus.micrometer.deployment.binder.HttpBinderProcessor
+public class RestClientHedgingMetrics implements HedgingListener {
+
+    private final MeterRegistry registry = Metrics.globalRegistry;
+
+    private final HttpBinderConfiguration httpMetricsConfig;
+
+    private final Meter.MeterProvider<Counter> fired;
+    private final Meter.MeterProvider<Counter> won;
+
+    @Inject
+    public RestClientHedgingMetrics(HttpBinderConfiguration httpMetricsConfig) {
+        this.httpMetricsConfig = httpMetricsConfig;
+
+        fired = Counter.builder("http.client.hedges.fired")
+                .description("Hedged requests sent because the original request did not complete in time")
+                .withRegistry(registry);
+        won = Counter.builder("http.client.hedges.won")
+                .description("Hedged requests that completed before the original request")
+                .withRegistry(registry);
+    }
+
+    @Override
+    public void hedgeFired(String httpMethod, URI uri) {
+        if (httpMetricsConfig.isClientEnabled()) {
+            fired.withTags(tags(httpMethod, uri)).increment();
+        }
+    }
+
+    @Override
+    public void hedgeWon(String httpMethod, URI uri) {
+        if (httpMetricsConfig.isClientEnabled()) {
+            won.withTags(tags(httpMethod, uri)).increment();
+        }
+    }
+
+    private Tags tags(String httpMethod, URI uri) {
+        String host = uri.getHost();
+        return Tags.of(HttpCommonTags.method(httpMethod), Tag.of("clientName", host == null ? "none" : host));
+    }
+}
@@ -37,9 +37,9 @@ class VertxHttpClientMetrics extends VertxTcpClientMetrics
         implements HttpClientMetrics<VertxHttpClientMetrics.RequestTracker, String, LongTaskTimer.Sample, EventTiming> {
     static final Logger log = Logger.getLogger(VertxHttpClientMetrics.class);
 
-    private final LongAdder queue = new LongAdder();
+    private final LongAdder queue;
 
-    private final LongAdder pending = new LongAdder();
+    private final LongAdder pending;
 
     private final Timer queueDelay;
     private final Map<String, LongAdder> webSockets = new ConcurrentHashMap<>();
@@ -49,37 +49,32 @@ class VertxHttpClientMetrics extends VertxTcpClientMetrics
 
     private final List<HttpClientMetricsTagsContributor> httpClientMetricsTagsContributors;
 
-    VertxHttpClientMetrics(MeterRegistry registry, String prefix, Tags tags, HttpBinderConfiguration httpBinderConfiguration) {
+    VertxHttpClientMetrics(MeterRegistry registry, String prefix, Tags tags, Gauges gauges,
+            HttpBinderConfiguration httpBinderConfiguration) {
+        this(registry, prefix, tags, gauges, httpBinderConfiguration, true);
+    }
+
+    /**
+     * @param gauges the gauges shared by the HTTP clients with the same tags
+     * @param recordResponseTimes whether to record the response times; {@code false} if the requests are already
+     *        timed elsewhere, e.g. by the REST client metrics filter
+     */
+    VertxHttpClientMetrics(MeterRegistry registry, String prefix, Tags tags, Gauges gauges,
+            HttpBinderConfiguration httpBinderConfiguration, boolean recordResponseTimes) {
         super(registry, prefix, tags);
         this.config = httpBinderConfiguration;
+        this.queue = gauges.queue;
+        this.pending = gauges.pending;
         queueDelay = Timer.builder("http.client.queue.delay")
                 .description("Time spent in the waiting queue before being processed")
                 .tags(tags)
                 .register(registry);
 
-        Gauge.builder("http.client.queue.size", new Supplier<Number>() {
-            @Override
-            public Number get() {
-                return queue.doubleValue();
-            }
-        })
-                .description("Number of pending elements in the waiting queue")
-                .tags(tags)
-                .strongReference(true)
-                .register(registry);
-
-        Gauge.builder("http.client.pending", new Supplier<Number>() {
-            @Override
-            public Number get() {
-                return pending.longValue();
-            }
-        }).description("Number of requests waiting for a response");
-
         httpClientMetricsTagsContributors = resolveHttpClientMetricsTagsContributors();
 
-        responseTimes = Timer.builder(config.getHttpClientRequestsName())
+        responseTimes = recordResponseTimes ? Timer.builder(config.getHttpClientRequestsName())
                 .description("Response times")
-                .withRegistry(registry);
+                .withRegistry(registry) : null;
     }
 
     private List<HttpClientMetricsTagsContributor> resolveHttpClientMetricsTagsContributors() {
@@ -168,6 +163,9 @@ public void responseEnd(RequestTracker tracker, long bytesRead) {
                     pending.decrement();
                 }
                 long duration = tracker.timer.end();
+                if (responseTimes == null) {
+                    return;
+                }
                 Tags list = tracker.tags
                         .and(HttpCommonTags.status(tracker.response.statusCode()))
                         .and(HttpCommonTags.outcome(tracker.response.statusCode()));
@@ -254,6 +252,43 @@ public String getNormalizedUriPath(Map<Pattern, String> serverMatchPatterns, Lis
         }
     }
 
+    /**
+     * The gauges of the HTTP clients with the same tags.
+     * <p>
+     * Vert.x creates an HTTP client metrics per HTTP client, e.g. per REST client sharing a connection pool. Micrometer only
+     * keeps the first gauge registered with a given name and tags, so these clients add to the same counts instead of
+     * registering a gauge each.
+     */
+    static final class Gauges {
+
+        final LongAdder queue = new LongAdder();
+        final LongAdder pending = new LongAdder();
+
+        Gauges(MeterRegistry registry, Tags tags) {
+            Gauge.builder("http.client.queue.size", new Supplier<Number>() {
+                @Override
+                public Number get() {
+                    return queue.doubleValue();
+                }
+            })
+                    .description("Number of pending elements in the waiting queue")
+                    .tags(tags)
+                    .strongReference(true)
+                    .register(registry);
+
+            Gauge.builder("http.client.pending", new Supplier<Number>() {
+                @Override
+                public Number get() {
+                    return pending.longValue();
+                }
+            })
+                    .description("Number of requests waiting for a response")
+                    .tags(tags)
+                    .strongReference(true)
+                    .register(registry);
+        }
+    }
+
     private record DefaultContext(HttpRequest request,
             HttpResponse response) implements HttpClientMetricsTagsContributor.Context {
     }
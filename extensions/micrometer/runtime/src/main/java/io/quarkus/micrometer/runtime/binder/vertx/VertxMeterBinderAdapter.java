@@ -1,6 +1,9 @@
 package io.quarkus.micrometer.runtime.binder.vertx;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.jboss.logging.Logger;
@@ -36,9 +39,11 @@ public class VertxMeterBinderAdapter extends MetricsOptions
         implements VertxMetricsFactory, VertxMetrics, ExtendedQuarkusVertxHttpMetrics {
     private static final Logger log = Logger.getLogger(VertxMeterBinderAdapter.class);
     public static final String METRIC_NAME_SEPARATOR = "|";
+    static final String REST_CLIENT_METRICS_PREFIX = "rest-client";
 
     private HttpBinderConfiguration httpBinderConfiguration;
     private OpenTelemetryContextUnwrapper openTelemetryContextUnwrapper;
+    private final Map<Tags, VertxHttpClientMetrics.Gauges> httpClientGauges = new ConcurrentHashMap<>();
 
     public VertxMeterBinderAdapter() {
     }
@@ -98,17 +103,29 @@ public MetricsOptions newOptions() {
             // If the name is set, check if it follows the type/client-name syntax
             String clientName = extractClientName(options.getMetricsName());
             if (clientName != null) {
-                return new VertxHttpClientMetrics(Metrics.globalRegistry, "http.client",
-                        Tags.of(Tag.of("clientName", clientName)),
-                        httpBinderConfiguration);
+                // REST client requests are already timed by the RestClientMetricsFilter
+                boolean restClient = REST_CLIENT_METRICS_PREFIX.equals(extractPrefix(options.getMetricsName()));
+                Tags tags = Tags.of(Tag.of("clientName", clientName));
+                return new VertxHttpClientMetrics(Metrics.globalRegistry, "http.client", tags, httpClientGauges(tags),
+                        httpBinderConfiguration, !restClient);
             } else {
-                return new VertxHttpClientMetrics(Metrics.globalRegistry, "http.client",
-                        Tags.of(Tag.of("clientName", "<default>")), httpBinderConfiguration);
+                Tags tags = Tags.of(Tag.of("clientName", "<default>"));
+                return new VertxHttpClientMetrics(Metrics.globalRegistry, "http.client", tags, httpClientGauges(tags),
+                        httpBinderConfiguration);
             }
         }
         return null;
     }
 
+    private VertxHttpClientMetrics.Gauges httpClientGauges(Tags tags) {
+        return httpClientGauges.computeIfAbsent(tags, new Function<>() {
+            @Override
+            public VertxHttpClientMetrics.Gauges apply(Tags tags) {
+                return new VertxHttpClientMetrics.Gauges(Metrics.globalRegistry, tags);
+            }
+        });
+    }
+
     @Override
     public TCPMetrics<?> createNetServerMetrics(NetServerOptions options, SocketAddress localAddress) {
         return new VertxTcpServerMetrics(Metrics.globalRegistry, "tcp", Tags.of(
@@ -0,0 +1,44 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.micrometer.runtime.binder.HttpBinderConfiguration;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.spi.observability.HttpRequest;
+
+public class VertxHttpClientMetricsTest {
+
+    @Test
+    public void testClientsWithSameTagsShareGauges() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Tags tags = Tags.of("clientName", "shared");
+        VertxHttpClientMetrics.Gauges gauges = new VertxHttpClientMetrics.Gauges(registry, tags);
+        HttpBinderConfiguration config = Mockito.mock(HttpBinderConfiguration.class);
+        SocketAddress address = SocketAddress.inetSocketAddress(8080, "localhost");
+
+        var first = new VertxHttpClientMetrics(registry, "http.client", tags, gauges, config, false)
+                .createEndpointMetrics(address, 10);
+        var second = new VertxHttpClientMetrics(registry, "http.client", tags, gauges, config, false)
+                .createEndpointMetrics(address, 10);
+
+        first.enqueueRequest();
+        second.enqueueRequest();
+        Assertions.assertEquals(2, registry.get("http.client.queue.size").tags(tags).gauge().value());
+
+        HttpRequest request = Mockito.mock(HttpRequest.class);
+        Mockito.when(request.method()).thenReturn(HttpMethod.GET);
+        Mockito.when(request.uri()).thenReturn("/greeting");
+        first.requestBegin("/greeting", request);
+        var tracker = second.requestBegin("/greeting", request);
+        Assertions.assertEquals(2, registry.get("http.client.pending").tags(tags).gauge().value());
+
+        second.requestReset(tracker);
+        Assertions.assertEquals(1, registry.get("http.client.pending").tags(tags).gauge().value());
+    }
+
+}
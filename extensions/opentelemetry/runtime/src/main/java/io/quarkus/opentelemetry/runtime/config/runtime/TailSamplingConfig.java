@@ -0,0 +1,94 @@
+package io.quarkus.opentelemetry.runtime.config.runtime;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigDocMapKey;
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+import io.smallrye.config.WithName;
+
+@ConfigGroup
+public interface TailSamplingConfig {
+
+    /**
+     * If true, the spans of a trace are buffered until the trace is complete, and the whole trace is kept or dropped
+     * depending on its latency, its status and its attributes, before being handed to the span processor of the OTLP
+     * exporter.
+     * <p>
+     * Only the spans sampled by the head sampler are considered, so the sampler should usually be left to
+     * `parentbased_always_on`.
+     * <p>
+     * This is a Quarkus specific property. Tail sampling is disabled by default.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * The {@link Duration} to wait after the first span of a trace ended before deciding whether the trace is kept.
+     * <p>
+     * Spans ending after the decision follow the decision taken for their trace.
+     * <p>
+     * Default is `5s`.
+     */
+    @WithName("decision-wait")
+    @WithDefault("5s")
+    Duration decisionWait();
+
+    /**
+     * The maximum number of traces waiting for a decision. When it is reached, the decision for the oldest trace is
+     * taken early, with the spans that ended so far.
+     * <p>
+     * Default is `10000`.
+     */
+    @WithName("max-traces")
+    @WithDefault("10000")
+    int maxTraces();
+
+    /**
+     * The maximum number of spans buffered for the traces waiting for a decision. When it is reached, the decision for
+     * the oldest trace is taken early, with the spans that ended so far.
+     * <p>
+     * Default is `50000`.
+     */
+    @WithName("max-spans")
+    @WithDefault("50000")
+    int maxSpans();
+
+    /**
+     * Keep the traces lasting at least this {@link Duration}, from the start of their first span to the end of their last
+     * span.
+     * <p>
+     * By default, traces are not kept because of their latency.
+     */
+    @WithName("latency-threshold")
+    Optional<Duration> latencyThreshold();
+
+    /**
+     * Keep the traces containing a span with an `ERROR` status.
+     * <p>
+     * Default is `true`.
+     */
+    @WithName("keep-errors")
+    @WithDefault("true")
+    boolean keepErrors();
+
+    /**
+     * Keep the traces containing a span with one of the given values for the given attribute, for instance
+     * `quarkus.otel.traces.tail-sampling.attributes."http.route"=/orders,/payments`.
+     */
+    @ConfigDocMapKey("attribute-name")
+    Map<String, List<String>> attributes();
+
+    /**
+     * The ratio of the traces matching none of the rules that are kept anyway, between `0.0d` and `1.0d`. The decision
+     * only depends on the trace id, so it is consistent across services using the same ratio.
+     * <p>
+     * Default is `0.0d`.
+     */
+    @WithName("fallback-ratio")
+    @WithDefault("0.0d")
+    double fallbackRatio();
+}
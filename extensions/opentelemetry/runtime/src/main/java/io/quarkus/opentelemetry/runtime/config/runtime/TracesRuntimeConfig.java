@@ -63,4 +63,10 @@ public interface TracesRuntimeConfig {
     @WithName("sampler.arg")
     @WithDefault("1.0d")
     Optional<String> samplerArg();
+
+    /**
+     * Tail-based sampling of the traces exported by the OTLP exporter.
+     */
+    @WithName("tail-sampling")
+    TailSamplingConfig tailSampling();
 }
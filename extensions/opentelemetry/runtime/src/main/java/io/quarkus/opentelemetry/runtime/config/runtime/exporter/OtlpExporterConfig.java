@@ -62,6 +62,28 @@ public interface OtlpExporterConfig {
     @WithConverter(DurationConverter.class)
     Duration timeout();
 
+    /**
+     * The maximum number of export requests sent to the collector concurrently. Exports submitted while this limit is
+     * reached are queued, and the queued exports are sent together in a single request once a request completes.
+     * <p>
+     * There is a generic property, that will apply to all signals and a signal specific one, following the pattern:
+     * `quarkus.otel.exporter.otlp.<signal-type>.max-concurrent-exports` where <signal-type> is one of the supported signal
+     * types, like `traces` or `metrics`.
+     */
+    @ConfigDocDefault("2")
+    int maxConcurrentExports();
+
+    /**
+     * The maximum number of exports waiting for an export request. Exports exceeding this limit are dropped and counted
+     * by the {@code otlp.exporter.dropped} metric.
+     * <p>
+     * There is a generic property, that will apply to all signals and a signal specific one, following the pattern:
+     * `quarkus.otel.exporter.otlp.<signal-type>.max-queued-exports` where <signal-type> is one of the supported signal
+     * types, like `traces` or `metrics`.
+     */
+    @ConfigDocDefault("32")
+    int maxQueuedExports();
+
     /**
      * OTLP defines the encoding of telemetry data and the protocol used to exchange data between the client and the
      * server. Depending on the exporter, the available protocols will be different.
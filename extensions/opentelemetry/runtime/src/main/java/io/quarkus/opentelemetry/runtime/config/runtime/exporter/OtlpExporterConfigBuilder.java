@@ -33,6 +33,8 @@ public SmallRyeConfigBuilder configBuilder(final SmallRyeConfigBuilder builder)
         builder.withDefaultValue("quarkus.otel.exporter.otlp.endpoint", DEFAULT_GRPC_BASE_URI);
         builder.withDefaultValue("quarkus.otel.exporter.otlp.protocol", GRPC);
         builder.withDefaultValue("quarkus.otel.exporter.otlp.timeout", "10s");
+        builder.withDefaultValue("quarkus.otel.exporter.otlp.max-concurrent-exports", "2");
+        builder.withDefaultValue("quarkus.otel.exporter.otlp.max-queued-exports", "32");
         builder.withDefaultValue("quarkus.otel.exporter.otlp.proxy-options.enabled", "false");
 
         Map<String, String> fallbacks = new HashMap<>(30);
@@ -41,6 +43,9 @@ public SmallRyeConfigBuilder configBuilder(final SmallRyeConfigBuilder builder)
         fallbacks.put("quarkus.otel.exporter.otlp.traces.headers", "quarkus.otel.exporter.otlp.headers");
         fallbacks.put("quarkus.otel.exporter.otlp.traces.compression", "quarkus.otel.exporter.otlp.compression");
         fallbacks.put("quarkus.otel.exporter.otlp.traces.timeout", "quarkus.otel.exporter.otlp.timeout");
+        fallbacks.put("quarkus.otel.exporter.otlp.traces.max-concurrent-exports",
+                "quarkus.otel.exporter.otlp.max-concurrent-exports");
+        fallbacks.put("quarkus.otel.exporter.otlp.traces.max-queued-exports", "quarkus.otel.exporter.otlp.max-queued-exports");
         fallbacks.put("quarkus.otel.exporter.otlp.traces.protocol", "quarkus.otel.exporter.otlp.protocol");
         fallbacks.put("quarkus.otel.exporter.otlp.traces.key-cert.keys", "quarkus.otel.exporter.otlp.key-cert.keys");
         fallbacks.put("quarkus.otel.exporter.otlp.traces.key-cert.certs", "quarkus.otel.exporter.otlp.key-cert.certs");
@@ -61,6 +66,9 @@ public SmallRyeConfigBuilder configBuilder(final SmallRyeConfigBuilder builder)
         fallbacks.put("quarkus.otel.exporter.otlp.metrics.headers", "quarkus.otel.exporter.otlp.headers");
         fallbacks.put("quarkus.otel.exporter.otlp.metrics.compression", "quarkus.otel.exporter.otlp.compression");
         fallbacks.put("quarkus.otel.exporter.otlp.metrics.timeout", "quarkus.otel.exporter.otlp.timeout");
+        fallbacks.put("quarkus.otel.exporter.otlp.metrics.max-concurrent-exports",
+                "quarkus.otel.exporter.otlp.max-concurrent-exports");
+        fallbacks.put("quarkus.otel.exporter.otlp.metrics.max-queued-exports", "quarkus.otel.exporter.otlp.max-queued-exports");
         fallbacks.put("quarkus.otel.exporter.otlp.metrics.protocol", "quarkus.otel.exporter.otlp.protocol");
         fallbacks.put("quarkus.otel.exporter.otlp.metrics.key-cert.keys", "quarkus.otel.exporter.otlp.key-cert.keys");
         fallbacks.put("quarkus.otel.exporter.otlp.metrics.key-cert.certs", "quarkus.otel.exporter.otlp.key-cert.certs");
@@ -81,6 +89,9 @@ public SmallRyeConfigBuilder configBuilder(final SmallRyeConfigBuilder builder)
         fallbacks.put("quarkus.otel.exporter.otlp.logs.headers", "quarkus.otel.exporter.otlp.headers");
         fallbacks.put("quarkus.otel.exporter.otlp.logs.compression", "quarkus.otel.exporter.otlp.compression");
         fallbacks.put("quarkus.otel.exporter.otlp.logs.timeout", "quarkus.otel.exporter.otlp.timeout");
+        fallbacks.put("quarkus.otel.exporter.otlp.logs.max-concurrent-exports",
+                "quarkus.otel.exporter.otlp.max-concurrent-exports");
+        fallbacks.put("quarkus.otel.exporter.otlp.logs.max-queued-exports", "quarkus.otel.exporter.otlp.max-queued-exports");
         fallbacks.put("quarkus.otel.exporter.otlp.logs.protocol", "quarkus.otel.exporter.otlp.protocol");
         fallbacks.put("quarkus.otel.exporter.otlp.logs.key-cert.keys", "quarkus.otel.exporter.otlp.key-cert.keys");
         fallbacks.put("quarkus.otel.exporter.otlp.logs.key-cert.certs", "quarkus.otel.exporter.otlp.key-cert.certs");
@@ -18,6 +18,7 @@
 import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.util.TypeLiteral;
 
+import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.api.metrics.MeterProvider;
 import io.opentelemetry.exporter.internal.ExporterBuilderUtil;
 import io.opentelemetry.exporter.internal.grpc.GrpcExporter;
@@ -34,15 +35,19 @@
 import io.opentelemetry.sdk.metrics.export.DefaultAggregationSelector;
 import io.opentelemetry.sdk.metrics.export.MetricExporter;
 import io.opentelemetry.sdk.metrics.internal.aggregator.AggregationUtil;
+import io.opentelemetry.sdk.trace.SpanProcessor;
 import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
 import io.opentelemetry.sdk.trace.export.BatchSpanProcessorBuilder;
 import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
 import io.opentelemetry.sdk.trace.export.SimpleSpanProcessorBuilder;
 import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.SyntheticCreationalContext;
 import io.quarkus.opentelemetry.runtime.config.build.OTelBuildConfig;
 import io.quarkus.opentelemetry.runtime.config.runtime.BatchSpanProcessorConfig;
 import io.quarkus.opentelemetry.runtime.config.runtime.OTelRuntimeConfig;
+import io.quarkus.opentelemetry.runtime.config.runtime.TailSamplingConfig;
 import io.quarkus.opentelemetry.runtime.config.runtime.exporter.*;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.logs.NoopLogRecordExporter;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.logs.VertxGrpcLogRecordExporter;
@@ -56,6 +61,7 @@
 import io.quarkus.opentelemetry.runtime.exporter.otlp.tracing.RemoveableLateBoundSpanProcessor;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.tracing.VertxGrpcSpanExporter;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.tracing.VertxHttpSpanExporter;
+import io.quarkus.opentelemetry.runtime.tracing.TailSamplingSpanProcessor;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.tls.TlsConfiguration;
 import io.quarkus.tls.TlsConfigurationRegistry;
@@ -100,7 +106,7 @@ public LateBoundSpanProcessor apply(
 
                     if (oTelBuildConfig.simple()) {
                         SimpleSpanProcessorBuilder processorBuilder = SimpleSpanProcessor.builder(spanExporter);
-                        return new LateBoundSpanProcessor(processorBuilder.build());
+                        return new LateBoundSpanProcessor(tailSampling(processorBuilder.build()));
                     } else {
                         BatchSpanProcessorBuilder processorBuilder = BatchSpanProcessor.builder(spanExporter);
 
@@ -111,13 +117,21 @@ public LateBoundSpanProcessor apply(
                         processorBuilder.setExporterTimeout(bspc.exportTimeout());
                         // processorBuilder.setMeterProvider() // TODO add meter provider to span processor.
 
-                        return new LateBoundSpanProcessor(processorBuilder.build());
+                        return new LateBoundSpanProcessor(tailSampling(processorBuilder.build()));
                     }
                 } catch (IllegalArgumentException iae) {
                     throw new IllegalStateException("Unable to install OTLP Exporter", iae);
                 }
             }
 
+            private SpanProcessor tailSampling(SpanProcessor spanProcessor) {
+                TailSamplingConfig tailSamplingConfig = otelRuntimeConfig.traces().tailSampling();
+                if (!tailSamplingConfig.enabled()) {
+                    return spanProcessor;
+                }
+                return new TailSamplingSpanProcessor(spanProcessor, tailSamplingConfig, exporterMeterProvider());
+            }
+
             private SpanExporter createSpanExporter(OtlpExporterRuntimeConfig exporterRuntimeConfig,
                     Vertx vertx,
                     URI baseUri,
@@ -155,6 +169,10 @@ private SpanExporter createOtlpGrpcSpanExporter(OtlpExporterRuntimeConfig export
                                 tracesConfig.timeout(),
                                 populateTracingExportHttpHeaders(tracesConfig),
                                 new HttpClientOptionsConsumer(tracesConfig, baseUri, tlsConfigurationRegistry),
+                                tracesConfig.maxConcurrentExports(),
+                                tracesConfig.maxQueuedExports(),
+                                "span",
+                                exporterMeterProvider(),
                                 vertx),
                         MeterProvider::noop));
             }
@@ -178,6 +196,10 @@ private SpanExporter createHttpSpanExporter(OtlpExporterRuntimeConfig exporterRu
                                 populateTracingExportHttpHeaders(tracesConfig),
                                 exportAsJson ? "application/json" : "application/x-protobuf",
                                 new HttpClientOptionsConsumer(tracesConfig, baseUri, tlsConfigurationRegistry),
+                                tracesConfig.maxConcurrentExports(),
+                                tracesConfig.maxQueuedExports(),
+                                "span",
+                                exporterMeterProvider(),
                                 vertx),
                         MeterProvider::noop,
                         exportAsJson));
@@ -224,6 +246,10 @@ public MetricExporter apply(SyntheticCreationalContext<MetricExporter> context)
                                                 metricsConfig.timeout(),
                                                 populateTracingExportHttpHeaders(metricsConfig),
                                                 new HttpClientOptionsConsumer(metricsConfig, baseUri, tlsConfigurationRegistry),
+                                                metricsConfig.maxConcurrentExports(),
+                                                metricsConfig.maxQueuedExports(),
+                                                "metric",
+                                                exporterMeterProvider(),
                                                 vertx.get()),
                                         MeterProvider::noop),
                                 aggregationTemporalityResolver(metricsConfig),
@@ -242,6 +268,10 @@ public MetricExporter apply(SyntheticCreationalContext<MetricExporter> context)
                                                 populateTracingExportHttpHeaders(metricsConfig),
                                                 exportAsJson ? "application/json" : "application/x-protobuf",
                                                 new HttpClientOptionsConsumer(metricsConfig, baseUri, tlsConfigurationRegistry),
+                                                metricsConfig.maxConcurrentExports(),
+                                                metricsConfig.maxQueuedExports(),
+                                                "metric",
+                                                exporterMeterProvider(),
                                                 vertx.get()),
                                         MeterProvider::noop,
                                         exportAsJson),
@@ -296,6 +326,10 @@ public LogRecordExporter apply(SyntheticCreationalContext<LogRecordExporter> con
                                                 logsConfig.timeout(),
                                                 populateTracingExportHttpHeaders(logsConfig),
                                                 new HttpClientOptionsConsumer(logsConfig, baseUri, tlsConfigurationRegistry),
+                                                logsConfig.maxConcurrentExports(),
+                                                logsConfig.maxQueuedExports(),
+                                                "log",
+                                                exporterMeterProvider(),
                                                 vertx.get()),
                                         MeterProvider::noop));
                     } else if (HTTP_PROTOBUF.equals(protocol)) {
@@ -312,6 +346,10 @@ public LogRecordExporter apply(SyntheticCreationalContext<LogRecordExporter> con
                                                 populateTracingExportHttpHeaders(logsConfig),
                                                 exportAsJson ? "application/json" : "application/x-protobuf",
                                                 new HttpClientOptionsConsumer(logsConfig, baseUri, tlsConfigurationRegistry),
+                                                logsConfig.maxConcurrentExports(),
+                                                logsConfig.maxQueuedExports(),
+                                                "log",
+                                                exporterMeterProvider(),
                                                 vertx.get()),
                                         MeterProvider::noop,
                                         exportAsJson));
@@ -362,6 +400,20 @@ private static AggregationTemporalitySelector aggregationTemporalityResolver(Otl
         return temporalitySelector;
     }
 
+    /**
+     * The exporters are created while the SDK is built, so the meter provider used to report their state is only looked
+     * up once they export something.
+     */
+    private static Supplier<MeterProvider> exporterMeterProvider() {
+        return new Supplier<>() {
+            @Override
+            public MeterProvider get() {
+                InstanceHandle<OpenTelemetry> openTelemetry = Arc.container().instance(OpenTelemetry.class);
+                return openTelemetry.isAvailable() ? openTelemetry.get().getMeterProvider() : MeterProvider.noop();
+            }
+        };
+    }
+
     private static boolean determineCompression(OtlpExporterConfig config) {
         if (config.compression().isPresent()) {
             return (config.compression().get() == CompressionType.GZIP);
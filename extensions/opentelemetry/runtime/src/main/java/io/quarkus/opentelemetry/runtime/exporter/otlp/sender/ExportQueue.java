@@ -0,0 +1,214 @@
+package io.quarkus.opentelemetry.runtime.exporter.otlp.sender;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+
+/**
+ * Limits the number of export requests a sender has in flight.
+ * <p>
+ * Exports submitted while the limit is reached wait in a bounded queue; if the queue is full, the export is dropped.
+ * Once a request completes, the queued exports are sent together in a single request: the OTLP export requests only
+ * consist of repeated fields, so the concatenation of their protobuf encodings is a valid request containing all of
+ * them. Exports encoded as JSON cannot be concatenated and are sent one by one.
+ * <p>
+ * The number of queued exports and the number of dropped exports are reported as {@code otlp.exporter.queued} and
+ * {@code otlp.exporter.dropped}, like the metrics of the OpenTelemetry exporters themselves.
+ *
+ * @param <R> the type of the response of an export request
+ */
+final class ExportQueue<R> {
+
+    /**
+     * The maximum size of the exports sent together, which is the default maximum message size of the collector.
+     */
+    static final int MAX_COALESCED_SIZE = 4 * 1024 * 1024;
+
+    private static final AttributeKey<String> TYPE = AttributeKey.stringKey("type");
+
+    private final int maxConcurrentExports;
+    private final int maxQueuedExports;
+    private final boolean coalesce;
+    private final Dispatcher<R> dispatcher;
+    private final String type;
+    private final Supplier<MeterProvider> meterProviderSupplier;
+
+    // guarded by this
+    private final ArrayDeque<Export<R>> queue = new ArrayDeque<>();
+    private int inFlight;
+    private boolean shutdown;
+
+    private volatile LongCounter dropped;
+
+    ExportQueue(int maxConcurrentExports, int maxQueuedExports, boolean coalesce, Dispatcher<R> dispatcher, String type,
+            Supplier<MeterProvider> meterProviderSupplier) {
+        this.maxConcurrentExports = Math.max(1, maxConcurrentExports);
+        this.maxQueuedExports = Math.max(0, maxQueuedExports);
+        this.coalesce = coalesce;
+        this.dispatcher = dispatcher;
+        this.type = type;
+        this.meterProviderSupplier = meterProviderSupplier;
+    }
+
+    void submit(Marshaler marshaler, int size, Consumer<R> onSuccess, Consumer<Throwable> onError) {
+        LongCounter dropped = droppedCounter();
+        Export<R> export = new Export<>(marshaler, size, onSuccess, onError);
+        boolean dispatch = false;
+        boolean drop = false;
+        synchronized (this) {
+            if (shutdown) {
+                return;
+            }
+            if (inFlight < maxConcurrentExports) {
+                inFlight++;
+                dispatch = true;
+            } else if (queue.size() < maxQueuedExports) {
+                queue.add(export);
+            } else {
+                drop = true;
+            }
+        }
+        if (dispatch) {
+            dispatch(List.of(export));
+        } else if (drop) {
+            dropped.add(1, Attributes.of(TYPE, type));
+            onError.accept(new RejectedExecutionException(
+                    "The export queue is full, " + maxQueuedExports + " exports are waiting to be sent"));
+        }
+    }
+
+    synchronized int queued() {
+        return queue.size();
+    }
+
+    /**
+     * Fails the queued exports and rejects further ones.
+     */
+    void shutdown() {
+        List<Export<R>> queued;
+        synchronized (this) {
+            shutdown = true;
+            queued = new ArrayList<>(queue);
+            queue.clear();
+        }
+        IllegalStateException failure = new IllegalStateException("The exporter was shut down");
+        for (Export<R> export : queued) {
+            export.onError.accept(failure);
+        }
+    }
+
+    private void dispatch(List<Export<R>> exports) {
+        List<Marshaler> marshalers;
+        int size;
+        if (exports.size() == 1) {
+            marshalers = List.of(exports.get(0).marshaler);
+            size = exports.get(0).size;
+        } else {
+            marshalers = new ArrayList<>(exports.size());
+            size = 0;
+            for (Export<R> export : exports) {
+                marshalers.add(export.marshaler);
+                size += export.size;
+            }
+        }
+        // the senders may report a failure after a response, make sure the slot is only released once
+        AtomicBoolean done = new AtomicBoolean();
+        dispatcher.dispatch(marshalers, size, new Consumer<R>() {
+            @Override
+            public void accept(R response) {
+                if (done.compareAndSet(false, true)) {
+                    for (Export<R> export : exports) {
+                        export.onSuccess.accept(response);
+                    }
+                    completed();
+                }
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable failure) {
+                if (done.compareAndSet(false, true)) {
+                    for (Export<R> export : exports) {
+                        export.onError.accept(failure);
+                    }
+                    completed();
+                }
+            }
+        });
+    }
+
+    private void completed() {
+        List<Export<R>> next;
+        synchronized (this) {
+            if (queue.isEmpty()) {
+                inFlight--;
+                return;
+            }
+            if (coalesce) {
+                next = new ArrayList<>();
+                int size = 0;
+                do {
+                    Export<R> export = queue.poll();
+                    next.add(export);
+                    size += export.size;
+                } while (!queue.isEmpty() && size + queue.peek().size <= MAX_COALESCED_SIZE);
+            } else {
+                next = List.of(queue.poll());
+            }
+        }
+        dispatch(next);
+    }
+
+    private LongCounter droppedCounter() {
+        LongCounter counter = dropped;
+        if (counter == null) {
+            synchronized (this) {
+                counter = dropped;
+                if (counter == null) {
+                    counter = registerInstruments();
+                    dropped = counter;
+                }
+            }
+        }
+        return counter;
+    }
+
+    private LongCounter registerInstruments() {
+        // the meter provider is only available once the SDK is initialized, i.e. it is resolved on first use
+        Meter meter = meterProviderSupplier.get().get("io.quarkus.opentelemetry.exporter");
+        meter.gaugeBuilder("otlp.exporter.queued")
+                .ofLongs()
+                .setDescription("The number of exports waiting to be sent")
+                .buildWithCallback(new Consumer<ObservableLongMeasurement>() {
+                    @Override
+                    public void accept(ObservableLongMeasurement measurement) {
+                        measurement.record(queued(), Attributes.of(TYPE, type));
+                    }
+                });
+        return meter.counterBuilder("otlp.exporter.dropped")
+                .setDescription("The number of exports dropped because the export queue was full")
+                .build();
+    }
+
+    /**
+     * Sends the given exports in a single request and calls exactly one of the callbacks once the request completed.
+     */
+    interface Dispatcher<R> {
+
+        void dispatch(List<Marshaler> marshalers, int size, Consumer<R> onSuccess, Consumer<Throwable> onError);
+    }
+
+    private record Export<R>(Marshaler marshaler, int size, Consumer<R> onSuccess, Consumer<Throwable> onError) {
+    }
+}
@@ -0,0 +1,43 @@
+package io.quarkus.opentelemetry.runtime.exporter.otlp.sender;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.vertx.core.buffer.impl.VertxByteBufAllocator;
+
+/**
+ * Serializes export requests straight into pooled direct buffers, instead of allocating a heap buffer per request.
+ * <p>
+ * Vert.x does not release the buffers it writes, so the caller has to release the returned buffer once the request was
+ * written.
+ */
+final class MarshalerBuffers {
+
+    private MarshalerBuffers() {
+    }
+
+    /**
+     * @param marshalers the export requests, whose protobuf encodings are concatenated
+     * @param size the size of the encoded requests
+     * @param gzip whether to compress the encoded requests while writing them
+     */
+    static ByteBuf serialize(List<Marshaler> marshalers, int size, boolean gzip) throws IOException {
+        // the compressed size is not known upfront, the buffer grows as needed
+        ByteBuf buffer = VertxByteBufAllocator.POOLED_ALLOCATOR.directBuffer(Math.max(256, gzip ? size / 4 : size));
+        try (OutputStream os = gzip ? new GZIPOutputStream(new ByteBufOutputStream(buffer))
+                : new ByteBufOutputStream(buffer)) {
+            for (int i = 0; i < marshalers.size(); i++) {
+                marshalers.get(i).writeBinaryTo(os);
+            }
+        } catch (IOException | RuntimeException e) {
+            buffer.release();
+            throw e;
+        }
+        return buffer;
+    }
+}
@@ -6,6 +6,7 @@
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.RejectedExecutionException;
@@ -16,15 +17,17 @@
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.handler.codec.http.QueryStringDecoder;
+import io.opentelemetry.api.metrics.MeterProvider;
 import io.opentelemetry.exporter.internal.grpc.GrpcResponse;
 import io.opentelemetry.exporter.internal.grpc.GrpcSender;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.internal.ThrottlingLogger;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.OTelExporterUtil;
-import io.quarkus.vertx.core.runtime.BufferOutputStream;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
@@ -64,6 +67,7 @@ public final class VertxGrpcSender implements GrpcSender {
     private final Duration exportTimeout;
 
     private final GrpcClient client;
+    private final ExportQueue<GrpcResponse> queue;
 
     public VertxGrpcSender(
             URI grpcBaseUri,
@@ -72,6 +76,10 @@ public VertxGrpcSender(
             Duration timeout,
             Map<String, String> headersMap,
             Consumer<HttpClientOptions> clientOptionsCustomizer,
+            int maxConcurrentExports,
+            int maxQueuedExports,
+            String type,
+            Supplier<MeterProvider> meterProviderSupplier,
             Vertx vertx) {
         this.grpcEndpointPath = grpcEndpointPath;
         this.server = SocketAddress.inetSocketAddress(OTelExporterUtil.getPort(grpcBaseUri), grpcBaseUri.getHost());
@@ -84,6 +92,14 @@ public VertxGrpcSender(
                 .setTracingPolicy(TracingPolicy.IGNORE); // needed to avoid tracing the calls from this gRPC client
         clientOptionsCustomizer.accept(httpClientOptions);
         this.client = GrpcClient.client(vertx, httpClientOptions);
+        this.queue = new ExportQueue<>(maxConcurrentExports, maxQueuedExports, true,
+                new ExportQueue.Dispatcher<>() {
+                    @Override
+                    public void dispatch(List<Marshaler> marshalers, int size, Consumer<GrpcResponse> onSuccess,
+                            Consumer<Throwable> onError) {
+                        doSend(marshalers, size, onSuccess, onError);
+                    }
+                }, type, meterProviderSupplier);
     }
 
     @Override
@@ -92,9 +108,14 @@ public void send(Marshaler request, Consumer onSuccess, Consumer onError) {
             return;
         }
 
-        final String marshalerType = request.getClass().getSimpleName();
+        queue.submit(request, request.getBinarySerializedSize(), onSuccess, onError);
+    }
+
+    private void doSend(List<Marshaler> marshalers, int messageSize, Consumer<GrpcResponse> onSuccess,
+            Consumer<Throwable> onError) {
+        final String marshalerType = marshalers.get(0).getClass().getSimpleName();
         var onSuccessHandler = new ClientRequestOnSuccessHandler(client, server, headers, compressionEnabled,
-                request,
+                marshalers, messageSize,
                 loggedUnimplemented, logger, marshalerType, onSuccess, onError, 1, grpcEndpointPath,
                 isShutdown::get, exportTimeout);
 
@@ -113,6 +134,7 @@ public CompletableResultCode shutdown() {
             return shutdownResult;
         }
 
+        queue.shutdown();
         try {
             client.close()
                     .onSuccess(
@@ -192,7 +214,8 @@ private static final class ClientRequestOnSuccessHandler implements Handler<Grpc
         private final Map<String, String> headers;
         private final boolean compressionEnabled;
 
-        private final Marshaler marshaler;
+        private final List<Marshaler> marshalers;
+        private final int messageSize;
         private final AtomicBoolean loggedUnimplemented;
         private final ThrottlingLogger logger;
         private final String type;
@@ -208,7 +231,8 @@ public ClientRequestOnSuccessHandler(GrpcClient client,
                 SocketAddress server,
                 Map<String, String> headers,
                 boolean compressionEnabled,
-                Marshaler marshaler,
+                List<Marshaler> marshalers,
+                int messageSize,
                 AtomicBoolean loggedUnimplemented,
                 ThrottlingLogger logger,
                 String type,
@@ -223,7 +247,8 @@ public ClientRequestOnSuccessHandler(GrpcClient client,
             this.grpcEndpointPath = grpcEndpointPath;
             this.headers = headers;
             this.compressionEnabled = compressionEnabled;
-            this.marshaler = marshaler;
+            this.marshalers = marshalers;
+            this.messageSize = messageSize;
             this.loggedUnimplemented = loggedUnimplemented;
             this.logger = logger;
             this.type = type;
@@ -252,11 +277,14 @@ public void handle(GrpcClientRequest<Buffer, Buffer> request) {
             }
 
             try {
-                int messageSize = marshaler.getBinarySerializedSize();
-                Buffer buffer = Buffer.buffer(messageSize);
-                var os = new BufferOutputStream(buffer);
-                marshaler.writeBinaryTo(os);
-                request.send(buffer).onSuccess(new Handler<>() {
+                // compression is applied by the gRPC client when framing the message
+                ByteBuf message = MarshalerBuffers.serialize(marshalers, messageSize, false);
+                request.send(Buffer.buffer(message)).onComplete(new Handler<>() {
+                    @Override
+                    public void handle(AsyncResult<GrpcClientResponse<Buffer, Buffer>> ignored) {
+                        message.release();
+                    }
+                }).onSuccess(new Handler<>() {
                     @Override
                     public void handle(GrpcClientResponse<Buffer, Buffer> response) {
                         response.exceptionHandler(new Handler<>() {
@@ -443,8 +471,8 @@ private void failOnClientRequest(Throwable t, Consumer<Throwable> onError, int a
         }
 
         public ClientRequestOnSuccessHandler newAttempt() {
-            return new ClientRequestOnSuccessHandler(client, server, headers, compressionEnabled, marshaler,
-                    loggedUnimplemented, logger, type, onSuccess, onError, attemptNumber + 1,
+            return new ClientRequestOnSuccessHandler(client, server, headers, compressionEnabled, marshalers,
+                    messageSize, loggedUnimplemented, logger, type, onSuccess, onError, attemptNumber + 1,
                     grpcEndpointPath, isShutdown, exportTimeout);
         }
     }
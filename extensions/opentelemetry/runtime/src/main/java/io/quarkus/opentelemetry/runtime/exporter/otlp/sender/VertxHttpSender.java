@@ -3,9 +3,9 @@
 import static io.quarkus.opentelemetry.runtime.exporter.otlp.OTelExporterUtil.getPort;
 
 import java.io.IOException;
-import java.io.OutputStream;
 import java.net.URI;
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.RejectedExecutionException;
@@ -15,13 +15,13 @@
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.zip.GZIPOutputStream;
 
+import io.netty.buffer.ByteBuf;
+import io.opentelemetry.api.metrics.MeterProvider;
 import io.opentelemetry.exporter.internal.http.HttpSender;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.internal.ThrottlingLogger;
-import io.quarkus.vertx.core.runtime.BufferOutputStream;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
@@ -51,6 +51,7 @@ public final class VertxHttpSender implements HttpSender {
     private final String contentType;
     private final HttpClient client;
     private final String signalPath;
+    private final ExportQueue<Response> queue;
 
     public VertxHttpSender(
             URI baseUri,
@@ -60,6 +61,10 @@ public VertxHttpSender(
             Map<String, String> headersMap,
             String contentType,
             Consumer<HttpClientOptions> clientOptionsCustomizer,
+            int maxConcurrentExports,
+            int maxQueuedExports,
+            String type,
+            Supplier<MeterProvider> meterProviderSupplier,
             Vertx vertx) {
         this.basePath = determineBasePath(baseUri);
         this.signalPath = signalPath;
@@ -73,6 +78,14 @@ public VertxHttpSender(
                 .setTracingPolicy(TracingPolicy.IGNORE); // needed to avoid tracing the calls from this http client
         clientOptionsCustomizer.accept(httpClientOptions);
         this.client = vertx.createHttpClient(httpClientOptions);
+        this.queue = new ExportQueue<>(maxConcurrentExports, maxQueuedExports, !"application/json".equals(contentType),
+                new ExportQueue.Dispatcher<>() {
+                    @Override
+                    public void dispatch(List<Marshaler> marshalers, int size, Consumer<Response> onSuccess,
+                            Consumer<Throwable> onError) {
+                        doSend(marshalers, size, onSuccess, onError);
+                    }
+                }, type, meterProviderSupplier);
     }
 
     private final AtomicBoolean isShutdown = new AtomicBoolean();
@@ -101,11 +114,18 @@ public void send(Marshaler marshaler,
             return;
         }
 
+        queue.submit(marshaler, contentLength, onHttpResponseRead, onError);
+    }
+
+    private void doSend(List<Marshaler> marshalers,
+            int contentLength,
+            Consumer<Response> onHttpResponseRead,
+            Consumer<Throwable> onError) {
         String requestURI = basePath + signalPath;
         var clientRequestSuccessHandler = new ClientRequestSuccessHandler(client, requestURI, headers, compressionEnabled,
                 contentType,
                 contentLength, onHttpResponseRead,
-                onError, marshaler, 1, isShutdown::get);
+                onError, marshalers, 1, isShutdown::get);
         initiateSend(client, requestURI, MAX_ATTEMPTS, clientRequestSuccessHandler, onError, isShutdown::get);
     }
 
@@ -154,6 +174,7 @@ public CompletableResultCode shutdown() {
             return shutdownResult;
         }
 
+        queue.shutdown();
         try {
             client.close()
                     .onSuccess(
@@ -187,7 +208,7 @@ private static class ClientRequestSuccessHandler implements Handler<HttpClientRe
         private final int contentLength;
         private final Consumer<Response> onHttpResponseRead;
         private final Consumer<Throwable> onError;
-        private final Marshaler marshaler;
+        private final List<Marshaler> marshalers;
 
         private final int attemptNumber;
         private final Supplier<Boolean> isShutdown;
@@ -199,7 +220,7 @@ public ClientRequestSuccessHandler(HttpClient client,
                 int contentLength,
                 Consumer<Response> onHttpResponseRead,
                 Consumer<Throwable> onError,
-                Marshaler marshaler,
+                List<Marshaler> marshalers,
                 int attemptNumber,
                 Supplier<Boolean> isShutdown) {
             this.client = client;
@@ -210,7 +231,7 @@ public ClientRequestSuccessHandler(HttpClient client,
             this.contentLength = contentLength;
             this.onHttpResponseRead = onHttpResponseRead;
             this.onError = onError;
-            this.marshaler = marshaler;
+            this.marshalers = marshalers;
             this.attemptNumber = attemptNumber;
             this.isShutdown = isShutdown;
         }
@@ -285,21 +306,14 @@ public byte[] responseBody() {
             })
                     .putHeader("Content-Type", contentType);
 
-            Buffer buffer = Buffer.buffer(contentLength);
-            OutputStream os = new BufferOutputStream(buffer);
+            ByteBuf body;
+            try {
+                body = MarshalerBuffers.serialize(marshalers, contentLength, compressionEnabled);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
             if (compressionEnabled) {
                 clientRequest.putHeader("Content-Encoding", "gzip");
-                try (var gzos = new GZIPOutputStream(os)) {
-                    marshaler.writeBinaryTo(gzos);
-                } catch (IOException e) {
-                    throw new IllegalStateException(e);
-                }
-            } else {
-                try {
-                    marshaler.writeBinaryTo(os);
-                } catch (IOException e) {
-                    throw new IllegalStateException(e);
-                }
             }
 
             if (!headers.isEmpty()) {
@@ -308,13 +322,19 @@ public byte[] responseBody() {
                 }
             }
 
-            clientRequest.send(buffer);
+            // the response handler is already set, the body can be released once it is written
+            clientRequest.end(Buffer.buffer(body)).onComplete(new Handler<>() {
+                @Override
+                public void handle(AsyncResult<Void> ignored) {
+                    body.release();
+                }
+            });
         }
 
         public ClientRequestSuccessHandler newAttempt() {
             return new ClientRequestSuccessHandler(client, requestURI, headers, compressionEnabled,
                     contentType, contentLength, onHttpResponseRead,
-                    onError, marshaler, attemptNumber + 1, isShutdown);
+                    onError, marshalers, attemptNumber + 1, isShutdown);
         }
     }
 }
@@ -0,0 +1,362 @@
+package io.quarkus.opentelemetry.runtime.tracing;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.internal.DaemonThreadFactory;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.quarkus.opentelemetry.runtime.config.runtime.TailSamplingConfig;
+
+/**
+ * A {@link SpanProcessor} buffering the ended spans of each trace for a while, and handing all the spans of a trace to
+ * its delegate only if the trace is kept by the {@link Policy}.
+ * <p>
+ * The buffer is bounded both in number of traces and in number of spans: when a bound is reached, the decision for the
+ * oldest trace is taken early, with the spans buffered so far, which is reported as an eviction. Spans ending after the
+ * decision for their trace follow that decision, as long as it is still remembered.
+ */
+public class TailSamplingSpanProcessor implements SpanProcessor {
+
+    private static final AttributeKey<String> DECISION = AttributeKey.stringKey("decision");
+    private static final Attributes SAMPLED = Attributes.of(DECISION, "sampled");
+    private static final Attributes DROPPED = Attributes.of(DECISION, "dropped");
+
+    private final SpanProcessor delegate;
+    private final Policy policy;
+    private final long decisionWaitNanos;
+    private final int maxTraces;
+    private final int maxSpans;
+    private final Supplier<MeterProvider> meterProviderSupplier;
+
+    private final ConcurrentHashMap<String, TraceBuffer> traces = new ConcurrentHashMap<>();
+    // the buffers in the order they were created, which is also the order of their deadlines
+    private final ConcurrentLinkedQueue<TraceBuffer> order = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger bufferedTraces = new AtomicInteger();
+    private final AtomicInteger bufferedSpans = new AtomicInteger();
+    private final Map<String, Boolean> decisions;
+    private final ScheduledExecutorService executor;
+
+    private final LongAdder sampledTraces = new LongAdder();
+    private final LongAdder droppedTraces = new LongAdder();
+    private final LongAdder evictedTraces = new LongAdder();
+
+    private volatile Instruments instruments;
+
+    public TailSamplingSpanProcessor(SpanProcessor delegate, TailSamplingConfig config,
+            Supplier<MeterProvider> meterProviderSupplier) {
+        this(delegate, Policy.of(config), config.decisionWait(), config.maxTraces(), config.maxSpans(),
+                meterProviderSupplier);
+    }
+
+    TailSamplingSpanProcessor(SpanProcessor delegate, Policy policy, Duration decisionWait, int maxTraces, int maxSpans,
+            Supplier<MeterProvider> meterProviderSupplier) {
+        this.delegate = delegate;
+        this.policy = policy;
+        this.decisionWaitNanos = decisionWait.toNanos();
+        this.maxTraces = Math.max(1, maxTraces);
+        this.maxSpans = Math.max(1, maxSpans);
+        this.meterProviderSupplier = meterProviderSupplier;
+        int remembered = this.maxTraces;
+        this.decisions = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > remembered;
+            }
+        };
+        this.executor = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("otel-tail-sampling"));
+        long tick = Math.max(TimeUnit.MILLISECONDS.toNanos(10), Math.min(decisionWaitNanos / 10,
+                TimeUnit.MILLISECONDS.toNanos(500)));
+        this.executor.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                decideExpired();
+            }
+        }, tick, tick, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+        delegate.onStart(parentContext, span);
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return delegate.isStartRequired();
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        if (!span.getSpanContext().isSampled()) {
+            return;
+        }
+        String traceId = span.getSpanContext().getTraceId();
+        Boolean[] decision = new Boolean[1];
+        boolean[] created = new boolean[1];
+        // decisions are taken while holding the lock of the entry, so a span is either buffered or sees the decision
+        TraceBuffer buffer = traces.compute(traceId, (id, existing) -> {
+            if (existing == null) {
+                synchronized (decisions) {
+                    decision[0] = decisions.get(id);
+                }
+                if (decision[0] != null) {
+                    return null;
+                }
+                existing = new TraceBuffer(id, System.nanoTime() + decisionWaitNanos);
+                created[0] = true;
+            }
+            existing.spans.add(span);
+            return existing;
+        });
+        if (decision[0] != null) {
+            if (decision[0]) {
+                delegate.onEnd(span);
+            }
+            return;
+        }
+        if (created[0]) {
+            order.add(buffer);
+            bufferedTraces.incrementAndGet();
+        }
+        bufferedSpans.incrementAndGet();
+        while (bufferedTraces.get() > maxTraces || bufferedSpans.get() > maxSpans) {
+            TraceBuffer oldest = order.poll();
+            if (oldest == null) {
+                break;
+            }
+            if (decide(oldest)) {
+                evictedTraces.increment();
+                instruments().evicted.add(1);
+            }
+        }
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        executor.shutdownNow();
+        decideAll();
+        return delegate.shutdown();
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        decideAll();
+        return delegate.forceFlush();
+    }
+
+    long sampledTraces() {
+        return sampledTraces.sum();
+    }
+
+    long droppedTraces() {
+        return droppedTraces.sum();
+    }
+
+    long evictedTraces() {
+        return evictedTraces.sum();
+    }
+
+    int bufferedSpans() {
+        return bufferedSpans.get();
+    }
+
+    void decideExpired() {
+        long now = System.nanoTime();
+        TraceBuffer head;
+        while ((head = order.peek()) != null && now - head.deadline >= 0) {
+            if (order.remove(head)) {
+                decide(head);
+            }
+        }
+    }
+
+    private void decideAll() {
+        TraceBuffer buffer;
+        while ((buffer = order.poll()) != null) {
+            decide(buffer);
+        }
+    }
+
+    /**
+     * @return {@code true} if the decision for the given buffer was taken, {@code false} if it was already taken
+     */
+    private boolean decide(TraceBuffer buffer) {
+        boolean[] sampled = new boolean[1];
+        boolean[] removed = new boolean[1];
+        traces.computeIfPresent(buffer.traceId, (id, existing) -> {
+            if (existing != buffer) {
+                return existing;
+            }
+            sampled[0] = policy.shouldSample(buffer.spans);
+            synchronized (decisions) {
+                decisions.put(id, sampled[0]);
+            }
+            removed[0] = true;
+            return null;
+        });
+        if (!removed[0]) {
+            return false;
+        }
+        bufferedTraces.decrementAndGet();
+        bufferedSpans.addAndGet(-buffer.spans.size());
+        if (sampled[0]) {
+            sampledTraces.increment();
+            instruments().traces.add(1, SAMPLED);
+            for (ReadableSpan span : buffer.spans) {
+                delegate.onEnd(span);
+            }
+        } else {
+            droppedTraces.increment();
+            instruments().traces.add(1, DROPPED);
+        }
+        return true;
+    }
+
+    private Instruments instruments() {
+        Instruments result = instruments;
+        if (result == null) {
+            synchronized (this) {
+                result = instruments;
+                if (result == null) {
+                    // the meter provider is only available once the SDK is initialized, i.e. it is resolved on first use
+                    result = new Instruments(meterProviderSupplier.get().get("io.quarkus.opentelemetry.tail-sampling"));
+                    instruments = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private final class Instruments {
+
+        final LongCounter traces;
+        final LongCounter evicted;
+
+        Instruments(Meter meter) {
+            traces = meter.counterBuilder("otel.tail_sampling.traces")
+                    .setDescription("The number of traces for which a tail sampling decision was taken")
+                    .build();
+            evicted = meter.counterBuilder("otel.tail_sampling.evicted")
+                    .setDescription("The number of traces decided early because the tail sampling buffer was full")
+                    .build();
+            meter.gaugeBuilder("otel.tail_sampling.buffered_spans")
+                    .ofLongs()
+                    .setDescription("The number of spans waiting for a tail sampling decision")
+                    .buildWithCallback(new Consumer<ObservableLongMeasurement>() {
+                        @Override
+                        public void accept(ObservableLongMeasurement measurement) {
+                            measurement.record(bufferedSpans.get());
+                        }
+                    });
+        }
+    }
+
+    private static final class TraceBuffer {
+
+        final String traceId;
+        final long deadline;
+        // only accessed while holding the lock of the map entry, or once the entry was removed
+        final List<ReadableSpan> spans = new ArrayList<>(4);
+
+        TraceBuffer(String traceId, long deadline) {
+            this.traceId = traceId;
+            this.deadline = deadline;
+        }
+    }
+
+    /**
+     * Decides whether a trace is kept: a trace is kept if any of the rules matches, otherwise a ratio of the traces is
+     * kept depending on their trace id.
+     */
+    static final class Policy {
+
+        private final long latencyThresholdNanos;
+        private final boolean keepErrors;
+        private final Map<String, Set<String>> attributes;
+        private final long fallbackBound;
+
+        Policy(Duration latencyThreshold, boolean keepErrors, Map<String, Set<String>> attributes, double fallbackRatio) {
+            if (fallbackRatio < 0.0 || fallbackRatio > 1.0) {
+                throw new IllegalArgumentException("The fallback ratio must be between 0.0 and 1.0: " + fallbackRatio);
+            }
+            this.latencyThresholdNanos = latencyThreshold == null ? Long.MAX_VALUE : latencyThreshold.toNanos();
+            this.keepErrors = keepErrors;
+            this.attributes = attributes;
+            // the same bound as the trace id ratio based sampler of the SDK
+            this.fallbackBound = Math.round(fallbackRatio * Long.MAX_VALUE);
+        }
+
+        static Policy of(TailSamplingConfig config) {
+            Map<String, Set<String>> attributes = new HashMap<>();
+            for (Map.Entry<String, List<String>> entry : config.attributes().entrySet()) {
+                attributes.put(entry.getKey(), Set.copyOf(entry.getValue()));
+            }
+            return new Policy(config.latencyThreshold().orElse(null), config.keepErrors(), attributes,
+                    config.fallbackRatio());
+        }
+
+        boolean shouldSample(List<ReadableSpan> spans) {
+            long start = Long.MAX_VALUE;
+            long end = Long.MIN_VALUE;
+            for (ReadableSpan span : spans) {
+                SpanData data = span.toSpanData();
+                if (keepErrors && data.getStatus().getStatusCode() == StatusCode.ERROR) {
+                    return true;
+                }
+                if (!attributes.isEmpty() && matches(data.getAttributes())) {
+                    return true;
+                }
+                start = Math.min(start, data.getStartEpochNanos());
+                end = Math.max(end, data.getEndEpochNanos());
+            }
+            if (end - start >= latencyThresholdNanos) {
+                return true;
+            }
+            return !spans.isEmpty() && Math.abs(lowerTraceIdBits(spans.get(0))) < fallbackBound;
+        }
+
+        private boolean matches(Attributes spanAttributes) {
+            for (Map.Entry<AttributeKey<?>, Object> attribute : spanAttributes.asMap().entrySet()) {
+                Set<String> values = attributes.get(attribute.getKey().getKey());
+                if (values != null && values.contains(String.valueOf(attribute.getValue()))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static long lowerTraceIdBits(ReadableSpan span) {
+            return Long.parseUnsignedLong(span.getSpanContext().getTraceId().substring(16), 16);
+        }
+    }
+}
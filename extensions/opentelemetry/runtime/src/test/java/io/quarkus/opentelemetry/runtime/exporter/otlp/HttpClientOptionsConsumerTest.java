@@ -71,6 +71,16 @@ public Duration timeout() {
                 return Duration.ofMillis(100);
             }
 
+            @Override
+            public int maxConcurrentExports() {
+                return 2;
+            }
+
+            @Override
+            public int maxQueuedExports() {
+                return 32;
+            }
+
             @Override
             public Optional<String> protocol() {
                 return Optional.empty();
@@ -156,6 +156,16 @@ public Duration timeout() {
                 return null;
             }
 
+            @Override
+            public int maxConcurrentExports() {
+                return 2;
+            }
+
+            @Override
+            public int maxQueuedExports() {
+                return 32;
+            }
+
             @Override
             public Optional<String> protocol() {
                 return Optional.empty();
@@ -204,6 +214,16 @@ public Duration timeout() {
                         return null;
                     }
 
+                    @Override
+                    public int maxConcurrentExports() {
+                        return 2;
+                    }
+
+                    @Override
+                    public int maxQueuedExports() {
+                        return 32;
+                    }
+
                     @Override
                     public Optional<String> protocol() {
                         return Optional.empty();
@@ -304,6 +324,16 @@ public Duration timeout() {
                         return null;
                     }
 
+                    @Override
+                    public int maxConcurrentExports() {
+                        return 2;
+                    }
+
+                    @Override
+                    public int maxQueuedExports() {
+                        return 32;
+                    }
+
                     @Override
                     public Optional<String> protocol() {
                         return Optional.empty();
@@ -370,6 +400,16 @@ public Duration timeout() {
                         return null;
                     }
 
+                    @Override
+                    public int maxConcurrentExports() {
+                        return 2;
+                    }
+
+                    @Override
+                    public int maxQueuedExports() {
+                        return 32;
+                    }
+
                     @Override
                     public Optional<String> protocol() {
                         return Optional.empty();
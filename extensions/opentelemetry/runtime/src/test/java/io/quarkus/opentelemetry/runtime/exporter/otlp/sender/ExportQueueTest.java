@@ -0,0 +1,138 @@
+package io.quarkus.opentelemetry.runtime.exporter.otlp.sender;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.marshal.Serializer;
+
+class ExportQueueTest {
+
+    @Test
+    void limitsExportsInFlight() {
+        RecordingDispatcher dispatcher = new RecordingDispatcher();
+        ExportQueue<String> queue = new ExportQueue<>(2, 10, true, dispatcher, "span", MeterProvider::noop);
+
+        queue.submit(new TestMarshaler(), 10, ignored(), ignored());
+        queue.submit(new TestMarshaler(), 10, ignored(), ignored());
+        queue.submit(new TestMarshaler(), 10, ignored(), ignored());
+
+        assertThat(dispatcher.requests, hasSize(2));
+        assertThat(queue.queued(), is(1));
+
+        dispatcher.requests.get(0).onSuccess.accept("ok");
+        assertThat(dispatcher.requests, hasSize(3));
+        assertThat(queue.queued(), is(0));
+    }
+
+    @Test
+    void coalescesQueuedExports() {
+        RecordingDispatcher dispatcher = new RecordingDispatcher();
+        ExportQueue<String> queue = new ExportQueue<>(1, 10, true, dispatcher, "span", MeterProvider::noop);
+        List<String> responses = new ArrayList<>();
+
+        queue.submit(new TestMarshaler(), 10, responses::add, ignored());
+        queue.submit(new TestMarshaler(), 20, responses::add, ignored());
+        queue.submit(new TestMarshaler(), 30, responses::add, ignored());
+
+        dispatcher.requests.get(0).onSuccess.accept("first");
+        assertThat(dispatcher.requests, hasSize(2));
+        Request coalesced = dispatcher.requests.get(1);
+        assertThat(coalesced.marshalers, hasSize(2));
+        assertThat(coalesced.size, is(50));
+
+        coalesced.onSuccess.accept("second");
+        assertThat(responses, contains("first", "second", "second"));
+    }
+
+    @Test
+    void sendsJsonExportsOneByOne() {
+        RecordingDispatcher dispatcher = new RecordingDispatcher();
+        ExportQueue<String> queue = new ExportQueue<>(1, 10, false, dispatcher, "span", MeterProvider::noop);
+
+        queue.submit(new TestMarshaler(), 10, ignored(), ignored());
+        queue.submit(new TestMarshaler(), 10, ignored(), ignored());
+        queue.submit(new TestMarshaler(), 10, ignored(), ignored());
+
+        dispatcher.requests.get(0).onError.accept(new IllegalStateException());
+        assertThat(dispatcher.requests, hasSize(2));
+        assertThat(dispatcher.requests.get(1).marshalers, hasSize(1));
+        assertThat(queue.queued(), is(1));
+    }
+
+    @Test
+    void dropsExportsWhenQueueIsFull() {
+        RecordingDispatcher dispatcher = new RecordingDispatcher();
+        ExportQueue<String> queue = new ExportQueue<>(1, 1, true, dispatcher, "span", MeterProvider::noop);
+        List<Throwable> failures = new ArrayList<>();
+
+        queue.submit(new TestMarshaler(), 10, ignored(), failures::add);
+        queue.submit(new TestMarshaler(), 10, ignored(), failures::add);
+        assertThat(failures, empty());
+
+        queue.submit(new TestMarshaler(), 10, ignored(), failures::add);
+        assertThat(failures, hasSize(1));
+        assertThat(failures.get(0), instanceOf(RejectedExecutionException.class));
+    }
+
+    @Test
+    void failsQueuedExportsOnShutdown() {
+        RecordingDispatcher dispatcher = new RecordingDispatcher();
+        ExportQueue<String> queue = new ExportQueue<>(1, 10, true, dispatcher, "span", MeterProvider::noop);
+        List<Throwable> failures = new ArrayList<>();
+
+        queue.submit(new TestMarshaler(), 10, ignored(), failures::add);
+        queue.submit(new TestMarshaler(), 10, ignored(), failures::add);
+        queue.shutdown();
+
+        assertThat(failures, hasSize(1));
+        assertThat(failures.get(0), instanceOf(IllegalStateException.class));
+
+        queue.submit(new TestMarshaler(), 10, ignored(), failures::add);
+        assertThat(dispatcher.requests, hasSize(1));
+    }
+
+    private static <T> Consumer<T> ignored() {
+        return t -> {
+        };
+    }
+
+    private record Request(List<Marshaler> marshalers, int size, Consumer<String> onSuccess,
+            Consumer<Throwable> onError) {
+    }
+
+    private static class RecordingDispatcher implements ExportQueue.Dispatcher<String> {
+
+        final List<Request> requests = new ArrayList<>();
+
+        @Override
+        public void dispatch(List<Marshaler> marshalers, int size, Consumer<String> onSuccess,
+                Consumer<Throwable> onError) {
+            requests.add(new Request(marshalers, size, onSuccess, onError));
+        }
+    }
+
+    private static class TestMarshaler extends Marshaler {
+
+        @Override
+        public int getBinarySerializedSize() {
+            return 0;
+        }
+
+        @Override
+        protected void writeTo(Serializer output) {
+        }
+    }
+}
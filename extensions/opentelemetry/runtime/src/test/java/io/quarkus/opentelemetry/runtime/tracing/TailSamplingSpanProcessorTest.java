@@ -0,0 +1,188 @@
+package io.quarkus.opentelemetry.runtime.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+
+class TailSamplingSpanProcessorTest {
+
+    private final RecordingSpanProcessor exported = new RecordingSpanProcessor();
+    private SdkTracerProvider tracerProvider;
+
+    @AfterEach
+    void close() {
+        if (tracerProvider != null) {
+            tracerProvider.close();
+        }
+    }
+
+    @Test
+    void keepsTracesWithErrors() {
+        TailSamplingSpanProcessor processor = processor(new TailSamplingSpanProcessor.Policy(null, true, Map.of(), 0.0),
+                100, 100);
+        Tracer tracer = tracer(processor);
+
+        Span parent = tracer.spanBuilder("parent").startSpan();
+        try (Scope ignored = parent.makeCurrent()) {
+            tracer.spanBuilder("child").startSpan().setStatus(StatusCode.ERROR).end();
+        }
+        parent.end();
+        tracer.spanBuilder("ok").startSpan().end();
+        assertEquals(0, exported.spans.size());
+
+        processor.forceFlush();
+        assertEquals(List.of("child", "parent"), exported.names());
+        assertEquals(1, processor.sampledTraces());
+        assertEquals(1, processor.droppedTraces());
+        assertEquals(0, processor.bufferedSpans());
+    }
+
+    @Test
+    void keepsSlowTraces() {
+        TailSamplingSpanProcessor processor = processor(
+                new TailSamplingSpanProcessor.Policy(Duration.ofMillis(100), false, Map.of(), 0.0), 100, 100);
+        Tracer tracer = tracer(processor);
+
+        Span slow = tracer.spanBuilder("slow").setStartTimestamp(1000, TimeUnit.MILLISECONDS).startSpan();
+        slow.end(1200, TimeUnit.MILLISECONDS);
+        Span fast = tracer.spanBuilder("fast").setStartTimestamp(1000, TimeUnit.MILLISECONDS).startSpan();
+        fast.end(1050, TimeUnit.MILLISECONDS);
+
+        processor.forceFlush();
+        assertEquals(List.of("slow"), exported.names());
+    }
+
+    @Test
+    void keepsTracesWithMatchingAttributes() {
+        TailSamplingSpanProcessor processor = processor(
+                new TailSamplingSpanProcessor.Policy(null, false, Map.of("http.route", Set.of("/orders")), 0.0), 100,
+                100);
+        Tracer tracer = tracer(processor);
+
+        tracer.spanBuilder("orders").setAttribute("http.route", "/orders").startSpan().end();
+        tracer.spanBuilder("health").setAttribute("http.route", "/health").startSpan().end();
+
+        processor.forceFlush();
+        assertEquals(List.of("orders"), exported.names());
+    }
+
+    @Test
+    void keepsAllTracesWithFullFallbackRatio() {
+        TailSamplingSpanProcessor processor = processor(new TailSamplingSpanProcessor.Policy(null, false, Map.of(), 1.0),
+                100, 100);
+        Tracer tracer = tracer(processor);
+
+        tracer.spanBuilder("first").startSpan().end();
+        tracer.spanBuilder("second").startSpan().end();
+
+        processor.forceFlush();
+        assertEquals(2, exported.spans.size());
+    }
+
+    @Test
+    void decidesOldestTraceEarlyWhenFull() {
+        TailSamplingSpanProcessor processor = processor(new TailSamplingSpanProcessor.Policy(null, true, Map.of(), 0.0),
+                100, 2);
+        Tracer tracer = tracer(processor);
+
+        tracer.spanBuilder("first").startSpan().setStatus(StatusCode.ERROR).end();
+        tracer.spanBuilder("second").startSpan().end();
+        assertEquals(0, processor.evictedTraces());
+
+        tracer.spanBuilder("third").startSpan().end();
+        assertEquals(1, processor.evictedTraces());
+        assertEquals(List.of("first"), exported.names());
+        assertEquals(2, processor.bufferedSpans());
+    }
+
+    @Test
+    void lateSpansFollowTheDecision() {
+        TailSamplingSpanProcessor processor = processor(new TailSamplingSpanProcessor.Policy(null, true, Map.of(), 0.0),
+                100, 100);
+        Tracer tracer = tracer(processor);
+
+        Span parent = tracer.spanBuilder("parent").startSpan();
+        Span late = tracer.spanBuilder("late").setParent(Context.current().with(parent)).startSpan();
+        parent.setStatus(StatusCode.ERROR).end();
+        processor.forceFlush();
+        assertEquals(List.of("parent"), exported.names());
+
+        late.end();
+        assertEquals(List.of("parent", "late"), exported.names());
+        assertEquals(0, processor.bufferedSpans());
+    }
+
+    @Test
+    void decidesOnceTheDecisionWaitElapsed() throws InterruptedException {
+        TailSamplingSpanProcessor processor = new TailSamplingSpanProcessor(exported,
+                new TailSamplingSpanProcessor.Policy(null, true, Map.of(), 0.0), Duration.ofMillis(50), 100, 100,
+                MeterProvider::noop);
+        Tracer tracer = tracer(processor);
+
+        tracer.spanBuilder("error").startSpan().setStatus(StatusCode.ERROR).end();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (exported.spans.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(List.of("error"), exported.names());
+        assertTrue(processor.sampledTraces() > 0);
+    }
+
+    private TailSamplingSpanProcessor processor(TailSamplingSpanProcessor.Policy policy, int maxTraces, int maxSpans) {
+        return new TailSamplingSpanProcessor(exported, policy, Duration.ofHours(1), maxTraces, maxSpans,
+                MeterProvider::noop);
+    }
+
+    private Tracer tracer(SpanProcessor processor) {
+        tracerProvider = SdkTracerProvider.builder().addSpanProcessor(processor).build();
+        return tracerProvider.get("test");
+    }
+
+    private static class RecordingSpanProcessor implements SpanProcessor {
+
+        final List<ReadableSpan> spans = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onStart(Context parentContext, ReadWriteSpan span) {
+        }
+
+        @Override
+        public boolean isStartRequired() {
+            return false;
+        }
+
+        @Override
+        public void onEnd(ReadableSpan span) {
+            spans.add(span);
+        }
+
+        @Override
+        public boolean isEndRequired() {
+            return true;
+        }
+
+        List<String> names() {
+            return spans.stream().map(ReadableSpan::getName).toList();
+        }
+    }
+}
@@ -77,6 +77,7 @@
 import io.quarkus.arc.processor.BuiltinScope;
 import io.quarkus.arc.processor.DotNames;
 import io.quarkus.arc.processor.InjectionPointInfo;
+import io.quarkus.arc.processor.ObserverInfo;
 import io.quarkus.arc.processor.QualifierRegistrar;
 import io.quarkus.deployment.ApplicationArchive;
 import io.quarkus.deployment.Feature;
@@ -86,10 +87,12 @@
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
+import io.quarkus.deployment.builditem.ApplicationIndexBuildItem;
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.HotDeploymentWatchedFileBuildItem;
+import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.LiveReloadBuildItem;
 import io.quarkus.deployment.builditem.ServiceStartBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
@@ -139,6 +142,7 @@
 import io.quarkus.qute.deployment.TypeInfos.Info;
 import io.quarkus.qute.deployment.TypeInfos.TypeInfo;
 import io.quarkus.qute.deployment.Types.AssignabilityCheck;
+import io.quarkus.qute.generator.CompiledTemplateGenerator;
 import io.quarkus.qute.generator.ExtensionMethodGenerator;
 import io.quarkus.qute.generator.ExtensionMethodGenerator.NamespaceResolverCreator;
 import io.quarkus.qute.generator.ExtensionMethodGenerator.NamespaceResolverCreator.ResolveCreator;
@@ -160,6 +164,7 @@
 import io.quarkus.qute.runtime.extensions.StringTemplateExtensions;
 import io.quarkus.qute.runtime.extensions.TimeTemplateExtensions;
 import io.quarkus.qute.runtime.test.RenderedResultsCreator;
+import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.util.StringUtil;
 
 public class QuteProcessor {
@@ -2207,6 +2212,72 @@ private String toKey(MethodInfo extensionMethod) {
         }
     }
 
+    @BuildStep
+    void compileTemplates(QuteConfig config, LaunchModeBuildItem launchMode, BeanArchiveIndexBuildItem beanArchiveIndex,
+            ApplicationIndexBuildItem applicationIndex,
+            SynthesisFinishedBuildItem synthesisFinished,
+            TemplatesAnalysisBuildItem templatesAnalysis,
+            List<TemplateExtensionMethodBuildItem> templateExtensionMethods,
+            List<IncorrectExpressionBuildItem> incorrectExpressions,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass,
+            BuildProducer<CompiledTemplateBuildItem> compiledTemplates) {
+        if (!config.compileTemplates() || launchMode.getLaunchMode() == LaunchMode.DEVELOPMENT
+                || !incorrectExpressions.isEmpty()) {
+            // Templates are not compiled in the dev mode so that the changes are reflected immediately
+            return;
+        }
+        // A compiled template invokes the members directly and would bypass a custom value resolver; the value resolvers
+        // registered by an EngineBuilder observer are not known at build time
+        IndexView appIndex = applicationIndex.getIndex();
+        Optional<BeanInfo> customResolver = synthesisFinished.beanStream().withBeanType(Names.VALUE_RESOLVER)
+                .filter(b -> appIndex.getClassByName(b.getBeanClass()) != null).firstResult();
+        if (customResolver.isPresent()) {
+            LOGGER.infof("Templates are not compiled - a custom value resolver is registered: %s", customResolver.get());
+            return;
+        }
+        Optional<ObserverInfo> engineObserver = synthesisFinished.getObservers().stream()
+                .filter(o -> o.getObservedType().name().equals(Names.ENGINE_BUILDER)
+                        && appIndex.getClassByName(o.getBeanClass()) != null)
+                .findFirst();
+        if (engineObserver.isPresent()) {
+            LOGGER.infof("Templates are not compiled - the engine is customized by an observer of EngineBuilder: %s",
+                    engineObserver.get());
+            return;
+        }
+        // A property that may be resolved by an extension method cannot be compiled to a direct member access
+        List<TemplateExtensionMethodBuildItem> regularExtensionMethods = templateExtensionMethods.stream()
+                .filter(Predicate.not(TemplateExtensionMethodBuildItem::hasNamespace))
+                .collect(Collectors.toList());
+        CompiledTemplateGenerator generator = CompiledTemplateGenerator.builder()
+                .setIndex(beanArchiveIndex.getIndex())
+                .setClassOutput(new GeneratedClassGizmoAdaptor(generatedClasses, true))
+                .setSkipProperty(name -> regularExtensionMethods.stream().anyMatch(m -> m.matchesName(name)))
+                .build();
+
+        for (TemplateAnalysis templateAnalysis : templatesAnalysis.getAnalysis()) {
+            if (templateAnalysis.id != null || templateAnalysis.path.startsWith(TemplatePathBuildItem.TAGS)
+                    || templateAnalysis.parameterDeclarations.isEmpty()) {
+                // Only type-safe file-based templates are compiled; message bundle templates and tags are always interpreted
+                continue;
+            }
+            Map<String, Type> parameterTypes = new HashMap<>();
+            for (ParameterDeclaration paramDeclaration : templateAnalysis.parameterDeclarations) {
+                Type type = TypeInfos.resolveTypeFromTypeInfo(paramDeclaration.getTypeInfo());
+                if (type != null) {
+                    parameterTypes.put(paramDeclaration.getKey(), type);
+                }
+            }
+            String className = generator.generate(templateAnalysis.path, templateAnalysis.getNodes(),
+                    templateAnalysis.expressions, parameterTypes);
+            if (className != null) {
+                LOGGER.debugf("Template %s compiled to %s", templateAnalysis.path, className);
+                compiledTemplates.produce(new CompiledTemplateBuildItem(templateAnalysis.path, className));
+                reflectiveClass.produce(ReflectiveClassBuildItem.builder(className).build());
+            }
+        }
+    }
+
     @BuildStep
     void collectTemplates(ApplicationArchivesBuildItem applicationArchives,
             CurateOutcomeBuildItem curateOutcome,
@@ -2654,12 +2725,15 @@ void initialize(BuildProducer<SyntheticBeanBuildItem> syntheticBeans, QuteRecord
     @Record(value = STATIC_INIT)
     void initializeGeneratedClasses(BeanContainerBuildItem beanContainer, QuteRecorder recorder,
             List<GeneratedValueResolverBuildItem> generatedValueResolvers,
-            List<TemplateGlobalProviderBuildItem> templateInitializers) {
+            List<TemplateGlobalProviderBuildItem> templateInitializers,
+            List<CompiledTemplateBuildItem> compiledTemplates) {
         // The generated classes must be initialized after the template expressions are validated in order to break the cycle in the build chain
         recorder.initializeGeneratedClasses(generatedValueResolvers.stream()
                 .map(GeneratedValueResolverBuildItem::getClassName).collect(Collectors.toList()),
                 templateInitializers.stream()
-                        .map(TemplateGlobalProviderBuildItem::getClassName).collect(Collectors.toList()));
+                        .map(TemplateGlobalProviderBuildItem::getClassName).collect(Collectors.toList()),
+                compiledTemplates.stream()
+                        .map(CompiledTemplateBuildItem::getClassName).collect(Collectors.toList()));
     }
 
     @BuildStep
@@ -0,0 +1,67 @@
+package io.quarkus.qute.deployment.typesafe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import jakarta.inject.Singleton;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.CheckedTemplate;
+import io.quarkus.qute.CompletedStage;
+import io.quarkus.qute.EvalContext;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.qute.ValueResolver;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CompiledTemplateCustomResolverTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Templates.class, Item.class, OtherItem.class, UpperCaseNameResolver.class)
+                    .addAsResource(new StringAsset("{#for item in items}{item.name}{/for}"),
+                            "templates/CompiledTemplateCustomResolverTest/items.html"))
+            .overrideConfigKey("quarkus.qute.compile-templates", "true");
+
+    @Test
+    public void testCustomResolverIsNotBypassed() {
+        // The template is not compiled because the compiled code would bypass the custom value resolver
+        assertThrows(ClassNotFoundException.class, () -> Thread.currentThread().getContextClassLoader()
+                .loadClass("io.quarkus.qute.generated.CompiledTemplateCustomResolverTest_items_html_CompiledTemplate"));
+        assertEquals("FOOBAR", Templates.items(List.of(new Item("foo"), new Item("bar"))).render());
+    }
+
+    @CheckedTemplate
+    static class Templates {
+
+        static native TemplateInstance items(List<Item> items);
+
+    }
+
+    @Singleton
+    public static class UpperCaseNameResolver implements ValueResolver {
+
+        @Override
+        public int getPriority() {
+            return DEFAULT_PRIORITY + 100;
+        }
+
+        @Override
+        public boolean appliesTo(EvalContext context) {
+            return context.getBase() instanceof Item && context.getName().equals("name");
+        }
+
+        @Override
+        public CompletionStage<Object> resolve(EvalContext context) {
+            return CompletedStage.of(((Item) context.getBase()).getName().toUpperCase());
+        }
+
+    }
+
+}
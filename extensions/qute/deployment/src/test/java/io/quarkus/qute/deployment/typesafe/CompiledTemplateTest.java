@@ -0,0 +1,122 @@
+package io.quarkus.qute.deployment.typesafe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.StackWalker.Option;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.CheckedTemplate;
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CompiledTemplateTest {
+
+    static final String COMPILED_CLASS = "io.quarkus.qute.generated.CompiledTemplateTest_items_html_CompiledTemplate";
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Templates.class, Product.class, OtherProduct.class)
+                    .addAsResource(new StringAsset("<h1>{title}</h1>{#for product in products}"
+                            + "<li>{product.name}{#if product.id} ({product.id}){/if}</li>"
+                            + "{#else}No products{/for}"), "templates/CompiledTemplateTest/items.html")
+                    .addAsResource(new StringAsset("{#let upper=title.toUpperCase}{upper}{/let}"),
+                            "templates/CompiledTemplateTest/unsupported.html"))
+            .overrideConfigKey("quarkus.qute.compile-templates", "true");
+
+    @BeforeEach
+    void reset() {
+        Product.CALLERS.clear();
+    }
+
+    @Test
+    public void testCompiledTemplate() throws ClassNotFoundException {
+        Class<?> compiledClass = Thread.currentThread().getContextClassLoader().loadClass(COMPILED_CLASS);
+        assertTrue(CompiledTemplate.class.isAssignableFrom(compiledClass));
+
+        assertEquals("<h1>Items</h1><li>&lt;Foo&gt; (1)</li><li>Bar (2)</li>",
+                Templates.items("Items", List.of(new Product("<Foo>", 1), new Product("Bar", 2))).render());
+        // The getters were invoked by the compiled template, not by the generated value resolvers of the interpreter
+        assertEquals(Set.of(compiledClass), Product.CALLERS);
+
+        assertEquals("<h1>&amp;</h1>No products", Templates.items("&", List.of()).render());
+        // Null values are ignored
+        assertEquals("<h1></h1>", Templates.items(null, null).render());
+        // Not compiled, rendered by the interpreter
+        assertEquals("FOO", Templates.unsupported("foo").render());
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Test
+    public void testFallbackToInterpreter() throws ClassNotFoundException {
+        Class<?> compiledClass = Thread.currentThread().getContextClassLoader().loadClass(COMPILED_CLASS);
+        // The second element does not match the declared type, the template is rendered by the interpreter
+        List<Product> products = (List) List.of(new Product("Foo", 1), new OtherProduct("Bar", 2));
+        assertEquals("<h1>Items</h1><li>Foo (1)</li><li>Bar (2)</li>", Templates.items("Items", products).render());
+        assertTrue(Product.CALLERS.contains(compiledClass), "Compiled template not used: " + Product.CALLERS);
+        assertTrue(Product.CALLERS.stream().anyMatch(c -> !c.equals(compiledClass)),
+                "Interpreter not used: " + Product.CALLERS);
+    }
+
+    @CheckedTemplate
+    static class Templates {
+
+        static native TemplateInstance items(String title, List<Product> products);
+
+        static native TemplateInstance unsupported(String title);
+
+    }
+
+    public static class Product {
+
+        static final Set<Class<?>> CALLERS = new CopyOnWriteArraySet<>();
+
+        private final String name;
+        private final int id;
+
+        public Product(String name, int id) {
+            this.name = name;
+            this.id = id;
+        }
+
+        public String getName() {
+            CALLERS.add(StackWalker.getInstance(Option.RETAIN_CLASS_REFERENCE).getCallerClass());
+            return name;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+    }
+
+    public static class OtherProduct {
+
+        private final String name;
+        private final int id;
+
+        public OtherProduct(String name, int id) {
+            this.name = name;
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+    }
+
+}
@@ -95,6 +95,20 @@ public interface QuteConfig {
     @WithDefault("PRIORITIZE")
     DuplicitTemplatesStrategy duplicitTemplatesStrategy();
 
+    /**
+     * If set to {@code true} then type-safe templates are compiled to bytecode at build time if possible.
+     * <p>
+     * A compiled template is rendered synchronously, without the interpreter. Only a subset of templates can be compiled:
+     * text, output expressions that reference public members of public classes, {@code #for}/{@code #each} sections that
+     * iterate over an {@link Iterable} and {@code #if} sections with a single operand. Other templates, and also compiled
+     * templates that cannot handle the data of a specific template instance, are rendered by the interpreter.
+     * <p>
+     * Templates are not compiled if the application registers a custom value resolver bean or observes the
+     * {@link io.quarkus.qute.EngineBuilder} event. Templates are never compiled in the development mode.
+     */
+    @WithDefault("false")
+    boolean compileTemplates();
+
     /**
      * Development mode configuration.
      */
@@ -0,0 +1,176 @@
+package io.quarkus.cache.redis.deployment;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.redis.runtime.RedisCacheInfo;
+import io.quarkus.cache.redis.runtime.RedisNearCacheImpl;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Redis;
+
+public class NearRedisCacheTest {
+
+    private static final String KEY_1 = "1";
+    private static final String KEY_2 = "2";
+    private static final String KEY_3 = "3";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(SimpleCachedService.class, TestUtil.class))
+            .overrideConfigKey("quarkus.cache.redis.test-cache.near-cache.enabled", "true")
+            .overrideConfigKey("quarkus.cache.redis.test-cache.near-cache.maximum-size", "100");
+
+    @Inject
+    SimpleCachedService simpleCachedService;
+
+    @CacheName(SimpleCachedService.CACHE_NAME)
+    Cache cache;
+
+    @Inject
+    RedisDataSource redisDataSource;
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    Redis redis;
+
+    @Test
+    public void testNearCache() {
+        RedisNearCacheImpl nearCache = cache.as(RedisNearCacheImpl.class);
+        await().atMost(Duration.ofSeconds(10)).until(nearCache::isNearCacheActive);
+
+        // STEP 1
+        // Action: @CacheResult-annotated method call.
+        // Expected effect: method invoked and result cached in Redis and in the near cache.
+        // Verified by: STEP 2.
+        String value1 = simpleCachedService.cachedMethod(KEY_1);
+        assertEquals(value1, redisDataSource.value(String.class).get(expectedCacheKey(KEY_1)));
+
+        // STEP 2
+        // Action: the entry is removed from Redis behind the back of the cache, then same call as STEP 1.
+        // Expected effect: method not invoked and result coming from the near cache.
+        // Verified by: same value between STEPS 1 and 2 results.
+        redisDataSource.key().del(expectedCacheKey(KEY_1));
+        String value2 = simpleCachedService.cachedMethod(KEY_1);
+        assertEquals(value1, value2);
+
+        // STEP 3
+        // Action: cache entry invalidation.
+        // Expected effect: entry removed from Redis and from the near cache.
+        // Verified by: different values between STEPS 2 and 3 results.
+        simpleCachedService.invalidate(KEY_1);
+        String value3 = simpleCachedService.cachedMethod(KEY_1);
+        assertNotEquals(value2, value3);
+    }
+
+    @Test
+    public void testInvalidationFromAnotherInstance() {
+        RedisNearCacheImpl nearCache = cache.as(RedisNearCacheImpl.class);
+        await().atMost(Duration.ofSeconds(10)).until(nearCache::isNearCacheActive);
+
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = SimpleCachedService.CACHE_NAME;
+        info.nearCacheEnabled = true;
+        RedisNearCacheImpl otherInstance = new RedisNearCacheImpl(info, vertx, redis, () -> true);
+        await().atMost(Duration.ofSeconds(10)).until(otherInstance::isNearCacheActive);
+
+        String value1 = simpleCachedService.cachedMethod(KEY_2);
+        assertNotNull(nearCache.getNearCache().getIfPresent(expectedCacheKey(KEY_2)));
+
+        // An invalidation done by another instance is propagated to the near cache of this instance
+        otherInstance.invalidate(KEY_2).await().indefinitely();
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> nearCache.getNearCache().getIfPresent(expectedCacheKey(KEY_2)) == null);
+        assertNull(redisDataSource.value(String.class).get(expectedCacheKey(KEY_2)));
+
+        String value2 = simpleCachedService.cachedMethod(KEY_2);
+        assertNotEquals(value1, value2);
+
+        // A put done by another instance evicts the stale entry from the near cache of this instance
+        otherInstance.put(KEY_2, "foo").await().indefinitely();
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> nearCache.getNearCache().getIfPresent(expectedCacheKey(KEY_2)) == null);
+        assertEquals("foo", simpleCachedService.cachedMethod(KEY_2));
+        assertTrue(nearCache.getNearCache().keySet().contains(expectedCacheKey(KEY_2)));
+    }
+
+    @Test
+    public void testPutWithSupplierIsLazy() {
+        RedisNearCacheImpl nearCache = cache.as(RedisNearCacheImpl.class);
+        AtomicBoolean supplied = new AtomicBoolean();
+        Uni<Void> put = nearCache.put(KEY_3, () -> {
+            supplied.set(true);
+            return "bar";
+        });
+        assertFalse(supplied.get());
+
+        put.await().indefinitely();
+        assertTrue(supplied.get());
+        assertEquals("bar", redisDataSource.value(String.class).get(expectedCacheKey(KEY_3)));
+    }
+
+    @Test
+    public void testNearCacheExpiresWithRedis() {
+        // Redis does not publish an invalidation when an entry expires, so the near cache must not outlive the Redis TTL
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "near-expire-after-write";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(1));
+        info.nearCacheEnabled = true;
+        assertExpiresWithRedis(info, false);
+
+        // The near cache hits do not refresh the expire-after-access TTL of the Redis entry
+        info = new RedisCacheInfo();
+        info.name = "near-expire-after-access";
+        info.valueType = String.class;
+        info.expireAfterAccess = Optional.of(Duration.ofSeconds(1));
+        info.nearCacheEnabled = true;
+        assertExpiresWithRedis(info, true);
+    }
+
+    private void assertExpiresWithRedis(RedisCacheInfo info, boolean storedInRedis) {
+        String key = UUID.randomUUID().toString();
+        String redisKey = "cache:" + info.name + ":" + key;
+        RedisNearCacheImpl nearCache = new RedisNearCacheImpl(info, vertx, redis, () -> true);
+        await().atMost(Duration.ofSeconds(10)).until(nearCache::isNearCacheActive);
+        if (storedInRedis) {
+            // The expire-after-access TTL is set when the entry is read from Redis
+            redisDataSource.value(String.class).set(redisKey, "foo");
+        }
+
+        assertEquals("foo", nearCache.get(key, k -> "foo").await().indefinitely());
+        assertNotNull(nearCache.getNearCache().getIfPresent(redisKey));
+        // Served from the near cache
+        assertEquals("foo", nearCache.get(key, k -> "bar").await().indefinitely());
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> !redisDataSource.key().exists(redisKey));
+        await().atMost(Duration.ofSeconds(10)).until(() -> nearCache.getNearCache().getIfPresent(redisKey) == null);
+        // A miss, the value is computed again
+        assertEquals("bar", nearCache.get(key, k -> "bar").await().indefinitely());
+    }
+
+    private static String expectedCacheKey(String key) {
+        return "cache:" + SimpleCachedService.CACHE_NAME + ":" + key;
+    }
+}
@@ -2,6 +2,7 @@
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -9,6 +10,7 @@
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -105,6 +107,52 @@ public void testPutInTheCache() {
         assertThat(r).isNotNull();
     }
 
+    @Test
+    public void testGetAll() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "foo";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        List<Set<String>> loads = new ArrayList<>();
+
+        assertThat(cache.<String, String> getAll(List.of("a", "b"), keys -> {
+            loads.add(keys);
+            return Map.of("a", "A", "b", "B");
+        }).await().indefinitely()).containsOnly(entry("a", "A"), entry("b", "B"));
+        assertThat(loads).containsExactly(Set.of("a", "b"));
+
+        assertThat(cache.<String, String> getAllAsync(List.of("a", "b", "c", "missing"), keys -> {
+            loads.add(keys);
+            return Uni.createFrom().item(Map.of("c", "C"));
+        }).await().indefinitely()).containsOnly(entry("a", "A"), entry("b", "B"), entry("c", "C"));
+        assertThat(loads).containsExactly(Set.of("a", "b"), Set.of("c", "missing"));
+
+        var r = redis.send(Request.cmd(Command.MGET).arg("cache:foo:a").arg("cache:foo:c").arg("cache:foo:missing"))
+                .await().indefinitely();
+        assertThat(r.get(0).toString()).isEqualTo("A");
+        assertThat(r.get(1).toString()).isEqualTo("C");
+        assertThat(r.get(2)).isNull();
+        var ttl = redis.send(Request.cmd(Command.TTL).arg("cache:foo:c")).await().indefinitely();
+        assertThat(ttl.toLong()).isPositive();
+    }
+
+    @Test
+    public void testPutAllAndInvalidateAll() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "foo";
+        info.valueType = String.class;
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        cache.putAll(Map.of("a", "A", "b", "B", "c", "C")).await().indefinitely();
+        assertThat(cache.<String, String> getOrNull("b").await().indefinitely()).isEqualTo("B");
+
+        cache.invalidateAll(List.of("a", "b", "unknown")).await().indefinitely();
+        assertThat(cache.<String, String> getOrNull("a").await().indefinitely()).isNull();
+        assertThat(cache.<String, String> getOrNull("b").await().indefinitely()).isNull();
+        assertThat(cache.<String, String> getOrNull("c").await().indefinitely()).isEqualTo("C");
+    }
+
     @Test
     public void testExhaustConnectionPool() {
         String redisUrl = ConfigProvider.getConfig().getValue("quarkus.redis.hosts", String.class);
@@ -0,0 +1,90 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.redis.datasource.pubsub.ReactivePubSubCommands;
+import io.quarkus.redis.runtime.datasource.ReactiveRedisDataSourceImpl;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisAPI;
+
+/**
+ * Publishes and receives the invalidation messages of all the near caches backed by the same Redis client. The invalidation
+ * channels of all the near caches are subscribed with a single subscription, i.e. a single pub/sub connection.
+ */
+class NearCacheInvalidations {
+
+    private static final Logger log = Logger.getLogger(NearCacheInvalidations.class);
+
+    private final ReactivePubSubCommands<String> pubsub;
+    // channel -> near cache
+    private final Map<String, RedisNearCacheImpl> caches = new ConcurrentHashMap<>();
+
+    NearCacheInvalidations(Vertx vertx, Redis redis) {
+        this.pubsub = new ReactiveRedisDataSourceImpl(vertx, redis, RedisAPI.api(redis)).pubsub(String.class);
+    }
+
+    void register(String channel, RedisNearCacheImpl cache) {
+        caches.put(channel, cache);
+    }
+
+    Uni<Void> publish(String channel, String message) {
+        return pubsub.publish(channel, message);
+    }
+
+    /**
+     * Subscribes to the channels of all the registered near caches. The near caches are used once the subscription is
+     * established.
+     */
+    void subscribe() {
+        if (caches.isEmpty()) {
+            return;
+        }
+        List<String> channels = List.copyOf(caches.keySet());
+        pubsub.subscribe(channels, new BiConsumer<String, String>() {
+            @Override
+            public void accept(String channel, String message) {
+                RedisNearCacheImpl cache = caches.get(channel);
+                if (cache != null) {
+                    cache.onInvalidation(message);
+                }
+            }
+        }, new Runnable() {
+            @Override
+            public void run() {
+                unsubscribed(null);
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable failure) {
+                unsubscribed(failure);
+            }
+        }).subscribe().with(new Consumer<ReactivePubSubCommands.ReactiveRedisSubscriber>() {
+            @Override
+            public void accept(ReactivePubSubCommands.ReactiveRedisSubscriber subscriber) {
+                log.debugf("Near caches subscribed to %s", channels);
+                for (RedisNearCacheImpl cache : caches.values()) {
+                    cache.subscribed();
+                }
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable failure) {
+                log.warnf(failure, "Unable to subscribe to %s, the near caches are disabled", channels);
+            }
+        });
+    }
+
+    private void unsubscribed(Throwable failure) {
+        for (RedisNearCacheImpl cache : caches.values()) {
+            cache.unsubscribed(failure);
+        }
+    }
+}
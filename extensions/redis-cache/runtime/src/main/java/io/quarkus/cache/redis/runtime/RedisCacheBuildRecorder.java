@@ -6,12 +6,14 @@
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.arc.Arc;
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.CacheManager;
 import io.quarkus.cache.CacheManagerInfo;
 import io.quarkus.cache.runtime.CacheManagerImpl;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
+import io.vertx.mutiny.core.Vertx;
 
 @Recorder
 public class RedisCacheBuildRecorder {
@@ -49,17 +51,32 @@ public CacheManager get() {
                         } else {
                             // The number of caches is known at build time so we can use fixed initialCapacity and loadFactor for the caches map.
                             Map<String, Cache> caches = new HashMap<>(cacheInfos.size() + 1, 1.0F);
+                            // The near caches share a single subscription to their invalidation channels
+                            NearCacheInvalidations invalidations = null;
                             for (RedisCacheInfo cacheInfo : cacheInfos) {
                                 if (LOGGER.isDebugEnabled()) {
                                     LOGGER.debugf(
-                                            "Building Redis cache [%s] with [ttl=%s], [prefix=%s], [classOfItems=%s]",
+                                            "Building Redis cache [%s] with [ttl=%s], [prefix=%s], [classOfItems=%s], [nearCache=%s]",
                                             cacheInfo.name, cacheInfo.expireAfterAccess, cacheInfo.prefix,
-                                            cacheInfo.valueType);
+                                            cacheInfo.valueType, cacheInfo.nearCacheEnabled);
                                 }
 
-                                RedisCacheImpl cache = new RedisCacheImpl(cacheInfo, buildConfig.clientName());
+                                Cache cache;
+                                if (cacheInfo.nearCacheEnabled) {
+                                    if (invalidations == null) {
+                                        invalidations = new NearCacheInvalidations(
+                                                Arc.container().select(Vertx.class).get(),
+                                                RedisCacheImpl.determineRedisClient(buildConfig.clientName()));
+                                    }
+                                    cache = new RedisNearCacheImpl(cacheInfo, buildConfig.clientName(), invalidations);
+                                } else {
+                                    cache = new RedisCacheImpl(cacheInfo, buildConfig.clientName());
+                                }
                                 caches.put(cacheInfo.name, cache);
                             }
+                            if (invalidations != null) {
+                                invalidations.subscribe();
+                            }
                             return new CacheManagerImpl(caches);
                         }
                     }
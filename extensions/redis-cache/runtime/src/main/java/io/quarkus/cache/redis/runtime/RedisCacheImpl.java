@@ -4,7 +4,13 @@
 import java.net.ConnectException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -63,7 +69,7 @@ public RedisCacheImpl(RedisCacheInfo cacheInfo, Optional<String> redisClientName
                 BlockingOperationControl::isBlockingAllowed);
     }
 
-    private static Redis determineRedisClient(Optional<String> redisClientName) {
+    static Redis determineRedisClient(Optional<String> redisClientName) {
         ArcContainer container = Arc.container();
         if (redisClientName.isPresent()) {
             return container.select(Redis.class, RedisClientName.Literal.of(redisClientName.get())).get();
@@ -299,6 +305,148 @@ public Uni<Void> apply(RedisConnection connection) {
         });
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> valuesLoader) {
+        enforceDefaultType("getAll");
+        return getAll(keys, classOfValue, valuesLoader);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Class<V> clazz, Function<Set<K>, Map<K, V>> valuesLoader) {
+        return getAll(keys, (Type) clazz, valuesLoader);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, TypeLiteral<V> type,
+            Function<Set<K>, Map<K, V>> valuesLoader) {
+        return getAll(keys, type.getType(), valuesLoader);
+    }
+
+    private <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Type type, Function<Set<K>, Map<K, V>> valuesLoader) {
+        boolean isWorkerThread = blockingAllowedSupplier.get();
+        return getAllAsync(keys, type, new Function<Set<K>, Uni<Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> apply(Set<K> missingKeys) {
+                return computeValues(missingKeys, valuesLoader, isWorkerThread);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Collection<K> keys, Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        enforceDefaultType("getAllAsync");
+        return getAllAsync(keys, classOfValue, valuesLoader);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Collection<K> keys, Class<V> clazz,
+            Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        return getAllAsync(keys, (Type) clazz, valuesLoader);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Collection<K> keys, TypeLiteral<V> type,
+            Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        return getAllAsync(keys, type.getType(), valuesLoader);
+    }
+
+    private <K, V> Uni<Map<K, V>> getAllAsync(Collection<K> keys, Type type,
+            Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        // Without optimistic locking, even if configured:
+        // vals = deserialize(MGET K1 K2 ...)
+        // missing = keys without value
+        // if missing is not empty => pipelined SET Kx computation.apply(missing)[Kx]
+        if (keys.isEmpty()) {
+            return Uni.createFrom().item(Map.of());
+        }
+        Set<K> uniqueKeys = new LinkedHashSet<>(keys);
+        List<byte[]> encodedKeys = new ArrayList<>(uniqueKeys.size());
+        for (K key : uniqueKeys) {
+            Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+            encodedKeys.add(marshaller.encode(encodeActualKey(key)));
+        }
+        return withConnection(new Function<RedisConnection, Uni<Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> apply(RedisConnection connection) {
+                return RedisCacheImpl.this.<V> doGetAll(connection, encodedKeys, type)
+                        .chain(new Function<List<V>, Uni<? extends Map<K, V>>>() {
+                            @Override
+                            public Uni<Map<K, V>> apply(List<V> cached) {
+                                Map<K, V> result = new LinkedHashMap<>();
+                                Set<K> missingKeys = new LinkedHashSet<>();
+                                int i = 0;
+                                for (K key : uniqueKeys) {
+                                    V value = cached.get(i++);
+                                    if (value != null) {
+                                        result.put(key, value);
+                                    } else {
+                                        missingKeys.add(key);
+                                    }
+                                }
+                                if (missingKeys.isEmpty()) {
+                                    return Uni.createFrom().item(result);
+                                }
+                                return valuesLoader.apply(missingKeys)
+                                        .chain(new Function<Map<K, V>, Uni<? extends Map<K, V>>>() {
+                                            @Override
+                                            public Uni<Map<K, V>> apply(Map<K, V> loaded) {
+                                                Map<byte[], byte[]> entries = new LinkedHashMap<>();
+                                                if (loaded != null) {
+                                                    for (Map.Entry<K, V> entry : loaded.entrySet()) {
+                                                        // `null` values cannot be cached, the keys are considered absent
+                                                        if (entry.getValue() != null) {
+                                                            result.put(entry.getKey(), entry.getValue());
+                                                            entries.put(marshaller.encode(encodeActualKey(entry.getKey())),
+                                                                    marshaller.encode(entry.getValue()));
+                                                        }
+                                                    }
+                                                }
+                                                return setAll(connection, entries).replaceWith(result);
+                                            }
+                                        });
+                            }
+                        });
+            }
+        }).onFailure(RedisCacheImpl::isRecomputableError).recoverWithUni(new Function<Throwable, Uni<? extends Map<K, V>>>() {
+            @Override
+            public Uni<? extends Map<K, V>> apply(Throwable e) {
+                log.warn("Unable to connect to Redis, recomputing cached values", e);
+                return valuesLoader.apply(uniqueKeys);
+            }
+        });
+    }
+
+    private <K, V> Uni<Map<K, V>> computeValues(Set<K> keys, Function<Set<K>, Map<K, V>> valuesLoader,
+            boolean isWorkerThread) {
+        if (isWorkerThread) {
+            return Uni.createFrom().item(new Supplier<Map<K, V>>() {
+                @Override
+                public Map<K, V> get() {
+                    return valuesLoader.apply(keys);
+                }
+            }).runSubscriptionOn(MutinyHelper.blockingExecutor(vertx.getDelegate(), false));
+        } else {
+            return Uni.createFrom().item(valuesLoader.apply(keys));
+        }
+    }
+
+    @Override
+    public <K, V> Uni<Void> putAll(Map<K, V> entries) {
+        if (entries.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        Map<byte[], byte[]> encodedEntries = new LinkedHashMap<>();
+        for (Map.Entry<K, V> entry : entries.entrySet()) {
+            encodedEntries.put(marshaller.encode(encodeActualKey(entry.getKey())), marshaller.encode(entry.getValue()));
+        }
+        return withConnection(new Function<RedisConnection, Uni<Void>>() {
+            @Override
+            public Uni<Void> apply(RedisConnection connection) {
+                return setAll(connection, encodedEntries);
+            }
+        });
+    }
+
     private void enforceDefaultType(String methodName) {
         if (classOfValue == null) {
             throw new UnsupportedOperationException("Cannot use `" + methodName + "` method without a default type configured. "
@@ -372,6 +520,20 @@ public Uni<Void> invalidateAll() {
         return invalidateIf(AlwaysTruePredicate.INSTANCE);
     }
 
+    @Override
+    public Uni<Void> invalidateAll(Collection<?> keys) {
+        if (keys.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        Request request = Request.cmd(Command.DEL);
+        for (Object key : keys) {
+            Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+            request.arg(marshaller.encode(encodeActualKey(key)));
+        }
+        return redis.send(request)
+                .replaceWithVoid();
+    }
+
     @Override
     public Uni<Void> invalidateIf(Predicate<Object> predicate) {
         return Uni.createFrom().emitter(new Consumer<UniEmitter<? super Set<String>>>() {
@@ -436,6 +598,10 @@ public String computeActualKey(String key) {
         return getKeyPrefix() + ":" + key;
     }
 
+    String encodeActualKey(Object key) {
+        return computeActualKey(encodeKey(key));
+    }
+
     Object computeUserKey(String key) {
         String prefix = getKeyPrefix();
         if (!key.startsWith(prefix + ":")) {
@@ -449,7 +615,7 @@ private String getKeyPattern() {
         return getKeyPrefix() + ":*";
     }
 
-    private String getKeyPrefix() {
+    String getKeyPrefix() {
         if (cacheInfo.prefix != null) {
             return cacheInfo.prefix.replace("{cache-name}", getName());
         } else {
@@ -501,12 +667,55 @@ public X apply(Response r) {
         }
     }
 
+    private <X> Uni<List<X>> doGetAll(RedisConnection connection, List<byte[]> encodedKeys, Type clazz) {
+        if (cacheInfo.expireAfterAccess.isPresent()) {
+            // GETEX only accepts a single key, the commands are pipelined on the connection instead
+            List<Uni<X>> values = new ArrayList<>(encodedKeys.size());
+            for (byte[] encodedKey : encodedKeys) {
+                values.add(doGet(connection, encodedKey, clazz, marshaller));
+            }
+            return Uni.join().all(values).andFailFast();
+        } else {
+            Request request = Request.cmd(Command.MGET);
+            for (byte[] encodedKey : encodedKeys) {
+                request.arg(encodedKey);
+            }
+            return connection.send(request)
+                    .map(new Function<Response, List<X>>() {
+                        @Override
+                        public List<X> apply(Response r) {
+                            List<X> values = new ArrayList<>(r.size());
+                            for (Response value : r) {
+                                values.add(marshaller.decode(clazz, value));
+                            }
+                            return values;
+                        }
+                    });
+        }
+    }
+
     private Uni<Void> set(RedisConnection connection, byte[] key, byte[] value) {
+        return connection.send(setRequest(key, value)).replaceWithVoid();
+    }
+
+    private Uni<Void> setAll(RedisConnection connection, Map<byte[], byte[]> entries) {
+        if (entries.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        // MSET does not support expiration, the SET commands are pipelined on the connection instead
+        List<Uni<Response>> responses = new ArrayList<>(entries.size());
+        for (Map.Entry<byte[], byte[]> entry : entries.entrySet()) {
+            responses.add(connection.send(setRequest(entry.getKey(), entry.getValue())));
+        }
+        return Uni.join().all(responses).andFailFast().replaceWithVoid();
+    }
+
+    private Request setRequest(byte[] key, byte[] value) {
         Request request = Request.cmd(Command.SET).arg(key).arg(value);
         if (cacheInfo.expireAfterWrite.isPresent()) {
             request = request.arg("EX").arg(cacheInfo.expireAfterWrite.get().toSeconds());
         }
-        return connection.send(request).replaceWithVoid();
+        return request;
     }
 
     private Uni<Void> multi(RedisConnection connection, Uni<Void> operation) {
@@ -4,6 +4,7 @@
 import java.time.Duration;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 public class RedisCacheInfo {
 
@@ -51,4 +52,20 @@ public class RedisCacheInfo {
      * no {@code COUNT} argument is present.
      */
     public OptionalInt invalidationScanSize = OptionalInt.empty();
+
+    /**
+     * Whether the near cache is enabled.
+     */
+    public boolean nearCacheEnabled = false;
+
+    /**
+     * The maximum number of entries of the near cache.
+     */
+    public OptionalLong nearCacheMaximumSize = OptionalLong.empty();
+
+    /**
+     * The time to live of the entries of the near cache. The effective value is capped by {@link #expireAfterWrite} and
+     * {@link #expireAfterAccess}.
+     */
+    public Optional<Duration> nearCacheExpireAfterWrite = Optional.empty();
 }
@@ -3,6 +3,7 @@
 import java.time.Duration;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
 
@@ -49,4 +50,38 @@ public interface RedisCacheRuntimeConfig {
      * no {@code COUNT} argument is present.
      */
     OptionalInt invalidationScanSize();
+
+    /**
+     * Near cache configuration.
+     * <p>
+     * The near cache is a local, in-memory tier kept in front of Redis. Invalidations are propagated to the near caches
+     * of all the application instances using Redis pub/sub.
+     */
+    NearCacheConfig nearCache();
+
+    @ConfigGroup
+    interface NearCacheConfig {
+
+        /**
+         * Whether the near cache is enabled.
+         * Default is {@code false}.
+         */
+        Optional<Boolean> enabled();
+
+        /**
+         * The maximum number of entries the near cache may contain.
+         * Default is {@code 10000}.
+         */
+        OptionalLong maximumSize();
+
+        /**
+         * Specifies that each entry should be automatically removed from the near cache once a fixed duration has elapsed
+         * after the entry's creation, or the most recent replacement of its value. It bounds the time a near cache entry
+         * may be stale if an invalidation message is lost.
+         * <p>
+         * Redis does not publish an invalidation when an entry expires, so this value defaults to, and is capped by,
+         * the {@code expire-after-write} and {@code expire-after-access} of the Redis cache.
+         */
+        Optional<Duration> expireAfterWrite();
+    }
 }
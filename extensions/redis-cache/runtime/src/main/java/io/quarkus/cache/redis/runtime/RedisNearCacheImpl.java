@@ -0,0 +1,663 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.util.TypeLiteral;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+import io.quarkus.runtime.BlockingOperationControl;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Redis;
+
+/**
+ * This class is an internal Quarkus cache implementation combining a local Caffeine cache (the near cache)
+ * with the Redis cache. Do not use it explicitly from your Quarkus application.
+ * <p>
+ * Reads are served from the near cache when possible and fall back to Redis otherwise. Writes and invalidations
+ * go to Redis first, then to the near cache, and are finally published to a Redis pub/sub channel, so that the near
+ * caches of the other application instances drop their copies of the affected entries.
+ * <p>
+ * The near cache is keyed by the actual Redis key, so the entries can be invalidated without decoding the keys
+ * received from the channel. It is bypassed until the subscription to the channel is established and after
+ * the subscription is lost, because the near cache cannot be kept coherent in that case.
+ * <p>
+ * A value read from Redis before an invalidation was received may be stored in the near cache after the invalidation was
+ * handled. To prevent this, each invalidation increments the generation of the affected keys and an entry stored by an
+ * operation which started before the last invalidation of its key is removed again.
+ */
+public class RedisNearCacheImpl extends AbstractCache implements RedisCache {
+
+    private static final Logger log = Logger.getLogger(RedisNearCacheImpl.class);
+
+    static final String INVALIDATE_KEY = "key";
+    static final String INVALIDATE_ALL = "all";
+
+    static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    // must be a power of two
+    private static final int GENERATION_STRIPES = 64;
+
+    private final RedisCacheImpl remote;
+    private final CaffeineCacheImpl local;
+
+    private final NearCacheInvalidations invalidations;
+    private final String channel;
+    private final String instanceId = UUID.randomUUID().toString();
+    // the generations of the keys are striped by the hash of the actual key
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    private volatile boolean subscribed;
+
+    RedisNearCacheImpl(RedisCacheInfo cacheInfo, Optional<String> redisClientName, NearCacheInvalidations invalidations) {
+        this(cacheInfo, Arc.container().select(Vertx.class).get(), RedisCacheImpl.determineRedisClient(redisClientName),
+                BlockingOperationControl::isBlockingAllowed, invalidations);
+    }
+
+    /**
+     * Creates a near cache with its own subscription to the invalidation channel.
+     */
+    public RedisNearCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Supplier<Boolean> blockingAllowedSupplier) {
+        this(cacheInfo, vertx, redis, blockingAllowedSupplier, new NearCacheInvalidations(vertx, redis));
+        invalidations.subscribe();
+    }
+
+    RedisNearCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Supplier<Boolean> blockingAllowedSupplier,
+            NearCacheInvalidations invalidations) {
+        this.remote = new RedisCacheImpl(cacheInfo, vertx, redis, blockingAllowedSupplier);
+
+        CaffeineCacheInfo localCacheInfo = new CaffeineCacheInfo();
+        localCacheInfo.name = remote.getName();
+        localCacheInfo.maximumSize = cacheInfo.nearCacheMaximumSize.orElse(DEFAULT_MAXIMUM_SIZE);
+        localCacheInfo.expireAfterWrite = nearCacheExpireAfterWrite(cacheInfo);
+        this.local = new CaffeineCacheImpl(localCacheInfo, false);
+
+        this.invalidations = invalidations;
+        this.channel = remote.getKeyPrefix() + ":invalidations";
+        invalidations.register(channel, this);
+    }
+
+    /**
+     * Redis does not publish an invalidation when an entry expires, and the near cache hits do not refresh the
+     * {@code expire-after-access} TTL of the Redis entry. Therefore, a near cache entry must not outlive the TTL the Redis
+     * entry had when it was read or written.
+     *
+     * @return the smallest of the near cache {@code expire-after-write} and the Redis {@code expire-after-write} and
+     *         {@code expire-after-access}, or {@code null} if none is set
+     */
+    static Duration nearCacheExpireAfterWrite(RedisCacheInfo cacheInfo) {
+        Duration expireAfterWrite = null;
+        for (Optional<Duration> duration : List.of(cacheInfo.nearCacheExpireAfterWrite, cacheInfo.expireAfterWrite,
+                cacheInfo.expireAfterAccess)) {
+            if (duration.isPresent() && (expireAfterWrite == null || duration.get().compareTo(expireAfterWrite) < 0)) {
+                expireAfterWrite = duration.get();
+            }
+        }
+        return expireAfterWrite;
+    }
+
+    void subscribed() {
+        log.debugf("Near cache of [%s] subscribed to [%s]", getName(), channel);
+        subscribed = true;
+    }
+
+    void unsubscribed(Throwable failure) {
+        if (subscribed) {
+            subscribed = false;
+            log.warnf(failure, "Subscription to [%s] lost, the near cache of [%s] is disabled", channel, getName());
+            invalidateAllLocal();
+        }
+    }
+
+    // visible only for tests
+    public boolean isNearCacheActive() {
+        return subscribed;
+    }
+
+    // visible only for tests
+    public CaffeineCacheImpl getNearCache() {
+        return local;
+    }
+
+    void onInvalidation(String message) {
+        // <instance id> <operation> [<actual key>]
+        int first = message.indexOf(' ');
+        if (first < 0) {
+            return;
+        }
+        if (message.regionMatches(0, instanceId, 0, first) && first == instanceId.length()) {
+            // the near cache of this instance has been already updated
+            return;
+        }
+        int second = message.indexOf(' ', first + 1);
+        String operation = second < 0 ? message.substring(first + 1) : message.substring(first + 1, second);
+        if (INVALIDATE_KEY.equals(operation) && second > 0) {
+            invalidateLocal(message.substring(second + 1));
+        } else if (INVALIDATE_ALL.equals(operation)) {
+            invalidateAllLocal();
+        }
+    }
+
+    private int stripe(String actualKey) {
+        int hash = actualKey.hashCode();
+        return (hash ^ (hash >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+
+    private long generation(String actualKey) {
+        return generations.get(stripe(actualKey));
+    }
+
+    private void invalidateLocal(String actualKey) {
+        // the generation is incremented first, so that a concurrent load notices the invalidation
+        generations.incrementAndGet(stripe(actualKey));
+        local.invalidate(actualKey).subscribe().with(NoopConsumer.INSTANCE);
+    }
+
+    private void invalidateAllLocal() {
+        incrementAllGenerations();
+        local.invalidateAll().subscribe().with(NoopConsumer.INSTANCE);
+    }
+
+    private void incrementAllGenerations() {
+        for (int i = 0; i < GENERATION_STRIPES; i++) {
+            generations.incrementAndGet(i);
+        }
+    }
+
+    /**
+     * Removes the entry stored by an operation which started when the generation of the key was {@code generation}, if the
+     * key was invalidated since then. The entry is stored before this method is called, so an invalidation is either
+     * noticed here or removes the entry itself.
+     */
+    private void dropIfInvalidated(String actualKey, long generation) {
+        if (generation(actualKey) != generation) {
+            local.invalidate(actualKey).subscribe().with(NoopConsumer.INSTANCE);
+        }
+    }
+
+    private <V> Uni<V> getFromNearCache(String actualKey, Supplier<Uni<V>> remoteGetter) {
+        long generation = generation(actualKey);
+        return local.getAsync(actualKey, new Function<String, Uni<V>>() {
+            @Override
+            public Uni<V> apply(String actualKey) {
+                return remoteGetter.get();
+            }
+        }).invoke(new Runnable() {
+            @Override
+            public void run() {
+                dropIfInvalidated(actualKey, generation);
+            }
+        });
+    }
+
+    private Uni<Void> publish(String operation, String actualKey) {
+        String message = actualKey == null
+                ? instanceId + " " + operation
+                : instanceId + " " + operation + " " + actualKey;
+        return invalidations.publish(channel, message);
+    }
+
+    private Uni<Void> publishAll(Collection<String> actualKeys) {
+        if (actualKeys.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        List<Uni<Void>> publications = new ArrayList<>(actualKeys.size());
+        for (String actualKey : actualKeys) {
+            publications.add(publish(INVALIDATE_KEY, actualKey));
+        }
+        return Uni.join().all(publications).andFailFast().replaceWithVoid();
+    }
+
+    @Override
+    public String getName() {
+        return remote.getName();
+    }
+
+    @Override
+    public Object getDefaultKey() {
+        return remote.getDefaultKey();
+    }
+
+    @Override
+    public Class<?> getDefaultValueType() {
+        return remote.getDefaultValueType();
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
+        if (!subscribed) {
+            return remote.get(key, valueLoader);
+        }
+        return getFromNearCache(remote.encodeActualKey(key), new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return remote.get(key, valueLoader);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, Class<V> clazz, Function<K, V> valueLoader) {
+        if (!subscribed) {
+            return remote.get(key, clazz, valueLoader);
+        }
+        return getFromNearCache(remote.encodeActualKey(key), new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return remote.get(key, clazz, valueLoader);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, TypeLiteral<V> type, Function<K, V> valueLoader) {
+        if (!subscribed) {
+            return remote.get(key, type, valueLoader);
+        }
+        return getFromNearCache(remote.encodeActualKey(key), new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return remote.get(key, type, valueLoader);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
+        if (!subscribed) {
+            return remote.getAsync(key, valueLoader);
+        }
+        return getFromNearCache(remote.encodeActualKey(key), new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return remote.getAsync(key, valueLoader);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> getAsync(K key, Class<V> clazz, Function<K, Uni<V>> valueLoader) {
+        if (!subscribed) {
+            return remote.getAsync(key, clazz, valueLoader);
+        }
+        return getFromNearCache(remote.encodeActualKey(key), new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return remote.getAsync(key, clazz, valueLoader);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> getAsync(K key, TypeLiteral<V> type, Function<K, Uni<V>> valueLoader) {
+        if (!subscribed) {
+            return remote.getAsync(key, type, valueLoader);
+        }
+        return getFromNearCache(remote.encodeActualKey(key), new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return remote.getAsync(key, type, valueLoader);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Void> put(K key, V value) {
+        String actualKey = remote.encodeActualKey(key);
+        long generation = generation(actualKey);
+        return remote.put(key, value)
+                .invoke(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (subscribed) {
+                            local.put(actualKey, CompletableFuture.completedFuture(value));
+                            dropIfInvalidated(actualKey, generation);
+                        }
+                    }
+                })
+                .chain(new Supplier<Uni<? extends Void>>() {
+                    @Override
+                    public Uni<? extends Void> get() {
+                        return publish(INVALIDATE_KEY, actualKey);
+                    }
+                });
+    }
+
+    @Override
+    public <K, V> Uni<Void> put(K key, Supplier<V> supplier) {
+        // the supplier is evaluated at subscription time
+        return Uni.createFrom().item(supplier).chain(new Function<V, Uni<? extends Void>>() {
+            @Override
+            public Uni<? extends Void> apply(V value) {
+                return put(key, value);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> valuesLoader) {
+        return getAllFromNearCache(keys, new Function<Set<K>, Uni<Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> apply(Set<K> missingKeys) {
+                return remote.getAll(missingKeys, valuesLoader);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Class<V> clazz, Function<Set<K>, Map<K, V>> valuesLoader) {
+        return getAllFromNearCache(keys, new Function<Set<K>, Uni<Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> apply(Set<K> missingKeys) {
+                return remote.getAll(missingKeys, clazz, valuesLoader);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, TypeLiteral<V> type,
+            Function<Set<K>, Map<K, V>> valuesLoader) {
+        return getAllFromNearCache(keys, new Function<Set<K>, Uni<Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> apply(Set<K> missingKeys) {
+                return remote.getAll(missingKeys, type, valuesLoader);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Collection<K> keys, Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        return getAllFromNearCache(keys, new Function<Set<K>, Uni<Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> apply(Set<K> missingKeys) {
+                return remote.getAllAsync(missingKeys, valuesLoader);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Collection<K> keys, Class<V> clazz,
+            Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        return getAllFromNearCache(keys, new Function<Set<K>, Uni<Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> apply(Set<K> missingKeys) {
+                return remote.getAllAsync(missingKeys, clazz, valuesLoader);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Collection<K> keys, TypeLiteral<V> type,
+            Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        return getAllFromNearCache(keys, new Function<Set<K>, Uni<Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> apply(Set<K> missingKeys) {
+                return remote.getAllAsync(missingKeys, type, valuesLoader);
+            }
+        });
+    }
+
+    private <K, V> Uni<Map<K, V>> getAllFromNearCache(Collection<K> keys,
+            Function<Set<K>, Uni<Map<K, V>>> remoteGetter) {
+        if (!subscribed) {
+            return remoteGetter.apply(new LinkedHashSet<>(keys));
+        }
+        // the near cache is keyed by the actual Redis keys
+        Map<String, K> userKeys = new LinkedHashMap<>();
+        for (K key : keys) {
+            Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+            userKeys.put(remote.encodeActualKey(key), key);
+        }
+        Map<String, Long> keyGenerations = new LinkedHashMap<>();
+        for (String actualKey : userKeys.keySet()) {
+            keyGenerations.put(actualKey, generation(actualKey));
+        }
+        return local.getAllAsync(userKeys.keySet(), new Function<Set<String>, Uni<Map<String, V>>>() {
+            @Override
+            public Uni<Map<String, V>> apply(Set<String> missingActualKeys) {
+                Set<K> missingKeys = new LinkedHashSet<>();
+                for (String actualKey : missingActualKeys) {
+                    missingKeys.add(userKeys.get(actualKey));
+                }
+                return remoteGetter.apply(missingKeys).map(new Function<Map<K, V>, Map<String, V>>() {
+                    @Override
+                    public Map<String, V> apply(Map<K, V> values) {
+                        Map<String, V> result = new LinkedHashMap<>();
+                        for (Map.Entry<K, V> entry : values.entrySet()) {
+                            result.put(remote.encodeActualKey(entry.getKey()), entry.getValue());
+                        }
+                        return result;
+                    }
+                });
+            }
+        }).map(new Function<Map<String, V>, Map<K, V>>() {
+            @Override
+            public Map<K, V> apply(Map<String, V> values) {
+                Map<K, V> result = new LinkedHashMap<>();
+                for (Map.Entry<String, Long> generation : keyGenerations.entrySet()) {
+                    dropIfInvalidated(generation.getKey(), generation.getValue());
+                }
+                for (Map.Entry<String, V> entry : values.entrySet()) {
+                    K key = userKeys.get(entry.getKey());
+                    if (key != null) {
+                        result.put(key, entry.getValue());
+                    }
+                }
+                return result;
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Void> putAll(Map<K, V> entries) {
+        Map<String, CompletableFuture<V>> localEntries = new LinkedHashMap<>();
+        Map<String, Long> keyGenerations = new LinkedHashMap<>();
+        for (Map.Entry<K, V> entry : entries.entrySet()) {
+            String actualKey = remote.encodeActualKey(entry.getKey());
+            localEntries.put(actualKey, CompletableFuture.completedFuture(entry.getValue()));
+            keyGenerations.put(actualKey, generation(actualKey));
+        }
+        return remote.putAll(entries)
+                .invoke(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (subscribed) {
+                            local.putAll(localEntries);
+                            for (Map.Entry<String, Long> generation : keyGenerations.entrySet()) {
+                                dropIfInvalidated(generation.getKey(), generation.getValue());
+                            }
+                        }
+                    }
+                })
+                .chain(new Supplier<Uni<? extends Void>>() {
+                    @Override
+                    public Uni<? extends Void> get() {
+                        return publishAll(localEntries.keySet());
+                    }
+                });
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrDefault(K key, V defaultValue) {
+        return this.<K, V> getOrNull(key).onItem().ifNull().continueWith(defaultValue);
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrDefault(K key, Class<V> clazz, V defaultValue) {
+        return getOrNull(key, clazz).onItem().ifNull().continueWith(defaultValue);
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrDefault(K key, TypeLiteral<V> type, V defaultValue) {
+        return getOrNull(key, type).onItem().ifNull().continueWith(defaultValue);
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrNull(K key) {
+        return getOrNull(key, new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return remote.getOrNull(key);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrNull(K key, Class<V> clazz) {
+        return getOrNull(key, new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return remote.getOrNull(key, clazz);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrNull(K key, TypeLiteral<V> type) {
+        return getOrNull(key, new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                return remote.getOrNull(key, type);
+            }
+        });
+    }
+
+    private <K, V> Uni<V> getOrNull(K key, Supplier<Uni<V>> remoteGetter) {
+        if (!subscribed) {
+            return remoteGetter.get();
+        }
+        String actualKey = remote.encodeActualKey(key);
+        CompletableFuture<V> cached = local.getIfPresent(actualKey);
+        if (cached != null) {
+            return Uni.createFrom().completionStage(cached);
+        }
+        long generation = generation(actualKey);
+        return remoteGetter.get().invoke(new Consumer<V>() {
+            @Override
+            public void accept(V value) {
+                if (value != null && subscribed) {
+                    local.put(actualKey, CompletableFuture.completedFuture(value));
+                    dropIfInvalidated(actualKey, generation);
+                }
+            }
+        });
+    }
+
+    @Override
+    public Uni<Void> invalidate(Object key) {
+        Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        String actualKey = remote.encodeActualKey(key);
+        return remote.invalidate(key)
+                .chain(new Supplier<Uni<? extends Void>>() {
+                    @Override
+                    public Uni<? extends Void> get() {
+                        invalidateLocal(actualKey);
+                        return Uni.createFrom().voidItem();
+                    }
+                })
+                .chain(new Supplier<Uni<? extends Void>>() {
+                    @Override
+                    public Uni<? extends Void> get() {
+                        return publish(INVALIDATE_KEY, actualKey);
+                    }
+                });
+    }
+
+    @Override
+    public Uni<Void> invalidateAll() {
+        return remote.invalidateAll()
+                .chain(new Supplier<Uni<? extends Void>>() {
+                    @Override
+                    public Uni<? extends Void> get() {
+                        invalidateAllLocal();
+                        return Uni.createFrom().voidItem();
+                    }
+                })
+                .chain(new Supplier<Uni<? extends Void>>() {
+                    @Override
+                    public Uni<? extends Void> get() {
+                        return publish(INVALIDATE_ALL, null);
+                    }
+                });
+    }
+
+    @Override
+    public Uni<Void> invalidateAll(Collection<?> keys) {
+        Set<String> actualKeys = new LinkedHashSet<>();
+        for (Object key : keys) {
+            Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+            actualKeys.add(remote.encodeActualKey(key));
+        }
+        return remote.invalidateAll(keys)
+                .chain(new Supplier<Uni<? extends Void>>() {
+                    @Override
+                    public Uni<? extends Void> get() {
+                        for (String actualKey : actualKeys) {
+                            invalidateLocal(actualKey);
+                        }
+                        return Uni.createFrom().voidItem();
+                    }
+                })
+                .chain(new Supplier<Uni<? extends Void>>() {
+                    @Override
+                    public Uni<? extends Void> get() {
+                        return publishAll(actualKeys);
+                    }
+                });
+    }
+
+    @Override
+    public Uni<Void> invalidateIf(Predicate<Object> predicate) {
+        return remote.invalidateIf(predicate)
+                .chain(new Supplier<Uni<? extends Void>>() {
+                    @Override
+                    public Uni<? extends Void> get() {
+                        incrementAllGenerations();
+                        return local.invalidateIf(new Predicate<Object>() {
+                            @Override
+                            public boolean test(Object actualKey) {
+                                Object userKey = remote.computeUserKey((String) actualKey);
+                                return userKey != null && predicate.test(userKey);
+                            }
+                        });
+                    }
+                })
+                .chain(new Supplier<Uni<? extends Void>>() {
+                    @Override
+                    public Uni<? extends Void> get() {
+                        // the predicate cannot be sent to the other instances
+                        return publish(INVALIDATE_ALL, null);
+                    }
+                });
+    }
+
+    private static class NoopConsumer implements Consumer<Void> {
+
+        static final NoopConsumer INSTANCE = new NoopConsumer();
+
+        @Override
+        public void accept(Void ignored) {
+        }
+    }
+}
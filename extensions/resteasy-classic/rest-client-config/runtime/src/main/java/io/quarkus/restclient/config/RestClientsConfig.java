@@ -108,6 +108,29 @@ public interface RestClientsConfig {
     @WithDefault("30000")
     Long readTimeout();
 
+    /**
+     * Enables hedged requests for idempotent (GET, HEAD and OPTIONS) requests without a body that return a {@code Uni}.
+     * If a request did not complete within the given percentile (1-99) of the recently observed response times, a
+     * second attempt is sent and the first successful response wins. With Stork, the second attempt goes to a different
+     * service instance.
+     * <p>
+     * Can be overwritten by client-specific settings.
+     * <p>
+     * This property is not applicable to the RESTEasy Client.
+     */
+    OptionalInt hedgingPercentile();
+
+    /**
+     * The minimum delay in milliseconds before a hedged request is sent. This delay is also used until enough response
+     * times were observed.
+     * <p>
+     * Can be overwritten by client-specific settings.
+     * <p>
+     * This property is not applicable to the RESTEasy Client.
+     */
+    @ConfigDocDefault("50")
+    Optional<Long> hedgingMinDelay();
+
     /**
      * If true, the REST clients will not provide additional contextual information (like REST client class and method
      * names) when exception occurs during a client invocation.
@@ -155,6 +178,28 @@ public interface RestClientsConfig {
     @ConfigDocDefault("50")
     OptionalInt connectionPoolSize();
 
+    /**
+     * The maximum number of requests waiting for a connection from the connection pool. Requests exceeding this limit
+     * fail immediately instead of waiting. A value of {@code -1} means the queue is unbounded.
+     * <p>
+     * Can be overwritten by client-specific settings.
+     * <p>
+     * This property is not applicable to the RESTEasy Client.
+     */
+    @ConfigDocDefault("-1")
+    OptionalInt maxWaitQueueSize();
+
+    /**
+     * Set to true to share the HTTP client, and therefore its per-host connection pools, between REST clients.
+     * REST clients without a specific <em>name</em> share the HTTP client only if their HTTP client options are equal,
+     * e.g. the same timeouts, pool size and TLS configuration.
+     * <p>
+     * Can be overwritten by client-specific settings.
+     * <p>
+     * This property is not applicable to the RESTEasy Client.
+     */
+    Optional<Boolean> shared();
+
     /**
      * If set to false disables the keep alive completely.
      * <p>
@@ -276,6 +321,17 @@ public interface RestClientsConfig {
     @WithDefault("false")
     boolean http2();
 
+    /**
+     * The maximum number of concurrent requests (streams) sent over a single HTTP/2 connection. A value of {@code -1}
+     * means the limit announced by the server is used.
+     * <p>
+     * Can be overwritten by client-specific settings.
+     * <p>
+     * This property is not applicable to the RESTEasy Client.
+     */
+    @ConfigDocDefault("-1")
+    OptionalInt http2MultiplexingLimit();
+
     /**
      * Configures two different things:
      * <ul>
@@ -446,6 +502,25 @@ default Optional<String> uriReload() {
          */
         Optional<Long> readTimeout();
 
+        /**
+         * Enables hedged requests for idempotent (GET, HEAD and OPTIONS) requests without a body that return a
+         * {@code Uni}. If a request did not complete within the given percentile (1-99) of the recently observed
+         * response times, a second attempt is sent and the first successful response wins. With Stork, the second
+         * attempt goes to a different service instance.
+         * <p>
+         * This property is not applicable to the RESTEasy Client.
+         */
+        OptionalInt hedgingPercentile();
+
+        /**
+         * The minimum delay in milliseconds before a hedged request is sent. This delay is also used until enough
+         * response times were observed.
+         * <p>
+         * This property is not applicable to the RESTEasy Client.
+         */
+        @ConfigDocDefault("50")
+        Optional<Long> hedgingMinDelay();
+
         /**
          * A boolean value used to determine whether the client should follow HTTP redirect responses.
          */
@@ -565,6 +640,15 @@ default Optional<String> uriReload() {
         @ConfigDocDefault("50")
         OptionalInt connectionPoolSize();
 
+        /**
+         * The maximum number of requests waiting for a connection from the connection pool. Requests exceeding this limit
+         * fail immediately instead of waiting. A value of {@code -1} means the queue is unbounded.
+         * <p>
+         * This property is not applicable to the RESTEasy Client.
+         */
+        @ConfigDocDefault("-1")
+        OptionalInt maxWaitQueueSize();
+
         /**
          * If set to false disables the keep alive completely.
          */
@@ -586,9 +670,9 @@ default Optional<String> uriReload() {
         Map<String, String> headers();
 
         /**
-         * Set to true to share the HTTP client between REST clients.
+         * Set to true to share the HTTP client, and therefore its per-host connection pools, between REST clients.
          * There can be multiple shared clients distinguished by <em>name</em>, when no specific name is set,
-         * the name <code>__vertx.DEFAULT</code> is used.
+         * the REST clients with equal HTTP client options share the HTTP client.
          * <p>
          * This property is not applicable to the RESTEasy Client.
          */
@@ -613,6 +697,15 @@ default Optional<String> uriReload() {
          */
         Optional<Boolean> http2();
 
+        /**
+         * The maximum number of concurrent requests (streams) sent over a single HTTP/2 connection. A value of {@code -1}
+         * means the limit announced by the server is used.
+         * <p>
+         * This property is not applicable to the RESTEasy Client.
+         */
+        @ConfigDocDefault("-1")
+        OptionalInt http2MultiplexingLimit();
+
         /**
          * Configures two different things:
          * <ul>
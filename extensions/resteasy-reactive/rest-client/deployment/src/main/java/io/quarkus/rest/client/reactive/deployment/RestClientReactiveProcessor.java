@@ -63,6 +63,7 @@
 import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
 import org.jboss.resteasy.reactive.client.api.ClientLogger;
+import org.jboss.resteasy.reactive.client.api.HedgingListener;
 import org.jboss.resteasy.reactive.client.spi.MissingMessageBodyReaderErrorMessageContextualizer;
 import org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames;
 import org.jboss.resteasy.reactive.common.processor.transformation.AnnotationStore;
@@ -203,7 +204,7 @@ void setupAdditionalBeans(BuildProducer<AdditionalBeanBuildItem> additionalBeans
 
     @BuildStep
     UnremovableBeanBuildItem unremovableBeans() {
-        return UnremovableBeanBuildItem.beanTypes(RestClientsConfig.class, ClientLogger.class);
+        return UnremovableBeanBuildItem.beanTypes(RestClientsConfig.class, ClientLogger.class, HedgingListener.class);
     }
 
     @BuildStep
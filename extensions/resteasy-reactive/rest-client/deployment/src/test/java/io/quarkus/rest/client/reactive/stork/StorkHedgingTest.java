@@ -0,0 +1,96 @@
+package io.quarkus.rest.client.reactive.stork;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Singleton;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.resteasy.reactive.client.api.HedgingListener;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+public class StorkHedgingTest {
+
+    private static final String SLOW_RESPONSE = "hello, I'm a slow server";
+    private static WireMockServer server;
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(HedgedClient.class, HelloResource.class, CountingHedgingListener.class))
+            .overrideConfigKey("quarkus.stork.hedged-service.service-discovery.type", "static")
+            .overrideConfigKey("quarkus.stork.hedged-service.service-discovery.address-list",
+                    "localhost:8766,${quarkus.http.host}:${quarkus.http.test-port}")
+            .overrideConfigKey("quarkus.rest-client.hedged.url", "stork://hedged-service")
+            .overrideConfigKey("quarkus.rest-client.hedged.hedging-percentile", "90")
+            .overrideConfigKey("quarkus.rest-client.hedged.hedging-min-delay", "200");
+
+    @BeforeAll
+    public static void setUp() {
+        server = new WireMockServer(options().port(8766));
+        server.stubFor(WireMock.get("/hello")
+                .willReturn(aResponse().withFixedDelay(5000)
+                        .withBody(SLOW_RESPONSE).withStatus(200)));
+        server.start();
+    }
+
+    @AfterAll
+    public static void stop() {
+        server.stop();
+    }
+
+    @RestClient
+    HedgedClient client;
+
+    @Test
+    void shouldHedgeToAnotherInstance() {
+        // whichever instance is selected first, the fast one answers
+        for (int i = 0; i < 4; i++) {
+            assertThat(client.hello().await().atMost(Duration.ofSeconds(3))).isEqualTo(HelloResource.HELLO_WORLD);
+        }
+        assertThat(CountingHedgingListener.FIRED.get()).isGreaterThan(0);
+        assertThat(CountingHedgingListener.WON.get()).isEqualTo(CountingHedgingListener.FIRED.get());
+    }
+
+    @Path("/hello")
+    @RegisterRestClient(configKey = "hedged")
+    public interface HedgedClient {
+
+        @GET
+        Uni<String> hello();
+    }
+
+    @Singleton
+    public static class CountingHedgingListener implements HedgingListener {
+
+        static final AtomicInteger FIRED = new AtomicInteger();
+        static final AtomicInteger WON = new AtomicInteger();
+
+        @Override
+        public void hedgeFired(String httpMethod, URI uri) {
+            FIRED.incrementAndGet();
+        }
+
+        @Override
+        public void hedgeWon(String httpMethod, URI uri) {
+            WON.incrementAndGet();
+        }
+    }
+}
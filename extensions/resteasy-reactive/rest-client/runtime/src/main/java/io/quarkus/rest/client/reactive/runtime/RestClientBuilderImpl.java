@@ -32,6 +32,7 @@
 import org.eclipse.microprofile.rest.client.ext.ResponseExceptionMapper;
 import org.jboss.resteasy.reactive.client.TlsConfig;
 import org.jboss.resteasy.reactive.client.api.ClientLogger;
+import org.jboss.resteasy.reactive.client.api.HedgingListener;
 import org.jboss.resteasy.reactive.client.api.InvalidRestClientDefinitionException;
 import org.jboss.resteasy.reactive.client.api.LoggingScope;
 import org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties;
@@ -482,6 +483,14 @@ public <T> T build(Class<T> aClass) throws IllegalStateException, RestClientDefi
             }
         }
 
+        if (getConfiguration().hasProperty(QuarkusRestClientProperties.HEDGING_PERCENTILE)
+                && !getConfiguration().hasProperty(QuarkusRestClientProperties.HEDGING_LISTENER)) {
+            InstanceHandle<HedgingListener> hedgingListenerInstance = arcContainer.instance(HedgingListener.class);
+            if (hedgingListenerInstance.isAvailable()) {
+                clientBuilder.property(QuarkusRestClientProperties.HEDGING_LISTENER, hedgingListenerInstance.get());
+            }
+        }
+
         clientBuilder.multiQueryParamMode(toMultiQueryParamMode(queryParamStyle));
         clientBuilder.register(new DefaultClientHeadersRequestFilter(headers));
 
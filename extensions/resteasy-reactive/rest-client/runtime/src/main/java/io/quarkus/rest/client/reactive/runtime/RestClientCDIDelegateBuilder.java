@@ -109,6 +109,18 @@ private void configureCustomProperties(QuarkusRestClientBuilder builder) {
             builder.property(QuarkusRestClientProperties.CONNECTION_POOL_SIZE, poolSize.getAsInt());
         }
 
+        OptionalInt maxWaitQueueSize = oneOf(restClientConfig.maxWaitQueueSize(), configRoot.maxWaitQueueSize());
+        if (maxWaitQueueSize.isPresent()) {
+            builder.property(QuarkusRestClientProperties.MAX_WAIT_QUEUE_SIZE, maxWaitQueueSize.getAsInt());
+        }
+
+        OptionalInt hedgingPercentile = oneOf(restClientConfig.hedgingPercentile(), configRoot.hedgingPercentile());
+        if (hedgingPercentile.isPresent()) {
+            builder.property(QuarkusRestClientProperties.HEDGING_PERCENTILE, hedgingPercentile.getAsInt());
+            oneOf(restClientConfig.hedgingMinDelay(), configRoot.hedgingMinDelay())
+                    .ifPresent(minDelay -> builder.property(QuarkusRestClientProperties.HEDGING_MIN_DELAY, minDelay));
+        }
+
         OptionalInt connectionTTL = oneOf(restClientConfig.connectionTTL(), configRoot.connectionTTL());
         if (connectionTTL.isPresent()) {
             // configuration bean contains value in milliseconds
@@ -156,6 +168,12 @@ private void configureCustomProperties(QuarkusRestClientBuilder builder) {
         Boolean http2 = oneOf(restClientConfig.http2()).orElse(configRoot.http2());
         builder.property(QuarkusRestClientProperties.HTTP2, http2);
 
+        OptionalInt http2MultiplexingLimit = oneOf(restClientConfig.http2MultiplexingLimit(),
+                configRoot.http2MultiplexingLimit());
+        if (http2MultiplexingLimit.isPresent()) {
+            builder.property(QuarkusRestClientProperties.HTTP2_MULTIPLEXING_LIMIT, http2MultiplexingLimit.getAsInt());
+        }
+
         Optional<Boolean> alpn = oneOf(restClientConfig.alpn(), configRoot.alpn());
         if (alpn.isPresent()) {
             builder.property(QuarkusRestClientProperties.ALPN, alpn.get());
@@ -212,7 +230,7 @@ private void configureRedirects(QuarkusRestClientBuilder builder) {
     }
 
     private void configureShared(QuarkusRestClientBuilder builder) {
-        Optional<Boolean> shared = restClientConfig.shared();
+        Optional<Boolean> shared = oneOf(restClientConfig.shared(), configRoot.shared());
         if (shared.isPresent()) {
             builder.property(QuarkusRestClientProperties.SHARED, shared.get());
 
@@ -10,6 +10,7 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Function;
 
 import org.jboss.jandex.AnnotationInstance;
@@ -28,6 +29,7 @@
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
 
 import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
 import io.quarkus.deployment.annotations.BuildProducer;
@@ -46,6 +48,7 @@ public abstract class JacksonCodeGenerator {
 
     protected final Set<String> generatedClassNames = new HashSet<>();
     protected final Deque<ClassInfo> toBeGenerated = new ArrayDeque<>();
+    protected final Map<String, String> fallbacks = new TreeMap<>();
 
     public JacksonCodeGenerator(BuildProducer<GeneratedClassBuildItem> generatedClassBuildItemBuildProducer,
             IndexView jandexIndex) {
@@ -72,9 +75,34 @@ public Collection<String> create(Collection<ClassInfo> classInfos) {
         return createdClasses;
     }
 
+    /**
+     * @return the types for which no code could be generated mapped to the reason, i.e. the types that are handled by
+     *         the default Jackson (de)serializers
+     */
+    public Map<String, String> getFallbacks() {
+        return fallbacks;
+    }
+
+    protected boolean fallback(ClassInfo classInfo, String reason) {
+        fallbacks.putIfAbsent(classInfo.name().toString(), reason);
+        return false;
+    }
+
+    protected boolean unsupportedAnnotation(ClassInfo classInfo, FieldSpecs fieldSpecs) {
+        return fallback(classInfo, "unsupported annotation @" + fieldSpecs.unknownAnnotation() + " on property '"
+                + fieldSpecs.fieldName + "'");
+    }
+
     private Optional<String> create(ClassInfo classInfo) {
         String beanClassName = classInfo.name().toString();
-        if (vetoedClass(classInfo, beanClassName) || !generatedClassNames.add(beanClassName)) {
+        if (vetoedClassName(beanClassName) || !generatedClassNames.add(beanClassName)) {
+            return Optional.empty();
+        }
+        boolean hasSubTypes = registerSubTypesToBeGenerated(classInfo);
+        if (classInfo.isAbstract() || classInfo.isInterface()) {
+            if (!hasSubTypes) {
+                fallback(classInfo, "abstract class or interface without @JsonSubTypes");
+            }
             return Optional.empty();
         }
 
@@ -86,6 +114,9 @@ private Optional<String> create(ClassInfo classInfo) {
 
             createConstructor(classCreator, beanClassName);
             boolean valid = createSerializationMethod(classInfo, classCreator, beanClassName);
+            if (!valid) {
+                fallback(classInfo, "unsupported type");
+            }
             return valid ? Optional.of(generatedClassName) : Optional.empty();
         }
     }
@@ -149,10 +180,6 @@ protected static String ucFirst(String name) {
         return name.substring(0, 1).toUpperCase() + name.substring(1);
     }
 
-    protected static boolean vetoedClass(ClassInfo classInfo, String className) {
-        return classInfo.isAbstract() || classInfo.isInterface() || vetoedClassName(className);
-    }
-
     private static boolean vetoedClassName(String className) {
         return className.startsWith("java.") || className.startsWith("jakarta.") || className.startsWith("io.vertx.core.json.");
     }
@@ -201,22 +228,52 @@ protected FieldKind registerTypeToBeGenerated(Type fieldType, String typeName) {
                 registerTypeToBeGenerated(pType.arguments().get(1));
                 return FieldKind.MAP;
             }
+            // generic wrappers, e.g. Page<Item>
+            for (Type argument : pType.arguments()) {
+                registerTypeToBeGenerated(argument);
+            }
         }
         registerTypeToBeGenerated(typeName);
         return FieldKind.OBJECT;
     }
 
     private void registerTypeToBeGenerated(Type type) {
-        registerTypeToBeGenerated(type.name().toString());
+        if (type instanceof ParameterizedType pType) {
+            registerTypeToBeGenerated(pType, pType.name().toString());
+        } else if (!(type instanceof TypeVariable)) {
+            registerTypeToBeGenerated(type.name().toString());
+        }
     }
 
     private void registerTypeToBeGenerated(String typeName) {
         ClassInfo classInfo = jandexIndex.getClassByName(typeName);
-        if (classInfo != null && !vetoedClass(classInfo, typeName) && shouldGenerateCodeFor(classInfo)) {
+        if (classInfo == null || vetoedClassName(typeName)) {
+            return;
+        }
+        if (classInfo.isAbstract() || classInfo.isInterface()) {
+            // the base type of a polymorphic hierarchy is never generated but its subtypes are
+            if (generatedClassNames.add(typeName)) {
+                registerSubTypesToBeGenerated(classInfo);
+            }
+        } else if (shouldGenerateCodeFor(classInfo)) {
             toBeGenerated.add(classInfo);
         }
     }
 
+    /**
+     * @return {@code true} if the class declares {@code @JsonSubTypes}
+     */
+    private boolean registerSubTypesToBeGenerated(ClassInfo classInfo) {
+        AnnotationInstance subTypes = classInfo.declaredAnnotation(JsonSubTypes.class);
+        if (subTypes == null) {
+            return false;
+        }
+        for (AnnotationInstance subType : subTypes.value().asNestedArray()) {
+            registerTypeToBeGenerated(subType.value().asClass().name().toString());
+        }
+        return true;
+    }
+
     protected boolean shouldGenerateCodeFor(ClassInfo classInfo) {
         return !classInfo.isEnum();
     }
@@ -360,7 +417,11 @@ private String fieldNameFromMethod(MethodInfo methodInfo) {
         }
 
         boolean hasUnknownAnnotation() {
-            return annotations.keySet().stream().anyMatch(FieldSpecs::isUnknownAnnotation);
+            return unknownAnnotation() != null;
+        }
+
+        String unknownAnnotation() {
+            return annotations.keySet().stream().filter(FieldSpecs::isUnknownAnnotation).findFirst().orElse(null);
         }
 
         boolean isIgnoredField() {
@@ -15,6 +15,8 @@
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.FieldInfo;
 import org.jboss.jandex.IndexView;
@@ -25,10 +27,9 @@
 import org.jboss.jandex.TypeVariable;
 import org.jboss.jandex.VoidType;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.core.JacksonException;
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.ObjectCodec;
-import com.fasterxml.jackson.core.TreeNode;
 import com.fasterxml.jackson.databind.BeanProperty;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JavaType;
@@ -36,6 +37,7 @@
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.type.ArrayType;
 import com.fasterxml.jackson.databind.type.CollectionType;
 import com.fasterxml.jackson.databind.type.MapType;
 import com.fasterxml.jackson.databind.type.TypeFactory;
@@ -95,7 +97,7 @@
  *
  *     public Object deserialize(JsonParser jsonParser, DeserializationContext context) throws IOException, JacksonException {
  *         Person person = new Person();
- *         Iterator iterator = ((JsonNode) jsonParser.getCodec().readTree(jsonParser)).fields();
+ *         Iterator iterator = context.readTree(jsonParser).fields();
  *
  *         while (iterator.hasNext()) {
  *             Map.Entry entry = (Map.iterator) var3.next();
@@ -128,8 +130,9 @@
  * factory enqueues a code generation also for that type. The same is valid for both arrays of that type, like
  * {@code Address[]}, and collections, like {@code List&lt;Address&gt}.
  *
- * Also note that this works only if the Java class to be deserialized has an empty constructor, while the generation of
- * this deserializer is skipped in all other cases. In particular this cannot work with records.
+ * Also note that a type referenced by another one is deserialized in this way only if it has an empty constructor, a
+ * constructor annotated with {@code @JsonCreator} or if it is a record. Creator factory methods and delegating creators
+ * are not supported.
  *
  * If the class to be deserialized has one or more generics parameter, the generated deserializer also implements the
  * {@code ContextualDeserializer} interface. For instance for a class like the following
@@ -161,7 +164,7 @@
  *
  *     public Object deserialize(JsonParser jsonParser, DeserializationContext context) throws IOException, JacksonException {
  *         DataItem dataItem = new DataItem();
- *         Iterator iterator = ((JsonNode) jsonParser.getCodec().readTree(jsonParser)).fields();
+ *         Iterator iterator = context.readTree(jsonParser).fields();
  *
  *         while (iterator.hasNext()) {
  *             Map.Entry entry = (Map.iterator) var3.next();
@@ -218,9 +221,14 @@ protected boolean createSerializationMethod(ClassInfo classInfo, ClassCreator cl
                 .addException(IOException.class)
                 .addException(JacksonException.class);
 
+        String unsupportedCreator = unsupportedCreator(classInfo);
+        if (unsupportedCreator != null) {
+            return fallback(classInfo, unsupportedCreator);
+        }
+
         Optional<MethodInfo> ctorOpt = findConstructor(classInfo);
         if (ctorOpt.isEmpty()) {
-            return false;
+            return fallback(classInfo, "no public constructor");
         }
 
         MethodInfo ctor = ctorOpt.get();
@@ -241,13 +249,12 @@ protected boolean createSerializationMethod(ClassInfo classInfo, ClassCreator cl
     }
 
     private static ResultHandle getJsonNode(MethodCreator deserialize) {
+        // unlike ObjectCodec.readTree() this also works when the parser points to a field name or to the end of an object,
+        // which is the case when the type id of a polymorphic type was already consumed
         ResultHandle jsonParser = deserialize.getMethodParam(0);
-        ResultHandle objectCodec = deserialize
-                .invokeVirtualMethod(ofMethod(JsonParser.class, "getCodec", ObjectCodec.class), jsonParser);
-        ResultHandle treeNode = deserialize.invokeVirtualMethod(
-                ofMethod(ObjectCodec.class, "readTree", TreeNode.class, JsonParser.class), objectCodec,
-                jsonParser);
-        return deserialize.checkCast(treeNode, JsonNode.class);
+        ResultHandle deserializationContext = deserialize.getMethodParam(1);
+        return deserialize.invokeVirtualMethod(ofMethod(DeserializationContext.class, "readTree", JsonNode.class,
+                JsonParser.class), deserializationContext, jsonParser);
     }
 
     private ResultHandle createDeserializedObject(DeserializationData deserData) {
@@ -260,12 +267,33 @@ private ResultHandle createDeserializedObject(DeserializationData deserData) {
                     ofMethod(JsonNode.class, "get", JsonNode.class, String.class), deserData.jsonNode,
                     deserData.methodCreator.load(fieldSpecs.jsonName));
 
-            params[i++] = readValueFromJson(deserData.classCreator, deserData.methodCreator,
+            params[i] = readValueFromJson(deserData.classCreator, deserData.methodCreator,
                     deserData.methodCreator.getMethodParam(1), fieldSpecs, deserData.typeParametersIndex, fieldValue);
+            if (params[i++] == null) {
+                fallback(deserData.classInfo, "unresolvable type of creator parameter '" + fieldSpecs.fieldName + "'");
+                return null;
+            }
         }
         return deserData.methodCreator.newInstance(deserData.constructor, params);
     }
 
+    private static String unsupportedCreator(ClassInfo classInfo) {
+        for (MethodInfo method : classInfo.methods()) {
+            AnnotationInstance jsonCreator = method.declaredAnnotation(JsonCreator.class);
+            if (jsonCreator == null) {
+                continue;
+            }
+            if (!method.isConstructor()) {
+                return "@JsonCreator factory method " + method.name() + "()";
+            }
+            AnnotationValue mode = jsonCreator.value("mode");
+            if (mode != null && mode.asEnum().equals(JsonCreator.Mode.DELEGATING.name())) {
+                return "delegating @JsonCreator constructor";
+            }
+        }
+        return null;
+    }
+
     private boolean deserializeObjectFields(DeserializationData deserData, ResultHandle objHandle) {
 
         ResultHandle fieldsIterator = deserData.methodCreator
@@ -358,7 +386,7 @@ private boolean deserializeFieldSpecs(DeserializationData deserData, ResultHandl
                 return true;
             }
             if (fieldSpecs.hasUnknownAnnotation()) {
-                return false;
+                return unsupportedAnnotation(deserData.classInfo, fieldSpecs);
             }
             strSwitch.caseOf(fieldSpecs.jsonName,
                     bytecode -> valid.compareAndSet(true, deserializeField(deserData, bytecode, objHandle,
@@ -373,7 +401,7 @@ private boolean deserializeField(DeserializationData deserData, BytecodeCreator
         ResultHandle valueHandle = readValueFromJson(deserData.classCreator, bytecode, deserializationContext, fieldSpecs,
                 deserData.typeParametersIndex, fieldValue);
         if (valueHandle == null) {
-            return false;
+            return fallback(deserData.classInfo, "unresolvable type of property '" + fieldSpecs.fieldName + "'");
         }
         writeValueToObject(deserData.classInfo, objHandle, fieldSpecs, bytecode,
                 fieldSpecs.toValueWriterHandle(bytecode, valueHandle));
@@ -400,49 +428,95 @@ private ResultHandle readValueFromJson(ClassCreator classCreator, BytecodeCreato
         }
 
         FieldKind fieldKind = registerTypeToBeGenerated(fieldType, fieldTypeName);
-        ResultHandle typeHandle = switch (fieldKind) {
+        boolean generic = fieldKind.isGeneric() || fieldType.kind() == Type.Kind.PARAMETERIZED_TYPE;
+        ResultHandle typeHandle;
+        if (generic) {
+            MethodDescriptor getTypeFactory = ofMethod(DeserializationContext.class, "getTypeFactory", TypeFactory.class);
+            ResultHandle typeFactory = bytecode.invokeVirtualMethod(getTypeFactory, deserializationContext);
+            typeHandle = javaType(classCreator, bytecode, typeFactory, fieldType, typeParametersIndex);
+        } else {
+            typeHandle = bytecode.loadClass(fieldTypeName);
+        }
+
+        if (typeHandle == null) {
+            return null;
+        }
+
+        MethodDescriptor readTreeAsValue = ofMethod(DeserializationContext.class, "readTreeAsValue",
+                Object.class, JsonNode.class, generic ? JavaType.class : Class.class);
+        return bytecode.invokeVirtualMethod(readTreeAsValue, deserializationContext, valueNode, typeHandle);
+    }
+
+    /**
+     * Creates the {@code JavaType} of the given type, resolving its type variables from the types passed to
+     * {@code createContextual}.
+     *
+     * @return the {@code JavaType} or {@code null} if a type variable cannot be resolved
+     */
+    private ResultHandle javaType(ClassCreator classCreator, BytecodeCreator bytecode, ResultHandle typeFactory, Type type,
+            Map<String, Integer> typeParametersIndex) {
+        switch (type.kind()) {
             case TYPE_VARIABLE -> {
-                Integer parameterIndex = typeParametersIndex.get(fieldType.toString());
+                Integer parameterIndex = typeParametersIndex != null ? typeParametersIndex.get(type.toString()) : null;
                 if (parameterIndex == null) {
-                    yield null;
+                    return null;
                 }
                 FieldDescriptor valueTypesField = FieldDescriptor.of(classCreator.getClassName(), "valueTypes",
                         JavaType[].class);
                 ResultHandle valueTypes = bytecode.readInstanceField(valueTypesField, bytecode.getThis());
-                yield bytecode.readArrayValue(valueTypes, parameterIndex);
+                return bytecode.readArrayValue(valueTypes, parameterIndex);
             }
-            case LIST, SET -> {
-                Type listType = ((ParameterizedType) fieldType).arguments().get(0);
-                MethodDescriptor getTypeFactory = ofMethod(DeserializationContext.class, "getTypeFactory",
-                        TypeFactory.class);
-                ResultHandle typeFactory = bytecode.invokeVirtualMethod(getTypeFactory, deserializationContext);
-                MethodDescriptor constructCollectionType = ofMethod(TypeFactory.class,
-                        "constructCollectionType", CollectionType.class, Class.class, Class.class);
-                yield bytecode.invokeVirtualMethod(constructCollectionType, typeFactory,
-                        bytecode.loadClass(fieldKind == FieldKind.SET ? HashSet.class : ArrayList.class),
-                        bytecode.loadClass(listType.name().toString()));
+            case WILDCARD_TYPE -> {
+                return javaType(classCreator, bytecode, typeFactory, type.asWildcardType().extendsBound(),
+                        typeParametersIndex);
             }
-            case MAP -> {
-                Type keyType = ((ParameterizedType) fieldType).arguments().get(0);
-                Type valueType = ((ParameterizedType) fieldType).arguments().get(1);
-                MethodDescriptor getTypeFactory = ofMethod(DeserializationContext.class, "getTypeFactory",
-                        TypeFactory.class);
-                ResultHandle typeFactory = bytecode.invokeVirtualMethod(getTypeFactory, deserializationContext);
-                MethodDescriptor constructMapType = ofMethod(TypeFactory.class, "constructMapType",
-                        MapType.class, Class.class, Class.class, Class.class);
-                yield bytecode.invokeVirtualMethod(constructMapType, typeFactory, bytecode.loadClass(HashMap.class),
-                        bytecode.loadClass(keyType.name().toString()), bytecode.loadClass(valueType.name().toString()));
+            case ARRAY -> {
+                ResultHandle componentType = javaType(classCreator, bytecode, typeFactory,
+                        type.asArrayType().componentType(), typeParametersIndex);
+                return componentType == null ? null
+                        : bytecode.invokeVirtualMethod(
+                                ofMethod(TypeFactory.class, "constructArrayType", ArrayType.class, JavaType.class),
+                                typeFactory, componentType);
+            }
+            case PARAMETERIZED_TYPE -> {
+                List<Type> arguments = type.asParameterizedType().arguments();
+                ResultHandle[] argumentTypes = new ResultHandle[arguments.size()];
+                for (int i = 0; i < argumentTypes.length; i++) {
+                    argumentTypes[i] = javaType(classCreator, bytecode, typeFactory, arguments.get(i), typeParametersIndex);
+                    if (argumentTypes[i] == null) {
+                        return null;
+                    }
+                }
+                String typeName = type.name().toString();
+                if (argumentTypes.length == 1 && (typeName.equals("java.util.List") || typeName.equals("java.util.Collection")
+                        || typeName.equals("java.lang.Iterable") || typeName.equals("java.util.Set"))) {
+                    MethodDescriptor constructCollectionType = ofMethod(TypeFactory.class, "constructCollectionType",
+                            CollectionType.class, Class.class, JavaType.class);
+                    return bytecode.invokeVirtualMethod(constructCollectionType, typeFactory,
+                            bytecode.loadClass(typeName.equals("java.util.Set") ? HashSet.class : ArrayList.class),
+                            argumentTypes[0]);
+                }
+                if (argumentTypes.length == 2 && typeName.equals("java.util.Map")) {
+                    MethodDescriptor constructMapType = ofMethod(TypeFactory.class, "constructMapType", MapType.class,
+                            Class.class, JavaType.class, JavaType.class);
+                    return bytecode.invokeVirtualMethod(constructMapType, typeFactory, bytecode.loadClass(HashMap.class),
+                            argumentTypes[0], argumentTypes[1]);
+                }
+                ResultHandle argumentTypesArray = bytecode.newArray(JavaType.class, argumentTypes.length);
+                for (int i = 0; i < argumentTypes.length; i++) {
+                    bytecode.writeArrayValue(argumentTypesArray, i, argumentTypes[i]);
+                }
+                MethodDescriptor constructParametricType = ofMethod(TypeFactory.class, "constructParametricType",
+                        JavaType.class, Class.class, JavaType[].class);
+                return bytecode.invokeVirtualMethod(constructParametricType, typeFactory, bytecode.loadClass(typeName),
+                        argumentTypesArray);
+            }
+            default -> {
+                return bytecode.invokeVirtualMethod(
+                        ofMethod(TypeFactory.class, "constructType", JavaType.class, java.lang.reflect.Type.class),
+                        typeFactory, bytecode.loadClass(type.name().toString()));
             }
-            default -> bytecode.loadClass(fieldTypeName);
-        };
-
-        if (typeHandle == null) {
-            return null;
         }
-
-        MethodDescriptor readTreeAsValue = ofMethod(DeserializationContext.class, "readTreeAsValue",
-                Object.class, JsonNode.class, fieldKind.isGeneric() ? JavaType.class : Class.class);
-        return bytecode.invokeVirtualMethod(readTreeAsValue, deserializationContext, valueNode, typeHandle);
     }
 
     private void writeValueToObject(ClassInfo classInfo, ResultHandle objHandle, FieldSpecs fieldSpecs,
@@ -519,7 +593,8 @@ private static ResultHandle readValueForPrimitiveFields(BytecodeCreator bytecode
 
     @Override
     protected boolean shouldGenerateCodeFor(ClassInfo classInfo) {
-        return super.shouldGenerateCodeFor(classInfo) && classInfo.hasNoArgsConstructor();
+        return super.shouldGenerateCodeFor(classInfo) && (classInfo.hasNoArgsConstructor() || classInfo.isRecord()
+                || classInfo.constructors().stream().anyMatch(ctor -> ctor.hasAnnotation(JsonCreator.class)));
     }
 
     private record DeserializationData(ClassInfo classInfo, MethodInfo constructor, ClassCreator classCreator,
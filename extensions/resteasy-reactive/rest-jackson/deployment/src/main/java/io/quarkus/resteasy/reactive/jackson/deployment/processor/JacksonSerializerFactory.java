@@ -1,6 +1,7 @@
 package io.quarkus.resteasy.reactive.jackson.deployment.processor;
 
 import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
 
@@ -21,12 +22,15 @@
 
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.SerializableString;
 import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.type.WritableTypeId;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import com.fasterxml.jackson.databind.type.SimpleType;
 
@@ -84,8 +88,20 @@
  *     }
  *
  *     public void serialize(Object var1, JsonGenerator var2, SerializerProvider var3) throws IOException {
- *         Person var4 = (Person) var1;
  *         var2.writeStartObject();
+ *         this.serializeFields(var1, var2, var3);
+ *         var2.writeEndObject();
+ *     }
+ *
+ *     public void serializeWithType(Object var1, JsonGenerator var2, SerializerProvider var3, TypeSerializer var4)
+ *             throws IOException {
+ *         WritableTypeId var5 = var4.writeTypePrefix(var2, var4.typeId(var1, JsonToken.START_OBJECT));
+ *         this.serializeFields(var1, var2, var3);
+ *         var4.writeTypeSuffix(var2, var5);
+ *     }
+ *
+ *     private void serializeFields(Object var1, JsonGenerator var2, SerializerProvider var3) throws IOException {
+ *         Person var4 = (Person) var1;
  *         var2.writeFieldName(SerializedStrings$quarkusjacksonserializer.age);
  *         int var5 = var4.getAge();
  *         var2.writeNumber(var5);
@@ -100,7 +116,6 @@
  *             Address var9 = var4.getAddress();
  *             var2.writePOJO(var9);
  *         }
- *         var2.writeEndObject();
  *     }
  * }
  *
@@ -120,7 +135,11 @@
  * the generation of a second StdSerializer also for it. More in general if during the generation of a serializer for a
  * given class it discovers a non-primitive field of another type for which a serializer hasn't been generated yet, this
  * factory enqueues a code generation also for that type. The same is valid for both arrays of that type, like
- * {@code Address[]}, and collections, like {@code List&lt;Address&gt}.
+ * {@code Address[]}, and collections, like {@code List&lt;Address&gt}. The type arguments of other generic types, like
+ * {@code Page&lt;Address&gt;}, and the subtypes listed in {@code @JsonSubTypes} are handled in the same way.
+ * <p>
+ * The {@code serializeWithType} method is used by Jackson when the serialized class is part of a polymorphic hierarchy
+ * annotated with {@code @JsonTypeInfo}.
  */
 public class JacksonSerializerFactory extends JacksonCodeGenerator {
 
@@ -197,36 +216,82 @@ private boolean serializeObject(ClassInfo classInfo, ClassCreator classCreator,
 
         var jsonValueFieldSpecs = jsonValueFieldSpecs(classInfo);
         if (jsonValueFieldSpecs == null) {
-            return false;
+            return fallback(classInfo, "@JsonValue is not declared on a single public method or field");
         }
 
-        SerializationContext ctx = new SerializationContext(serialize, beanClassName);
-
         if (jsonValueFieldSpecs.isPresent()) {
+            SerializationContext ctx = new SerializationContext(serialize, beanClassName);
             serializeJsonValue(ctx, serialize, jsonValueFieldSpecs.get());
             return true;
         }
 
+        // the properties are written by a separate method so that they can be also wrapped with a type id
+        MethodCreator serializeFields = classCreator.getMethodCreator("serializeFields", "void", "java.lang.Object",
+                JSON_GEN_CLASS_NAME, SerializerProvider.class.getName())
+                .setModifiers(ACC_PRIVATE)
+                .addException(IOException.class);
+        SerializationContext ctx = new SerializationContext(serializeFields, beanClassName);
+
+        Set<String> serializedFields = new HashSet<>();
+        boolean valid = serializeObjectData(classInfo, classCreator, serializeFields, ctx, serializedFields);
+        serializeFields.returnVoid();
+
+        ResultHandle jsonGenerator = serialize.getMethodParam(1);
+
         // jsonGenerator.writeStartObject();
         MethodDescriptor writeStartObject = MethodDescriptor.ofMethod(JSON_GEN_CLASS_NAME, "writeStartObject", "void");
-        serialize.invokeVirtualMethod(writeStartObject, ctx.jsonGenerator);
+        serialize.invokeVirtualMethod(writeStartObject, jsonGenerator);
 
-        Set<String> serializedFields = new HashSet<>();
-        boolean valid = serializeObjectData(classInfo, classCreator, serialize, ctx, serializedFields);
+        serialize.invokeSpecialMethod(serializeFields.getMethodDescriptor(), serialize.getThis(),
+                serialize.getMethodParam(0), jsonGenerator, serialize.getMethodParam(2));
 
         // jsonGenerator.writeEndObject();
         MethodDescriptor writeEndObject = MethodDescriptor.ofMethod(JSON_GEN_CLASS_NAME, "writeEndObject", "void");
-        serialize.invokeVirtualMethod(writeEndObject, ctx.jsonGenerator);
+        serialize.invokeVirtualMethod(writeEndObject, jsonGenerator);
 
         if (serializedFields.isEmpty()) {
-            throwExceptionForEmptyBean(beanClassName, serialize, ctx.jsonGenerator);
+            throwExceptionForEmptyBean(beanClassName, serialize, jsonGenerator);
         }
 
+        createSerializeWithTypeMethod(classCreator, serializeFields);
+
         classCreator.getMethodCreator("<clinit>", void.class).setModifiers(ACC_STATIC).returnVoid();
 
         return valid;
     }
 
+    private void createSerializeWithTypeMethod(ClassCreator classCreator, MethodCreator serializeFields) {
+        MethodCreator serializeWithType = classCreator.getMethodCreator("serializeWithType", "void", "java.lang.Object",
+                JSON_GEN_CLASS_NAME, SerializerProvider.class.getName(), TypeSerializer.class.getName())
+                .setModifiers(ACC_PUBLIC)
+                .addException(IOException.class);
+        ResultHandle value = serializeWithType.getMethodParam(0);
+        ResultHandle jsonGenerator = serializeWithType.getMethodParam(1);
+        ResultHandle typeSerializer = serializeWithType.getMethodParam(3);
+
+        // WritableTypeId typeId = typeSerializer.writeTypePrefix(jsonGenerator, typeSerializer.typeId(value, JsonToken.START_OBJECT));
+        ResultHandle startObject = serializeWithType.readStaticField(
+                FieldDescriptor.of(JsonToken.class, "START_OBJECT", JsonToken.class));
+        ResultHandle typeId = serializeWithType.invokeVirtualMethod(
+                MethodDescriptor.ofMethod(TypeSerializer.class, "typeId", WritableTypeId.class, Object.class,
+                        JsonToken.class),
+                typeSerializer, value, startObject);
+        typeId = serializeWithType.invokeVirtualMethod(
+                MethodDescriptor.ofMethod(TypeSerializer.class, "writeTypePrefix", WritableTypeId.class, JsonGenerator.class,
+                        WritableTypeId.class),
+                typeSerializer, jsonGenerator, typeId);
+
+        serializeWithType.invokeSpecialMethod(serializeFields.getMethodDescriptor(), serializeWithType.getThis(), value,
+                jsonGenerator, serializeWithType.getMethodParam(2));
+
+        // typeSerializer.writeTypeSuffix(jsonGenerator, typeId);
+        serializeWithType.invokeVirtualMethod(
+                MethodDescriptor.ofMethod(TypeSerializer.class, "writeTypeSuffix", WritableTypeId.class, JsonGenerator.class,
+                        WritableTypeId.class),
+                typeSerializer, jsonGenerator, typeId);
+        serializeWithType.returnVoid();
+    }
+
     private Optional<FieldSpecs> jsonValueFieldSpecs(ClassInfo classInfo) {
         var jsonValueAnnotationFound = classInfo.hasAnnotation(JsonValue.class);
         if (!jsonValueAnnotationFound) {
@@ -277,7 +342,7 @@ private boolean serializeFields(ClassInfo classInfo, ClassCreator classCreator,
                     continue;
                 }
                 if (fieldSpecs.hasUnknownAnnotation()) {
-                    return false;
+                    return unsupportedAnnotation(classInfo, fieldSpecs);
                 }
                 writeField(classInfo, fieldSpecs, writeFieldBranch(classCreator, serialize, fieldSpecs), ctx);
             }
@@ -294,7 +359,7 @@ private boolean serializeMethods(ClassInfo classInfo, ClassCreator classCreator,
                     continue;
                 }
                 if (fieldSpecs.hasUnknownAnnotation()) {
-                    return false;
+                    return unsupportedAnnotation(classInfo, fieldSpecs);
                 }
                 writeField(classInfo, fieldSpecs, serialize, ctx);
             }
@@ -406,17 +406,11 @@ public void handleEndpointParams(ResteasyReactiveResourceMethodEntriesBuildItem
 
         for (ResteasyReactiveResourceMethodEntriesBuildItem.Entry entry : resourceMethodEntries.getEntries()) {
             MethodInfo methodInfo = entry.getMethodInfo();
-            ClassInfo effectiveReturnClassInfo = getEffectiveClassInfo(methodInfo.returnType(), indexView);
-            if (effectiveReturnClassInfo != null) {
-                serializedClasses.put(effectiveReturnClassInfo.name().toString(), effectiveReturnClassInfo);
-            }
+            addEffectiveClassInfos(methodInfo.returnType(), indexView, serializedClasses);
 
             if (methodInfo.hasAnnotation(POST.class)) {
                 for (Type paramType : methodInfo.parameterTypes()) {
-                    ClassInfo effectiveParamClassInfo = getEffectiveClassInfo(paramType, indexView);
-                    if (effectiveParamClassInfo != null) {
-                        deserializedClasses.put(effectiveParamClassInfo.name().toString(), effectiveParamClassInfo);
-                    }
+                    addEffectiveClassInfos(paramType, indexView, deserializedClasses);
                 }
             }
         }
@@ -426,6 +420,7 @@ public void handleEndpointParams(ResteasyReactiveResourceMethodEntriesBuildItem
                     index.getComputingIndex());
             factory.create(serializedClasses.values())
                     .forEach(recorder::recordGeneratedSerializer);
+            logFallbacks("serializers", factory.getFallbacks());
         }
 
         if (!deserializedClasses.isEmpty()) {
@@ -433,7 +428,36 @@ public void handleEndpointParams(ResteasyReactiveResourceMethodEntriesBuildItem
                     index.getComputingIndex());
             factory.create(deserializedClasses.values())
                     .forEach(recorder::recordGeneratedDeserializer);
+            logFallbacks("deserializers", factory.getFallbacks());
+        }
+    }
+
+    private static void addEffectiveClassInfos(Type type, IndexView indexView, Map<String, ClassInfo> classInfos) {
+        ClassInfo effectiveClassInfo = getEffectiveClassInfo(type, indexView);
+        if (effectiveClassInfo == null) {
+            return;
+        }
+        classInfos.put(effectiveClassInfo.name().toString(), effectiveClassInfo);
+        Type effectiveType = getEffectiveType(type);
+        if (effectiveType.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+            // the type arguments of generic wrappers, e.g. Page<Item>
+            for (Type argument : effectiveType.asParameterizedType().arguments()) {
+                addEffectiveClassInfos(argument, indexView, classInfos);
+            }
+        }
+    }
+
+    private static void logFallbacks(String kind, Map<String, String> fallbacks) {
+        if (fallbacks.isEmpty()) {
+            return;
+        }
+        StringBuilder message = new StringBuilder("Reflection-free Jackson ").append(kind)
+                .append(" could not be generated for the following types, the default Jackson ").append(kind)
+                .append(" are used instead:");
+        for (Map.Entry<String, String> fallback : fallbacks.entrySet()) {
+            message.append("\n\t- ").append(fallback.getKey()).append(": ").append(fallback.getValue());
         }
+        log.info(message.toString());
     }
 
     @BuildStep(onlyIf = JacksonOptimizationConfig.IsReflectionFreeSerializersEnabled.class)
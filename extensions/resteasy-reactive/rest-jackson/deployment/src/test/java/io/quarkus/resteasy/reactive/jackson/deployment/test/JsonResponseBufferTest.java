@@ -0,0 +1,95 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class JsonResponseBufferTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(ItemsResource.class, Item.class, FailingItem.class));
+
+    @Test
+    public void testSmallResponse() {
+        RestAssured.get("/items/small")
+                .then()
+                .statusCode(200)
+                .header("Content-Length", "24")
+                .header("Transfer-Encoding", nullValue())
+                .body(is("[{\"id\":0,\"name\":\"item\"}]"));
+    }
+
+    @Test
+    public void testLargeResponse() {
+        RestAssured.get("/items/large")
+                .then()
+                .statusCode(200)
+                .header("Transfer-Encoding", "chunked")
+                .body("$", hasSize(10_000))
+                .body("[9999].id", is(9999));
+    }
+
+    @Test
+    public void testSerializationFailure() {
+        RestAssured.get("/items/failing")
+                .then()
+                .statusCode(500);
+    }
+
+    @Path("items")
+    public static class ItemsResource {
+
+        @GET
+        @Path("small")
+        public List<Item> small() {
+            return List.of(new Item(0, "item"));
+        }
+
+        @GET
+        @Path("large")
+        public List<Item> large() {
+            List<Item> items = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                items.add(new Item(i, "item"));
+            }
+            return items;
+        }
+
+        @GET
+        @Path("failing")
+        public List<Object> failing() {
+            return List.of(new Item(0, "item"), new FailingItem());
+        }
+    }
+
+    public static class Item {
+
+        public final int id;
+        public final String name;
+
+        public Item(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    public static class FailingItem {
+
+        public String getName() {
+            throw new IllegalStateException("serialization failed");
+        }
+    }
+}
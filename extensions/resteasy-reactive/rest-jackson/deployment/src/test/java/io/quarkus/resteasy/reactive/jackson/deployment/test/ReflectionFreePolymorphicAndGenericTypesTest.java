@@ -0,0 +1,211 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+
+public class ReflectionFreePolymorphicAndGenericTypesTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(ShapeResource.class, Shape.class, Circle.class, Square.class,
+                    Page.class, Event.class))
+            .overrideConfigKey("quarkus.rest.jackson.optimization.enable-reflection-free-serializers", "true")
+            .setLogRecordPredicate(record -> record.getLevel().equals(Level.INFO))
+            .assertLogRecords(new Consumer<>() {
+                @Override
+                public void accept(List<LogRecord> logRecords) {
+                    assertThat(logRecords).extracting(LogRecord::getMessage)
+                            .anyMatch(message -> message.startsWith("Reflection-free Jackson serializers")
+                                    && message.contains(Event.class.getName()
+                                            + ": unsupported annotation @com.fasterxml.jackson.annotation.JsonFormat"
+                                            + " on property 'date'"));
+                }
+            });
+
+    @Test
+    public void testPolymorphicSerialization() {
+        RestAssured.get("/shapes")
+                .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .body(Matchers.is("[{\"kind\":\"circle\",\"radius\":1.5},{\"kind\":\"square\",\"side\":2.0}]"));
+    }
+
+    @Test
+    public void testPolymorphicDeserialization() {
+        RestAssured.given()
+                .contentType(ContentType.JSON)
+                .body("[{\"kind\":\"square\",\"side\":3.0},{\"kind\":\"circle\",\"radius\":0.5}]")
+                .post("/shapes")
+                .then()
+                .statusCode(200)
+                .body(Matchers.is("square:3.0,circle:0.5"));
+    }
+
+    @Test
+    public void testGenericSerialization() {
+        RestAssured.get("/shapes/page")
+                .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .body(Matchers.is("{\"content\":[{\"kind\":\"circle\",\"radius\":1.0}],\"number\":3}"));
+    }
+
+    @Test
+    public void testGenericDeserialization() {
+        RestAssured.given()
+                .contentType(ContentType.JSON)
+                .body("{\"number\":7,\"content\":[{\"kind\":\"square\",\"side\":4.0},{\"kind\":\"square\",\"side\":5.0}]}")
+                .post("/shapes/page")
+                .then()
+                .statusCode(200)
+                .body(Matchers.is("7:4.0,5.0"));
+    }
+
+    @Test
+    public void testFallback() {
+        RestAssured.get("/shapes/event")
+                .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .body(Matchers.is("{\"date\":\"01/02/2024\"}"));
+    }
+
+    @Path("shapes")
+    public static class ShapeResource {
+
+        @GET
+        @Produces(MediaType.APPLICATION_JSON)
+        public List<Shape> shapes() {
+            return List.of(new Circle(1.5), new Square(2.0));
+        }
+
+        @POST
+        @Consumes(MediaType.APPLICATION_JSON)
+        @Produces(MediaType.TEXT_PLAIN)
+        public String describe(List<Shape> shapes) {
+            StringBuilder result = new StringBuilder();
+            for (Shape shape : shapes) {
+                if (!result.isEmpty()) {
+                    result.append(',');
+                }
+                if (shape instanceof Circle circle) {
+                    result.append("circle:").append(circle.radius);
+                } else if (shape instanceof Square square) {
+                    result.append("square:").append(square.getSide());
+                }
+            }
+            return result.toString();
+        }
+
+        @GET
+        @Path("page")
+        @Produces(MediaType.APPLICATION_JSON)
+        public Page<Circle> page() {
+            Page<Circle> page = new Page<>();
+            page.content = List.of(new Circle(1.0));
+            page.number = 3;
+            return page;
+        }
+
+        @POST
+        @Path("page")
+        @Consumes(MediaType.APPLICATION_JSON)
+        @Produces(MediaType.TEXT_PLAIN)
+        public String describePage(Page<Square> page) {
+            StringBuilder result = new StringBuilder().append(page.number).append(':');
+            for (int i = 0; i < page.content.size(); i++) {
+                if (i > 0) {
+                    result.append(',');
+                }
+                // accessing the element via the Square type verifies that the type argument was used
+                Square square = page.content.get(i);
+                result.append(square.getSide());
+            }
+            return result.toString();
+        }
+
+        @GET
+        @Path("event")
+        @Produces(MediaType.APPLICATION_JSON)
+        public Event event() {
+            Event event = new Event();
+            event.date = LocalDate.of(2024, 1, 2);
+            return event;
+        }
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "kind")
+    @JsonSubTypes({
+            @JsonSubTypes.Type(value = Circle.class, name = "circle"),
+            @JsonSubTypes.Type(value = Square.class, name = "square")
+    })
+    public interface Shape {
+
+    }
+
+    public static class Circle implements Shape {
+
+        public double radius;
+
+        public Circle() {
+        }
+
+        public Circle(double radius) {
+            this.radius = radius;
+        }
+    }
+
+    public static class Square implements Shape {
+
+        private final double side;
+
+        @JsonCreator
+        public Square(@JsonProperty("side") double side) {
+            this.side = side;
+        }
+
+        public double getSide() {
+            return side;
+        }
+    }
+
+    public static class Page<T> {
+
+        public List<T> content;
+
+        public int number;
+    }
+
+    public static class Event {
+
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd/MM/yyyy")
+        public LocalDate date;
+    }
+}
@@ -68,7 +68,7 @@ public ObjectWriter get() {
     @Override
     public void writeResponse(Object o, Type genericType, ServerRequestContext context)
             throws WebApplicationException, IOException {
-        OutputStream stream = context.getOrCreateOutputStream();
+        OutputStream stream = JsonResponseStreams.create(context);
         if (o instanceof String) { // YUK: done in order to avoid adding extra quotes...
             stream.write(((String) o).getBytes(StandardCharsets.UTF_8));
         } else {
@@ -103,7 +103,12 @@ public void writeResponse(Object o, Type genericType, ServerRequestContext conte
                     effectiveWriter = effectiveWriter.forType(rootType);
                 }
             }
-            effectiveWriter.writeValue(stream, o);
+            try {
+                effectiveWriter.writeValue(stream, o);
+            } catch (Throwable t) {
+                JsonResponseStreams.discard(stream);
+                throw t;
+            }
         }
         // we don't use try-with-resources because that results in writing to the http output without the exception mapping coming into play
         stream.close();
@@ -0,0 +1,34 @@
+package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
+
+import java.io.OutputStream;
+
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+import org.jboss.resteasy.reactive.server.vertx.BufferedResponseOutputStream;
+import org.jboss.resteasy.reactive.server.vertx.VertxResteasyReactiveRequestContext;
+
+final class JsonResponseStreams {
+
+    private JsonResponseStreams() {
+    }
+
+    /**
+     * On Vert.x the JSON is serialized straight into a pooled buffer that is used to end the response, so that no
+     * response output stream needs to be set up for the typical small payloads.
+     */
+    static OutputStream create(ServerRequestContext context) {
+        if (context instanceof VertxResteasyReactiveRequestContext vertxContext) {
+            return vertxContext.createBufferedResponseOutputStream();
+        }
+        return context.getOrCreateOutputStream();
+    }
+
+    /**
+     * Must be called if the serialization fails, so that the exception can be mapped to a different response.
+     */
+    static void discard(OutputStream stream) {
+        if (stream instanceof BufferedResponseOutputStream bufferedStream) {
+            bufferedStream.discard();
+        }
+    }
+
+}
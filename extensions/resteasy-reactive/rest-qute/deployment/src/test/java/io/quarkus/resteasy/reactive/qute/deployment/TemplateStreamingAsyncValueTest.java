@@ -0,0 +1,101 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import static io.restassured.RestAssured.when;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+public class TemplateStreamingAsyncValueTest {
+
+    private static final int COUNT = 20_000;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(TestResource.class, WriteThreadInterceptor.class)
+                    .addAsResource(new StringAsset("{header}{#for i in count}<li>{i}</li>{/for}{footer}"),
+                            "templates/items.html"))
+            .overrideConfigKey("quarkus.rest.qute.streaming", "true");
+
+    @Test
+    public void testChunksWrittenByBlockingThread() {
+        StringBuilder expected = new StringBuilder("<ul>");
+        IntStream.rangeClosed(1, COUNT).forEach(i -> expected.append("<li>").append(i).append("</li>"));
+        expected.append("</ul>");
+        when().get("/items").then().statusCode(200)
+                .header("Transfer-Encoding", "chunked")
+                .body(Matchers.is(expected.toString()));
+        assertEquals(0, WriteThreadInterceptor.FOREIGN_WRITES.get());
+    }
+
+    @Path("items")
+    public static class TestResource {
+
+        @Inject
+        Template items;
+
+        @GET
+        public TemplateInstance get() {
+            // The values are completed by other threads, after the rendering started
+            return items.data("header",
+                    CompletableFuture.supplyAsync(() -> "<ul>", CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS)))
+                    .data("count", COUNT)
+                    .data("footer", Uni.createFrom().item("</ul>").onItem().delayIt().by(Duration.ofMillis(100)));
+        }
+    }
+
+    @Provider
+    public static class WriteThreadInterceptor implements WriterInterceptor {
+
+        static final AtomicInteger FOREIGN_WRITES = new AtomicInteger();
+
+        @Override
+        public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+            Thread thread = Thread.currentThread();
+            context.setOutputStream(new FilterOutputStream(context.getOutputStream()) {
+
+                @Override
+                public void write(int b) throws IOException {
+                    check();
+                    out.write(b);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    check();
+                    out.write(b, off, len);
+                }
+
+                private void check() {
+                    if (Thread.currentThread() != thread) {
+                        FOREIGN_WRITES.incrementAndGet();
+                    }
+                }
+            });
+            context.proceed();
+        }
+    }
+}
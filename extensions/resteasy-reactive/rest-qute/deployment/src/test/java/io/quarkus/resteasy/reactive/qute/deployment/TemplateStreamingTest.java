@@ -0,0 +1,83 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import static io.restassured.RestAssured.when;
+
+import java.util.stream.IntStream;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Response;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.common.annotation.NonBlocking;
+
+public class TemplateStreamingTest {
+
+    private static final int COUNT = 20_000;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(TestResource.class)
+                    .addAsResource(new StringAsset("{#for i in count}<li>{i}:ž</li>{/for}"), "templates/items.html"))
+            .overrideConfigKey("quarkus.rest.qute.streaming", "true");
+
+    @Test
+    public void testStreaming() {
+        String expected = expected();
+        when().get("/items").then().statusCode(200)
+                .header("Transfer-Encoding", "chunked")
+                .contentType(Matchers.startsWith("text/html"))
+                .body(Matchers.is(expected));
+        when().get("/items/response").then().statusCode(202)
+                .header("Transfer-Encoding", "chunked")
+                .header("foo", "bar")
+                .body(Matchers.is(expected));
+    }
+
+    @Test
+    public void testEventLoopNotStreamed() {
+        when().get("/items/non-blocking").then().statusCode(200)
+                .header("Transfer-Encoding", Matchers.nullValue())
+                .body(Matchers.is(expected()));
+    }
+
+    private static String expected() {
+        StringBuilder builder = new StringBuilder();
+        IntStream.rangeClosed(1, COUNT).forEach(i -> builder.append("<li>").append(i).append(":ž</li>"));
+        return builder.toString();
+    }
+
+    @Path("items")
+    public static class TestResource {
+
+        @Inject
+        Template items;
+
+        @GET
+        public TemplateInstance get() {
+            return items.data("count", COUNT);
+        }
+
+        @Path("response")
+        @GET
+        public Response response() {
+            return Response.accepted(items.data("count", COUNT)).header("foo", "bar").build();
+        }
+
+        @NonBlocking
+        @Path("non-blocking")
+        @GET
+        public TemplateInstance nonBlocking() {
+            return items.data("count", COUNT);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigMapping(prefix = "quarkus.rest.qute")
+@ConfigRoot(phase = ConfigPhase.RUN_TIME)
+public interface RestQuteRuntimeConfig {
+
+    /**
+     * If set to {@code true} then a {@link io.quarkus.qute.TemplateInstance} returned from a blocking resource method is
+     * streamed to the client. The output is encoded directly into the pooled response buffers and written in chunks of
+     * {@code quarkus.rest.output-buffer-size} bytes, i.e. the whole output is never held in memory as a {@link String}. The
+     * writing thread waits until the connection is writable again if the client cannot keep up.
+     * <p>
+     * Note that the response is committed before the template is fully rendered. Therefore, if the rendering fails then the
+     * connection is closed and no error response can be sent. Templates rendered on the event loop are never streamed.
+     */
+    @WithDefault("false")
+    boolean streaming();
+
+}
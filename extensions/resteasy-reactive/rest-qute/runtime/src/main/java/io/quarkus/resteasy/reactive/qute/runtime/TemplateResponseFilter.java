@@ -9,6 +9,7 @@
 
 import org.jboss.resteasy.reactive.common.headers.HeaderUtil;
 import org.jboss.resteasy.reactive.server.ServerResponseFilter;
+import org.jboss.resteasy.reactive.server.core.BlockingOperationSupport;
 import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveContainerRequestContext;
 
 import io.quarkus.qute.Engine;
@@ -23,6 +24,9 @@ public class TemplateResponseFilter {
     @Inject
     Engine engine;
 
+    @Inject
+    RestQuteRuntimeConfig config;
+
     @ServerResponseFilter
     public Uni<Void> filter(ResteasyReactiveContainerRequestContext requestContext, ContainerResponseContext responseContext) {
         Object entity = responseContext.getEntity();
@@ -40,6 +44,11 @@ public Uni<Void> filter(ResteasyReactiveContainerRequestContext requestContext,
             mediaType = selectedMediaType;
         }
 
+        if (mediaType != null && config.streaming() && BlockingOperationSupport.isBlockingAllowed()) {
+            responseContext.setEntity(new TemplateStreamingOutput(instance, mediaType), null, mediaType);
+            return null;
+        }
+
         Uni<String> uni = toUni(instance, engine);
         return uni.chain(r -> {
             if (mediaType != null) {
@@ -5,17 +5,18 @@
 
 import jakarta.ws.rs.core.MediaType;
 
+import org.jboss.resteasy.reactive.server.core.BlockingOperationSupport;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.qute.Engine;
 import io.quarkus.qute.TemplateInstance;
-import io.smallrye.mutiny.Uni;
 
 public class TemplateResponseUniHandler implements ServerRestHandler {
 
     private volatile Engine engine;
+    private volatile RestQuteRuntimeConfig config;
 
     @Override
     public void handle(ResteasyReactiveRequestContext requestContext) {
@@ -29,18 +30,21 @@ public void handle(ResteasyReactiveRequestContext requestContext) {
         if (engine == null) {
             synchronized (this) {
                 if (engine == null) {
+                    config = Arc.container().instance(RestQuteRuntimeConfig.class).get();
                     engine = Arc.container().instance(Engine.class).get();
                 }
             }
         }
-        requestContext.setResult(createUni(requestContext, (TemplateInstance) result, engine));
-    }
-
-    private Uni<String> createUni(ResteasyReactiveRequestContext requestContext, TemplateInstance result, Engine engine) {
-        MediaType mediaType = setSelectedVariant(result, requestContext.getRequest(),
+        TemplateInstance instance = (TemplateInstance) result;
+        MediaType mediaType = setSelectedVariant(instance, requestContext.getRequest(),
                 requestContext.getHttpHeaders().getAcceptableLanguages());
         requestContext.setResponseContentType(mediaType);
-        return toUni(result, engine);
+        if (mediaType != null && config.streaming() && BlockingOperationSupport.isBlockingAllowed()) {
+            // The output stream blocks the current thread if the client cannot keep up
+            requestContext.setResult(new TemplateStreamingOutput(instance, mediaType));
+        } else {
+            requestContext.setResult(toUni(instance, engine));
+        }
     }
 
 }
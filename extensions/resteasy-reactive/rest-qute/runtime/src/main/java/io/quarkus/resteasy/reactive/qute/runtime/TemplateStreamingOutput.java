@@ -0,0 +1,124 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.StreamingOutput;
+
+import io.quarkus.qute.TemplateException;
+import io.quarkus.qute.TemplateInstance;
+
+/**
+ * Writes the rendered chunks of a template directly to the response output stream.
+ * <p>
+ * The chunks are encoded by a single {@link OutputStreamWriter} and the response stream copies the bytes into pooled
+ * buffers, so no intermediate {@link String} or {@code byte[]} is created for the whole output. The response stream also
+ * takes care of the backpressure, i.e. the current thread is blocked while the write queue of the connection is full.
+ * <p>
+ * The chunks that follow an asynchronous value are emitted by the thread that completes the value, possibly an event loop.
+ * These chunks are handed over to the thread that writes the output, so the response stream is only written from the
+ * blocking thread.
+ */
+final class TemplateStreamingOutput implements StreamingOutput {
+
+    // Marks the end of the rendering in the queue of chunks, compared by identity
+    private static final String END = new String();
+
+    private final TemplateInstance instance;
+    private final Charset charset;
+
+    TemplateStreamingOutput(TemplateInstance instance, MediaType mediaType) {
+        this.instance = instance;
+        String charsetParam = mediaType.getParameters().get(MediaType.CHARSET_PARAMETER);
+        this.charset = charsetParam != null ? Charset.forName(charsetParam) : StandardCharsets.UTF_8;
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+        Writer writer = new OutputStreamWriter(output, charset);
+        long timeout = instance.getTimeout();
+        Thread thread = Thread.currentThread();
+        // The chunks emitted by other threads
+        BlockingQueue<String> chunks = new LinkedBlockingQueue<>();
+        CompletableFuture<Void> rendered = instance.consume(new Consumer<String>() {
+
+            // Only accessed by the rendering thread, the rendering of a template instance is sequential
+            boolean async;
+
+            @Override
+            public void accept(String chunk) {
+                if (!async && Thread.currentThread() == thread) {
+                    try {
+                        writer.write(chunk);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                } else {
+                    // Do not write to the blocking response stream from an event loop, keep the order of the chunks
+                    async = true;
+                    chunks.add(chunk);
+                }
+            }
+        }).toCompletableFuture();
+        try {
+            if (!rendered.isDone()) {
+                rendered.whenComplete(new BiConsumer<Void, Throwable>() {
+                    @Override
+                    public void accept(Void result, Throwable failure) {
+                        chunks.add(END);
+                    }
+                });
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+                String chunk;
+                while ((chunk = chunks.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) != END) {
+                    if (chunk == null) {
+                        throw new TimeoutException();
+                    }
+                    writer.write(chunk);
+                }
+            }
+            rendered.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TemplateException(e);
+        } catch (TimeoutException e) {
+            throw new TemplateException(instance + " rendering timeout [" + timeout + "ms] occurred");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new TemplateException(cause);
+        }
+        // The rendering may have completed on another thread before it was awaited
+        String chunk;
+        while ((chunk = chunks.poll()) != null) {
+            if (chunk != END) {
+                writer.write(chunk);
+            }
+        }
+        writer.flush();
+    }
+
+    @Override
+    public String toString() {
+        return "TemplateStreamingOutput [instance=" + instance + "]";
+    }
+
+}
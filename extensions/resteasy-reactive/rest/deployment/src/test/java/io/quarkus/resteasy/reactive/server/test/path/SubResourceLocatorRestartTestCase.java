@@ -0,0 +1,104 @@
+package io.quarkus.resteasy.reactive.server.test.path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+/**
+ * Both class level templates match {@code /restart/a/b/...}. The more specific one is tried first and the request is
+ * restarted with the next class if none of its methods match. The class level mapper is shared by all requests, so the
+ * path params of the restarted match must not leak between requests.
+ */
+public class SubResourceLocatorRestartTestCase {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(SpecificResource.class, LocatorResource.class, SubResource.class));
+
+    @Test
+    public void testRestartWithSubResourceLocator() {
+        // Matched by the specific class
+        RestAssured.when().get("/restart/a/b/specific").then().statusCode(200).body(Matchers.is("specific:a:b"));
+        // Restarted with the locator class, the path params come from the second match
+        RestAssured.when().get("/restart/a/b/c").then().statusCode(200).body(Matchers.is("sub:a:b:c"));
+        // No method of either class matches
+        RestAssured.when().get("/restart/a/b/c/d").then().statusCode(404);
+    }
+
+    @Test
+    public void testConcurrentRestarts() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                int id = i;
+                futures.add(executor.submit(() -> {
+                    if (id % 2 == 0) {
+                        String body = RestAssured.when().get("/restart/" + id + "/name" + id + "/value" + id).then()
+                                .statusCode(200).extract().asString();
+                        assertEquals("sub:" + id + ":name" + id + ":value" + id, body);
+                    } else {
+                        String body = RestAssured.when().get("/restart/" + id + "/other" + id + "/specific").then()
+                                .statusCode(200).extract().asString();
+                        assertEquals("specific:" + id + ":other" + id, body);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Path("/restart/{first}/{second}")
+    public static class SpecificResource {
+
+        @GET
+        @Path("specific")
+        public String specific(@PathParam("first") String first, @PathParam("second") String second) {
+            return "specific:" + first + ":" + second;
+        }
+    }
+
+    @Path("/restart/{id}")
+    public static class LocatorResource {
+
+        @Path("{name}")
+        public SubResource locate(@PathParam("id") String id, @PathParam("name") String name) {
+            return new SubResource(id + ":" + name);
+        }
+    }
+
+    public static class SubResource {
+
+        private final String prefix;
+
+        public SubResource(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @GET
+        @Path("{value}")
+        public String get(@PathParam("value") String value) {
+            return "sub:" + prefix + ":" + value;
+        }
+    }
+}
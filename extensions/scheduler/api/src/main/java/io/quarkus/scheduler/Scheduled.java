@@ -84,6 +84,15 @@
      */
     String QUARTZ = "QUARTZ";
 
+    /**
+     * Constant value for {@link #executeWith()} indicating that the lease-based implementation provided by the
+     * {@code quarkus-scheduler} extension should be used. This implementation is only available if the
+     * {@code quarkus.scheduler.lease.enabled} config property is set to {@code true}.
+     * <p>
+     * This implementation has priority {@code 2}.
+     */
+    String LEASE = "LEASE";
+
     /**
      * Optionally defines a unique identifier for this job.
      * <p>
@@ -242,6 +251,7 @@
      * @see #AUTO
      * @see #SIMPLE
      * @see #QUARTZ
+     * @see #LEASE
      */
     String executeWith() default AUTO;
 
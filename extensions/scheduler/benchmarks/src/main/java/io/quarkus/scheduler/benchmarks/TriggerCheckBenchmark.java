@@ -0,0 +1,151 @@
+package io.quarkus.scheduler.benchmarks;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.quarkus.scheduler.runtime.TriggerQueue;
+
+/**
+ * Compares the cost of one second of trigger checks for 100, 10k and 100k registered interval jobs:
+ * <ul>
+ * <li>{@link #scanAll()} walks every job of a map once per second and evaluates it with {@link ZonedDateTime}, like the
+ * simple scheduler used to do,</li>
+ * <li>{@link #pollDue()} only touches the jobs that are due, using the {@link TriggerQueue} of the simple scheduler.</li>
+ * </ul>
+ * The jobs have a random period between 10 seconds and 1 hour, e.g. per-tenant jobs, and a virtual clock is used, so
+ * that both benchmarks fire exactly the same jobs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TriggerCheckBenchmark {
+
+    private static final long SECOND = 1000L;
+
+    @Param({ "100", "10000", "100000" })
+    int jobs;
+
+    ConcurrentMap<String, ScannedJob> scanned;
+    long scanNow;
+
+    TriggerQueue<Job> queue;
+    long queueNow;
+
+    TriggerQueue.Entry<Job> extra;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        scanned = new ConcurrentHashMap<>();
+        queue = new TriggerQueue<>();
+        for (int i = 0; i < jobs; i++) {
+            long interval = random.nextLong(10, 3601) * SECOND;
+            long offset = (random.nextLong(interval / SECOND) + 1) * SECOND;
+            scanned.put("job" + i, new ScannedJob(interval, offset - interval));
+            queue.add(TriggerQueue.entry(new Job(interval, offset - interval)), offset);
+        }
+        extra = TriggerQueue.entry(new Job(SECOND, 0));
+    }
+
+    @Benchmark
+    public int scanAll() {
+        ZonedDateTime now = ZonedDateTime.ofInstant(Instant.ofEpochMilli(scanNow += SECOND), ZoneId.systemDefault());
+        int fired = 0;
+        for (ScannedJob job : scanned.values()) {
+            if (job.evaluate(now)) {
+                fired++;
+            }
+        }
+        return fired;
+    }
+
+    @Benchmark
+    public int pollDue() {
+        // the checks are scheduled when the jobs are due, i.e. possibly several times per second
+        long end = queueNow += SECOND;
+        int fired = 0;
+        TriggerQueue.Entry<Job> entry;
+        while ((entry = queue.pollDue(end)) != null) {
+            Job job = entry.value();
+            job.lastFireTime = entry.due();
+            queue.add(entry, entry.due() + job.interval);
+            fired++;
+        }
+        return fired;
+    }
+
+    @Benchmark
+    public boolean scheduleAndUnschedule() {
+        queue.add(extra, queueNow + SECOND);
+        return queue.remove(extra);
+    }
+
+    static final class ScannedJob {
+
+        final long interval;
+        final ZonedDateTime start;
+        ZonedDateTime lastFireTime;
+
+        ScannedJob(long interval, long lastFireTime) {
+            this.interval = interval;
+            this.start = ZonedDateTime.ofInstant(Instant.EPOCH, ZoneId.systemDefault());
+            this.lastFireTime = ZonedDateTime.ofInstant(Instant.ofEpochMilli(lastFireTime), ZoneId.systemDefault());
+        }
+
+        boolean evaluate(ZonedDateTime now) {
+            if (now.isBefore(start)) {
+                return false;
+            }
+            if (ChronoUnit.MILLIS.between(lastFireTime, now) >= interval) {
+                lastFireTime = now;
+                return true;
+            }
+            return false;
+        }
+
+    }
+
+    static final class Job {
+
+        final long interval;
+        long lastFireTime;
+
+        Job(long interval, long lastFireTime) {
+            this.interval = interval;
+            this.lastFireTime = lastFireTime;
+        }
+
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(TriggerCheckBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+}
@@ -78,6 +78,7 @@
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.gizmo.TryBlock;
+import io.quarkus.runtime.configuration.ConfigurationException;
 import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.runtime.util.HashUtil;
 import io.quarkus.scheduler.Scheduled;
@@ -88,9 +89,12 @@
 import io.quarkus.scheduler.common.runtime.util.SchedulerUtils;
 import io.quarkus.scheduler.runtime.CompositeScheduler;
 import io.quarkus.scheduler.runtime.Constituent;
+import io.quarkus.scheduler.runtime.LeaseScheduler;
 import io.quarkus.scheduler.runtime.SchedulerConfig;
 import io.quarkus.scheduler.runtime.SchedulerRecorder;
 import io.quarkus.scheduler.runtime.SimpleScheduler;
+import io.quarkus.scheduler.runtime.lease.JdbcLeaseStore;
+import io.quarkus.scheduler.runtime.lease.RedisLeaseStore;
 import io.smallrye.common.annotation.Identifier;
 
 public class SchedulerProcessor {
@@ -108,6 +112,47 @@ SchedulerImplementationBuildItem implementation() {
         return new SchedulerImplementationBuildItem(Scheduled.SIMPLE, DotName.createSimple(SimpleScheduler.class), 0);
     }
 
+    @BuildStep
+    SchedulerImplementationBuildItem leaseImplementation(SchedulerConfig config) {
+        if (!config.lease().enabled()) {
+            return null;
+        }
+        if (!config.useCompositeScheduler()) {
+            // The lease-based implementation only executes the jobs leased by this node, so it is always a constituent
+            throw new ConfigurationException(
+                    "The lease-based scheduler requires the composite scheduler - set quarkus.scheduler.use-composite-scheduler=true",
+                    Set.of("quarkus.scheduler.lease.enabled", "quarkus.scheduler.use-composite-scheduler"));
+        }
+        return new SchedulerImplementationBuildItem(Scheduled.LEASE, DotName.createSimple(LeaseScheduler.class), 2);
+    }
+
+    @BuildStep
+    void leaseStore(SchedulerConfig config, Capabilities capabilities,
+            BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        if (!config.lease().enabled()) {
+            return;
+        }
+        switch (config.lease().store()) {
+            case JDBC -> {
+                if (!capabilities.isPresent(Capability.AGROAL)) {
+                    throw new ConfigurationException("The jdbc lease store requires the quarkus-agroal extension",
+                            Set.of("quarkus.scheduler.lease.store"));
+                }
+                additionalBeans.produce(new AdditionalBeanBuildItem(JdbcLeaseStore.class));
+            }
+            case REDIS -> {
+                if (!capabilities.isPresent(Capability.REDIS_CLIENT)) {
+                    throw new ConfigurationException("The redis lease store requires the quarkus-redis-client extension",
+                            Set.of("quarkus.scheduler.lease.store"));
+                }
+                additionalBeans.produce(new AdditionalBeanBuildItem(RedisLeaseStore.class));
+            }
+            case CUSTOM -> {
+                // A LeaseStore bean is provided by the application
+            }
+        }
+    }
+
     @BuildStep
     void compositeScheduler(SchedulerConfig config, List<SchedulerImplementationBuildItem> implementations,
             BuildProducer<AdditionalBeanBuildItem> additionalBeans,
@@ -158,6 +203,9 @@ void beans(DiscoveredImplementationsBuildItem discoveredImplementations,
             // Quartz extension is not present or composite scheduler is used
             additionalBeans.produce(new AdditionalBeanBuildItem(SimpleScheduler.class));
         }
+        if (discoveredImplementations.getImplementations().contains(Scheduled.LEASE)) {
+            additionalBeans.produce(new AdditionalBeanBuildItem(LeaseScheduler.class));
+        }
     }
 
     @BuildStep
@@ -316,7 +364,7 @@ void validateScheduledBusinessMethods(SchedulerConfig config, List<ScheduledBusi
                 }
             }
             // Validate cron() and every() expressions
-            long checkPeriod = capabilities.isMissing(Capability.QUARTZ) ? SimpleScheduler.CHECK_PERIOD : 50;
+            long checkPeriod = capabilities.isMissing(Capability.QUARTZ) ? SimpleScheduler.MIN_PERIOD : 50;
             CronParser parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(config.cronType()));
             for (AnnotationInstance scheduled : scheduledMethod.getSchedules()) {
                 Throwable error = validateScheduled(parser, scheduled, encounteredIdentities, validationPhase.getContext(),
@@ -0,0 +1,108 @@
+package io.quarkus.scheduler.test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class SubSecondIntervalTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class));
+
+    @Inject
+    Scheduler scheduler;
+
+    @Test
+    public void testSubSecondInterval() throws InterruptedException {
+        // 20 executions with a period of 50 ms would take 20 seconds with a check period of one second
+        assertTrue(Jobs.LATCH.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testPauseAndResume() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(3);
+        scheduler.newJob("pausable")
+                .setInterval("0.05s")
+                .setTask(ec -> {
+                    counter.incrementAndGet();
+                    started.countDown();
+                })
+                .schedule();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        scheduler.pause("pausable");
+        assertTrue(scheduler.isPaused("pausable"));
+        // Wait for an execution that was already started when the job was paused
+        Thread.sleep(100);
+        int paused = counter.get();
+        Thread.sleep(300);
+        assertEquals(paused, counter.get());
+
+        scheduler.resume("pausable");
+        assertFalse(scheduler.isPaused("pausable"));
+        await().atMost(Duration.ofSeconds(5)).until(() -> counter.get() >= paused + 3);
+        scheduler.unscheduleJob("pausable");
+    }
+
+    @Test
+    public void testUnschedule() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(2);
+        scheduler.newJob("unscheduled")
+                .setInterval("0.05s")
+                .setTask(ec -> {
+                    counter.incrementAndGet();
+                    started.countDown();
+                })
+                .schedule();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertNotNull(scheduler.getScheduledJob("unscheduled"));
+
+        assertNotNull(scheduler.unscheduleJob("unscheduled"));
+        assertNull(scheduler.getScheduledJob("unscheduled"));
+        // Wait for an execution that was already started when the job was unscheduled
+        Thread.sleep(100);
+        int unscheduled = counter.get();
+        Thread.sleep(300);
+        assertEquals(unscheduled, counter.get());
+
+        // The identity can be reused
+        CountDownLatch rescheduled = new CountDownLatch(2);
+        scheduler.newJob("unscheduled")
+                .setInterval("0.05s")
+                .setTask(ec -> rescheduled.countDown())
+                .schedule();
+        assertTrue(rescheduled.await(5, TimeUnit.SECONDS));
+        scheduler.unscheduleJob("unscheduled");
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch LATCH = new CountDownLatch(20);
+
+        @Scheduled(every = "0.05s")
+        void everyFiftyMillis() {
+            LATCH.countDown();
+        }
+    }
+}
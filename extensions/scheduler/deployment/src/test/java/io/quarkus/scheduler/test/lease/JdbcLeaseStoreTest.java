@@ -0,0 +1,117 @@
+package io.quarkus.scheduler.test.lease;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.runtime.lease.JdbcLeaseStore;
+import io.quarkus.scheduler.spi.LeaseStore;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class JdbcLeaseStoreTest {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> root
+                    .addClasses(Jobs.class))
+            .overrideConfigKey("quarkus.scheduler.use-composite-scheduler", "true")
+            .overrideConfigKey("quarkus.scheduler.lease.enabled", "true")
+            .overrideConfigKey("quarkus.scheduler.lease.store", "jdbc")
+            .overrideConfigKey("quarkus.scheduler.lease.create-tables", "true")
+            .overrideConfigKey("quarkus.scheduler.lease.node-id", "node1")
+            .overrideConfigKey("quarkus.datasource.db-kind", "h2")
+            .overrideConfigKey("quarkus.datasource.jdbc.url", "jdbc:h2:mem:leases;DB_CLOSE_DELAY=-1");
+
+    @Inject
+    LeaseStore store;
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @Test
+    public void testJobIsExecuted() throws InterruptedException {
+        assertTrue(store instanceof JdbcLeaseStore);
+        assertTrue(Jobs.LATCH.await(5, TimeUnit.SECONDS));
+        assertTrue(store.heartbeat("node1", TTL).contains("node1"));
+    }
+
+    @Test
+    public void testAcquireAndRelease() {
+        assertEquals(Set.of("job-a", "job-b"), store.acquire("node-a", Set.of("job-a", "job-b"), TTL));
+        // The leases are held by node-a
+        assertEquals(Set.of(), store.acquire("node-b", Set.of("job-a", "job-b"), TTL));
+        // The leases are renewed
+        assertEquals(Set.of("job-a", "job-b"), store.acquire("node-a", Set.of("job-a", "job-b"), TTL));
+
+        // A node cannot release a lease held by another node
+        store.release("node-b", Set.of("job-a"));
+        assertEquals(Set.of(), store.acquire("node-b", Set.of("job-a"), TTL));
+
+        store.release("node-a", Set.of("job-a"));
+        assertEquals(Set.of("job-a"), store.acquire("node-b", Set.of("job-a", "job-b"), TTL));
+    }
+
+    @Test
+    public void testExpiredLeaseIsTakenOver() throws SQLException {
+        assertEquals(Set.of("job-c"), store.acquire("node-a", Set.of("job-c"), TTL));
+        expire("QUARKUS_SCHEDULER_LEASES", "JOB_ID", "job-c");
+        assertEquals(Set.of("job-c"), store.acquire("node-b", Set.of("job-c"), TTL));
+        assertEquals(Set.of(), store.acquire("node-a", Set.of("job-c"), TTL));
+    }
+
+    @Test
+    public void testMembership() throws SQLException {
+        store.heartbeat("node-x", TTL);
+        Set<String> nodes = store.heartbeat("node-y", TTL);
+        assertTrue(nodes.contains("node-x"));
+        assertTrue(nodes.contains("node-y"));
+
+        store.leave("node-x");
+        assertFalse(store.heartbeat("node-y", TTL).contains("node-x"));
+
+        // The membership of node-z expires, e.g. the node crashed
+        store.heartbeat("node-z", TTL);
+        expire("QUARKUS_SCHEDULER_NODES", "NODE_ID", "node-z");
+        assertFalse(store.heartbeat("node-y", TTL).contains("node-z"));
+        // Do not take over the jobs of node1
+        store.leave("node-y");
+    }
+
+    private void expire(String table, String idColumn, String id) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement update = connection
+                        .prepareStatement("UPDATE " + table + " SET EXPIRES_AT = 0 WHERE " + idColumn + " = ?")) {
+            update.setString(1, id);
+            assertEquals(1, update.executeUpdate());
+        }
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch LATCH = new CountDownLatch(2);
+
+        @Scheduled(identity = "leased", every = "0.1s")
+        void leased() {
+            LATCH.countDown();
+        }
+
+    }
+
+}
@@ -0,0 +1,40 @@
+package io.quarkus.scheduler.test.lease;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class LeaseSchedulerRequiresCompositeTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> root
+                    .addClasses(Jobs.class)
+                    .addAsResource(new StringAsset("quarkus.scheduler.lease.enabled=true\n"
+                            + "quarkus.scheduler.lease.store=custom\n"),
+                            "application.properties"))
+            .assertException(t -> {
+                assertThat(t).isInstanceOf(ConfigurationException.class)
+                        .hasMessageContaining("The lease-based scheduler requires the composite scheduler");
+            });
+
+    @Test
+    public void test() {
+        fail();
+    }
+
+    static class Jobs {
+
+        @Scheduled(every = "1s")
+        void everySecond() {
+        }
+
+    }
+}
@@ -0,0 +1,133 @@
+package io.quarkus.scheduler.test.lease;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.scheduler.spi.LeaseStore;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class LeaseSchedulerTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> root
+                    .addClasses(Jobs.class, InMemoryLeaseStore.class)
+                    .addAsResource(new StringAsset("quarkus.scheduler.use-composite-scheduler=true\n"
+                            + "quarkus.scheduler.lease.enabled=true\n"
+                            + "quarkus.scheduler.lease.store=custom\n"
+                            + "quarkus.scheduler.lease.node-id=node1\n"
+                            + "quarkus.scheduler.lease.ttl=1s\n"),
+                            "application.properties"));
+
+    @Inject
+    Scheduler scheduler;
+
+    @Inject
+    InMemoryLeaseStore store;
+
+    @Test
+    public void testLeases() {
+        assertTrue(scheduler.getScheduledJobs().stream().anyMatch(t -> t.getId().equals("leased")));
+        assertTrue(store.nodes.contains("node1"));
+
+        // The lease of the "leased" job is acquired by this node
+        await().atMost(Duration.ofSeconds(5)).until(() -> Jobs.LEASED.get() > 1);
+        // The lease of the "foreign" job is held by another node
+        assertEquals(0, Jobs.FOREIGN.get());
+
+        // Revoke the lease, i.e. another node takes over the job
+        store.holders.put("leased", "node2");
+        await().atMost(Duration.ofSeconds(5)).until(() -> !store.acquired.contains("leased"));
+        // The renewals are performed sequentially, i.e. the next heartbeat is sent once the revoked lease was dropped
+        awaitRenewals(1);
+        int executions = Jobs.LEASED.get();
+        // The job is not executed during the next renewals, i.e. while the revoked lease would still be valid
+        awaitRenewals(3);
+        assertEquals(executions, Jobs.LEASED.get());
+
+        // The other node is gone
+        store.holders.remove("leased");
+        await().atMost(Duration.ofSeconds(5)).until(() -> Jobs.LEASED.get() > executions);
+        assertEquals(0, Jobs.FOREIGN.get());
+    }
+
+    private void awaitRenewals(int count) {
+        int heartbeats = store.heartbeats.get();
+        await().atMost(Duration.ofSeconds(5)).until(() -> store.heartbeats.get() >= heartbeats + count);
+    }
+
+    static class Jobs {
+
+        static final AtomicInteger LEASED = new AtomicInteger();
+        static final AtomicInteger FOREIGN = new AtomicInteger();
+
+        @Scheduled(identity = "leased", every = "0.2s")
+        void leased() {
+            LEASED.incrementAndGet();
+        }
+
+        @Scheduled(identity = "foreign", every = "0.2s", executeWith = Scheduled.LEASE)
+        void foreign() {
+            FOREIGN.incrementAndGet();
+        }
+
+    }
+
+    @Singleton
+    public static class InMemoryLeaseStore implements LeaseStore {
+
+        final Set<String> nodes = ConcurrentHashMap.newKeySet();
+        final ConcurrentHashMap<String, String> holders = new ConcurrentHashMap<>();
+        final AtomicInteger heartbeats = new AtomicInteger();
+        volatile Set<String> acquired = Set.of();
+
+        InMemoryLeaseStore() {
+            holders.put("foreign", "node2");
+        }
+
+        @Override
+        public Set<String> heartbeat(String nodeId, Duration ttl) {
+            nodes.add(nodeId);
+            heartbeats.incrementAndGet();
+            return Set.of(nodeId);
+        }
+
+        @Override
+        public Set<String> acquire(String nodeId, Set<String> jobIds, Duration ttl) {
+            Set<String> result = new HashSet<>();
+            for (String jobId : jobIds) {
+                if (holders.getOrDefault(jobId, nodeId).equals(nodeId)) {
+                    result.add(jobId);
+                }
+            }
+            acquired = result;
+            return result;
+        }
+
+        @Override
+        public void release(String nodeId, Set<String> jobIds) {
+        }
+
+        @Override
+        public void leave(String nodeId) {
+            nodes.remove(nodeId);
+        }
+
+    }
+}
@@ -0,0 +1,124 @@
+package io.quarkus.scheduler.test.lease;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.runtime.lease.RedisLeaseStore;
+import io.quarkus.scheduler.spi.LeaseStore;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class RedisLeaseStoreTest {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> root
+                    .addClasses(Jobs.class))
+            .overrideConfigKey("quarkus.scheduler.use-composite-scheduler", "true")
+            .overrideConfigKey("quarkus.scheduler.lease.enabled", "true")
+            .overrideConfigKey("quarkus.scheduler.lease.store", "redis")
+            .overrideConfigKey("quarkus.scheduler.lease.node-id", "node1")
+            // No hash tag, the whole prefix is used as the hash tag
+            .overrideConfigKey("quarkus.scheduler.lease.key-prefix", "leases:");
+
+    @Inject
+    LeaseStore store;
+
+    @Inject
+    RedisDataSource redis;
+
+    @Test
+    public void testJobIsExecuted() throws InterruptedException {
+        assertTrue(store instanceof RedisLeaseStore);
+        assertTrue(Jobs.LATCH.await(5, TimeUnit.SECONDS));
+        assertTrue(store.heartbeat("node1", TTL).contains("node1"));
+    }
+
+    @Test
+    public void testKeysShareHashTag() {
+        store.acquire("node-a", Set.of("job-k"), TTL);
+        assertEquals("node-a", redis.execute("GET", "{leases:}lease:job-k").toString());
+        long ttl = redis.execute("PTTL", "{leases:}lease:job-k").toLong();
+        assertTrue(ttl > 0 && ttl <= TTL.toMillis(), "Unexpected ttl: " + ttl);
+        assertEquals(1, redis.execute("EXISTS", "{leases:}nodes").toInteger());
+    }
+
+    @Test
+    public void testAcquireAndRelease() {
+        assertEquals(Set.of("job-a", "job-b"), store.acquire("node-a", Set.of("job-a", "job-b"), TTL));
+        // The leases are held by node-a
+        assertEquals(Set.of(), store.acquire("node-b", Set.of("job-a", "job-b"), TTL));
+        // The leases are renewed
+        assertEquals(Set.of("job-a", "job-b"), store.acquire("node-a", Set.of("job-a", "job-b"), TTL));
+
+        // A node cannot release a lease held by another node
+        store.release("node-b", Set.of("job-a"));
+        assertEquals(Set.of(), store.acquire("node-b", Set.of("job-a"), TTL));
+
+        store.release("node-a", Set.of("job-a"));
+        assertEquals(Set.of("job-a"), store.acquire("node-b", Set.of("job-a", "job-b"), TTL));
+    }
+
+    @Test
+    public void testExpiredLeaseIsTakenOver() {
+        assertEquals(Set.of("job-c"), store.acquire("node-a", Set.of("job-c"), TTL));
+        // Simulate the expiration of the lease
+        redis.execute("DEL", "{leases:}lease:job-c");
+        assertEquals(Set.of("job-c"), store.acquire("node-b", Set.of("job-c"), TTL));
+        assertEquals(Set.of(), store.acquire("node-a", Set.of("job-c"), TTL));
+    }
+
+    @Test
+    public void testScriptsAreReloaded() {
+        // The scripts are not cached anymore, e.g. the server was restarted
+        redis.execute("SCRIPT", "FLUSH");
+        assertEquals(Set.of("job-d"), store.acquire("node-a", Set.of("job-d"), TTL));
+        redis.execute("SCRIPT", "FLUSH");
+        store.release("node-a", Set.of("job-d"));
+        assertEquals(Set.of("job-d"), store.acquire("node-b", Set.of("job-d"), TTL));
+    }
+
+    @Test
+    public void testMembership() {
+        store.heartbeat("node-x", TTL);
+        Set<String> nodes = store.heartbeat("node-y", TTL);
+        assertTrue(nodes.contains("node-x"));
+        assertTrue(nodes.contains("node-y"));
+
+        store.leave("node-x");
+        assertFalse(store.heartbeat("node-y", TTL).contains("node-x"));
+
+        // The membership of node-z expires, e.g. the node crashed
+        store.heartbeat("node-z", TTL);
+        redis.execute("ZADD", "{leases:}nodes", "0", "node-z");
+        assertFalse(store.heartbeat("node-y", TTL).contains("node-z"));
+        // Do not take over the jobs of node1
+        store.leave("node-y");
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch LATCH = new CountDownLatch(2);
+
+        @Scheduled(identity = "leased", every = "0.1s")
+        void leased() {
+            LATCH.countDown();
+        }
+
+    }
+
+}
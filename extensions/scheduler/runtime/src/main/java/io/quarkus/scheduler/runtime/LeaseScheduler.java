@@ -0,0 +1,100 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Collectors;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.Typed;
+import jakarta.inject.Singleton;
+import jakarta.interceptor.Interceptor;
+
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.DelayedExecution;
+import io.quarkus.scheduler.FailedExecution;
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.ScheduledJobPaused;
+import io.quarkus.scheduler.ScheduledJobResumed;
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.scheduler.SchedulerPaused;
+import io.quarkus.scheduler.SchedulerResumed;
+import io.quarkus.scheduler.SkippedExecution;
+import io.quarkus.scheduler.SuccessfulExecution;
+import io.quarkus.scheduler.Trigger;
+import io.quarkus.scheduler.common.runtime.SchedulerContext;
+import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig.LeaseRuntimeConfig;
+import io.quarkus.scheduler.runtime.lease.LeaseCoordinator;
+import io.quarkus.scheduler.spi.JobInstrumenter;
+import io.quarkus.scheduler.spi.LeaseStore;
+import io.vertx.core.Vertx;
+
+/**
+ * The lease-based implementation executes each job on a single node of a cluster.
+ * <p>
+ * The triggers are evaluated on every node, just like with the simple implementation, but a job is only executed by the node
+ * that holds its lease. The leases are maintained by a {@link LeaseCoordinator} and stored in a {@link LeaseStore}.
+ */
+@Typed(Scheduler.class)
+@Singleton
+public class LeaseScheduler extends SimpleScheduler {
+
+    private final LeaseCoordinator coordinator;
+
+    public LeaseScheduler(SchedulerContext context, SchedulerRuntimeConfig schedulerRuntimeConfig,
+            Event<SkippedExecution> skippedExecutionEvent, Event<SuccessfulExecution> successExecutionEvent,
+            Event<FailedExecution> failedExecutionEvent, Event<DelayedExecution> delayedExecutionEvent,
+            Event<SchedulerPaused> schedulerPausedEvent, Event<SchedulerResumed> schedulerResumedEvent,
+            Event<ScheduledJobPaused> scheduledJobPausedEvent,
+            Event<ScheduledJobResumed> scheduledJobResumedEvent, Vertx vertx, SchedulerConfig schedulerConfig,
+            Instance<JobInstrumenter> jobInstrumenter, ScheduledExecutorService blockingExecutor,
+            Instance<LeaseStore> leaseStore) {
+        super(Scheduled.LEASE, context, schedulerRuntimeConfig, skippedExecutionEvent, successExecutionEvent,
+                failedExecutionEvent, delayedExecutionEvent, schedulerPausedEvent, schedulerResumedEvent,
+                scheduledJobPausedEvent, scheduledJobResumedEvent, vertx, schedulerConfig, jobInstrumenter, blockingExecutor);
+        if (!isStarted()) {
+            this.coordinator = null;
+            return;
+        }
+        if (!leaseStore.isResolvable()) {
+            throw new IllegalStateException(
+                    "No lease store is available - set the quarkus.scheduler.lease.store config property or provide exactly one bean of type "
+                            + LeaseStore.class.getName());
+        }
+        LeaseRuntimeConfig config = schedulerRuntimeConfig.lease();
+        Duration ttl = config.ttl();
+        this.coordinator = new LeaseCoordinator(leaseStore.get(),
+                config.nodeId().orElseGet(() -> UUID.randomUUID().toString()), ttl,
+                config.renewInterval().orElse(ttl.dividedBy(3)), this::jobIds);
+    }
+
+    @Override
+    protected boolean isExecutionAllowed(String identity) {
+        return coordinator != null && coordinator.isLeased(identity);
+    }
+
+    // Use Interceptor.Priority.PLATFORM_BEFORE - 1 to acquire the leases before the triggers are started in
+    // SimpleScheduler#start(), otherwise the executions that are due right after the start would be skipped
+    void startCoordinator(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE - 1) StartupEvent event) {
+        if (coordinator != null) {
+            coordinator.start();
+        }
+    }
+
+    @PreDestroy
+    void stopCoordinator() {
+        if (coordinator != null) {
+            coordinator.stop();
+        }
+    }
+
+    private Set<String> jobIds() {
+        return getScheduledJobs().stream().map(Trigger::getId).collect(Collectors.toUnmodifiableSet());
+    }
+
+}
@@ -1,5 +1,7 @@
 package io.quarkus.scheduler.runtime;
 
+import java.util.Optional;
+
 import com.cronutils.model.CronType;
 
 import io.quarkus.runtime.annotations.ConfigPhase;
@@ -47,4 +49,59 @@ public interface SchedulerConfig {
     @WithDefault("false")
     boolean useCompositeScheduler();
 
+    /**
+     * The lease-based scheduler implementation.
+     */
+    LeaseConfig lease();
+
+    interface LeaseConfig {
+
+        /**
+         * If set to {@code true} then the lease-based scheduler implementation is registered. It executes each scheduled job
+         * on a single node of a cluster, based on the leases stored in a shared store.
+         * <p>
+         * The lease-based implementation can only be used together with the composite scheduler, i.e. the
+         * {@code quarkus.scheduler.use-composite-scheduler} config property must be set to {@code true} as well.
+         *
+         * @see Scheduled#LEASE
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The store of the leases.
+         */
+        @WithDefault("jdbc")
+        LeaseStoreType store();
+
+        /**
+         * The name of the datasource used by the {@code jdbc} store. The default datasource is used if not set.
+         */
+        Optional<String> datasource();
+
+        /**
+         * The name of the Redis client used by the {@code redis} store. The default client is used if not set.
+         */
+        Optional<String> redisClient();
+
+    }
+
+    enum LeaseStoreType {
+
+        /**
+         * The leases are stored in database tables, using an Agroal datasource.
+         */
+        JDBC,
+
+        /**
+         * The leases are stored in Redis keys, using a Redis client.
+         */
+        REDIS,
+
+        /**
+         * The leases are stored by a {@link io.quarkus.scheduler.spi.LeaseStore} bean provided by the application.
+         */
+        CUSTOM;
+    }
+
 }
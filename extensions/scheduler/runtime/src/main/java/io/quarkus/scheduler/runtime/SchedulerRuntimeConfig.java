@@ -1,6 +1,7 @@
 package io.quarkus.scheduler.runtime;
 
 import java.time.Duration;
+import java.util.Optional;
 
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -31,6 +32,11 @@ public interface SchedulerRuntimeConfig {
     @WithDefault("normal")
     StartMode startMode();
 
+    /**
+     * The lease-based scheduler implementation.
+     */
+    LeaseRuntimeConfig lease();
+
     enum StartMode {
 
         /**
@@ -53,4 +59,48 @@ enum StartMode {
          */
         HALTED;
     }
+
+    interface LeaseRuntimeConfig {
+
+        /**
+         * The identifier of this node in the cluster. A random identifier is generated if not set.
+         */
+        Optional<String> nodeId();
+
+        /**
+         * The time to live of a lease and of the membership of a node. If a node is stopped or does not renew its leases in
+         * time, its jobs are taken over by the other nodes after this period.
+         */
+        @WithDefault("10s")
+        Duration ttl();
+
+        /**
+         * The period of the renewal of the leases. One third of the time to live is used if not set.
+         * <p>
+         * The nodes also rebalance the jobs at each renewal, e.g. when a node joins or leaves the cluster.
+         */
+        Optional<Duration> renewInterval();
+
+        /**
+         * The prefix of the tables used by the {@code jdbc} store, i.e. the {@code <prefix>NODES} and {@code <prefix>LEASES}
+         * tables.
+         */
+        @WithDefault("QUARKUS_SCHEDULER_")
+        String tablePrefix();
+
+        /**
+         * If set to {@code true} then the tables used by the {@code jdbc} store are created at startup if they do not exist.
+         */
+        @WithDefault("false")
+        boolean createTables();
+
+        /**
+         * The prefix of the keys used by the {@code redis} store. All the keys must be stored in the same slot of a Redis
+         * cluster, so if the prefix does not contain a hash tag then the whole prefix is used as the hash tag, e.g.
+         * {@code myapp:} becomes <code>{myapp:}</code>.
+         */
+        @WithDefault("{quarkus-scheduler}:")
+        String keyPrefix();
+
+    }
 }
@@ -2,10 +2,10 @@
 
 import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -14,7 +14,9 @@
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -26,6 +28,7 @@
 import jakarta.enterprise.event.Observes;
 import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.Typed;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import jakarta.interceptor.Interceptor;
 
@@ -69,13 +72,26 @@ public class SimpleScheduler extends BaseScheduler implements Scheduler {
     private static final Logger LOG = Logger.getLogger(SimpleScheduler.class);
 
     // milliseconds
+    // the maximum delay between two checks, so that the triggers also cope with system clock changes
     public static final long CHECK_PERIOD = 1000L;
 
+    // milliseconds
+    public static final long MIN_PERIOD = 1L;
+
     private final ScheduledExecutorService scheduledExecutor;
     private volatile boolean running;
     private final ConcurrentMap<String, ScheduledTask> scheduledTasks;
     private final SchedulerConfig schedulerConfig;
+    private final String implementation;
 
+    // only the tasks that are due are evaluated during a check
+    // guarded by the queue itself
+    private final TriggerQueue<ScheduledTask> triggerQueue;
+    private ScheduledFuture<?> nextCheck;
+    private long nextCheckTime = Long.MAX_VALUE;
+    private boolean checksStarted;
+
+    @Inject
     public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedulerRuntimeConfig,
             Event<SkippedExecution> skippedExecutionEvent, Event<SuccessfulExecution> successExecutionEvent,
             Event<FailedExecution> failedExecutionEvent, Event<DelayedExecution> delayedExecutionEvent,
@@ -83,6 +99,21 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
             Event<ScheduledJobPaused> scheduledJobPausedEvent,
             Event<ScheduledJobResumed> scheduledJobResumedEvent, Vertx vertx, SchedulerConfig schedulerConfig,
             Instance<JobInstrumenter> jobInstrumenter, ScheduledExecutorService blockingExecutor) {
+        this(Scheduled.SIMPLE, context, schedulerRuntimeConfig, skippedExecutionEvent, successExecutionEvent,
+                failedExecutionEvent, delayedExecutionEvent, schedulerPausedEvent, schedulerResumedEvent,
+                scheduledJobPausedEvent, scheduledJobResumedEvent, vertx, schedulerConfig, jobInstrumenter, blockingExecutor);
+    }
+
+    /**
+     * @param implementation the implementation used to select the scheduled methods executed by this scheduler
+     */
+    protected SimpleScheduler(String implementation, SchedulerContext context, SchedulerRuntimeConfig schedulerRuntimeConfig,
+            Event<SkippedExecution> skippedExecutionEvent, Event<SuccessfulExecution> successExecutionEvent,
+            Event<FailedExecution> failedExecutionEvent, Event<DelayedExecution> delayedExecutionEvent,
+            Event<SchedulerPaused> schedulerPausedEvent, Event<SchedulerResumed> schedulerResumedEvent,
+            Event<ScheduledJobPaused> scheduledJobPausedEvent,
+            Event<ScheduledJobResumed> scheduledJobResumedEvent, Vertx vertx, SchedulerConfig schedulerConfig,
+            Instance<JobInstrumenter> jobInstrumenter, ScheduledExecutorService blockingExecutor) {
         super(vertx, new CronParser(context.getCronType()), schedulerRuntimeConfig.overdueGracePeriod(),
                 new Events(skippedExecutionEvent, successExecutionEvent, failedExecutionEvent, delayedExecutionEvent,
                         schedulerPausedEvent, schedulerResumedEvent, scheduledJobPausedEvent, scheduledJobResumedEvent),
@@ -90,18 +121,20 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
         this.running = true;
         this.scheduledTasks = new ConcurrentHashMap<>();
         this.schedulerConfig = schedulerConfig;
+        this.implementation = implementation;
+        this.triggerQueue = new TriggerQueue<>();
 
         if (!schedulerRuntimeConfig.enabled()) {
             this.scheduledExecutor = null;
-            LOG.info("Simple scheduler is disabled by config property and will not be started");
+            LOG.infof("%s scheduler is disabled by config property and will not be started", displayName());
             return;
         }
 
         StartMode startMode = schedulerRuntimeConfig.startMode();
-        if (startMode == StartMode.NORMAL && context.getScheduledMethods(Scheduled.SIMPLE).isEmpty()
+        if (startMode == StartMode.NORMAL && context.getScheduledMethods(implementation).isEmpty()
                 && !context.forceSchedulerStart()) {
             this.scheduledExecutor = null;
-            LOG.info("No scheduled business methods found - Simple scheduler will not be started");
+            LOG.infof("No scheduled business methods found - %s scheduler will not be started", displayName());
             return;
         }
 
@@ -123,7 +156,7 @@ public Thread newThread(Runnable runnable) {
                 return t;
             }
         };
-        // This executor is used to check all registered triggers every second
+        // This executor is used to check the registered triggers when they are due
         this.scheduledExecutor = new JBossScheduledThreadPoolExecutor(1, tf, new Runnable() {
             @Override
             public void run() {
@@ -136,10 +169,10 @@ public void run() {
         }
 
         // Create triggers and invokers for @Scheduled methods
-        for (ScheduledMethod method : context.getScheduledMethods(Scheduled.SIMPLE)) {
+        for (ScheduledMethod method : context.getScheduledMethods(implementation)) {
             int nameSequence = 0;
             for (Scheduled scheduled : method.getSchedules()) {
-                if (!context.matchesImplementation(scheduled, Scheduled.SIMPLE)) {
+                if (!context.matchesImplementation(scheduled, implementation)) {
                     continue;
                 }
                 nameSequence++;
@@ -157,7 +190,9 @@ public void run() {
                     ScheduledInvoker invoker = initInvoker(context.createInvoker(method.getInvokerClassName()), events,
                             scheduled.concurrentExecution(), initSkipPredicate(scheduled.skipExecutionIf()), instrumenter,
                             vertx, false, SchedulerUtils.parseExecutionMaxDelayAsMillis(scheduled), blockingExecutor);
-                    scheduledTasks.put(trigger.get().id, new ScheduledTask(trigger.get(), invoker, false));
+                    ScheduledTask task = new ScheduledTask(trigger.get(), invoker, false);
+                    scheduledTasks.put(task.trigger.id, task);
+                    enqueue(task);
                 }
             }
         }
@@ -170,7 +205,22 @@ public boolean isStarted() {
 
     @Override
     public String implementation() {
-        return Scheduled.SIMPLE;
+        return implementation;
+    }
+
+    /**
+     * The trigger of a job is evaluated on every node but the job is only executed if this method returns {@code true}.
+     *
+     * @param identity
+     * @return {@code true} if the job with the given identity should be executed
+     */
+    protected boolean isExecutionAllowed(String identity) {
+        return true;
+    }
+
+    private String displayName() {
+        // SIMPLE -> Simple
+        return implementation.charAt(0) + implementation.substring(1).toLowerCase();
     }
 
     @Override
@@ -196,6 +246,9 @@ public Trigger unscheduleJob(String identity) {
             ScheduledTask task = scheduledTasks.get(parsedIdentity);
             if (task != null && task.isProgrammatic) {
                 if (scheduledTasks.remove(task.trigger.id) != null) {
+                    synchronized (triggerQueue) {
+                        triggerQueue.remove(task.entry);
+                    }
                     return task.trigger;
                 }
             }
@@ -208,12 +261,10 @@ void start(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEven
         if (scheduledExecutor == null) {
             return;
         }
-        // Try to compute the initial delay to execute the checks near to the whole second
-        // Note that this does not guarantee anything, it's just best effort
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime trunc = now.plusSeconds(1).truncatedTo(ChronoUnit.SECONDS);
-        scheduledExecutor.scheduleAtFixedRate(this::checkTriggers, ChronoUnit.MILLIS.between(now, trunc), CHECK_PERIOD,
-                TimeUnit.MILLISECONDS);
+        synchronized (triggerQueue) {
+            checksStarted = true;
+            scheduleNextCheck();
+        }
     }
 
     @PreDestroy
@@ -228,14 +279,73 @@ void stop() {
     }
 
     void checkTriggers() {
+        synchronized (triggerQueue) {
+            nextCheck = null;
+            nextCheckTime = Long.MAX_VALUE;
+        }
         if (!running) {
+            // the checks are scheduled again when the scheduler is resumed
             LOG.trace("Skip all triggers - scheduler paused");
             return;
         }
         ZonedDateTime now = ZonedDateTime.now();
+        long nowMillis = now.toInstant().toEpochMilli();
         LOG.tracef("Check triggers at %s", now);
-        for (ScheduledTask task : scheduledTasks.values()) {
-            task.execute(now, vertx);
+        List<ScheduledTask> due = new ArrayList<>();
+        synchronized (triggerQueue) {
+            TriggerQueue.Entry<ScheduledTask> entry;
+            while ((entry = triggerQueue.pollDue(nowMillis)) != null) {
+                due.add(entry.value());
+            }
+        }
+        for (ScheduledTask task : due) {
+            task.execute(now, vertx, isExecutionAllowed(task.trigger.id));
+        }
+        synchronized (triggerQueue) {
+            for (ScheduledTask task : due) {
+                // the job may have been unscheduled in the meantime
+                if (scheduledTasks.get(task.trigger.id) == task) {
+                    long next = task.trigger.nextEvaluation(nowMillis);
+                    if (next != Long.MAX_VALUE) {
+                        triggerQueue.add(task.entry, next);
+                    }
+                }
+            }
+            scheduleNextCheck();
+        }
+    }
+
+    private void enqueue(ScheduledTask task) {
+        long first = task.trigger.firstEvaluation();
+        synchronized (triggerQueue) {
+            // the job may have been unscheduled in the meantime
+            if (first != Long.MAX_VALUE && scheduledTasks.get(task.trigger.id) == task) {
+                triggerQueue.add(task.entry, first);
+            }
+            scheduleNextCheck();
+        }
+    }
+
+    // must be called while holding the lock of the trigger queue
+    private void scheduleNextCheck() {
+        if (!checksStarted || !running || scheduledExecutor.isShutdown()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long due = Math.min(triggerQueue.nextDue(), now + CHECK_PERIOD);
+        if (due >= nextCheckTime) {
+            return;
+        }
+        if (nextCheck != null) {
+            nextCheck.cancel(false);
+        }
+        try {
+            nextCheck = scheduledExecutor.schedule(this::checkTriggers, Math.max(0, due - now), TimeUnit.MILLISECONDS);
+            nextCheckTime = due;
+        } catch (RejectedExecutionException e) {
+            // the scheduler is being stopped
+            nextCheck = null;
+            nextCheckTime = Long.MAX_VALUE;
         }
     }
 
@@ -289,6 +399,9 @@ public void resume() {
             throw notStarted();
         }
         running = true;
+        synchronized (triggerQueue) {
+            scheduleNextCheck();
+        }
         events.fireSchedulerResumed();
     }
 
@@ -306,6 +419,8 @@ public void resume(String identity) {
         ScheduledTask task = scheduledTasks.get(parsedIdentity);
         if (task != null) {
             task.trigger.setRunning(true);
+            // Evaluate the trigger right away in case an execution was missed while paused
+            enqueue(task);
             events.fireScheduledJobResumed(new ScheduledJobResumed(task.trigger));
         }
     }
@@ -378,19 +493,25 @@ static class ScheduledTask {
         final boolean isProgrammatic;
         final SimpleTrigger trigger;
         final ScheduledInvoker invoker;
+        final TriggerQueue.Entry<ScheduledTask> entry;
 
         ScheduledTask(SimpleTrigger trigger, ScheduledInvoker invoker, boolean isProgrammatic) {
             this.trigger = trigger;
             this.invoker = invoker;
             this.isProgrammatic = isProgrammatic;
+            this.entry = TriggerQueue.entry(this);
         }
 
-        void execute(ZonedDateTime now, Vertx vertx) {
+        void execute(ZonedDateTime now, Vertx vertx, boolean executionAllowed) {
             if (!trigger.isRunning()) {
                 return;
             }
             ZonedDateTime scheduledFireTime = trigger.evaluate(now);
             if (scheduledFireTime != null) {
+                if (!executionAllowed) {
+                    LOG.tracef("%s fired but the execution is not allowed on this node", trigger);
+                    return;
+                }
                 try {
                     invoker.invoke(new SimpleScheduledExecution(now, scheduledFireTime, trigger));
                 } catch (Throwable t) {
@@ -422,6 +543,18 @@ static abstract class SimpleTrigger implements Trigger {
          */
         abstract ZonedDateTime evaluate(ZonedDateTime now);
 
+        /**
+         * @return the time of the first evaluation in milliseconds, or {@link Long#MAX_VALUE} if it should never be evaluated
+         */
+        abstract long firstEvaluation();
+
+        /**
+         * @param now The time of the last evaluation in milliseconds
+         * @return the time of the next evaluation in milliseconds, or {@link Long#MAX_VALUE} if it should not be evaluated
+         *         anymore
+         */
+        abstract long nextEvaluation(long now);
+
         @Override
         public Instant getPreviousFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -454,13 +587,9 @@ static class IntervalTrigger extends SimpleTrigger {
 
         IntervalTrigger(String id, ZonedDateTime start, long interval, Duration gracePeriod, String description) {
             super(id, start, description);
-            this.interval = interval;
+            // A sub-millisecond every() value is rounded up, a warning is logged when the application is built
+            this.interval = Math.max(interval, MIN_PERIOD);
             this.gracePeriod = gracePeriod;
-            if (interval < CHECK_PERIOD) {
-                LOG.warnf(
-                        "An every() value less than %s ms is not supported - the scheduled job will be executed with a delay: %s",
-                        CHECK_PERIOD, description);
-            }
         }
 
         @Override
@@ -470,19 +599,33 @@ ZonedDateTime evaluate(ZonedDateTime now) {
             }
             if (lastFireTime == null) {
                 // First execution
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                lastFireTime = now;
                 return now;
             }
             long diff = ChronoUnit.MILLIS.between(lastFireTime, now);
             if (diff >= interval) {
                 ZonedDateTime scheduledFireTime = lastFireTime.plus(Duration.ofMillis(interval));
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                // Keep the period stable unless an execution was missed, e.g. because the trigger was paused
+                lastFireTime = diff < 2 * interval ? scheduledFireTime : now;
                 LOG.tracef("%s fired, diff=%s ms", this, diff);
                 return scheduledFireTime;
             }
             return null;
         }
 
+        @Override
+        long firstEvaluation() {
+            return start.toInstant().toEpochMilli();
+        }
+
+        @Override
+        long nextEvaluation(long now) {
+            ZonedDateTime last = lastFireTime;
+            long next = last != null ? last.toInstant().toEpochMilli() + interval : firstEvaluation();
+            // The trigger was not fired, e.g. because it is paused
+            return next > now ? next : now + interval;
+        }
+
         @Override
         public Instant getNextFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -533,6 +676,20 @@ public Instant getNextFireTime() {
             return executionTime.nextExecution(lastFireTime).map(ZonedDateTime::toInstant).orElse(null);
         }
 
+        @Override
+        long firstEvaluation() {
+            return nextEvaluation(start.toInstant().toEpochMilli());
+        }
+
+        @Override
+        long nextEvaluation(long now) {
+            long from = Math.max(now, start.toInstant().toEpochMilli());
+            ZonedDateTime time = zoned(Instant.ofEpochMilli(from).atZone(start.getZone()));
+            // The last execution is only found strictly after the scheduled time, see evaluate()
+            return executionTime.nextExecution(time).map(next -> next.toInstant().toEpochMilli() + 1)
+                    .orElse(Long.MAX_VALUE);
+        }
+
         @Override
         ZonedDateTime evaluate(ZonedDateTime now) {
             if (now.isBefore(start)) {
@@ -672,6 +829,7 @@ public boolean isBlocking() {
                 if (existing != null) {
                     throw new IllegalStateException("A job with this identity is already scheduled: " + identity);
                 }
+                enqueue(scheduledTask);
                 return simpleTrigger;
             }
             return null;
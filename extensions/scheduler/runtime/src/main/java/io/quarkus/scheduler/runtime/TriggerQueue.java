@@ -0,0 +1,168 @@
+package io.quarkus.scheduler.runtime;
+
+import java.util.Arrays;
+
+/**
+ * A priority queue of entries ordered by their due time, in milliseconds.
+ * <p>
+ * Each entry keeps its position in the underlying binary heap so that it can be removed in {@code O(log n)}, which makes
+ * the cost of a trigger check proportional to the number of due entries and not to the number of registered entries.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <T> the type of the queued values
+ */
+public final class TriggerQueue<T> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Entry<T>[] heap;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public TriggerQueue() {
+        this.heap = new Entry[INITIAL_CAPACITY];
+    }
+
+    /**
+     * @param value
+     * @return a new entry, not queued yet
+     */
+    public static <T> Entry<T> entry(T value) {
+        return new Entry<>(value);
+    }
+
+    /**
+     * Adds the entry to the queue, or moves it if it is already queued.
+     *
+     * @param entry
+     * @param due the due time in milliseconds
+     */
+    public void add(Entry<T> entry, long due) {
+        if (entry.index >= 0) {
+            long previous = entry.due;
+            entry.due = due;
+            if (due < previous) {
+                siftUp(entry.index, entry);
+            } else {
+                siftDown(entry.index, entry);
+            }
+            return;
+        }
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        entry.due = due;
+        siftUp(size++, entry);
+    }
+
+    /**
+     * @param entry
+     * @return {@code true} if the entry was queued
+     */
+    public boolean remove(Entry<T> entry) {
+        int index = entry.index;
+        if (index < 0 || index >= size || heap[index] != entry) {
+            return false;
+        }
+        entry.index = -1;
+        int last = --size;
+        Entry<T> moved = heap[last];
+        heap[last] = null;
+        if (index != last) {
+            siftDown(index, moved);
+            if (heap[index] == moved) {
+                siftUp(index, moved);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param now the current time in milliseconds
+     * @return the entry with the lowest due time if it is due, {@code null} otherwise; the entry is removed from the queue
+     */
+    public Entry<T> pollDue(long now) {
+        if (size == 0) {
+            return null;
+        }
+        Entry<T> first = heap[0];
+        if (first.due > now) {
+            return null;
+        }
+        remove(first);
+        return first;
+    }
+
+    /**
+     * @return the lowest due time, or {@link Long#MAX_VALUE} if the queue is empty
+     */
+    public long nextDue() {
+        return size == 0 ? Long.MAX_VALUE : heap[0].due;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void siftUp(int index, Entry<T> entry) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            Entry<T> e = heap[parent];
+            if (entry.due >= e.due) {
+                break;
+            }
+            heap[index] = e;
+            e.index = index;
+            index = parent;
+        }
+        heap[index] = entry;
+        entry.index = index;
+    }
+
+    private void siftDown(int index, Entry<T> entry) {
+        int half = size >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            Entry<T> c = heap[child];
+            int right = child + 1;
+            if (right < size && heap[right].due < c.due) {
+                child = right;
+                c = heap[child];
+            }
+            if (entry.due <= c.due) {
+                break;
+            }
+            heap[index] = c;
+            c.index = index;
+            index = child;
+        }
+        heap[index] = entry;
+        entry.index = index;
+    }
+
+    public static final class Entry<T> {
+
+        private final T value;
+        private long due;
+        private int index = -1;
+
+        private Entry(T value) {
+            this.value = value;
+        }
+
+        public T value() {
+            return value;
+        }
+
+        public long due() {
+            return due;
+        }
+
+        public boolean isQueued() {
+            return index >= 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,195 @@
+package io.quarkus.scheduler.runtime.lease;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Default;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Singleton;
+
+import org.jboss.logging.Logger;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.DataSource.DataSourceLiteral;
+import io.quarkus.arc.DefaultBean;
+import io.quarkus.scheduler.runtime.SchedulerConfig;
+import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig;
+import io.quarkus.scheduler.spi.LeaseStore;
+
+/**
+ * Stores the leases in the {@code <prefix>NODES} and {@code <prefix>LEASES} tables.
+ * <p>
+ * Each lease is acquired with a single conditional {@code UPDATE}, or an {@code INSERT} if the lease does not exist yet, so
+ * that no database lock is held between two statements.
+ */
+@DefaultBean
+@Singleton
+public class JdbcLeaseStore implements LeaseStore {
+
+    private static final Logger LOG = Logger.getLogger(JdbcLeaseStore.class);
+
+    private final AgroalDataSource dataSource;
+    private final String nodesTable;
+    private final String leasesTable;
+    private final boolean createTables;
+
+    // only accessed by the lease coordinator thread
+    private boolean tablesChecked;
+
+    public JdbcLeaseStore(SchedulerConfig schedulerConfig, SchedulerRuntimeConfig schedulerRuntimeConfig,
+            @Any Instance<AgroalDataSource> dataSources) {
+        Optional<String> name = schedulerConfig.lease().datasource();
+        Instance<AgroalDataSource> dataSource = name.isPresent() ? dataSources.select(new DataSourceLiteral(name.get()))
+                : dataSources.select(Default.Literal.INSTANCE);
+        if (!dataSource.isResolvable()) {
+            throw new IllegalStateException(String.format(
+                    "JDBC lease store configured but '%s' datasource is missing. You can configure your datasource by following the guide available at: https://quarkus.io/guides/datasource",
+                    name.orElse("default")));
+        }
+        this.dataSource = dataSource.get();
+        String prefix = schedulerRuntimeConfig.lease().tablePrefix();
+        this.nodesTable = prefix + "NODES";
+        this.leasesTable = prefix + "LEASES";
+        this.createTables = schedulerRuntimeConfig.lease().createTables();
+    }
+
+    @Override
+    public Set<String> heartbeat(String nodeId, Duration ttl) {
+        long now = System.currentTimeMillis();
+        try (Connection connection = dataSource.getConnection()) {
+            if (createTables && !tablesChecked) {
+                createTables(connection);
+                tablesChecked = true;
+            }
+            try (PreparedStatement update = connection
+                    .prepareStatement("UPDATE " + nodesTable + " SET EXPIRES_AT = ? WHERE NODE_ID = ?")) {
+                update.setLong(1, now + ttl.toMillis());
+                update.setString(2, nodeId);
+                if (update.executeUpdate() == 0) {
+                    try (PreparedStatement insert = connection
+                            .prepareStatement("INSERT INTO " + nodesTable + " (NODE_ID, EXPIRES_AT) VALUES (?, ?)")) {
+                        insert.setString(1, nodeId);
+                        insert.setLong(2, now + ttl.toMillis());
+                        insert.executeUpdate();
+                    }
+                }
+            }
+            try (PreparedStatement delete = connection
+                    .prepareStatement("DELETE FROM " + nodesTable + " WHERE EXPIRES_AT < ?")) {
+                delete.setLong(1, now);
+                delete.executeUpdate();
+            }
+            Set<String> nodes = new HashSet<>();
+            try (PreparedStatement select = connection.prepareStatement("SELECT NODE_ID FROM " + nodesTable);
+                    ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    nodes.add(rs.getString(1));
+                }
+            }
+            return nodes;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to renew the membership of node " + nodeId, e);
+        }
+    }
+
+    @Override
+    public Set<String> acquire(String nodeId, Set<String> jobIds, Duration ttl) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + ttl.toMillis();
+        Set<String> acquired = new HashSet<>();
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement update = connection.prepareStatement("UPDATE " + leasesTable
+                        + " SET NODE_ID = ?, EXPIRES_AT = ? WHERE JOB_ID = ? AND (NODE_ID = ? OR EXPIRES_AT < ?)");
+                PreparedStatement insert = connection
+                        .prepareStatement("INSERT INTO " + leasesTable + " (JOB_ID, NODE_ID, EXPIRES_AT) VALUES (?, ?, ?)")) {
+            for (String jobId : jobIds) {
+                update.setString(1, nodeId);
+                update.setLong(2, expiresAt);
+                update.setString(3, jobId);
+                update.setString(4, nodeId);
+                update.setLong(5, now);
+                if (update.executeUpdate() > 0) {
+                    acquired.add(jobId);
+                    continue;
+                }
+                insert.setString(1, jobId);
+                insert.setString(2, nodeId);
+                insert.setLong(3, expiresAt);
+                try {
+                    insert.executeUpdate();
+                    acquired.add(jobId);
+                } catch (SQLException e) {
+                    // Class 23 - integrity constraint violation, i.e. the lease is held by another node
+                    if (e.getSQLState() == null || !e.getSQLState().startsWith("23")) {
+                        throw e;
+                    }
+                    LOG.tracef("Lease of job %s is held by another node", jobId);
+                }
+            }
+            return acquired;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to acquire the leases of node " + nodeId, e);
+        }
+    }
+
+    @Override
+    public void release(String nodeId, Set<String> jobIds) {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement delete = connection
+                        .prepareStatement("DELETE FROM " + leasesTable + " WHERE JOB_ID = ? AND NODE_ID = ?")) {
+            for (String jobId : jobIds) {
+                delete.setString(1, jobId);
+                delete.setString(2, nodeId);
+                delete.addBatch();
+            }
+            delete.executeBatch();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to release the leases of node " + nodeId, e);
+        }
+    }
+
+    @Override
+    public void leave(String nodeId) {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement delete = connection.prepareStatement("DELETE FROM " + nodesTable + " WHERE NODE_ID = ?")) {
+            delete.setString(1, nodeId);
+            delete.executeUpdate();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to remove the membership of node " + nodeId, e);
+        }
+    }
+
+    private void createTables(Connection connection) throws SQLException {
+        createTableIfMissing(connection, nodesTable, "CREATE TABLE " + nodesTable
+                + " (NODE_ID VARCHAR(255) NOT NULL, EXPIRES_AT BIGINT NOT NULL, PRIMARY KEY (NODE_ID))");
+        createTableIfMissing(connection, leasesTable, "CREATE TABLE " + leasesTable
+                + " (JOB_ID VARCHAR(255) NOT NULL, NODE_ID VARCHAR(255) NOT NULL, EXPIRES_AT BIGINT NOT NULL, PRIMARY KEY (JOB_ID))");
+    }
+
+    private void createTableIfMissing(Connection connection, String table, String ddl) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            try {
+                statement.executeQuery("SELECT COUNT(*) FROM " + table + " WHERE 1 = 0").close();
+                return;
+            } catch (SQLException e) {
+                LOG.debugf("Table %s not found: %s", table, e.getMessage());
+            }
+            try {
+                statement.executeUpdate(ddl);
+                LOG.infof("Table %s created", table);
+            } catch (SQLException e) {
+                // Another node may have created the table in the meantime
+                statement.executeQuery("SELECT COUNT(*) FROM " + table + " WHERE 1 = 0").close();
+            }
+        }
+    }
+
+}
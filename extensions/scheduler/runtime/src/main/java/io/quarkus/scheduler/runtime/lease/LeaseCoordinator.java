@@ -0,0 +1,200 @@
+package io.quarkus.scheduler.runtime.lease;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.scheduler.spi.LeaseStore;
+
+/**
+ * Assigns the jobs of the lease-based scheduler to the live nodes of a cluster and maintains the leases of the jobs assigned
+ * to this node.
+ * <p>
+ * Each job is assigned to a node using rendezvous hashing, i.e. the node with the highest weight for a given job wins. Every
+ * node computes the same assignment from the same set of live nodes and only the jobs of a node that joins or leaves the
+ * cluster are moved to another node.
+ * <p>
+ * A job is executed only while this node holds its lease. The leases are checked locally between two renewals, so the clocks
+ * of the nodes are expected to be synchronized.
+ */
+public final class LeaseCoordinator {
+
+    private static final Logger LOG = Logger.getLogger(LeaseCoordinator.class);
+
+    private final LeaseStore store;
+    private final String nodeId;
+    private final Duration ttl;
+    private final Duration renewInterval;
+    private final Supplier<Set<String>> jobs;
+    private final LongSupplier clock;
+
+    private volatile Leases leases = Leases.NONE;
+    private ScheduledExecutorService executor;
+
+    /**
+     * @param store
+     * @param nodeId
+     * @param ttl
+     * @param renewInterval
+     * @param jobs the identifiers of the jobs that can be leased
+     */
+    public LeaseCoordinator(LeaseStore store, String nodeId, Duration ttl, Duration renewInterval,
+            Supplier<Set<String>> jobs) {
+        this(store, nodeId, ttl, renewInterval, jobs, System::currentTimeMillis);
+    }
+
+    LeaseCoordinator(LeaseStore store, String nodeId, Duration ttl, Duration renewInterval, Supplier<Set<String>> jobs,
+            LongSupplier clock) {
+        this.store = store;
+        this.nodeId = nodeId;
+        this.ttl = ttl;
+        this.renewInterval = renewInterval;
+        this.jobs = jobs;
+        this.clock = clock;
+        if (renewInterval.compareTo(ttl) >= 0) {
+            LOG.warnf("The lease renew interval [%s] is not less than the lease ttl [%s] - jobs may not be executed in time",
+                    renewInterval, ttl);
+        }
+    }
+
+    /**
+     * Acquires the leases of the jobs assigned to this node and then renews them periodically. The first renewal is performed
+     * on the caller thread so that the jobs that are due right after the start are not skipped.
+     */
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        renew();
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "quarkus-scheduler-lease");
+            t.setDaemon(true);
+            return t;
+        });
+        executor.scheduleWithFixedDelay(this::renew, renewInterval.toMillis(), renewInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+        LOG.debugf("Lease coordinator started for node %s", nodeId);
+    }
+
+    public synchronized void stop() {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(renewInterval.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        executor = null;
+        Set<String> leased = leases.jobIds;
+        leases = Leases.NONE;
+        // Let the other nodes take over the jobs right away
+        try {
+            if (!leased.isEmpty()) {
+                store.release(nodeId, leased);
+            }
+            store.leave(nodeId);
+        } catch (Exception e) {
+            LOG.warnf(e, "Unable to release the leases of node %s", nodeId);
+        }
+    }
+
+    /**
+     * @param jobId
+     * @return {@code true} if this node holds a valid lease for the given job
+     */
+    public boolean isLeased(String jobId) {
+        Leases current = leases;
+        return current.jobIds.contains(jobId) && current.validUntil > clock.getAsLong();
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    void renew() {
+        // A lease acquired or renewed during this cycle expires in the store at the earliest after this deadline
+        long validUntil = clock.getAsLong() + ttl.toMillis();
+        try {
+            Set<String> nodes = new HashSet<>(store.heartbeat(nodeId, ttl));
+            nodes.add(nodeId);
+            Set<String> assigned = new HashSet<>();
+            for (String jobId : jobs.get()) {
+                if (nodeId.equals(owner(jobId, nodes))) {
+                    assigned.add(jobId);
+                }
+            }
+            Leases current = leases;
+            Set<String> lost = new HashSet<>(current.jobIds);
+            lost.removeAll(assigned);
+            if (!lost.isEmpty()) {
+                // Stop executing the jobs before the other nodes can acquire them
+                Set<String> kept = new HashSet<>(current.jobIds);
+                kept.removeAll(lost);
+                leases = new Leases(kept, current.validUntil);
+                store.release(nodeId, lost);
+            }
+            Set<String> acquired = assigned.isEmpty() ? Set.of() : Set.copyOf(store.acquire(nodeId, assigned, ttl));
+            leases = new Leases(acquired, validUntil);
+            LOG.debugf("Node %s holds %s of %s assigned leases [live nodes: %s]", nodeId, acquired.size(), assigned.size(),
+                    nodes.size());
+        } catch (Exception e) {
+            // The leases that are still valid are kept until they expire
+            LOG.warnf(e, "Unable to renew the leases of node %s", nodeId);
+        }
+    }
+
+    /**
+     * @param jobId
+     * @param nodes
+     * @return the node with the highest weight for the given job
+     */
+    static String owner(String jobId, Collection<String> nodes) {
+        String owner = null;
+        long max = Long.MIN_VALUE;
+        for (String node : nodes) {
+            long weight = weight(jobId, node);
+            if (owner == null || weight > max || (weight == max && node.compareTo(owner) < 0)) {
+                owner = node;
+                max = weight;
+            }
+        }
+        return owner;
+    }
+
+    static long weight(String jobId, String nodeId) {
+        // String.hashCode() is specified, so all nodes compute the same weights
+        long h = jobId.hashCode() * 0x9E3779B97F4A7C15L + nodeId.hashCode();
+        // The finalizer of MurmurHash3
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static final class Leases {
+
+        static final Leases NONE = new Leases(Set.of(), 0);
+
+        final Set<String> jobIds;
+        final long validUntil;
+
+        Leases(Set<String> jobIds, long validUntil) {
+            this.jobIds = jobIds;
+            this.validUntil = validUntil;
+        }
+
+    }
+
+}
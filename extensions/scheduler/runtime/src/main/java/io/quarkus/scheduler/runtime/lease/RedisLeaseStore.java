@@ -0,0 +1,185 @@
+package io.quarkus.scheduler.runtime.lease;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Default;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Singleton;
+
+import io.quarkus.arc.DefaultBean;
+import io.quarkus.redis.client.RedisClientName;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.scheduler.runtime.SchedulerConfig;
+import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig;
+import io.quarkus.scheduler.spi.LeaseStore;
+import io.vertx.mutiny.redis.client.Response;
+
+/**
+ * Stores each lease in a key that expires with the lease, and the live nodes in a sorted set scored by the expiration time of
+ * their membership.
+ * <p>
+ * The leases of a node are acquired and released with a single Lua script, i.e. in one round trip. The scripts are invoked
+ * with {@code EVALSHA} and only sent to the server if they are not cached yet. All the keys share the same hash tag, i.e. they
+ * are stored in the same slot of a Redis cluster.
+ */
+@DefaultBean
+@Singleton
+public class RedisLeaseStore implements LeaseStore {
+
+    // KEYS = lease keys, ARGV[1] = node id, ARGV[2] = ttl in milliseconds
+    private static final String ACQUIRE = """
+            local result = {}
+            for i, key in ipairs(KEYS) do
+                local holder = redis.call('GET', key)
+                if holder == false then
+                    redis.call('SET', key, ARGV[1], 'PX', ARGV[2])
+                    result[i] = 1
+                elseif holder == ARGV[1] then
+                    redis.call('PEXPIRE', key, ARGV[2])
+                    result[i] = 1
+                else
+                    result[i] = 0
+                end
+            end
+            return result
+            """;
+
+    // KEYS = lease keys, ARGV[1] = node id
+    private static final String RELEASE = """
+            for i, key in ipairs(KEYS) do
+                if redis.call('GET', key) == ARGV[1] then
+                    redis.call('DEL', key)
+                end
+            end
+            return 0
+            """;
+
+    private static final String ACQUIRE_SHA = sha1(ACQUIRE);
+    private static final String RELEASE_SHA = sha1(RELEASE);
+
+    private final RedisDataSource redis;
+    private final String nodesKey;
+    private final String leaseKeyPrefix;
+
+    public RedisLeaseStore(SchedulerConfig schedulerConfig, SchedulerRuntimeConfig schedulerRuntimeConfig,
+            @Any Instance<RedisDataSource> dataSources) {
+        Optional<String> name = schedulerConfig.lease().redisClient();
+        Instance<RedisDataSource> dataSource = name.isPresent() ? dataSources.select(RedisClientName.Literal.of(name.get()))
+                : dataSources.select(Default.Literal.INSTANCE);
+        if (!dataSource.isResolvable()) {
+            throw new IllegalStateException(String.format(
+                    "Redis lease store configured but '%s' Redis client is missing. You can configure your Redis client by following the guide available at: https://quarkus.io/guides/redis",
+                    name.orElse("default")));
+        }
+        this.redis = dataSource.get();
+        String prefix = hashTagged(schedulerRuntimeConfig.lease().keyPrefix());
+        this.nodesKey = prefix + "nodes";
+        this.leaseKeyPrefix = prefix + "lease:";
+    }
+
+    @Override
+    public Set<String> heartbeat(String nodeId, Duration ttl) {
+        long now = System.currentTimeMillis();
+        redis.execute("ZADD", nodesKey, Long.toString(now + ttl.toMillis()), nodeId);
+        redis.execute("ZREMRANGEBYSCORE", nodesKey, "-inf", "(" + now);
+        Set<String> nodes = new HashSet<>();
+        for (Response node : redis.execute("ZRANGE", nodesKey, "0", "-1")) {
+            nodes.add(node.toString());
+        }
+        return nodes;
+    }
+
+    @Override
+    public Set<String> acquire(String nodeId, Set<String> jobIds, Duration ttl) {
+        List<String> ids = new ArrayList<>(jobIds);
+        Response result = eval(ACQUIRE, ACQUIRE_SHA, ids, nodeId, Long.toString(ttl.toMillis()));
+        Set<String> acquired = new HashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (result.get(i).toInteger() == 1) {
+                acquired.add(ids.get(i));
+            }
+        }
+        return acquired;
+    }
+
+    @Override
+    public void release(String nodeId, Set<String> jobIds) {
+        eval(RELEASE, RELEASE_SHA, new ArrayList<>(jobIds), nodeId);
+    }
+
+    @Override
+    public void leave(String nodeId) {
+        redis.execute("ZREM", nodesKey, nodeId);
+    }
+
+    private Response eval(String script, String sha, List<String> jobIds, String... argv) {
+        try {
+            return redis.execute("EVALSHA", evalArgs(sha, jobIds, argv));
+        } catch (RuntimeException e) {
+            if (!isNoScript(e)) {
+                throw e;
+            }
+            // The script is not cached yet, e.g. after a restart of the server - EVAL caches the script
+            return redis.execute("EVAL", evalArgs(script, jobIds, argv));
+        }
+    }
+
+    private String[] evalArgs(String scriptOrSha, List<String> jobIds, String... argv) {
+        String[] args = new String[2 + jobIds.size() + argv.length];
+        args[0] = scriptOrSha;
+        args[1] = Integer.toString(jobIds.size());
+        int idx = 2;
+        for (String jobId : jobIds) {
+            args[idx++] = leaseKeyPrefix + jobId;
+        }
+        for (String arg : argv) {
+            args[idx++] = arg;
+        }
+        return args;
+    }
+
+    /**
+     * @param prefix
+     * @return the prefix if it already contains a hash tag, or the prefix wrapped in a hash tag
+     */
+    static String hashTagged(String prefix) {
+        int start = prefix.indexOf('{');
+        if (start != -1) {
+            int end = prefix.indexOf('}', start + 1);
+            // An empty tag, i.e. "{}", is not a hash tag
+            if (end > start + 1) {
+                return prefix;
+            }
+        }
+        return "{" + prefix + "}";
+    }
+
+    private static boolean isNoScript(Throwable failure) {
+        while (failure != null) {
+            if (failure.getMessage() != null && failure.getMessage().startsWith("NOSCRIPT")) {
+                return true;
+            }
+            failure = failure.getCause();
+        }
+        return false;
+    }
+
+    private static String sha1(String script) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-1").digest(script.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
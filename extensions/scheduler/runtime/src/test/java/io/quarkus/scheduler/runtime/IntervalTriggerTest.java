@@ -0,0 +1,79 @@
+package io.quarkus.scheduler.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.scheduler.runtime.SimpleScheduler.IntervalTrigger;
+
+public class IntervalTriggerTest {
+
+    private static final ZonedDateTime START = ZonedDateTime.of(2024, 1, 1, 10, 0, 0, 0, ZoneId.of("UTC"));
+
+    @Test
+    public void testPeriodIsStable() {
+        IntervalTrigger trigger = new IntervalTrigger("foo", START, 100, Duration.ofSeconds(1), "foo");
+        assertEquals(START.toInstant().toEpochMilli(), trigger.firstEvaluation());
+
+        // The first execution is not delayed
+        ZonedDateTime now = START.plusNanos(millis(3));
+        assertEquals(now, trigger.evaluate(now));
+        assertEquals(now.toInstant(), trigger.getPreviousFireTime());
+        assertEquals(epochMillis(now) + 100, trigger.nextEvaluation(epochMillis(now)));
+
+        // Not due yet
+        assertNull(trigger.evaluate(now.plusNanos(millis(99))));
+
+        // An evaluation that comes late does not shift the following executions, i.e. the previous fire time is the
+        // scheduled time and not the time of the evaluation
+        ZonedDateTime scheduled = now.plusNanos(millis(100));
+        assertEquals(scheduled, trigger.evaluate(now.plusNanos(millis(115))));
+        assertEquals(scheduled.toInstant(), trigger.getPreviousFireTime());
+        assertEquals(epochMillis(scheduled) + 100, trigger.nextEvaluation(epochMillis(now) + 115));
+    }
+
+    @Test
+    public void testMissedExecutions() {
+        IntervalTrigger trigger = new IntervalTrigger("foo", START, 100, Duration.ofSeconds(1), "foo");
+        trigger.evaluate(START);
+
+        // Two periods or more were missed, e.g. because the trigger was paused; the trigger fires once and the following
+        // executions are scheduled from the time of the evaluation
+        ZonedDateTime now = START.plusNanos(millis(350));
+        assertEquals(START.plusNanos(millis(100)), trigger.evaluate(now));
+        assertEquals(now.toInstant(), trigger.getPreviousFireTime());
+        assertEquals(epochMillis(now) + 100, trigger.nextEvaluation(epochMillis(now)));
+    }
+
+    @Test
+    public void testNotFiredTriggerIsEvaluatedAgainAfterInterval() {
+        IntervalTrigger trigger = new IntervalTrigger("foo", START, 100, Duration.ofSeconds(1), "foo");
+        trigger.evaluate(START);
+        // The trigger was not fired at the expected time, e.g. because it is paused
+        long now = epochMillis(START) + 250;
+        assertEquals(now + 100, trigger.nextEvaluation(now));
+    }
+
+    @Test
+    public void testSubMillisecondIntervalIsRoundedUp() {
+        IntervalTrigger trigger = new IntervalTrigger("foo", START, 0, Duration.ofSeconds(1), "foo");
+        trigger.evaluate(START);
+        assertEquals(epochMillis(START) + SimpleScheduler.MIN_PERIOD, trigger.nextEvaluation(epochMillis(START)));
+        assertNull(trigger.evaluate(START));
+        assertEquals(START.plusNanos(millis(1)), trigger.evaluate(START.plusNanos(millis(1))));
+    }
+
+    private static long millis(long millis) {
+        return Duration.ofMillis(millis).toNanos();
+    }
+
+    private static long epochMillis(ZonedDateTime time) {
+        return time.toInstant().toEpochMilli();
+    }
+
+}
@@ -0,0 +1,119 @@
+package io.quarkus.scheduler.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.scheduler.runtime.TriggerQueue.Entry;
+
+public class TriggerQueueTest {
+
+    @Test
+    public void testAddRemoveAndAddAgain() {
+        TriggerQueue<String> queue = new TriggerQueue<>();
+        Entry<String> foo = TriggerQueue.entry("foo");
+        Entry<String> bar = TriggerQueue.entry("bar");
+        assertFalse(foo.isQueued());
+        assertEquals(Long.MAX_VALUE, queue.nextDue());
+
+        queue.add(foo, 20);
+        queue.add(bar, 10);
+        assertTrue(foo.isQueued());
+        assertEquals(2, queue.size());
+        assertEquals(10, queue.nextDue());
+
+        assertTrue(queue.remove(bar));
+        assertFalse(bar.isQueued());
+        assertEquals(1, queue.size());
+        assertEquals(20, queue.nextDue());
+
+        // A queued entry is moved
+        queue.add(foo, 5);
+        assertEquals(1, queue.size());
+        assertEquals(5, queue.nextDue());
+
+        // A removed entry can be added again
+        queue.add(bar, 1);
+        assertEquals(2, queue.size());
+        assertSame(bar, queue.pollDue(1));
+        assertSame(foo, queue.pollDue(5));
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void testRemovedEntriesAreNotPolled() {
+        TriggerQueue<String> queue = new TriggerQueue<>();
+        Entry<String> foo = TriggerQueue.entry("foo");
+        Entry<String> bar = TriggerQueue.entry("bar");
+        Entry<String> baz = TriggerQueue.entry("baz");
+        queue.add(foo, 1);
+        queue.add(bar, 2);
+        queue.add(baz, 3);
+
+        assertTrue(queue.remove(foo));
+        // Removing an entry twice or an entry that was never queued has no effect
+        assertFalse(queue.remove(foo));
+        assertFalse(queue.remove(TriggerQueue.entry("qux")));
+        assertEquals(2, queue.size());
+
+        assertSame(bar, queue.pollDue(10));
+        assertFalse(bar.isQueued());
+        // A polled entry is not queued anymore
+        assertFalse(queue.remove(bar));
+        assertSame(baz, queue.pollDue(10));
+        assertNull(queue.pollDue(10));
+    }
+
+    @Test
+    public void testOnlyDueEntriesArePolled() {
+        TriggerQueue<String> queue = new TriggerQueue<>();
+        queue.add(TriggerQueue.entry("foo"), 100);
+        assertNull(queue.pollDue(99));
+        assertEquals(1, queue.size());
+        assertEquals("foo", queue.pollDue(100).value());
+    }
+
+    @Test
+    public void testEntriesArePolledInOrder() {
+        Random random = new Random(42);
+        TriggerQueue<Integer> queue = new TriggerQueue<>();
+        List<Entry<Integer>> entries = new ArrayList<>();
+        // More entries than the initial capacity so that the heap grows
+        for (int i = 0; i < 1000; i++) {
+            Entry<Integer> entry = TriggerQueue.entry(i);
+            entries.add(entry);
+            queue.add(entry, random.nextInt(10_000));
+        }
+        // Move some entries up and down and remove some other entries
+        for (int i = 0; i < 1000; i += 3) {
+            queue.add(entries.get(i), random.nextInt(10_000));
+        }
+        int removed = 0;
+        for (int i = 1; i < 1000; i += 7) {
+            assertTrue(queue.remove(entries.get(i)));
+            removed++;
+        }
+        assertEquals(1000 - removed, queue.size());
+
+        long previous = Long.MIN_VALUE;
+        int polled = 0;
+        Entry<Integer> entry;
+        while ((entry = queue.pollDue(Long.MAX_VALUE)) != null) {
+            assertTrue(entry.due() >= previous, "Entries not polled in order");
+            assertTrue(entry.value() % 7 != 1, "Removed entry polled: " + entry.value());
+            previous = entry.due();
+            polled++;
+        }
+        assertEquals(1000 - removed, polled);
+        assertEquals(Long.MAX_VALUE, queue.nextDue());
+    }
+
+}
@@ -0,0 +1,196 @@
+package io.quarkus.scheduler.runtime.lease;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.scheduler.spi.LeaseStore;
+
+public class LeaseCoordinatorTest {
+
+    private static final Duration TTL = Duration.ofSeconds(10);
+    private static final Duration RENEW_INTERVAL = Duration.ofSeconds(3);
+    private static final Set<String> JOBS = Set.of("foo", "bar", "baz", "qux", "quux", "corge");
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+    private final InMemoryLeaseStore store = new InMemoryLeaseStore(clock);
+
+    @Test
+    public void testLeaseIsValidUntilTtl() {
+        LeaseCoordinator coordinator = coordinator("node1");
+        assertFalse(coordinator.isLeased("foo"));
+
+        coordinator.renew();
+        for (String job : JOBS) {
+            assertTrue(coordinator.isLeased(job));
+        }
+        assertFalse(coordinator.isLeased("unknown"));
+
+        // The lease is not renewed, e.g. the store is not reachable
+        clock.addAndGet(TTL.toMillis() - 1);
+        assertTrue(coordinator.isLeased("foo"));
+        clock.incrementAndGet();
+        assertFalse(coordinator.isLeased("foo"));
+    }
+
+    @Test
+    public void testLeasesAreKeptIfRenewFails() {
+        LeaseCoordinator coordinator = coordinator("node1");
+        coordinator.renew();
+        store.failing = true;
+
+        clock.addAndGet(RENEW_INTERVAL.toMillis());
+        coordinator.renew();
+        // The leases acquired by the previous renewal are still valid
+        assertTrue(coordinator.isLeased("foo"));
+
+        clock.addAndGet(TTL.toMillis() - RENEW_INTERVAL.toMillis());
+        coordinator.renew();
+        assertFalse(coordinator.isLeased("foo"));
+
+        store.failing = false;
+        coordinator.renew();
+        assertTrue(coordinator.isLeased("foo"));
+    }
+
+    @Test
+    public void testLeaseHeldByAnotherNode() {
+        store.holders.put("foo", new Holder("node2", Long.MAX_VALUE));
+        LeaseCoordinator coordinator = coordinator("node1");
+        coordinator.renew();
+        assertFalse(coordinator.isLeased("foo"));
+        assertTrue(coordinator.isLeased("bar"));
+
+        // The lease is revoked, the job is not executed anymore even though the previous lease is not expired yet
+        store.holders.put("bar", new Holder("node2", Long.MAX_VALUE));
+        clock.addAndGet(RENEW_INTERVAL.toMillis());
+        coordinator.renew();
+        assertFalse(coordinator.isLeased("bar"));
+        assertTrue(coordinator.isLeased("baz"));
+    }
+
+    @Test
+    public void testJobsAreMovedWhenNodesJoinAndLeave() {
+        LeaseCoordinator node1 = coordinator("node1");
+        LeaseCoordinator node2 = coordinator("node2");
+        node1.renew();
+        // node2 joins the cluster but the jobs assigned to node2 are still leased by node1
+        node2.renew();
+        Set<String> assignedToNode2 = new HashSet<>();
+        for (String job : JOBS) {
+            if ("node2".equals(LeaseCoordinator.owner(job, Set.of("node1", "node2")))) {
+                assignedToNode2.add(job);
+            }
+        }
+        assertNotEquals(0, assignedToNode2.size());
+        assertNotEquals(JOBS.size(), assignedToNode2.size());
+        for (String job : assignedToNode2) {
+            assertFalse(node2.isLeased(job));
+        }
+
+        // node1 releases the leases assigned to node2
+        clock.addAndGet(RENEW_INTERVAL.toMillis());
+        node1.renew();
+        node2.renew();
+        for (String job : JOBS) {
+            boolean node2Owns = assignedToNode2.contains(job);
+            assertEquals(!node2Owns, node1.isLeased(job), job);
+            assertEquals(node2Owns, node2.isLeased(job), job);
+        }
+
+        // node2 crashes, i.e. its membership and leases expire
+        clock.addAndGet(TTL.toMillis() + 1);
+        node1.renew();
+        for (String job : JOBS) {
+            assertTrue(node1.isLeased(job), job);
+            assertFalse(node2.isLeased(job), job);
+        }
+    }
+
+    @Test
+    public void testOwnerIsStable() {
+        Set<String> nodes = Set.of("node1", "node2", "node3");
+        for (String job : JOBS) {
+            String owner = LeaseCoordinator.owner(job, nodes);
+            Set<String> others = new HashSet<>(nodes);
+            // Only the jobs of the node that leaves are moved
+            others.remove(owner.equals("node1") ? "node2" : "node1");
+            assertEquals(owner, LeaseCoordinator.owner(job, others));
+        }
+    }
+
+    private LeaseCoordinator coordinator(String nodeId) {
+        return new LeaseCoordinator(store, nodeId, TTL, RENEW_INTERVAL, () -> JOBS, clock::get);
+    }
+
+    record Holder(String nodeId, long expiresAt) {
+    }
+
+    static class InMemoryLeaseStore implements LeaseStore {
+
+        final AtomicLong clock;
+        final Map<String, Long> nodes = new HashMap<>();
+        final Map<String, Holder> holders = new HashMap<>();
+        boolean failing;
+
+        InMemoryLeaseStore(AtomicLong clock) {
+            this.clock = clock;
+        }
+
+        @Override
+        public Set<String> heartbeat(String nodeId, Duration ttl) {
+            check();
+            long now = clock.get();
+            nodes.put(nodeId, now + ttl.toMillis());
+            nodes.values().removeIf(expiresAt -> expiresAt < now);
+            return Set.copyOf(nodes.keySet());
+        }
+
+        @Override
+        public Set<String> acquire(String nodeId, Set<String> jobIds, Duration ttl) {
+            check();
+            long now = clock.get();
+            Set<String> acquired = new HashSet<>();
+            for (String jobId : jobIds) {
+                Holder holder = holders.get(jobId);
+                if (holder == null || holder.nodeId().equals(nodeId) || holder.expiresAt() < now) {
+                    holders.put(jobId, new Holder(nodeId, now + ttl.toMillis()));
+                    acquired.add(jobId);
+                }
+            }
+            return acquired;
+        }
+
+        @Override
+        public void release(String nodeId, Set<String> jobIds) {
+            check();
+            for (String jobId : jobIds) {
+                holders.computeIfPresent(jobId, (k, holder) -> holder.nodeId().equals(nodeId) ? null : holder);
+            }
+        }
+
+        @Override
+        public void leave(String nodeId) {
+            check();
+            nodes.remove(nodeId);
+        }
+
+        private void check() {
+            if (failing) {
+                throw new IllegalStateException("Store not available");
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,54 @@
+package io.quarkus.scheduler.spi;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Stores the leases of the lease-based scheduler implementation, i.e. which node of a cluster executes which job.
+ * <p>
+ * The {@code quarkus-scheduler} extension provides a JDBC and a Redis implementation. An application can provide exactly one
+ * CDI bean of this type to use a different store. The scope must be either {@link jakarta.inject.Singleton} or
+ * {@link jakarta.enterprise.context.ApplicationScoped}.
+ * <p>
+ * The methods are only called from a dedicated thread and may block.
+ */
+public interface LeaseStore {
+
+    /**
+     * Registers or renews the membership of a node.
+     *
+     * @param nodeId
+     * @param ttl the time after which the node is considered dead unless the membership is renewed
+     * @return the identifiers of all live nodes, including the given node
+     */
+    Set<String> heartbeat(String nodeId, Duration ttl);
+
+    /**
+     * Acquires the leases of the given jobs, or renews the leases already held by the given node.
+     * <p>
+     * A lease held by another node can only be acquired once it has expired.
+     *
+     * @param nodeId
+     * @param jobIds
+     * @param ttl the time after which a lease expires unless it is renewed
+     * @return the identifiers of the jobs leased by the given node
+     */
+    Set<String> acquire(String nodeId, Set<String> jobIds, Duration ttl);
+
+    /**
+     * Releases the leases of the given jobs if held by the given node.
+     *
+     * @param nodeId
+     * @param jobIds
+     */
+    void release(String nodeId, Set<String> jobIds);
+
+    /**
+     * Removes the membership of a node, so that other nodes can take over its jobs without waiting for the membership to
+     * expire. The leases of the node are released before this method is called.
+     *
+     * @param nodeId
+     */
+    void leave(String nodeId);
+
+}
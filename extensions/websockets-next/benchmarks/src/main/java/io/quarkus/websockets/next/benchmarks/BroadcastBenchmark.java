@@ -0,0 +1,114 @@
+package io.quarkus.websockets.next.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocket13FrameEncoder;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Compares the cost of broadcasting a JSON message to 10, 1k and 10k connections:
+ * <ul>
+ * <li>{@link #encodePerConnection()} encodes the message and copies it to a new buffer for every connection, like the
+ * broadcast sender used to do,</li>
+ * <li>{@link #encodeOnce()} encodes the message once and every connection writes a frame that shares the payload, like the
+ * broadcast sender of WebSockets Next does.</li>
+ * </ul>
+ * Each connection is an {@link EmbeddedChannel} with the server frame encoder, i.e. the frames are written to the channel
+ * directly, like from the event loop of the connection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BroadcastBenchmark {
+
+    @Param({ "10", "1000", "10000" })
+    int connections;
+
+    EmbeddedChannel[] channels;
+
+    JsonObject message;
+
+    @Setup
+    public void setup() {
+        channels = new EmbeddedChannel[connections];
+        for (int i = 0; i < connections; i++) {
+            channels[i] = new EmbeddedChannel(new WebSocket13FrameEncoder(false));
+        }
+        JsonArray items = new JsonArray();
+        for (int i = 0; i < 10; i++) {
+            items.add(new JsonObject().put("id", i).put("name", "item" + i).put("price", i * 10.5));
+        }
+        message = new JsonObject().put("type", "update").put("timestamp", 1700000000000L).put("items", items);
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (EmbeddedChannel channel : channels) {
+            channel.finishAndReleaseAll();
+        }
+    }
+
+    @Benchmark
+    public long encodePerConnection() {
+        long written = 0;
+        for (EmbeddedChannel channel : channels) {
+            Buffer payload = Buffer.buffer(message.encode());
+            channel.writeAndFlush(new TextWebSocketFrame(payload.getByteBuf()));
+            written += drain(channel);
+        }
+        return written;
+    }
+
+    @Benchmark
+    public long encodeOnce() {
+        long written = 0;
+        Buffer payload = Buffer.buffer(message.encode());
+        for (EmbeddedChannel channel : channels) {
+            channel.writeAndFlush(new TextWebSocketFrame(payload.getByteBuf()));
+            written += drain(channel);
+        }
+        return written;
+    }
+
+    private static long drain(EmbeddedChannel channel) {
+        long written = 0;
+        ByteBuf buf;
+        while ((buf = channel.readOutbound()) != null) {
+            written += buf.readableBytes();
+            buf.release();
+        }
+        return written;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(BroadcastBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+}
@@ -126,6 +126,7 @@
 import io.quarkus.websockets.next.runtime.JsonTextMessageCodec;
 import io.quarkus.websockets.next.runtime.SecurityHttpUpgradeCheck;
 import io.quarkus.websockets.next.runtime.SecuritySupport;
+import io.quarkus.websockets.next.runtime.TopicsImpl;
 import io.quarkus.websockets.next.runtime.WebSocketClientRecorder;
 import io.quarkus.websockets.next.runtime.WebSocketClientRecorder.ClientEndpoint;
 import io.quarkus.websockets.next.runtime.WebSocketConnectionBase;
@@ -224,7 +225,7 @@ void additionalBeans(CombinedIndexBuildItem combinedIndex, BuildProducer<Additio
                 .setUnremovable()
                 .addBeanClasses(Codecs.class, ClientConnectionManager.class, BasicWebSocketConnectorImpl.class);
         if (!index.getAnnotations(WebSocketDotNames.WEB_SOCKET).isEmpty()) {
-            unremovable.addBeanClasses(ConnectionManager.class, WebSocketHttpServerOptionsCustomizer.class);
+            unremovable.addBeanClasses(ConnectionManager.class, TopicsImpl.class, WebSocketHttpServerOptionsCustomizer.class);
         }
         additionalBeans.produce(unremovable.build());
     }
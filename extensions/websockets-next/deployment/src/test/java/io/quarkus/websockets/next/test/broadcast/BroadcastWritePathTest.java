@@ -0,0 +1,192 @@
+package io.quarkus.websockets.next.test.broadcast;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.OpenConnections;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.quarkus.websockets.next.test.utils.WSClient;
+import io.quarkus.websockets.next.test.utils.WSClient.ReceiverMode;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Tests the broadcast write path, i.e. a message encoded once and written from the event loops of the connections.
+ */
+public class BroadcastWritePathTest {
+
+    static final int MAX_FRAME_SIZE = 1024;
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(WritePath.class, WSClient.class);
+            })
+            .overrideConfigKey("quarkus.websockets-next.server.max-frame-size", "" + MAX_FRAME_SIZE)
+            .overrideConfigKey("quarkus.vertx.event-loops-pool-size", "4");
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    OpenConnections connections;
+
+    @TestHTTPResource("write-path")
+    URI writePathUri;
+
+    private final List<WSClient> clients = new ArrayList<>();
+
+    @AfterEach
+    void closeClients() {
+        for (WSClient client : clients) {
+            client.close();
+        }
+        clients.clear();
+    }
+
+    @Test
+    public void testFilteredBroadcastAcrossEventLoops() {
+        List<WSClient> loopsClients = connect("loops", 8, ReceiverMode.TEXT);
+        Set<String> eventLoops = new HashSet<>();
+        for (int i = 0; i < loopsClients.size(); i++) {
+            eventLoops.add(WritePath.EVENT_LOOPS.get("loops" + i));
+        }
+        assertTrue(eventLoops.size() > 1, "Connections not distributed across event loops: " + eventLoops);
+
+        // Only the clients with an even index receive the message
+        sender("loops").broadcast()
+                .filter(c -> isClient(c, "loops") && index(c, "loops") % 2 == 0)
+                .sendTextAndAwait("hello");
+        for (int i = 0; i < loopsClients.size(); i += 2) {
+            WSClient client = loopsClients.get(i);
+            client.waitForMessages(1);
+            assertEquals("hello", client.getMessages().get(0).toString());
+        }
+        for (int i = 1; i < loopsClients.size(); i += 2) {
+            assertTrue(loopsClients.get(i).getMessages().isEmpty(), "Message received by client " + i);
+        }
+    }
+
+    @Test
+    public void testBroadcastLargerThanMaxFrameSize() {
+        // Each client receives the data of every frame separately
+        List<WSClient> largeClients = connect("large", 3, ReceiverMode.ALL);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; builder.length() < 5 * MAX_FRAME_SIZE; i++) {
+            builder.append(i).append(' ');
+        }
+        String message = builder.toString();
+
+        sender("large").broadcast().filter(c -> isClient(c, "large")).sendTextAndAwait(message);
+        for (WSClient client : largeClients) {
+            await().atMost(Duration.ofSeconds(5))
+                    .until(() -> concat(client.getMessages()).length() == message.length());
+            // The message is fragmented
+            assertTrue(client.getMessages().size() > 1, "Message not fragmented: " + client.getMessages().size());
+            assertEquals(message, concat(client.getMessages()));
+        }
+    }
+
+    @Test
+    public void testBinaryBroadcast() {
+        List<WSClient> binaryClients = connect("binary", 5, ReceiverMode.BINARY);
+        byte[] bytes = new byte[MAX_FRAME_SIZE / 2];
+        new Random(42).nextBytes(bytes);
+        Buffer payload = Buffer.buffer(bytes);
+
+        // The same buffer is broadcast twice; the frames share the payload and must not consume it
+        WebSocketConnection sender = sender("binary");
+        sender.broadcast().filter(c -> isClient(c, "binary")).sendBinaryAndAwait(payload);
+        sender.broadcast().filter(c -> isClient(c, "binary")).sendBinaryAndAwait(payload);
+        for (WSClient client : binaryClients) {
+            client.waitForMessages(2);
+            assertEquals(2, client.getMessages().size());
+            for (Buffer received : client.getMessages()) {
+                assertArrayEquals(bytes, received.getBytes());
+            }
+        }
+        assertArrayEquals(bytes, payload.getBytes());
+    }
+
+    @Test
+    public void testConnectionClosedDuringBroadcast() {
+        List<WSClient> closingClients = connect("closing", 3, ReceiverMode.TEXT);
+        AtomicBoolean closed = new AtomicBoolean();
+
+        // The first connection is selected as a recipient and closed before the message is written
+        sender("closing").broadcast()
+                .filter(c -> {
+                    if (!isClient(c, "closing")) {
+                        return false;
+                    }
+                    if (index(c, "closing") == 0 && closed.compareAndSet(false, true)) {
+                        c.closeAndAwait();
+                    }
+                    return true;
+                })
+                // The failure of the closed connection is ignored
+                .sendTextAndAwait("bye");
+        assertTrue(closed.get());
+        for (int i = 1; i < closingClients.size(); i++) {
+            WSClient client = closingClients.get(i);
+            client.waitForMessages(1);
+            assertEquals("bye", client.getMessages().get(0).toString());
+        }
+        await().atMost(Duration.ofSeconds(5)).until(() -> closingClients.get(0).isClosed());
+        assertTrue(closingClients.get(0).getMessages().isEmpty());
+    }
+
+    private List<WSClient> connect(String prefix, int count, ReceiverMode mode) {
+        List<WSClient> ret = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            WSClient client = WSClient.create(vertx, mode).connect(WSClient.toWS(writePathUri, "write-path/" + prefix + i));
+            clients.add(client);
+            ret.add(client);
+        }
+        // Wait until all connections are open on the server side
+        await().atMost(Duration.ofSeconds(5)).until(() -> connections.stream()
+                .filter(c -> isClient(c, prefix) && c.isOpen()).count() == count
+                && WritePath.EVENT_LOOPS.keySet().stream().filter(k -> k.startsWith(prefix)).count() == count);
+        return ret;
+    }
+
+    private WebSocketConnection sender(String prefix) {
+        return connections.stream().filter(c -> isClient(c, prefix)).findFirst().orElseThrow();
+    }
+
+    private static boolean isClient(WebSocketConnection connection, String prefix) {
+        return connection.pathParam("client").startsWith(prefix);
+    }
+
+    private static int index(WebSocketConnection connection, String prefix) {
+        return Integer.parseInt(connection.pathParam("client").substring(prefix.length()));
+    }
+
+    private static String concat(List<Buffer> buffers) {
+        Buffer result = Buffer.buffer();
+        for (Buffer buffer : buffers) {
+            result.appendBuffer(buffer);
+        }
+        return result.toString();
+    }
+
+}
@@ -0,0 +1,29 @@
+package io.quarkus.websockets.next.test.broadcast;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.inject.Inject;
+
+import io.quarkus.websockets.next.OnOpen;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.smallrye.mutiny.Uni;
+
+@WebSocket(path = "/write-path/{client}")
+public class WritePath {
+
+    // client -> name of the event loop thread of the connection
+    static final Map<String, String> EVENT_LOOPS = new ConcurrentHashMap<>();
+
+    @Inject
+    WebSocketConnection connection;
+
+    @OnOpen
+    Uni<Void> open() {
+        // Non-blocking callback, i.e. executed on the event loop of the connection
+        EVENT_LOOPS.put(connection.pathParam("client"), Thread.currentThread().getName());
+        return Uni.createFrom().voidItem();
+    }
+
+}
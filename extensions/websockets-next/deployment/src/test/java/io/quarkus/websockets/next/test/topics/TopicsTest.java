@@ -0,0 +1,117 @@
+package io.quarkus.websockets.next.test.topics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.Set;
+
+import jakarta.inject.Inject;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.OnOpen;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.Topics;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.quarkus.websockets.next.test.utils.WSClient;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+
+public class TopicsTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Room.class, WSClient.class);
+            });
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    Topics topics;
+
+    @TestHTTPResource("rooms/a")
+    URI roomAUri;
+
+    @TestHTTPResource("rooms/b")
+    URI roomBUri;
+
+    @Test
+    void testBroadcastToTopic() {
+        try (WSClient a1 = WSClient.create(vertx).connect(roomAUri);
+                WSClient a2 = WSClient.create(vertx).connect(roomAUri);
+                WSClient b1 = WSClient.create(vertx).connect(roomBUri)) {
+            a1.waitForMessages(1);
+            a2.waitForMessages(1);
+            b1.waitForMessages(1);
+            assertEquals(2, topics.subscribers("a").size());
+            assertEquals(1, topics.subscribers("b").size());
+            assertEquals(Set.of("a"), topics.subscribers("a").iterator().next().subscriptions());
+
+            a1.sendAndAwait("hello");
+            a1.waitForMessages(2);
+            a2.waitForMessages(2);
+            assertEquals("hello", a1.getLastMessage().toString());
+            assertEquals("hello", a2.getLastMessage().toString());
+
+            b1.sendAndAwait("hi");
+            b1.waitForMessages(2);
+            assertEquals("hi", b1.getLastMessage().toString());
+            // Only the subscribers of the topic receive the message
+            assertEquals(2, a1.getMessages().size());
+            assertEquals(2, a2.getMessages().size());
+
+            // Unsubscribe the second client
+            a2.sendAndAwait("leave");
+            a2.waitForMessages(3);
+            assertEquals("left", a2.getLastMessage().toString());
+            assertEquals(1, topics.subscribers("a").size());
+            a1.sendAndAwait("bye");
+            a1.waitForMessages(3);
+            assertEquals("bye", a1.getLastMessage().toString());
+            assertEquals(3, a2.getMessages().size());
+
+            // The subscription is removed when the connection is closed
+            b1.disconnect();
+            Awaitility.await().until(() -> topics.subscribers("b").isEmpty());
+        }
+        Awaitility.await().until(() -> topics.subscribers("a").isEmpty());
+    }
+
+    @WebSocket(path = "/rooms/{room}")
+    public static class Room {
+
+        @Inject
+        WebSocketConnection connection;
+
+        @Inject
+        Topics topics;
+
+        @OnOpen
+        String open() {
+            assertTrue(connection.subscribe(connection.pathParam("room")));
+            assertFalse(connection.subscribe(connection.pathParam("room")));
+            return "joined";
+        }
+
+        @OnTextMessage
+        Uni<Void> message(String message) {
+            String room = connection.pathParam("room");
+            if ("leave".equals(message)) {
+                assertTrue(connection.unsubscribe(room));
+                return connection.sendText("left");
+            }
+            return topics.broadcast(room).sendText(message);
+        }
+
+    }
+
+}
@@ -0,0 +1,43 @@
+package io.quarkus.websockets.next;
+
+import java.util.Set;
+
+import jakarta.enterprise.inject.Default;
+
+import io.quarkus.websockets.next.WebSocketConnection.BroadcastSender;
+
+/**
+ * Makes it possible to send messages to the connections subscribed to a specific topic, e.g. a chat room or a stock symbol.
+ * <p>
+ * A connection subscribes to a topic with {@link WebSocketConnection#subscribe(String)}. A connection can be subscribed to
+ * multiple topics and a topic may have subscribers connected to different endpoints. The subscription is removed
+ * automatically when the connection is closed.
+ * <p>
+ * The subscribers are indexed by topic, i.e. the cost of sending a message to a topic depends on the number of its
+ * subscribers and not on the number of all open connections.
+ * <p>
+ * Quarkus provides a CDI bean with bean type {@link Topics} and qualifier {@link Default}.
+ */
+public interface Topics {
+
+    /**
+     * If the topics are clustered, i.e. {@code quarkus.websockets-next.server.topics.clustered=true}, then the messages are
+     * published on the Vert.x event bus and delivered to the subscribers connected to any node of the cluster. In this case,
+     * the returned {@link io.smallrye.mutiny.Uni} completes when the message is published, and filtering is not supported.
+     *
+     * @param topic
+     * @return the sender that sends messages to all open connections subscribed to the given topic
+     */
+    BroadcastSender broadcast(String topic);
+
+    /**
+     * Returns an immutable snapshot of the open connections subscribed to the given topic at the given time.
+     * <p>
+     * Only the connections open on this node are included, even if the topics are clustered.
+     *
+     * @param topic
+     * @return an immutable set of open connections subscribed to the given topic
+     */
+    Set<WebSocketConnection> subscribers(String topic);
+
+}
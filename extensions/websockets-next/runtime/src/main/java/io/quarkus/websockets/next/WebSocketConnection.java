@@ -42,6 +42,29 @@ public interface WebSocketConnection extends Connection {
      */
     String subprotocol();
 
+    /**
+     * Subscribes this connection to the given topic. The subscription is removed automatically when the connection is
+     * closed.
+     *
+     * @param topic
+     * @return {@code true} if the connection is open and was not subscribed to the given topic yet
+     * @see Topics#broadcast(String)
+     */
+    boolean subscribe(String topic);
+
+    /**
+     *
+     * @param topic
+     * @return {@code true} if the connection was subscribed to the given topic
+     */
+    boolean unsubscribe(String topic);
+
+    /**
+     *
+     * @return an immutable snapshot of the topics this connection is subscribed to
+     */
+    Set<String> subscriptions();
+
     /**
      * Makes it possible to send messages to all clients connected to the same WebSocket endpoint.
      *
@@ -2,6 +2,7 @@
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -14,6 +15,7 @@
 
 import org.jboss.logging.Logger;
 
+import io.netty.util.concurrent.EventExecutor;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.websockets.next.Closed;
@@ -29,6 +31,14 @@ public class ConnectionManager implements OpenConnections {
     // generatedEndpointClassName -> open connections
     private final ConcurrentMap<String, Set<WebSocketConnection>> endpointToConnections = new ConcurrentHashMap<>();
 
+    // generatedEndpointClassName -> event loop -> open connections
+    // used to write a broadcast message from the event loop of the connections
+    private final ConcurrentMap<String, ConcurrentMap<EventExecutor, Set<WebSocketConnectionImpl>>> endpointToEventLoops = new ConcurrentHashMap<>();
+
+    // topic -> event loop -> subscribed connections
+    // the entries are removed when the last subscriber of a topic unsubscribes
+    private final ConcurrentMap<String, ConcurrentMap<EventExecutor, Set<WebSocketConnectionImpl>>> topicToEventLoops = new ConcurrentHashMap<>();
+
     private final List<ConnectionListener> listeners = new CopyOnWriteArrayList<>();
 
     private final Event<WebSocketConnection> openEvent;
@@ -56,6 +66,10 @@ public Stream<WebSocketConnection> stream() {
     void add(String endpoint, WebSocketConnection connection) {
         LOG.debugf("Add connection: %s", connection);
         if (endpointToConnections.computeIfAbsent(endpoint, e -> ConcurrentHashMap.newKeySet()).add(connection)) {
+            if (connection instanceof WebSocketConnectionImpl impl) {
+                endpointToEventLoops.computeIfAbsent(endpoint, e -> new ConcurrentHashMap<>())
+                        .computeIfAbsent(impl.eventLoop(), e -> ConcurrentHashMap.newKeySet()).add(impl);
+            }
             if (openEvent != null) {
                 openEvent.fireAsync(connection);
             }
@@ -77,6 +91,16 @@ void remove(String endpoint, WebSocketConnection connection) {
         Set<WebSocketConnection> connections = endpointToConnections.get(endpoint);
         if (connections != null) {
             if (connections.remove(connection)) {
+                if (connection instanceof WebSocketConnectionImpl impl) {
+                    Map<EventExecutor, Set<WebSocketConnectionImpl>> eventLoops = endpointToEventLoops.get(endpoint);
+                    if (eventLoops != null) {
+                        Set<WebSocketConnectionImpl> eventLoopConnections = eventLoops.get(impl.eventLoop());
+                        if (eventLoopConnections != null) {
+                            eventLoopConnections.remove(impl);
+                        }
+                    }
+                    impl.unsubscribeAll();
+                }
                 if (closedEvent != null) {
                     closedEvent.fireAsync(connection);
                 }
@@ -107,6 +131,54 @@ public Set<WebSocketConnection> getConnections(String endpoint) {
         return ret;
     }
 
+    /**
+     *
+     * @param endpoint
+     * @return the connections for the given endpoint grouped by event loop, never {@code null}
+     */
+    Map<EventExecutor, Set<WebSocketConnectionImpl>> getConnectionsByEventLoop(String endpoint) {
+        Map<EventExecutor, Set<WebSocketConnectionImpl>> ret = endpointToEventLoops.get(endpoint);
+        if (ret == null) {
+            return Map.of();
+        }
+        return ret;
+    }
+
+    /**
+     *
+     * @param topic
+     * @return the connections subscribed to the given topic grouped by event loop, never {@code null}
+     */
+    Map<EventExecutor, Set<WebSocketConnectionImpl>> getSubscribersByEventLoop(String topic) {
+        Map<EventExecutor, Set<WebSocketConnectionImpl>> ret = topicToEventLoops.get(topic);
+        if (ret == null) {
+            return Map.of();
+        }
+        return ret;
+    }
+
+    void subscribe(String topic, WebSocketConnectionImpl connection) {
+        LOG.debugf("Subscribe connection %s to topic: %s", connection, topic);
+        topicToEventLoops.compute(topic, (t, eventLoops) -> {
+            if (eventLoops == null) {
+                eventLoops = new ConcurrentHashMap<>();
+            }
+            eventLoops.computeIfAbsent(connection.eventLoop(), e -> ConcurrentHashMap.newKeySet()).add(connection);
+            return eventLoops;
+        });
+    }
+
+    void unsubscribe(String topic, WebSocketConnectionImpl connection) {
+        LOG.debugf("Unsubscribe connection %s from topic: %s", connection, topic);
+        topicToEventLoops.computeIfPresent(topic, (t, eventLoops) -> {
+            eventLoops.computeIfPresent(connection.eventLoop(), (e, connections) -> {
+                connections.remove(connection);
+                return connections.isEmpty() ? null : connections;
+            });
+            return eventLoops.isEmpty() ? null : eventLoops;
+        });
+    }
+
     public void addListener(ConnectionListener listener) {
         this.listeners.add(listener);
     }
@@ -114,6 +186,8 @@ public void addListener(ConnectionListener listener) {
     @PreDestroy
     void destroy() {
         endpointToConnections.clear();
+        endpointToEventLoops.clear();
+        topicToEventLoops.clear();
     }
 
     public interface ConnectionListener {
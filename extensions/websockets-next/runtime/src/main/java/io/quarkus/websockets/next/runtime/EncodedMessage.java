@@ -0,0 +1,66 @@
+package io.quarkus.websockets.next.runtime;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.WebSocketFrame;
+import io.vertx.core.http.WebSocketFrameType;
+import io.vertx.core.http.impl.ws.WebSocketFrameImpl;
+
+/**
+ * A message that is encoded once and then written to multiple connections, e.g. a broadcast message.
+ * <p>
+ * The payload is a Vert.x heap buffer that is never released. Each connection gets its own frame that wraps a slice of
+ * the payload, i.e. the bytes are shared and only the indexes are copied.
+ */
+final class EncodedMessage {
+
+    private final String text;
+    private final Buffer payload;
+    private final boolean singleFrame;
+
+    private EncodedMessage(String text, Buffer payload, int maxFrameSize) {
+        this.text = text;
+        this.payload = payload;
+        this.singleFrame = payload.length() <= maxFrameSize;
+    }
+
+    static EncodedMessage text(String text, int maxFrameSize) {
+        return new EncodedMessage(text, Buffer.buffer(text), maxFrameSize);
+    }
+
+    static EncodedMessage binary(Buffer payload, int maxFrameSize) {
+        return new EncodedMessage(null, payload, maxFrameSize);
+    }
+
+    boolean isBinary() {
+        return text == null;
+    }
+
+    /**
+     * @return the text message, or {@code null} if this is a binary message
+     */
+    String text() {
+        return text;
+    }
+
+    Buffer payload() {
+        return payload;
+    }
+
+    /**
+     * A message larger than the max frame size is split into multiple frames by the connection.
+     *
+     * @return {@code true} if the message fits in a single frame
+     */
+    boolean isSingleFrame() {
+        return singleFrame;
+    }
+
+    /**
+     * @return a new final frame that shares the payload
+     */
+    WebSocketFrame frame() {
+        return new WebSocketFrameImpl(isBinary() ? WebSocketFrameType.BINARY : WebSocketFrameType.TEXT,
+                payload.getByteBuf(), true);
+    }
+
+}
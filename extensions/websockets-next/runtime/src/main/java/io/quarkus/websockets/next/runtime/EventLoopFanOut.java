@@ -0,0 +1,129 @@
+package io.quarkus.websockets.next.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.smallrye.mutiny.CompositeException;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+
+/**
+ * Writes an encoded message to multiple connections grouped by event loop, e.g. all connections of an endpoint or all
+ * subscribers of a topic.
+ */
+final class EventLoopFanOut {
+
+    private EventLoopFanOut() {
+    }
+
+    /**
+     *
+     * @param eventLoops the connections grouped by event loop
+     * @param filter the filter predicate, may be {@code null}
+     * @param message
+     * @return a new {@link Uni} that completes when the message is written to all open connections matching the filter
+     */
+    static Uni<Void> write(Map<EventExecutor, Set<WebSocketConnectionImpl>> eventLoops,
+            Predicate<WebSocketConnection> filter, EncodedMessage message) {
+        if (eventLoops.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        // Select the recipients on the caller thread, the filter may rely on the current context
+        List<Recipients> recipients = new ArrayList<>(eventLoops.size());
+        int count = 0;
+        for (Entry<EventExecutor, Set<WebSocketConnectionImpl>> e : eventLoops.entrySet()) {
+            List<WebSocketConnectionImpl> connections = null;
+            for (WebSocketConnectionImpl connection : e.getValue()) {
+                if (connection.isOpen()
+                        && (filter == null || filter.test(connection))) {
+                    if (connections == null) {
+                        connections = new ArrayList<>(e.getValue().size());
+                    }
+                    connections.add(connection);
+                }
+            }
+            if (connections != null) {
+                recipients.add(new Recipients(e.getKey(), connections));
+                count += connections.size();
+            }
+        }
+        if (count == 0) {
+            return Uni.createFrom().voidItem();
+        }
+        int total = count;
+        return Uni.createFrom().emitter(emitter -> {
+            Completion completion = new Completion(total, emitter);
+            for (Recipients r : recipients) {
+                // Write the frames from the event loop of the connections so that each frame is written to the channel
+                // directly, i.e. one task per event loop instead of one task per connection
+                if (r.eventLoop.inEventLoop()) {
+                    r.write(message, completion);
+                } else {
+                    try {
+                        r.eventLoop.execute(() -> r.write(message, completion));
+                    } catch (RejectedExecutionException e) {
+                        for (WebSocketConnectionImpl connection : r.connections) {
+                            completion.done(connection, e);
+                        }
+                    }
+                }
+            }
+        });
+    }
+
+    private record Recipients(EventExecutor eventLoop, List<WebSocketConnectionImpl> connections) {
+
+        void write(EncodedMessage message, Completion completion) {
+            for (WebSocketConnectionImpl connection : connections) {
+                try {
+                    connection.write(message).onComplete(r -> completion.done(connection, r.cause()));
+                } catch (Throwable t) {
+                    completion.done(connection, t);
+                }
+            }
+        }
+
+    }
+
+    private static class Completion {
+
+        private final AtomicInteger remaining;
+        private final Queue<Throwable> failures;
+        private final UniEmitter<? super Void> emitter;
+
+        Completion(int count, UniEmitter<? super Void> emitter) {
+            this.remaining = new AtomicInteger(count);
+            this.failures = new ConcurrentLinkedQueue<>();
+            this.emitter = emitter;
+        }
+
+        void done(WebSocketConnectionImpl connection, Throwable failure) {
+            // Intentionally ignore 'WebSocket is closed' failures
+            // It might happen that the connection is closed in the mean time
+            if (failure != null && !Endpoints.isWebSocketIsClosedFailure(failure, connection)) {
+                failures.add(failure);
+            }
+            if (remaining.decrementAndGet() == 0) {
+                if (failures.isEmpty()) {
+                    emitter.complete(null);
+                } else if (failures.size() == 1) {
+                    emitter.fail(failures.peek());
+                } else {
+                    emitter.fail(new CompositeException(List.copyOf(failures)));
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,168 @@
+package io.quarkus.websockets.next.runtime;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Singleton;
+
+import org.jboss.logging.Logger;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.websockets.next.Topics;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.quarkus.websockets.next.WebSocketConnection.BroadcastSender;
+import io.quarkus.websockets.next.runtime.config.WebSocketsServerRuntimeConfig;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.http.HttpServerOptions;
+
+@Singleton
+public class TopicsImpl implements Topics {
+
+    private static final Logger LOG = Logger.getLogger(TopicsImpl.class);
+
+    static final String TOPIC_HEADER = "topic";
+
+    private final ConnectionManager connectionManager;
+    private final Codecs codecs;
+    private final Vertx vertx;
+    private final int maxFrameSize;
+    // null if the topics are not clustered
+    private final String address;
+
+    private volatile MessageConsumer<Object> consumer;
+
+    TopicsImpl(ConnectionManager connectionManager, Codecs codecs, Vertx vertx, WebSocketsServerRuntimeConfig config) {
+        this.connectionManager = connectionManager;
+        this.codecs = codecs;
+        this.vertx = vertx;
+        this.maxFrameSize = config.maxFrameSize().orElse(HttpServerOptions.DEFAULT_MAX_WEBSOCKET_FRAME_SIZE);
+        this.address = config.topics().clustered() ? config.topics().address() : null;
+    }
+
+    // The consumer must be registered on every node, even if no message is sent from this node
+    void registerConsumer(@Observes StartupEvent event) {
+        if (address != null) {
+            consumer = vertx.eventBus().consumer(address, this::onMessage);
+            LOG.debugf("Clustered topics consumer registered at address: %s", address);
+        }
+    }
+
+    @PreDestroy
+    void unregisterConsumer() {
+        MessageConsumer<Object> c = consumer;
+        if (c != null) {
+            c.unregister();
+        }
+    }
+
+    @Override
+    public BroadcastSender broadcast(String topic) {
+        return new TopicSender(topic, null);
+    }
+
+    @Override
+    public Set<WebSocketConnection> subscribers(String topic) {
+        Set<WebSocketConnection> ret = new HashSet<>();
+        for (Set<WebSocketConnectionImpl> connections : connectionManager.getSubscribersByEventLoop(topic).values()) {
+            for (WebSocketConnectionImpl connection : connections) {
+                if (connection.isOpen()) {
+                    ret.add(connection);
+                }
+            }
+        }
+        return Set.copyOf(ret);
+    }
+
+    private void onMessage(Message<Object> message) {
+        String topic = message.headers().get(TOPIC_HEADER);
+        if (topic == null) {
+            LOG.warnf("Message without topic received at address: %s", address);
+            return;
+        }
+        Map<EventExecutor, Set<WebSocketConnectionImpl>> subscribers = connectionManager.getSubscribersByEventLoop(topic);
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        EncodedMessage encoded = message.body() instanceof Buffer buffer ? EncodedMessage.binary(buffer, maxFrameSize)
+                : EncodedMessage.text(message.body().toString(), maxFrameSize);
+        EventLoopFanOut.write(subscribers, null, encoded).subscribe().with(
+                ignored -> {
+                },
+                t -> LOG.warnf(t, "Unable to deliver a message to the subscribers of topic: %s", topic));
+    }
+
+    private class TopicSender implements BroadcastSender {
+
+        private final String topic;
+        private final Predicate<WebSocketConnection> filter;
+
+        TopicSender(String topic, Predicate<WebSocketConnection> filter) {
+            this.topic = topic;
+            this.filter = filter;
+        }
+
+        @Override
+        public BroadcastSender filter(Predicate<WebSocketConnection> predicate) {
+            if (address != null) {
+                throw new UnsupportedOperationException("Filtering is not supported if the topics are clustered");
+            }
+            return new TopicSender(topic, predicate);
+        }
+
+        @Override
+        public Uni<Void> sendText(String message) {
+            if (address != null) {
+                return publish(message);
+            }
+            return doSend(EncodedMessage.text(message, maxFrameSize));
+        }
+
+        @Override
+        public <M> Uni<Void> sendText(M message) {
+            // The message is encoded once for all subscribers
+            return sendText(WebSocketConnectionBase.encodeText(codecs, message));
+        }
+
+        @Override
+        public Uni<Void> sendBinary(Buffer message) {
+            if (address != null) {
+                return publish(message);
+            }
+            return doSend(EncodedMessage.binary(message, maxFrameSize));
+        }
+
+        @Override
+        public Uni<Void> sendPing(Buffer data) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Uni<Void> sendPong(Buffer data) {
+            throw new UnsupportedOperationException();
+        }
+
+        private Uni<Void> doSend(EncodedMessage message) {
+            return EventLoopFanOut.write(connectionManager.getSubscribersByEventLoop(topic), filter, message);
+        }
+
+        private Uni<Void> publish(Object body) {
+            return Uni.createFrom().item(() -> {
+                // The message is also delivered to the local subscribers by the consumer registered on this node
+                vertx.eventBus().publish(address, body, new DeliveryOptions().addHeader(TOPIC_HEADER, topic));
+                return null;
+            });
+        }
+
+    }
+
+}
@@ -16,6 +16,7 @@
 import io.quarkus.websockets.next.WebSocketConnection.BroadcastSender;
 import io.quarkus.websockets.next.runtime.telemetry.SendingInterceptor;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.buffer.impl.BufferImpl;
 import io.vertx.core.http.WebSocketBase;
@@ -88,17 +89,60 @@ public Uni<Void> sendBinary(Buffer message) {
 
     @Override
     public <M> Uni<Void> sendText(M message) {
-        String text;
+        return sendText(encodeText(codecs, message));
+    }
+
+    static String encodeText(Codecs codecs, Object message) {
         // Use the same conversion rules as defined for the OnTextMessage
         if (message instanceof JsonObject || message instanceof JsonArray || message instanceof BufferImpl
                 || message instanceof NoBoundChecksBuffer) {
-            text = message.toString();
+            return message.toString();
         } else if (message.getClass().isArray() && message.getClass().arrayType().equals(byte.class)) {
-            text = Buffer.buffer((byte[]) message).toString();
+            return Buffer.buffer((byte[]) message).toString();
+        } else {
+            return codecs.textEncode(message, null);
+        }
+    }
+
+    /**
+     * Writes a message that was encoded once for multiple connections.
+     * <p>
+     * This method should be called on the event loop of the connection so that the frame is written to the channel
+     * directly.
+     *
+     * @param message
+     * @return the result of the write operation
+     */
+    Future<Void> write(EncodedMessage message) {
+        WebSocketBase ws = webSocket();
+        Future<Void> future;
+        if (message.isSingleFrame()) {
+            future = ws.writeFrame(message.frame());
+        } else if (message.isBinary()) {
+            future = ws.writeBinaryMessage(message.payload());
         } else {
-            text = codecs.textEncode(message, null);
+            future = ws.writeTextMessage(message.text());
+        }
+        if (sendingInterceptor == null && trafficLogger == null) {
+            return future;
         }
-        return sendText(text);
+        return future.onSuccess(v -> {
+            if (message.isBinary()) {
+                if (sendingInterceptor != null) {
+                    sendingInterceptor.onSend(message.payload());
+                }
+                if (trafficLogger != null) {
+                    trafficLogger.binaryMessageSent(this, message.payload());
+                }
+            } else {
+                if (sendingInterceptor != null) {
+                    sendingInterceptor.onSend(message.text());
+                }
+                if (trafficLogger != null) {
+                    trafficLogger.textMessageSent(this, message.text());
+                }
+            }
+        });
     }
 
     @Override
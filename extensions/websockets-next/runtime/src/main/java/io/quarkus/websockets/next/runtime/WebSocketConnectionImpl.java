@@ -7,10 +7,12 @@
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
-import java.util.function.BiFunction;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.ImmediateEventExecutor;
 import io.quarkus.websockets.next.HandshakeRequest;
 import io.quarkus.websockets.next.WebSocketConnection;
 import io.quarkus.websockets.next.runtime.telemetry.SendingInterceptor;
@@ -18,6 +20,7 @@
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.ServerWebSocket;
 import io.vertx.core.http.WebSocketBase;
+import io.vertx.core.http.impl.WebSocketInternal;
 import io.vertx.ext.web.RoutingContext;
 
 class WebSocketConnectionImpl extends WebSocketConnectionBase implements WebSocketConnection {
@@ -32,9 +35,15 @@ class WebSocketConnectionImpl extends WebSocketConnectionBase implements WebSock
 
     private final BroadcastSender defaultBroadcast;
 
+    private final EventExecutor eventLoop;
+
+    private final int maxFrameSize;
+
+    private final Set<String> subscriptions;
+
     WebSocketConnectionImpl(String generatedEndpointClass, String endpointClass, ServerWebSocket webSocket,
             ConnectionManager connectionManager, Codecs codecs, RoutingContext ctx,
-            TrafficLogger trafficLogger, SendingInterceptor sendingInterceptor) {
+            TrafficLogger trafficLogger, SendingInterceptor sendingInterceptor, int maxFrameSize) {
         super(Map.copyOf(ctx.pathParams()), codecs, new HandshakeRequestImpl(webSocket, ctx), trafficLogger,
                 new UserDataImpl(), sendingInterceptor);
         this.generatedEndpointClass = generatedEndpointClass;
@@ -42,6 +51,16 @@ class WebSocketConnectionImpl extends WebSocketConnectionBase implements WebSock
         this.webSocket = Objects.requireNonNull(webSocket);
         this.connectionManager = Objects.requireNonNull(connectionManager);
         this.defaultBroadcast = new BroadcastImpl(null);
+        // Broadcast messages are written from the event loop of the channel
+        this.eventLoop = webSocket instanceof WebSocketInternal internal
+                ? internal.channelHandlerContext().executor()
+                : ImmediateEventExecutor.INSTANCE;
+        this.maxFrameSize = maxFrameSize;
+        this.subscriptions = ConcurrentHashMap.newKeySet();
+    }
+
+    EventExecutor eventLoop() {
+        return eventLoop;
     }
 
     @Override
@@ -70,6 +89,41 @@ public String subprotocol() {
         return webSocket.subProtocol();
     }
 
+    @Override
+    public boolean subscribe(String topic) {
+        Objects.requireNonNull(topic);
+        if (!subscriptions.add(topic)) {
+            return false;
+        }
+        connectionManager.subscribe(topic, this);
+        if (!isOpen()) {
+            // The connection was closed in the meantime
+            unsubscribe(topic);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean unsubscribe(String topic) {
+        if (subscriptions.remove(Objects.requireNonNull(topic))) {
+            connectionManager.unsubscribe(topic, this);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public Set<String> subscriptions() {
+        return Set.copyOf(subscriptions);
+    }
+
+    void unsubscribeAll() {
+        for (String topic : subscriptions) {
+            unsubscribe(topic);
+        }
+    }
+
     @Override
     public String toString() {
         return "WebSocket connection [endpointId=" + endpointId + ", path=" + webSocket.path() + ", id=" + identifier + "]";
@@ -166,25 +220,6 @@ static Map<String, List<String>> initHeaders(RoutingContext ctx) {
 
     private class BroadcastImpl implements WebSocketConnection.BroadcastSender {
 
-        private static final BiFunction<WebSocketConnection, String, Uni<Void>> SEND_TEXT_STR = new BiFunction<>() {
-            @Override
-            public Uni<Void> apply(WebSocketConnection c, String s) {
-                return c.sendText(s);
-            }
-        };
-        private static final BiFunction<WebSocketConnection, Object, Uni<Void>> SEND_TEXT_POJO = new BiFunction<>() {
-            @Override
-            public Uni<Void> apply(WebSocketConnection c, Object o) {
-                return c.sendText(o);
-            }
-        };
-        private static final BiFunction<WebSocketConnection, Buffer, Uni<Void>> SEND_BINARY = new BiFunction<>() {
-            @Override
-            public Uni<Void> apply(WebSocketConnection c, Buffer b) {
-                return c.sendBinary(b);
-            }
-        };
-
         private final Predicate<WebSocketConnection> filter;
 
         BroadcastImpl(Predicate<WebSocketConnection> filter) {
@@ -198,17 +233,18 @@ public BroadcastSender filter(Predicate<WebSocketConnection> predicate) {
 
         @Override
         public Uni<Void> sendText(String message) {
-            return doSend(SEND_TEXT_STR, message);
+            return doSend(EncodedMessage.text(message, maxFrameSize));
         }
 
         @Override
         public <M> Uni<Void> sendText(M message) {
-            return doSend(SEND_TEXT_POJO, message);
+            // The message is encoded once for all connections
+            return doSend(EncodedMessage.text(encodeText(codecs, message), maxFrameSize));
         }
 
         @Override
         public Uni<Void> sendBinary(Buffer message) {
-            return doSend(SEND_BINARY, message);
+            return doSend(EncodedMessage.binary(message, maxFrameSize));
         }
 
         @Override
@@ -221,26 +257,9 @@ public Uni<Void> sendPong(Buffer data) {
             throw new UnsupportedOperationException();
         }
 
-        private <M> Uni<Void> doSend(BiFunction<WebSocketConnection, M, Uni<Void>> sendFunction, M message) {
-            Set<WebSocketConnection> connections = connectionManager.getConnections(generatedEndpointClass);
-            if (connections.isEmpty()) {
-                return Uni.createFrom().voidItem();
-            }
-            List<Uni<Void>> unis = new ArrayList<>(connections.size());
-            for (WebSocketConnection connection : connections) {
-                if (connection.isOpen()
-                        && (filter == null || filter.test(connection))) {
-                    unis.add(sendFunction.apply(connection, message)
-                            // Intentionally ignore 'WebSocket is closed' failures
-                            // It might happen that the connection is closed in the mean time
-                            .onFailure(t -> Endpoints.isWebSocketIsClosedFailure(t, (WebSocketConnectionBase) connection))
-                            .recoverWithNull());
-                }
-            }
-            if (unis.isEmpty()) {
-                return Uni.createFrom().voidItem();
-            }
-            return Uni.join().all(unis).andCollectFailures().replaceWithVoid();
+        private Uni<Void> doSend(EncodedMessage message) {
+            return EventLoopFanOut.write(connectionManager.getConnectionsByEventLoop(generatedEndpointClass), filter,
+                    message);
         }
 
     }
@@ -82,6 +82,11 @@ public interface WebSocketsServerRuntimeConfig {
     @WithParentName
     TelemetryConfig telemetry();
 
+    /**
+     * Topics configuration.
+     */
+    TopicsConfig topics();
+
     interface Security {
 
         /**
@@ -104,4 +109,23 @@ interface DevMode {
 
     }
 
+    interface TopicsConfig {
+
+        /**
+         * If set to {@code true} then the messages sent to a topic are published on the Vert.x event bus and delivered to the
+         * subscribers connected to any node of a clustered Vert.x instance.
+         * <p>
+         * By default, the messages are only delivered to the subscribers connected to the current node.
+         */
+        @WithDefault("false")
+        boolean clustered();
+
+        /**
+         * The event bus address used to publish the messages sent to a topic if the topics are clustered.
+         */
+        @WithDefault("quarkus.websockets-next.topics")
+        String address();
+
+    }
+
 }
@@ -0,0 +1,148 @@
+package io.quarkus.arc.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Indexer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.processor.BeanArchives;
+import io.quarkus.arc.processor.BeanDeployment;
+import io.quarkus.arc.processor.BeanDeploymentValidator.ValidationContext;
+import io.quarkus.arc.processor.BeanProcessor;
+import io.quarkus.arc.processor.BeanRegistrar.RegistrationContext;
+import io.quarkus.arc.processor.BytecodeTransformer;
+import io.quarkus.arc.processor.ReflectionRegistration;
+import io.quarkus.arc.processor.ResourceOutput.Resource;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+
+/**
+ * Measures the augmentation of a synthetic application, i.e. the same phases of the {@link BeanProcessor} that are
+ * executed during a Quarkus build.
+ * <p>
+ * The application consists of {@code beans} singletons. Each bean implements its own interface and injects three beans
+ * with a lower index via the interface. If {@code parallel} is set to {@code true} then the injection points are resolved
+ * and the resources are generated with an executor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class BeanDeploymentBenchmark {
+
+    static final String PACKAGE = "io.quarkus.arc.benchmarks.app.";
+
+    @Param({ "1000", "5000", "10000" })
+    int beans;
+
+    @Param({ "false", "true" })
+    boolean parallel;
+
+    private IndexView index;
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        Indexer indexer = new Indexer();
+        ClassOutput output = new ClassOutput() {
+            @Override
+            public void write(String name, byte[] data) {
+                try {
+                    indexer.index(new ByteArrayInputStream(data));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+        for (int i = 0; i < beans; i++) {
+            generateBean(output, i);
+        }
+        index = BeanArchives.buildImmutableBeanArchiveIndex(indexer.complete());
+        executor = parallel ? Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors()) : null;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Benchmark
+    public List<Resource> augment() throws Exception {
+        BeanProcessor beanProcessor = BeanProcessor.builder()
+                .setName("benchmark")
+                .setImmutableBeanArchiveIndex(index)
+                .setComputingBeanArchiveIndex(BeanArchives.buildComputingBeanArchiveIndex(getClass().getClassLoader(),
+                        new ConcurrentHashMap<>(), index))
+                .setRemoveUnusedBeans(false)
+                .build();
+        Consumer<BytecodeTransformer> unsupportedBytecodeTransformer = new Consumer<BytecodeTransformer>() {
+            @Override
+            public void accept(BytecodeTransformer transformer) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        beanProcessor.registerCustomContexts();
+        beanProcessor.registerScopes();
+        RegistrationContext registrationContext = beanProcessor.registerBeans();
+        beanProcessor.registerSyntheticInjectionPoints(registrationContext);
+        BeanDeployment beanDeployment = beanProcessor.getBeanDeployment();
+        beanDeployment.initBeanByTypeMap();
+        beanProcessor.registerSyntheticObservers();
+        beanProcessor.initialize(unsupportedBytecodeTransformer, Collections.emptyList(), executor);
+        ValidationContext validationContext = beanProcessor.validate(unsupportedBytecodeTransformer);
+        beanProcessor.processValidationErrors(validationContext);
+        return beanProcessor.generateResources(ReflectionRegistration.NOOP, new HashSet<>(), unsupportedBytecodeTransformer,
+                false, executor);
+    }
+
+    private void generateBean(ClassOutput output, int idx) {
+        try (ClassCreator service = ClassCreator.interfaceBuilder().classOutput(output).className(PACKAGE + "Service" + idx)
+                .build()) {
+            // Just an empty interface
+        }
+        try (ClassCreator bean = ClassCreator.builder().classOutput(output).className(PACKAGE + "Bean" + idx)
+                .interfaces(PACKAGE + "Service" + idx).build()) {
+            bean.addAnnotation(Singleton.class);
+            if (idx == 0) {
+                return;
+            }
+            // Singletons may not declare circular dependencies
+            int[] dependencies = { idx - 1, (idx * 7 + 3) % idx, (idx * 31 + 17) % idx };
+            for (int i = 0; i < dependencies.length; i++) {
+                bean.getFieldCreator("service" + i, PACKAGE + "Service" + dependencies[i]).setModifiers(0)
+                        .addAnnotation(Inject.class);
+            }
+        }
+    }
+
+}
@@ -13,6 +13,7 @@
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -21,6 +22,9 @@
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -50,6 +54,7 @@
 import io.quarkus.arc.processor.BeanRegistrar.RegistrationContext;
 import io.quarkus.arc.processor.BuildExtension.BuildContext;
 import io.quarkus.arc.processor.BuildExtension.Key;
+import io.quarkus.arc.processor.InjectionPointInfo.TypeAndQualifiers;
 import io.quarkus.arc.processor.Types.TypeClosure;
 import io.quarkus.arc.processor.bcextensions.ExtensionsEntryPoint;
 import io.quarkus.gizmo.MethodCreator;
@@ -59,6 +64,9 @@ public class BeanDeployment {
 
     private static final Logger LOGGER = Logger.getLogger(BeanDeployment.class);
 
+    // The minimal number of distinct required types needed to resolve the injection points in parallel
+    static final int PARALLEL_RESOLUTION_THRESHOLD = 256;
+
     final String name;
     private final BuildContextImpl buildContext;
 
@@ -316,10 +324,24 @@ BeanRegistrar.RegistrationContext registerBeans(List<BeanRegistrar> beanRegistra
 
     void init(Consumer<BytecodeTransformer> bytecodeTransformerConsumer,
             List<Predicate<BeanInfo>> additionalUnusedBeanExclusions) {
+        init(bytecodeTransformerConsumer, additionalUnusedBeanExclusions, null);
+    }
+
+    void init(Consumer<BytecodeTransformer> bytecodeTransformerConsumer,
+            List<Predicate<BeanInfo>> additionalUnusedBeanExclusions, ExecutorService executor) {
         long start = System.nanoTime();
 
         initObserverAndProducerMethods(observers, beans);
 
+        if (executor != null) {
+            // Resolve the injection points in parallel first - the results are cached by the bean resolver
+            // and the components are then initialized in series so that the errors are always reported in the same order
+            // The injection points of observer methods are resolved in parallel as well, ObserverInfo#init() only reads the
+            // cached results; there is nothing else to resolve for observers since the observers of an event are resolved
+            // at runtime
+            resolveInjectionPoints(executor);
+        }
+
         // Collect dependency resolution errors
         List<Throwable> errors = new ArrayList<>();
         for (BeanInfo bean : beans) {
@@ -366,6 +388,60 @@ void init(Consumer<BytecodeTransformer> bytecodeTransformerConsumer,
         LOGGER.debugf("Bean deployment initialized in %s ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
     }
 
+    private void resolveInjectionPoints(ExecutorService executor) {
+        Set<TypeAndQualifiers> required = new LinkedHashSet<>();
+        addRequiredTypes(injectionPoints, required);
+        for (BeanInfo bean : beans) {
+            addRequiredTypes(bean.getAllInjectionPoints(), required);
+        }
+        if (required.size() < PARALLEL_RESOLUTION_THRESHOLD) {
+            return;
+        }
+        long start = System.nanoTime();
+        List<TypeAndQualifiers> requiredList = new ArrayList<>(required);
+        int tasks = Math.min(Runtime.getRuntime().availableProcessors(),
+                requiredList.size() / (PARALLEL_RESOLUTION_THRESHOLD / 4));
+        int chunkSize = (requiredList.size() + tasks - 1) / tasks;
+        List<Future<?>> futures = new ArrayList<>(tasks);
+        for (int i = 0; i < requiredList.size(); i += chunkSize) {
+            List<TypeAndQualifiers> chunk = requiredList.subList(i, Math.min(i + chunkSize, requiredList.size()));
+            futures.add(executor.submit(new Runnable() {
+                @Override
+                public void run() {
+                    for (TypeAndQualifiers typeAndQualifiers : chunk) {
+                        beanResolver.resolve(typeAndQualifiers);
+                    }
+                }
+            }));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+        LOGGER.debugf("Resolved %s required types of injection points in %s parallel tasks in %s ms", requiredList.size(),
+                futures.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private static void addRequiredTypes(Collection<InjectionPointInfo> injectionPoints, Set<TypeAndQualifiers> required) {
+        for (InjectionPointInfo injectionPoint : injectionPoints) {
+            if (injectionPoint.isDelegate()
+                    || injectionPoint.getType().kind() == Type.Kind.TYPE_VARIABLE
+                    || BuiltinBean.resolve(injectionPoint) != null) {
+                continue;
+            }
+            required.add(injectionPoint.getTypeAndQualifiers());
+        }
+    }
+
     /**
      * Re-initialize the map that is used to speed-up lookup requests.
      */
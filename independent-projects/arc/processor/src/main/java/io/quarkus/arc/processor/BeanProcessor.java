@@ -175,7 +175,18 @@ public ObserverRegistrar.RegistrationContext registerSyntheticObservers() {
      */
     public void initialize(Consumer<BytecodeTransformer> bytecodeTransformerConsumer,
             List<Predicate<BeanInfo>> additionalUnusedBeanExclusions) {
-        beanDeployment.init(bytecodeTransformerConsumer, additionalUnusedBeanExclusions);
+        initialize(bytecodeTransformerConsumer, additionalUnusedBeanExclusions, null);
+    }
+
+    /**
+     *
+     * @param bytecodeTransformerConsumer Used to register a bytecode transformation
+     * @param additionalUnusedBeanExclusions Additional predicates to exclude unused beans
+     * @param executor If not {@code null} then the injection points are resolved in parallel
+     */
+    public void initialize(Consumer<BytecodeTransformer> bytecodeTransformerConsumer,
+            List<Predicate<BeanInfo>> additionalUnusedBeanExclusions, ExecutorService executor) {
+        beanDeployment.init(bytecodeTransformerConsumer, additionalUnusedBeanExclusions, executor);
     }
 
     /**
@@ -0,0 +1,100 @@
+package io.quarkus.arc.processor;
+
+import static io.quarkus.arc.processor.Basics.name;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.IOException;
+import java.util.AbstractCollection;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import jakarta.enterprise.inject.Default;
+import jakarta.inject.Named;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.ParameterizedType;
+import org.jboss.jandex.Type;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.arc.processor.types.Foo;
+import io.quarkus.arc.processor.types.FooQualifier;
+
+public class BeanDeploymentParallelResolutionTest {
+
+    static final int BEANS = BeanDeployment.PARALLEL_RESOLUTION_THRESHOLD + 44;
+
+    @Test
+    public void testParallelResolutionMatchesSerialResolution() throws IOException {
+        Map<String, String> serial = resolve(null);
+        assertEquals(BEANS + 1, serial.size());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            assertEquals(serial, resolve(executor));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @return the injection point -> the name of the resolved bean, or its class if not named
+     */
+    private static Map<String, String> resolve(ExecutorService executor) throws IOException {
+        Index index = Index.of(Foo.class, FooQualifier.class, Named.class, Default.class, AbstractList.class,
+                AbstractCollection.class,
+                Collection.class, List.class, Iterable.class, Object.class, String.class);
+        Type fooType = Type.create(name(Foo.class), Type.Kind.CLASS);
+        Type listStringType = ParameterizedType.create(name(List.class),
+                new Type[] { Type.create(name(String.class), Type.Kind.CLASS) }, null);
+
+        BeanProcessor processor = BeanProcessor.builder()
+                .setImmutableBeanArchiveIndex(index)
+                .setRemoveUnusedBeans(false)
+                .addBeanRegistrar(new BeanRegistrar() {
+                    @Override
+                    public void register(RegistrationContext context) {
+                        BeanConfigurator<Object> consumer = context.configure(Foo.class).addType(fooType).named("consumer");
+                        // Resolved to the class bean
+                        consumer.addInjectionPoint(listStringType);
+                        for (int i = 0; i < BEANS; i++) {
+                            context.configure(Foo.class).addType(fooType).named("foo" + i).done();
+                            consumer.addInjectionPoint(fooType,
+                                    AnnotationInstance.builder(Named.class).value("foo" + i).build());
+                        }
+                        consumer.done();
+                    }
+                })
+                .build();
+        processor.registerCustomContexts();
+        processor.registerScopes();
+        BeanRegistrar.RegistrationContext registrationContext = processor.registerBeans();
+        processor.registerSyntheticInjectionPoints(registrationContext);
+        processor.getBeanDeployment().initBeanByTypeMap();
+        processor.registerSyntheticObservers();
+        processor.initialize(transformer -> {
+            throw new UnsupportedOperationException();
+        }, Collections.emptyList(), executor);
+
+        BeanInfo consumer = processor.getBeanDeployment().getBeans().stream()
+                .filter(bean -> "consumer".equals(bean.getName()))
+                .findFirst()
+                .orElseThrow();
+        Map<String, String> resolved = new LinkedHashMap<>();
+        for (InjectionPointInfo injectionPoint : consumer.getAllInjectionPoints()) {
+            BeanInfo bean = injectionPoint.getResolvedBean();
+            assertNotNull(bean, injectionPoint::toString);
+            resolved.put(injectionPoint.getRequiredType() + " " + injectionPoint.getRequiredQualifiers(),
+                    bean.getName() != null ? bean.getName() : bean.getBeanClass().toString());
+        }
+        return resolved;
+    }
+
+}
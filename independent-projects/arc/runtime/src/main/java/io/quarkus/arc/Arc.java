@@ -4,6 +4,7 @@
 import java.util.concurrent.atomic.AtomicReference;
 
 import io.quarkus.arc.impl.ArcContainerImpl;
+import io.quarkus.arc.impl.Monitors;
 
 /**
  * Provides access to the ArC container.
@@ -48,6 +49,16 @@ public static void setExecutor(ExecutorService executor) {
         INSTANCE.get().setExecutor(executor);
     }
 
+    /**
+     * Registers the monitor notified about the interceptor chains and request contexts, replacing any previously
+     * registered monitor. The monitor is unregistered when the container is shut down.
+     *
+     * @param monitor the monitor, or {@code null} to unregister the current monitor
+     */
+    public static void setMonitor(ArcMonitor monitor) {
+        Monitors.set(monitor);
+    }
+
     /**
      *
      * @return the container instance
@@ -64,6 +75,7 @@ public static void shutdown() {
                 if (container != null) {
                     container.shutdown();
                     INSTANCE.set(null);
+                    Monitors.set(null);
                 }
             }
         }
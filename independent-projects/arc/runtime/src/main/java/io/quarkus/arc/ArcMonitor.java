@@ -0,0 +1,45 @@
+package io.quarkus.arc;
+
+import java.lang.reflect.Method;
+
+/**
+ * Observes the invocations of interceptor chains and the lifecycle of request contexts, e.g. to record them as
+ * diagnostic events.
+ * <p>
+ * At most one monitor is registered, see {@link Arc#setMonitor(ArcMonitor)}. If no monitor is registered, the container
+ * does not notify anything.
+ */
+public interface ArcMonitor {
+
+    /**
+     * Called before the {@code @AroundInvoke} interceptor chain of the given method is invoked.
+     *
+     * @param method the intercepted method
+     * @param interceptors the number of interceptors in the chain
+     * @return an object passed to {@link #interceptorChainEnded(Object)} once the chain completed, or {@code null} if the
+     *         invocation is not observed
+     */
+    Object interceptorChainStarted(Method method, int interceptors);
+
+    /**
+     * Called once the interceptor chain completed, normally or exceptionally, on the invoking thread.
+     *
+     * @param token the object returned by {@link #interceptorChainStarted(Method, int)}
+     */
+    void interceptorChainEnded(Object token);
+
+    /**
+     * Called when a new request context is activated.
+     *
+     * @return an object passed to {@link #requestContextDestroyed(Object)} once the context is destroyed, or {@code null}
+     *         if the context is not observed
+     */
+    Object requestContextActivated();
+
+    /**
+     * Called once a request context was destroyed, possibly on another thread than the one that activated it.
+     *
+     * @param token the object returned by {@link #requestContextActivated()}
+     */
+    void requestContextDestroyed(Object token);
+}
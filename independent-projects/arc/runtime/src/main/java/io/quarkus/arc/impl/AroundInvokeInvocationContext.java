@@ -9,6 +9,7 @@
 import java.util.Set;
 
 import io.quarkus.arc.ArcInvocationContext;
+import io.quarkus.arc.ArcMonitor;
 
 /**
  * An {@link jakarta.interceptor.InvocationContext} for {@link jakarta.interceptor.AroundInvoke} interceptors.
@@ -24,6 +25,21 @@
 class AroundInvokeInvocationContext extends AbstractInvocationContext {
 
     static Object perform(Object target, Object[] args, InterceptedMethodMetadata metadata) throws Exception {
+        ArcMonitor monitor = Monitors.monitor;
+        if (monitor != null) {
+            Object token = monitor.interceptorChainStarted(metadata.method, metadata.chain.size());
+            if (token != null) {
+                try {
+                    return performChain(target, args, metadata);
+                } finally {
+                    monitor.interceptorChainEnded(token);
+                }
+            }
+        }
+        return performChain(target, args, metadata);
+    }
+
+    private static Object performChain(Object target, Object[] args, InterceptedMethodMetadata metadata) throws Exception {
         if (metadata.chain.isEmpty()) {
             return metadata.aroundInvokeForward.apply(target, new AroundInvokeInvocationContext(target, args, metadata));
         }
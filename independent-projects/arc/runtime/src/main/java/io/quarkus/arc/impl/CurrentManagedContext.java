@@ -262,6 +262,8 @@ public static class CurrentContextState implements ContextState {
         }
 
         private final ContextInstances contextInstances;
+        // set when the state is activated for the first time, see RequestContext
+        Object monitorToken;
         private volatile int isValid;
         private volatile int initializedFired;
         private volatile int beforeDestroyedFired;
@@ -0,0 +1,21 @@
+package io.quarkus.arc.impl;
+
+import io.quarkus.arc.ArcMonitor;
+
+/**
+ * Holds the registered {@link ArcMonitor}.
+ * <p>
+ * The monitor is not bound to a container instance because the interceptor chains are invoked without a reference to
+ * the container.
+ */
+public final class Monitors {
+
+    static volatile ArcMonitor monitor;
+
+    private Monitors() {
+    }
+
+    public static void set(ArcMonitor monitor) {
+        Monitors.monitor = monitor;
+    }
+}
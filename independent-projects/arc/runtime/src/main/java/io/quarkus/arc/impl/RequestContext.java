@@ -10,6 +10,7 @@
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.arc.ArcMonitor;
 import io.quarkus.arc.CurrentContext;
 import io.quarkus.arc.impl.EventImpl.Notifier;
 
@@ -35,6 +36,34 @@ public Class<? extends Annotation> getScope() {
         return RequestScoped.class;
     }
 
+    @Override
+    public ContextState activate(ContextState initialState) {
+        ContextState state = super.activate(initialState);
+        if (initialState == null) {
+            ArcMonitor monitor = Monitors.monitor;
+            if (monitor != null) {
+                ((CurrentContextState) state).monitorToken = monitor.requestContextActivated();
+            }
+        }
+        return state;
+    }
+
+    @Override
+    public void destroy(ContextState state) {
+        Object monitorToken = null;
+        if (state instanceof CurrentContextState current && current.monitorToken != null) {
+            monitorToken = current.monitorToken;
+            current.monitorToken = null;
+        }
+        super.destroy(state);
+        if (monitorToken != null) {
+            ArcMonitor monitor = Monitors.monitor;
+            if (monitor != null) {
+                monitor.requestContextDestroyed(monitorToken);
+            }
+        }
+    }
+
     @Override
     protected Logger traceLog() {
         return LOG;
@@ -0,0 +1,111 @@
+package io.quarkus.arc.test.monitor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Singleton;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcMonitor;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.quarkus.arc.test.interceptors.Simple;
+
+public class ArcMonitorTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Simple.class, MyBean.class, MyInterceptor.class);
+
+    @AfterEach
+    public void unregister() {
+        Arc.setMonitor(null);
+    }
+
+    @Test
+    public void testInterceptorChain() {
+        RecordingMonitor monitor = new RecordingMonitor();
+        MyBean bean = Arc.container().instance(MyBean.class).get();
+        assertEquals("intercepted: hello", bean.hello());
+        assertEquals(List.of(), monitor.notifications);
+
+        Arc.setMonitor(monitor);
+        assertEquals("intercepted: hello", bean.hello());
+        assertEquals(List.of("started hello 1", "ended hello"), monitor.notifications);
+    }
+
+    @Test
+    public void testRequestContext() {
+        RecordingMonitor monitor = new RecordingMonitor();
+        Arc.setMonitor(monitor);
+        ManagedContext requestContext = Arc.container().requestContext();
+
+        requestContext.activate();
+        ManagedContext.ContextState state = requestContext.getState();
+        requestContext.deactivate();
+        // reactivating an existing state is not a new activation
+        requestContext.activate(state);
+        assertEquals(List.of("activated"), monitor.notifications);
+
+        requestContext.terminate();
+        requestContext.destroy(state);
+        assertEquals(List.of("activated", "destroyed"), monitor.notifications);
+    }
+
+    @Singleton
+    static class MyBean {
+
+        @Simple
+        String hello() {
+            return "hello";
+        }
+    }
+
+    @Simple
+    @Priority(1)
+    @Interceptor
+    public static class MyInterceptor {
+
+        @AroundInvoke
+        Object aroundInvoke(InvocationContext ctx) throws Exception {
+            return "intercepted: " + ctx.proceed();
+        }
+    }
+
+    static class RecordingMonitor implements ArcMonitor {
+
+        final List<String> notifications = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Object interceptorChainStarted(Method method, int interceptors) {
+            notifications.add("started " + method.getName() + " " + interceptors);
+            return method;
+        }
+
+        @Override
+        public void interceptorChainEnded(Object token) {
+            notifications.add("ended " + ((Method) token).getName());
+        }
+
+        @Override
+        public Object requestContextActivated() {
+            notifications.add("activated");
+            return "request";
+        }
+
+        @Override
+        public void requestContextDestroyed(Object token) {
+            notifications.add("destroyed");
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package io.quarkus.qute.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.jandex.ClassType;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.ParameterizedType;
+import org.jboss.jandex.Type;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.EngineBuilder;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.ValueResolver;
+import io.quarkus.qute.generator.CompiledTemplateGenerator;
+import io.quarkus.qute.generator.ValueResolverGenerator;
+
+/**
+ * Compares the interpreter with a template compiled by the {@link CompiledTemplateGenerator}.
+ * <p>
+ * In both cases the value resolvers generated by the {@link ValueResolverGenerator} are used, i.e. the same setup as in a
+ * Quarkus application.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompiledTemplateBenchmark {
+
+    static final String TEMPLATE_ID = "items.html";
+
+    static final String TEMPLATE = "<html>\n"
+            + "<body>\n"
+            + "<h1>{title}</h1>\n"
+            + "<ul>\n"
+            + "{#for item in items}\n"
+            + "  <li>{item.name}: {item.price}{#if item.active} (active){/if}</li>\n"
+            + "{#else}\n"
+            + "  <li>No items</li>\n"
+            + "{/for}\n"
+            + "</ul>\n"
+            + "</body>\n"
+            + "</html>";
+
+    @Param({ "10", "100" })
+    int items;
+
+    @Param({ "false", "true" })
+    boolean compiled;
+
+    Template template;
+
+    List<Item> data;
+
+    @Setup
+    public void setup() throws Exception {
+        Index index = Index.of(Item.class);
+        InMemoryClassOutput classOutput = new InMemoryClassOutput();
+
+        ValueResolverGenerator resolverGenerator = ValueResolverGenerator.builder().setIndex(index)
+                .setClassOutput(classOutput).addClass(index.getClassByName(Item.class)).build();
+        resolverGenerator.generate();
+
+        EngineBuilder builder = Engine.builder().addDefaults();
+        for (String resolverClass : resolverGenerator.getGeneratedTypes()) {
+            builder.addValueResolver((ValueResolver) classOutput.newInstance(resolverClass));
+        }
+        if (compiled) {
+            CompiledTemplateGenerator templateGenerator = CompiledTemplateGenerator.builder().setIndex(index)
+                    .setClassOutput(classOutput).build();
+            String compiledClass = templateGenerator.generate(Engine.builder().addDefaults().build()
+                    .parse(TEMPLATE, null, TEMPLATE_ID), parameterTypes());
+            if (compiledClass == null) {
+                throw new IllegalStateException("Template not compiled");
+            }
+            builder.addCompiledTemplate((CompiledTemplate) classOutput.newInstance(compiledClass));
+        }
+        template = builder.build().parse(TEMPLATE, null, TEMPLATE_ID);
+
+        data = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            data.add(new Item("Item " + i, i * 10, i % 2 == 0));
+        }
+    }
+
+    @Benchmark
+    public String render() {
+        return template.instance().data("title", "Items").data("items", data).render();
+    }
+
+    static Map<String, Type> parameterTypes() {
+        return Map.of("title", ClassType.create(DotName.createSimple(String.class)),
+                "items", ParameterizedType.create(DotName.createSimple(List.class),
+                        new Type[] { ClassType.create(DotName.createSimple(Item.class)) }, null));
+    }
+
+    static class InMemoryClassOutput extends ClassLoader implements ClassOutput {
+
+        private final Map<String, byte[]> classes = new HashMap<>();
+
+        InMemoryClassOutput() {
+            super(CompiledTemplateBenchmark.class.getClassLoader());
+        }
+
+        @Override
+        public void write(String name, byte[] data) {
+            classes.put(name.replace('/', '.'), data);
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] data = classes.get(name);
+            if (data == null) {
+                throw new ClassNotFoundException(name);
+            }
+            return defineClass(name, data, 0, data.length);
+        }
+
+        Object newInstance(String className) throws ReflectiveOperationException, IOException {
+            return loadClass(className).getDeclaredConstructor().newInstance();
+        }
+
+    }
+
+}
@@ -0,0 +1,27 @@
+package io.quarkus.qute.benchmarks;
+
+public class Item {
+
+    private final String name;
+    private final int price;
+    private final boolean active;
+
+    public Item(String name, int price, boolean active) {
+        this.name = name;
+        this.price = price;
+        this.active = active;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getPrice() {
+        return price;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+}
@@ -0,0 +1,68 @@
+package io.quarkus.qute;
+
+import java.util.List;
+
+/**
+ * A template compiled ahead of time into a Java class.
+ * <p>
+ * A compiled template is registered via {@link EngineBuilder#addCompiledTemplate(CompiledTemplate)}. It is bound to the
+ * template with the same {@linkplain Template#getId() id} when the template is parsed, but only if the expressions of the
+ * parsed template match {@link #getExpressions()}, i.e. if the class was generated from the same template contents.
+ * <p>
+ * A bound template is rendered synchronously, without the {@link ResolutionContext} and the {@link ResultNode} tree used
+ * by the interpreter. If the compiled code cannot handle the data of a template instance (e.g. a value is {@code null}
+ * or an expression returns an asynchronous result), the output is discarded and the template is rendered by the
+ * interpreter instead.
+ */
+public interface CompiledTemplate {
+
+    /**
+     *
+     * @return the id of the template, e.g. {@code ItemResource/items.html}
+     */
+    String getTemplateId();
+
+    /**
+     *
+     * @return the original representation of all expressions in the order defined by {@link Template#getExpressions()}
+     * @see Expression#toOriginalString()
+     */
+    List<String> getExpressions();
+
+    /**
+     * Renders the template.
+     * <p>
+     * If {@code false} is returned then the output produced so far is discarded and the template is rendered by the
+     * interpreter. Note that the members used by the template may be invoked twice in such case.
+     *
+     * @param data the data of the template instance
+     * @param output
+     * @return {@code true} if rendered successfully, {@code false} if the interpreter must be used instead
+     */
+    boolean render(Mapper data, Output output);
+
+    /**
+     * The output of a compiled template.
+     */
+    interface Output {
+
+        /**
+         * Appends the static text of the template.
+         *
+         * @param text
+         */
+        void append(String text);
+
+        /**
+         * Appends the value of an output expression. {@code null} values are ignored and the result mappers of the
+         * engine are applied in the same way as if the template was rendered by the interpreter.
+         *
+         * @param value
+         * @param expressionIndex the index of the expression in the list returned by {@link Template#getExpressions()}
+         * @return {@code false} if the value cannot be appended synchronously
+         */
+        boolean appendValue(Object value, int expressionIndex);
+
+    }
+
+}
@@ -6,6 +6,7 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -36,6 +37,7 @@ class EngineImpl implements Engine {
     private final AtomicLong idGenerator = new AtomicLong(0);
     private final List<ParserHook> parserHooks;
     final List<TemplateInstance.Initializer> initializers;
+    private final Map<String, CompiledTemplate> compiledTemplates;
     final boolean removeStandaloneLines;
     private final long timeout;
     private final boolean useAsyncTimeout;
@@ -53,6 +55,7 @@ class EngineImpl implements Engine {
         this.parserHooks = ImmutableList.copyOf(builder.parserHooks);
         this.removeStandaloneLines = builder.removeStandaloneLines;
         this.initializers = ImmutableList.copyOf(builder.initializers);
+        this.compiledTemplates = initCompiledTemplates(builder.compiledTemplates);
         this.timeout = builder.timeout;
         this.useAsyncTimeout = builder.useAsyncTimeout;
     }
@@ -198,6 +201,9 @@ public EngineBuilder newBuilder() {
         for (Initializer initializer : initializers) {
             builder.addTemplateInstanceInitializer(initializer);
         }
+        for (CompiledTemplate compiledTemplate : compiledTemplates.values()) {
+            builder.addCompiledTemplate(compiledTemplate);
+        }
         builder.computeSectionHelper(sectionHelperFunc);
         for (ParserHook parserHook : parserHooks) {
             builder.addParserHook(parserHook);
@@ -205,6 +211,33 @@ public EngineBuilder newBuilder() {
         return builder;
     }
 
+    /**
+     *
+     * @param templateId
+     * @param expressions
+     * @return the compiled template for the given id, or {@code null} if no such template exists or if it was generated
+     *         from different template contents
+     */
+    CompiledTemplate getCompiledTemplate(String templateId, List<Expression> expressions) {
+        if (compiledTemplates.isEmpty()) {
+            return null;
+        }
+        CompiledTemplate compiled = compiledTemplates.get(templateId);
+        if (compiled == null) {
+            return null;
+        }
+        List<String> compiledExpressions = compiled.getExpressions();
+        boolean matches = compiledExpressions.size() == expressions.size();
+        for (int i = 0; matches && i < expressions.size(); i++) {
+            matches = compiledExpressions.get(i).equals(expressions.get(i).toOriginalString());
+        }
+        if (!matches) {
+            LOGGER.debugf("Compiled template ignored - the contents of template %s have changed", templateId);
+            return null;
+        }
+        return compiled;
+    }
+
     String generateId() {
         return "" + idGenerator.incrementAndGet();
     }
@@ -223,6 +256,17 @@ private Template load(String id) {
         return null;
     }
 
+    private static Map<String, CompiledTemplate> initCompiledTemplates(List<CompiledTemplate> compiledTemplates) {
+        if (compiledTemplates.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, CompiledTemplate> map = new HashMap<>();
+        for (CompiledTemplate compiledTemplate : compiledTemplates) {
+            map.put(compiledTemplate.getTemplateId(), compiledTemplate);
+        }
+        return Map.copyOf(map);
+    }
+
     private static <T extends WithPriority> List<T> sort(Collection<T> items) {
         List<T> sorted = new ArrayList<>(items);
         // Higher priority wins
@@ -22,6 +22,7 @@
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.qute.TemplateInstanceBase.DataMap;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
@@ -36,6 +37,9 @@ class TemplateImpl implements Template {
     final SectionNode root;
     private final List<ParameterDeclaration> parameterDeclarations;
     private final LazyValue<Map<String, Fragment>> fragments;
+    // The compiled template bound to this template; may be null
+    private final CompiledTemplate compiled;
+    private final List<Expression> compiledExpressions;
 
     // The initial capacity of the StringBuilder used to render the template
     final Capacity capacity;
@@ -51,6 +55,15 @@ class TemplateImpl implements Template {
         // Use a lazily initialized map to avoid unnecessary performance costs during parsing
         this.fragments = initFragments(root);
         this.capacity = new Capacity();
+        if (root.name.equals(Parser.ROOT_HELPER_NAME)) {
+            List<Expression> expressions = root.getExpressions();
+            this.compiled = engine.getCompiledTemplate(templateId, expressions);
+            this.compiledExpressions = compiled != null ? expressions : null;
+        } else {
+            // Fragments are always interpreted
+            this.compiled = null;
+            this.compiledExpressions = null;
+        }
     }
 
     @Override
@@ -164,9 +177,16 @@ private class TemplateInstanceImpl extends TemplateInstanceBase {
 
         @Override
         public String render() {
+            if (compiled != null) {
+                // Synchronous fast path
+                String result = renderCompiled(data());
+                if (result != null) {
+                    return result;
+                }
+            }
             long timeout = getTimeout();
             try {
-                return renderAsyncNoTimeout().toCompletableFuture().get(timeout, TimeUnit.MILLISECONDS);
+                return interpret().toCompletableFuture().get(timeout, TimeUnit.MILLISECONDS);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 throw new IllegalStateException(e);
@@ -240,8 +260,22 @@ protected Engine engine() {
         }
 
         private CompletionStage<String> renderAsyncNoTimeout() {
+            if (compiled != null) {
+                try {
+                    String result = renderCompiled(data());
+                    if (result != null) {
+                        return CompletedStage.of(result);
+                    }
+                } catch (Throwable e) {
+                    return CompletedStage.failure(e);
+                }
+            }
+            return interpret();
+        }
+
+        private CompletionStage<String> interpret() {
             StringBuilder builder = new StringBuilder(getCapacity());
-            return renderData(data(), builder::append).thenApply(v -> {
+            return interpretData(data(), builder::append).thenApply(v -> {
                 String str = builder.toString();
                 capacity.update(str.length());
                 return str;
@@ -269,6 +303,21 @@ private int getCapacityAttributeValue() {
         }
 
         private CompletionStage<Void> renderData(Object data, Consumer<String> consumer) {
+            if (compiled != null) {
+                try {
+                    String rendered = renderCompiled(data);
+                    if (rendered != null) {
+                        consumer.accept(rendered);
+                        return CompletedStage.of(null);
+                    }
+                } catch (Throwable e) {
+                    return CompletedStage.failure(e);
+                }
+            }
+            return interpretData(data, consumer);
+        }
+
+        private CompletionStage<Void> interpretData(Object data, Consumer<String> consumer) {
             CompletableFuture<Void> result = new CompletableFuture<>();
             ResolutionContext rootContext = new ResolutionContextImpl(data,
                     engine.getEvaluator(), null, this);
@@ -285,22 +334,52 @@ private CompletionStage<Void> renderData(Object data, Consumer<String> consumer)
                     } catch (Throwable e) {
                         result.completeExceptionally(e);
                     } finally {
-                        if (renderedActions != null) {
-                            for (Runnable action : renderedActions) {
-                                try {
-                                    action.run();
-                                } catch (Throwable e) {
-                                    LOG.error("Unable to perform an action when rendering finished", e);
-                                }
-                            }
-                        }
-
+                        runRenderedActions();
                     }
                 }
             });
             return result;
         }
 
+        /**
+         *
+         * @param data
+         * @return the rendered template, or {@code null} if the compiled template cannot handle the data and the
+         *         interpreter must be used instead
+         */
+        private String renderCompiled(Object data) {
+            if (!(data instanceof DataMap dataMap)) {
+                // Only the data map is guaranteed to be resolved synchronously
+                return null;
+            }
+            CompiledOutput output = new CompiledOutput(new StringBuilder(getCapacity()));
+            try {
+                if (!compiled.render(dataMap, output)) {
+                    LOG.tracef("Compiled template not used for %s", this);
+                    return null;
+                }
+            } catch (Throwable e) {
+                runRenderedActions();
+                throw e;
+            }
+            String str = output.builder.toString();
+            capacity.update(str.length());
+            runRenderedActions();
+            return str;
+        }
+
+        private void runRenderedActions() {
+            if (renderedActions != null) {
+                for (Runnable action : renderedActions) {
+                    try {
+                        action.run();
+                    } catch (Throwable e) {
+                        LOG.error("Unable to perform an action when rendering finished", e);
+                    }
+                }
+            }
+        }
+
         @Override
         public Template getTemplate() {
             return TemplateImpl.this;
@@ -313,6 +392,38 @@ public String toString() {
 
     }
 
+    class CompiledOutput implements CompiledTemplate.Output {
+
+        private final StringBuilder builder;
+        private final boolean hasResultMappers;
+
+        CompiledOutput(StringBuilder builder) {
+            this.builder = builder;
+            this.hasResultMappers = !engine.getResultMappers().isEmpty();
+        }
+
+        @Override
+        public void append(String text) {
+            builder.append(text);
+        }
+
+        @Override
+        public boolean appendValue(Object value, int expressionIndex) {
+            value = SingleResultNode.extractValue(value);
+            if (value == null) {
+                return true;
+            }
+            if (value instanceof CompletionStage || value instanceof ResultNode || value instanceof Uni) {
+                // Asynchronous results and result nodes are only handled by the interpreter
+                return false;
+            }
+            builder.append(
+                    hasResultMappers ? engine.mapResult(value, compiledExpressions.get(expressionIndex)) : value.toString());
+            return true;
+        }
+
+    }
+
     class Capacity {
 
         static final int LIMIT = 64 * 1024;
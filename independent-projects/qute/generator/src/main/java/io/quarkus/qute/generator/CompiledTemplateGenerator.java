@@ -0,0 +1,698 @@
+package io.quarkus.qute.generator;
+
+import static io.quarkus.qute.generator.ValueResolverGenerator.generatedNameFromTarget;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.ClassType;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.ParameterizedType;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+import org.jboss.jandex.TypeVariable;
+import org.jboss.logging.Logger;
+import org.objectweb.asm.MethodTooLargeException;
+
+import io.quarkus.gizmo.BranchResult;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.gizmo.WhileLoop;
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.Expression;
+import io.quarkus.qute.ExpressionNode;
+import io.quarkus.qute.IfSectionHelper;
+import io.quarkus.qute.LoopSectionHelper;
+import io.quarkus.qute.Mapper;
+import io.quarkus.qute.Parameter;
+import io.quarkus.qute.ParameterDeclarationNode;
+import io.quarkus.qute.SectionBlock;
+import io.quarkus.qute.SectionHelperFactory;
+import io.quarkus.qute.SectionNode;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateNode;
+import io.quarkus.qute.TextNode;
+
+/**
+ * Generates a {@link CompiledTemplate} for a type-safe template.
+ * <p>
+ * Only a subset of templates can be compiled: text, output expressions, {@code #for}/{@code #each} sections that iterate
+ * over a {@link java.lang.Iterable} and {@code #if} sections with a single operand. An expression must start with a
+ * template parameter or an iteration alias and may only reference public no-args methods and public fields of public
+ * classes from the index. The members are resolved in the same order as in the generated value resolvers, i.e. a method
+ * with the same name, then a getter and then a field. If a template does not meet these requirements then no class is
+ * generated and the template is always rendered by the interpreter.
+ *
+ * @see CompiledTemplate
+ */
+public class CompiledTemplateGenerator extends AbstractGenerator {
+
+    private static final Logger LOGGER = Logger.getLogger(CompiledTemplateGenerator.class);
+
+    public static final String SUFFIX = "_CompiledTemplate";
+
+    static final String TARGET_PACKAGE = "io.quarkus.qute.generated";
+
+    // Keep the string constants well below the limit of the constant pool
+    static final int MAX_TEXT_LENGTH = 16_384;
+
+    // Virtual properties implemented by the built-in value resolvers
+    private static final Set<String> BUILT_IN_PROPERTIES = Set.of("this", "raw", "safe", "orEmpty", "ifTruthy");
+
+    // Keys of the iteration metadata if no prefix is used
+    private static final Set<String> ITERATION_METADATA = Set.of("count", "index", "indexParity", "hasNext", "isLast",
+            "isFirst", "odd", "isOdd", "even", "isEven");
+
+    private static final Set<DotName> ITERABLE_TYPES = Set.of(DotName.createSimple(Iterable.class),
+            DotName.createSimple(java.util.Collection.class), DotName.createSimple(List.class),
+            DotName.createSimple(Set.class), DotName.createSimple(java.util.SortedSet.class),
+            DotName.createSimple(java.util.Deque.class), DotName.createSimple(java.util.Queue.class),
+            DotName.createSimple(ArrayList.class), DotName.createSimple(java.util.LinkedList.class),
+            DotName.createSimple(HashSet.class), DotName.createSimple(java.util.LinkedHashSet.class),
+            DotName.createSimple(java.util.TreeSet.class));
+
+    // Types handled by the built-in value resolvers or resolved asynchronously
+    private static final Set<DotName> UNSUPPORTED_TYPES = Set.of(DotName.createSimple(Mapper.class),
+            DotName.createSimple(Map.class), DotName.createSimple(Map.Entry.class),
+            DotName.createSimple(java.util.Collection.class), DotName.createSimple(Number.class),
+            DotNames.COMPLETION_STAGE, DotName.createSimple("io.smallrye.mutiny.Uni"),
+            DotName.createSimple("io.smallrye.mutiny.Multi"));
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private final Predicate<String> skipProperty;
+
+    CompiledTemplateGenerator(IndexView index, ClassOutput classOutput, Predicate<String> skipProperty) {
+        super(index, classOutput);
+        this.skipProperty = skipProperty;
+    }
+
+    /**
+     *
+     * @param template
+     * @param parameterTypes the types of the template parameters
+     * @return the name of the generated class or {@code null} if the template cannot be compiled
+     */
+    public String generate(Template template, Map<String, Type> parameterTypes) {
+        return generate(template.getId(), template.getNodes(), template.getExpressions(), parameterTypes);
+    }
+
+    /**
+     *
+     * @param templateId the id of the template at runtime
+     * @param nodes the child nodes of the root node
+     * @param expressions all expressions of the template
+     * @param parameterTypes the types of the template parameters
+     * @return the name of the generated class or {@code null} if the template cannot be compiled
+     * @see Template#getNodes()
+     * @see Template#getExpressions()
+     */
+    public String generate(String templateId, List<TemplateNode> nodes, List<Expression> expressions,
+            Map<String, Type> parameterTypes) {
+        String generatedName = generatedNameFromTarget(TARGET_PACKAGE, baseName(templateId), SUFFIX);
+        String uniqueName = generatedName;
+        int idx = 1;
+        while (generatedTypes.contains(uniqueName.replace('/', '.'))) {
+            uniqueName = generatedName + idx++;
+        }
+        generatedName = uniqueName;
+
+        ClassCreator compiledTemplate = ClassCreator.builder().classOutput(classOutput)
+                .className(generatedName)
+                .interfaces(CompiledTemplate.class).build();
+        try {
+            MethodCreator render = compiledTemplate.getMethodCreator("render", boolean.class, Mapper.class,
+                    CompiledTemplate.Output.class).setModifiers(ACC_PUBLIC);
+            RenderContext context = new RenderContext(render.getMethodParam(1), expressions);
+            Scope scope = initParameters(render, render.getMethodParam(0), expressions, parameterTypes);
+            generateNodes(render, nodes, scope, context);
+            render.returnBoolean(true);
+        } catch (UnsupportedTemplateException e) {
+            // The class is not written unless closed
+            LOGGER.debugf("Template %s not compiled: %s", templateId, e.getMessage());
+
+            return null;
+        }
+        implementGetTemplateId(compiledTemplate, templateId);
+        implementGetExpressions(compiledTemplate, expressions);
+        try {
+            compiledTemplate.close();
+        } catch (MethodTooLargeException e) {
+            LOGGER.debugf("Template %s not compiled: the template is too large", templateId);
+            return null;
+        }
+        String className = generatedName.replace('/', '.');
+        generatedTypes.add(className);
+        return className;
+    }
+
+    private void implementGetTemplateId(ClassCreator compiledTemplate, String templateId) {
+        MethodCreator getTemplateId = compiledTemplate.getMethodCreator("getTemplateId", String.class)
+                .setModifiers(ACC_PUBLIC);
+        getTemplateId.returnValue(getTemplateId.load(templateId));
+    }
+
+    private void implementGetExpressions(ClassCreator compiledTemplate, List<Expression> expressions) {
+        MethodCreator getExpressions = compiledTemplate.getMethodCreator("getExpressions", List.class)
+                .setModifiers(ACC_PUBLIC);
+        ResultHandle array = getExpressions.newArray(String.class, expressions.size());
+        for (int i = 0; i < expressions.size(); i++) {
+            getExpressions.writeArrayValue(array, i, getExpressions.load(expressions.get(i).toOriginalString()));
+        }
+        getExpressions.returnValue(getExpressions.invokeStaticMethod(Descriptors.ARRAYS_AS_LIST, array));
+    }
+
+    private Scope initParameters(BytecodeCreator bc, ResultHandle data, List<Expression> expressions,
+            Map<String, Type> parameterTypes) {
+        // Only the parameters that are actually used by the template are read
+        Set<String> used = new HashSet<>();
+        for (Expression expression : expressions) {
+            if (!expression.hasNamespace() && !expression.isLiteral() && !expression.getParts().isEmpty()) {
+                used.add(expression.getParts().get(0).getName());
+            }
+        }
+        Map<String, Variable> variables = new HashMap<>();
+        for (Map.Entry<String, Type> e : parameterTypes.entrySet()) {
+            if (!used.contains(e.getKey())) {
+                continue;
+            }
+            ResultHandle key = bc.load(e.getKey());
+            // Data not set on the template instance are resolved by the interpreter, e.g. globals
+            bc.ifFalse(bc.invokeInterfaceMethod(Descriptors.MAPPER_APPLIES_TO, data, key)).trueBranch()
+                    .returnBoolean(false);
+            ResultHandle value = bc.invokeInterfaceMethod(Descriptors.MAPPER_GET, data, key);
+            variables.put(e.getKey(), castVariable(bc, value, e.getValue()));
+        }
+        return new Scope(variables, List.of());
+    }
+
+    private void generateNodes(BytecodeCreator bc, List<TemplateNode> nodes, Scope scope, RenderContext context) {
+        for (TemplateNode node : nodes) {
+            if (node instanceof TextNode) {
+                appendText(bc, context, ((TextNode) node).getValue());
+            } else if (node instanceof ExpressionNode) {
+                Expression expression = node.getExpressions().get(0);
+                Variable value = resolve(bc, scope, expression);
+                ResultHandle appended = bc.invokeInterfaceMethod(Descriptors.OUTPUT_APPEND_VALUE, context.output,
+                        box(bc, value), bc.load(context.indexOf(expression)));
+                bc.ifFalse(appended).trueBranch().returnBoolean(false);
+            } else if (node instanceof SectionNode) {
+                SectionNode section = (SectionNode) node;
+                if (section.getHelper() instanceof LoopSectionHelper) {
+                    generateLoop(bc, section, scope, context);
+                } else if (section.getHelper() instanceof IfSectionHelper) {
+                    generateIf(bc, section, scope, context);
+                } else {
+                    throw new UnsupportedTemplateException("unsupported section {#" + section.getName() + "}");
+                }
+            } else if (!(node instanceof ParameterDeclarationNode)) {
+                // Comments, unused blocks, etc.
+                throw new UnsupportedTemplateException("unsupported node " + node);
+            }
+        }
+    }
+
+    private void appendText(BytecodeCreator bc, RenderContext context, String text) {
+        if (text.isEmpty()) {
+            return;
+        }
+        for (int start = 0; start < text.length(); start += MAX_TEXT_LENGTH) {
+            bc.invokeInterfaceMethod(Descriptors.OUTPUT_APPEND, context.output,
+                    bc.load(text.substring(start, Math.min(text.length(), start + MAX_TEXT_LENGTH))));
+        }
+    }
+
+    private void generateLoop(BytecodeCreator bc, SectionNode section, Scope scope, RenderContext context) {
+        SectionBlock main = section.getBlocks().get(0);
+        SectionBlock elseBlock = elseBlock(section);
+        String alias = main.parameters.get("alias");
+        if (alias == null || Parameter.EMPTY.equals(alias)) {
+            alias = "it";
+        }
+        Expression iterableExpression = main.expressions.get("iterable");
+        if (iterableExpression == null) {
+            throw new UnsupportedTemplateException("no iterable expression in " + section);
+        }
+        Variable iterable = resolve(bc, scope, iterableExpression);
+        Type elementType = elementType(iterable.type);
+        if (elementType == null) {
+            throw new UnsupportedTemplateException(
+                    "iterable expression " + iterableExpression.toOriginalString() + " of type " + iterable.type);
+        }
+        // A null iterable is rendered as an empty string, not even the else block is rendered
+        BytecodeCreator notNull = bc.ifNull(iterable.handle).falseBranch();
+        ResultHandle iterator = notNull.invokeInterfaceMethod(Descriptors.ITERABLE_ITERATOR, iterable.handle);
+        BranchResult hasElements = notNull.ifTrue(notNull.invokeInterfaceMethod(Descriptors.ITERATOR_HAS_NEXT, iterator));
+        BytecodeCreator elements = hasElements.trueBranch();
+        WhileLoop loop = elements.whileLoop(
+                condition -> condition.ifTrue(condition.invokeInterfaceMethod(Descriptors.ITERATOR_HAS_NEXT, iterator)));
+        BytecodeCreator block = loop.block();
+        Variable element = castVariable(block, block.invokeInterfaceMethod(Descriptors.ITERATOR_NEXT, iterator),
+                elementType);
+        generateNodes(block, main.nodes, scope.withAlias(alias, element), context);
+        if (elseBlock != null) {
+            generateNodes(hasElements.falseBranch(), elseBlock.nodes, scope, context);
+        }
+    }
+
+    private void generateIf(BytecodeCreator bc, SectionNode section, Scope scope, RenderContext context) {
+        SectionBlock main = section.getBlocks().get(0);
+        SectionBlock elseBlock = elseBlock(section);
+        if (main.parameters.size() != 1 || main.expressions.size() != 1) {
+            // Operators and composite conditions are not supported
+            throw new UnsupportedTemplateException("unsupported condition in " + section);
+        }
+        String condition = main.parameters.values().iterator().next();
+        Expression expression = main.expressions.values().iterator().next();
+        boolean negated;
+        if (condition.equals(expression.toOriginalString())) {
+            negated = false;
+        } else if (condition.equals("!" + expression.toOriginalString())) {
+            negated = true;
+        } else {
+            throw new UnsupportedTemplateException("unsupported condition " + condition);
+        }
+        Variable value = resolve(bc, scope, expression);
+        BranchResult isFalsy = bc.ifTrue(bc.invokeStaticMethod(Descriptors.BOOLEANS_IS_FALSY, box(bc, value)));
+        generateNodes(negated ? isFalsy.trueBranch() : isFalsy.falseBranch(), main.nodes, scope, context);
+        if (elseBlock != null) {
+            generateNodes(negated ? isFalsy.falseBranch() : isFalsy.trueBranch(), elseBlock.nodes, scope, context);
+        }
+    }
+
+    private SectionBlock elseBlock(SectionNode section) {
+        List<SectionBlock> blocks = section.getBlocks();
+        if (blocks.size() == 1) {
+            return null;
+        }
+        SectionBlock elseBlock = blocks.get(1);
+        if (blocks.size() > 2 || !SectionHelperFactory.MAIN_BLOCK_NAME.equals(blocks.get(0).label)
+                || !"else".equals(elseBlock.label) || !elseBlock.parameters.isEmpty()) {
+            throw new UnsupportedTemplateException("unsupported blocks in " + section);
+        }
+        return elseBlock;
+    }
+
+    private Variable resolve(BytecodeCreator bc, Scope scope, Expression expression) {
+        if (expression.hasNamespace() || expression.isLiteral()) {
+            throw new UnsupportedTemplateException("unsupported expression " + expression.toOriginalString());
+        }
+        List<Expression.Part> parts = expression.getParts();
+        Expression.Part first = parts.get(0);
+        if (first.isVirtualMethod()) {
+            throw new UnsupportedTemplateException("unsupported expression " + expression.toOriginalString());
+        }
+        if (scope.isIterationMetadata(first.getName())) {
+            throw new UnsupportedTemplateException("iteration metadata " + expression.toOriginalString());
+        }
+        Variable current = scope.variables.get(first.getName());
+        if (current == null) {
+            throw new UnsupportedTemplateException("unknown variable in " + expression.toOriginalString());
+        }
+        for (Expression.Part part : parts.subList(1, parts.size())) {
+            String name = part.getName();
+            if (part.isVirtualMethod() || BUILT_IN_PROPERTIES.contains(name) || skipProperty.test(name)) {
+                throw new UnsupportedTemplateException("unsupported property " + name + " in "
+                        + expression.toOriginalString());
+            }
+            ClassInfo clazz = accessibleClass(current.type);
+            if (clazz == null || implementsAny(clazz, UNSUPPORTED_TYPES)) {
+                throw new UnsupportedTemplateException("cannot resolve " + name + " on " + current.type + " in "
+                        + expression.toOriginalString());
+            }
+            AnnotationTarget member = findMember(clazz, name);
+            if (member == null) {
+                throw new UnsupportedTemplateException("member " + name + " not found on " + clazz + " in "
+                        + expression.toOriginalString());
+            }
+            // The interpreter would use the fallback value resolvers and the result would be most likely "NOT_FOUND"
+            bc.ifNull(current.handle).trueBranch().returnBoolean(false);
+            ResultHandle base = bc.checkCast(current.handle, clazz.name().toString());
+            ResultHandle value;
+            Type type;
+            if (member.kind() == AnnotationTarget.Kind.METHOD) {
+                MethodInfo method = member.asMethod();
+                MethodDescriptor descriptor = MethodDescriptor.ofMethod(clazz.name().toString(), method.name(),
+                        MethodDescriptor.of(method).getReturnType());
+                value = Modifier.isInterface(clazz.flags()) ? bc.invokeInterfaceMethod(descriptor, base)
+                        : bc.invokeVirtualMethod(descriptor, base);
+                type = method.returnType();
+            } else {
+                FieldInfo field = member.asField();
+                value = bc.readInstanceField(FieldDescriptor.of(clazz.name().toString(), field.name(),
+                        FieldDescriptor.of(field).getType()), base);
+                type = field.type();
+            }
+            type = resolveTypeVariables(type, member, clazz, current.type);
+            if (!isSupportedValueType(type)) {
+                throw new UnsupportedTemplateException("unsupported type " + type + " of " + name + " in "
+                        + expression.toOriginalString());
+            }
+            current = new Variable(value, type);
+        }
+        return current;
+    }
+
+    private ResultHandle box(BytecodeCreator bc, Variable variable) {
+        if (variable.type.kind() == Type.Kind.PRIMITIVE) {
+            return bc.smartCast(variable.handle, PrimitiveType.box(variable.type.asPrimitiveType()).name().toString());
+        }
+        return variable.handle;
+    }
+
+    private Variable castVariable(BytecodeCreator bc, ResultHandle value, Type type) {
+        DotName rawName = null;
+        if (type.kind() == Type.Kind.CLASS || type.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+            rawName = type.name();
+        } else if (type.kind() == Type.Kind.PRIMITIVE) {
+            rawName = PrimitiveType.box(type.asPrimitiveType()).name();
+            type = ClassType.create(rawName);
+        }
+        if (rawName == null || rawName.equals(DotNames.OBJECT) || !isAccessible(rawName)) {
+            // The value can be only rendered
+            return new Variable(value, ClassType.OBJECT_TYPE);
+        }
+        // The interpreter would resolve the value with a different value resolver
+        BytecodeCreator notNull = bc.ifNull(value).falseBranch();
+        notNull.ifFalse(notNull.instanceOf(value, rawName.toString())).trueBranch().returnBoolean(false);
+        return new Variable(bc.checkCast(value, rawName.toString()), type);
+    }
+
+    private ClassInfo accessibleClass(Type type) {
+        if (type.kind() != Type.Kind.CLASS && type.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+            return null;
+        }
+        if (type.name().toString().startsWith("java.")) {
+            // JDK types are handled by the built-in value resolvers
+            return null;
+        }
+        ClassInfo clazz = index.getClassByName(type.name());
+        return clazz != null && isAccessible(clazz) ? clazz : null;
+    }
+
+    private boolean isAccessible(DotName name) {
+        if (name.toString().startsWith("java.")) {
+            return true;
+        }
+        ClassInfo clazz = index.getClassByName(name);
+        return clazz != null && isAccessible(clazz);
+    }
+
+    private boolean isAccessible(ClassInfo clazz) {
+        // Note that the JVM only checks the flags of a nested class, the enclosing class does not matter
+        return Modifier.isPublic(clazz.flags());
+    }
+
+    private boolean implementsAny(ClassInfo clazz, Set<DotName> names) {
+        if (names.contains(clazz.name())) {
+            return true;
+        }
+        for (DotName interfaceName : clazz.interfaceNames()) {
+            if (names.contains(interfaceName)) {
+                return true;
+            }
+            ClassInfo interfaceClass = index.getClassByName(interfaceName);
+            if (interfaceClass != null && implementsAny(interfaceClass, names)) {
+                return true;
+            }
+        }
+        if (clazz.superName() != null && !clazz.superName().equals(DotNames.OBJECT)) {
+            if (names.contains(clazz.superName())) {
+                return true;
+            }
+            ClassInfo superClass = index.getClassByName(clazz.superName());
+            return superClass != null && implementsAny(superClass, names);
+        }
+        return false;
+    }
+
+    private AnnotationTarget findMember(ClassInfo clazz, String name) {
+        MethodInfo method = null;
+        MethodInfo getter = null;
+        FieldInfo field = null;
+        Deque<DotName> interfaces = new ArrayDeque<>();
+        Set<DotName> visited = new HashSet<>();
+        ClassInfo current = clazz;
+        // Superclasses first, then the interfaces
+        while (current != null) {
+            for (MethodInfo m : current.methods()) {
+                if (!isCandidate(m)) {
+                    continue;
+                }
+                if (method == null && m.name().equals(name)) {
+                    method = m;
+                } else if (getter == null && ValueResolverGenerator.isGetterName(m.name(), m.returnType())
+                        && ValueResolverGenerator.getPropertyName(m.name()).equals(name)) {
+                    getter = m;
+                }
+            }
+            if (field == null && !current.isInterface()) {
+                FieldInfo f = current.field(name);
+                if (f != null && Modifier.isPublic(f.flags()) && !Modifier.isStatic(f.flags())) {
+                    field = f;
+                }
+            }
+            interfaces.addAll(current.interfaceNames());
+            if (current.isInterface()) {
+                current = null;
+            } else {
+                current = current.superName() == null || current.superName().equals(DotNames.OBJECT) ? null
+                        : index.getClassByName(current.superName());
+            }
+            while (current == null && !interfaces.isEmpty()) {
+                DotName interfaceName = interfaces.poll();
+                if (visited.add(interfaceName)) {
+                    current = index.getClassByName(interfaceName);
+                }
+            }
+        }
+        if (method != null) {
+            return method;
+        }
+        return getter != null ? getter : field;
+    }
+
+    private boolean isCandidate(MethodInfo method) {
+        return Modifier.isPublic(method.flags())
+                && !Modifier.isStatic(method.flags())
+                && !ValueResolverGenerator.isSynthetic(method.flags())
+                && method.parametersCount() == 0
+                && method.returnType().kind() != Type.Kind.VOID
+                && !method.name().equals(MethodDescriptor.INIT)
+                && !method.name().equals(MethodDescriptor.CLINIT);
+    }
+
+    private Type resolveTypeVariables(Type type, AnnotationTarget member, ClassInfo clazz, Type baseType) {
+        ClassInfo declaringClass = member.kind() == AnnotationTarget.Kind.METHOD ? member.asMethod().declaringClass()
+                : member.asField().declaringClass();
+        if (!declaringClass.name().equals(clazz.name()) || baseType.kind() != Type.Kind.PARAMETERIZED_TYPE
+                || clazz.typeParameters().size() != baseType.asParameterizedType().arguments().size()) {
+            return type;
+        }
+        Map<String, Type> mapping = new HashMap<>();
+        List<TypeVariable> typeParameters = clazz.typeParameters();
+        for (int i = 0; i < typeParameters.size(); i++) {
+            mapping.put(typeParameters.get(i).identifier(), baseType.asParameterizedType().arguments().get(i));
+        }
+        return resolveTypeVariables(type, mapping);
+    }
+
+    private Type resolveTypeVariables(Type type, Map<String, Type> mapping) {
+        switch (type.kind()) {
+            case TYPE_VARIABLE:
+                return mapping.getOrDefault(type.asTypeVariable().identifier(), type);
+            case PARAMETERIZED_TYPE:
+                ParameterizedType parameterizedType = type.asParameterizedType();
+                List<Type> arguments = parameterizedType.arguments();
+                Type[] resolved = new Type[arguments.size()];
+                for (int i = 0; i < resolved.length; i++) {
+                    resolved[i] = resolveTypeVariables(arguments.get(i), mapping);
+                }
+                return ParameterizedType.create(parameterizedType.name(), resolved, parameterizedType.owner());
+            default:
+                return type;
+        }
+    }
+
+    private boolean isSupportedValueType(Type type) {
+        if (type.kind() == Type.Kind.VOID) {
+            return false;
+        }
+        if (type.kind() != Type.Kind.CLASS && type.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+            return true;
+        }
+        if (type.name().equals(DotNames.COMPLETION_STAGE)
+                || type.name().toString().equals("java.util.concurrent.CompletableFuture")
+                || type.name().toString().startsWith("io.smallrye.mutiny.")) {
+            return false;
+        }
+        return !hasCompletionStage(type);
+    }
+
+    private Type elementType(Type type) {
+        if (!ITERABLE_TYPES.contains(type.name())) {
+            return null;
+        }
+        if (type.kind() == Type.Kind.CLASS) {
+            // Raw type
+            return ClassType.OBJECT_TYPE;
+        }
+        if (type.kind() != Type.Kind.PARAMETERIZED_TYPE || type.asParameterizedType().arguments().size() != 1) {
+            return null;
+        }
+        Type argument = type.asParameterizedType().arguments().get(0);
+        if (argument.kind() == Type.Kind.WILDCARD_TYPE) {
+            argument = argument.asWildcardType().extendsBound();
+        }
+        return argument.kind() == Type.Kind.CLASS || argument.kind() == Type.Kind.PARAMETERIZED_TYPE ? argument
+                : ClassType.OBJECT_TYPE;
+    }
+
+    static String baseName(String templateId) {
+        StringBuilder baseName = new StringBuilder(templateId.length());
+        for (int i = 0; i < templateId.length(); i++) {
+            char c = templateId.charAt(i);
+            baseName.append(Character.isJavaIdentifierPart(c) && c != '$' ? c : '_');
+        }
+        if (baseName.length() == 0 || !Character.isJavaIdentifierStart(baseName.charAt(0))) {
+            baseName.insert(0, '_');
+        }
+        return baseName.toString();
+    }
+
+    private static final class Variable {
+
+        final ResultHandle handle;
+        final Type type;
+
+        Variable(ResultHandle handle, Type type) {
+            this.handle = handle;
+            this.type = type;
+        }
+
+    }
+
+    private static final class Scope {
+
+        final Map<String, Variable> variables;
+        final List<String> aliases;
+
+        Scope(Map<String, Variable> variables, List<String> aliases) {
+            this.variables = variables;
+            this.aliases = aliases;
+        }
+
+        Scope withAlias(String alias, Variable element) {
+            Map<String, Variable> newVariables = new HashMap<>(variables);
+            newVariables.put(alias, element);
+            List<String> newAliases = new ArrayList<>(aliases);
+            newAliases.add(alias);
+            return new Scope(newVariables, newAliases);
+        }
+
+        boolean isIterationMetadata(String name) {
+            if (aliases.isEmpty()) {
+                return false;
+            }
+            // The prefix of the iteration metadata is configurable
+            if (ITERATION_METADATA.contains(name) || name.startsWith("_")) {
+                return true;
+            }
+            for (String alias : aliases) {
+                if (name.startsWith(alias + "_") || name.startsWith(alias + "?")) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+    }
+
+    private static final class RenderContext {
+
+        final ResultHandle output;
+        final List<Expression> expressions;
+
+        RenderContext(ResultHandle output, List<Expression> expressions) {
+            this.output = output;
+            this.expressions = expressions;
+        }
+
+        int indexOf(Expression expression) {
+            for (int i = 0; i < expressions.size(); i++) {
+                if (expressions.get(i) == expression) {
+                    return i;
+                }
+            }
+            throw new UnsupportedTemplateException("expression not found: " + expression.toOriginalString());
+        }
+
+    }
+
+    static final class UnsupportedTemplateException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedTemplateException(String message) {
+            super(message);
+        }
+
+    }
+
+    public static class Builder {
+
+        private IndexView index;
+        private ClassOutput classOutput;
+        private Predicate<String> skipProperty = name -> false;
+
+        public Builder setIndex(IndexView index) {
+            this.index = index;
+            return this;
+        }
+
+        public Builder setClassOutput(ClassOutput classOutput) {
+            this.classOutput = classOutput;
+            return this;
+        }
+
+        /**
+         * Templates that contain a property matching the predicate are not compiled, e.g. a property that could be
+         * resolved by a template extension method.
+         *
+         * @param skipProperty
+         * @return self
+         */
+        public Builder setSkipProperty(Predicate<String> skipProperty) {
+            this.skipProperty = Objects.requireNonNull(skipProperty);
+            return this;
+        }
+
+        public CompiledTemplateGenerator build() {
+            return new CompiledTemplateGenerator(index, classOutput, skipProperty);
+        }
+
+    }
+
+}
@@ -1,6 +1,8 @@
 package io.quarkus.qute.generator;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -11,10 +13,13 @@
 
 import io.quarkus.gizmo.FieldDescriptor;
 import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.qute.Booleans;
+import io.quarkus.qute.CompiledTemplate;
 import io.quarkus.qute.CompletedStage;
 import io.quarkus.qute.EvalContext;
 import io.quarkus.qute.EvaluatedParams;
 import io.quarkus.qute.Expression;
+import io.quarkus.qute.Mapper;
 import io.quarkus.qute.Results;
 import io.quarkus.qute.Results.NotFound;
 import io.quarkus.qute.TemplateInstance;
@@ -102,6 +107,21 @@ private Descriptors() {
             TemplateInstance.class, String.class, Function.class);
     public static final MethodDescriptor VALUE_RESOLVERS_MATCH_CLASS = MethodDescriptor.ofMethod(ValueResolvers.class,
             "matchClass", boolean.class, EvalContext.class, Class.class);
+    static final MethodDescriptor MAPPER_GET = MethodDescriptor.ofMethod(Mapper.class, "get", Object.class, String.class);
+    static final MethodDescriptor MAPPER_APPLIES_TO = MethodDescriptor.ofMethod(Mapper.class, "appliesTo", boolean.class,
+            String.class);
+    static final MethodDescriptor OUTPUT_APPEND = MethodDescriptor.ofMethod(CompiledTemplate.Output.class, "append",
+            void.class, String.class);
+    static final MethodDescriptor OUTPUT_APPEND_VALUE = MethodDescriptor.ofMethod(CompiledTemplate.Output.class,
+            "appendValue", boolean.class, Object.class, int.class);
+    static final MethodDescriptor BOOLEANS_IS_FALSY = MethodDescriptor.ofMethod(Booleans.class, "isFalsy", boolean.class,
+            Object.class);
+    static final MethodDescriptor ITERABLE_ITERATOR = MethodDescriptor.ofMethod(Iterable.class, "iterator",
+            Iterator.class);
+    static final MethodDescriptor ITERATOR_HAS_NEXT = MethodDescriptor.ofMethod(Iterator.class, "hasNext", boolean.class);
+    static final MethodDescriptor ITERATOR_NEXT = MethodDescriptor.ofMethod(Iterator.class, "next", Object.class);
+    static final MethodDescriptor ARRAYS_AS_LIST = MethodDescriptor.ofMethod(Arrays.class, "asList", List.class,
+            Object[].class);
 
     public static final FieldDescriptor EVALUATED_PARAMS_STAGE = FieldDescriptor.of(EvaluatedParams.class, "stage",
             CompletionStage.class);
@@ -0,0 +1,231 @@
+package io.quarkus.qute.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.jandex.ClassType;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.ParameterizedType;
+import org.jboss.jandex.Type;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.Mapper;
+import io.quarkus.qute.ReflectionValueResolver;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateException;
+
+public class CompiledTemplateGeneratorTest {
+
+    static final String TEMPLATE = "<h1>{title}</h1>\n"
+            + "{#for item in items}"
+            + "{item.name}:{item.price}{#if item.active} active{#else} inactive{/if}{#if item.tags} {item.tags}{/if}\n"
+            + "{#else}"
+            + "No items!"
+            + "{/for}"
+            + "{#each tags}[{it}]{/each}";
+
+    @Test
+    public void testRender() throws Exception {
+        CountingTemplate compiled = compile("items.html", TEMPLATE, itemsParams());
+        Engine engine = engine(compiled);
+        Engine interpreter = engine(null);
+
+        Map<String, Object> data = Map.of("title", "Items", "tags", List.of("a", "b"),
+                "items", List.of(new Item("Foo", 10, true, List.of("x")), new Item("Bar", 1, false, List.of())));
+        String expected = render(interpreter, "items.html", TEMPLATE, data);
+        assertEquals("<h1>Items</h1>\nFoo:10 active [x]\nBar:1 inactive\n[a][b]", expected);
+        assertEquals(expected, render(engine, "items.html", TEMPLATE, data));
+        assertEquals(1, compiled.rendered.get());
+
+        // Else block
+        data = Map.of("title", "Empty", "tags", List.of(), "items", List.of());
+        assertEquals(render(interpreter, "items.html", TEMPLATE, data), render(engine, "items.html", TEMPLATE, data));
+        assertEquals(2, compiled.rendered.get());
+    }
+
+    @Test
+    public void testFallback() throws Exception {
+        CountingTemplate compiled = compile("fallback.html", TEMPLATE, itemsParams());
+        Engine engine = engine(compiled);
+        Engine interpreter = engine(null);
+
+        // Element is null - the interpreter fails in the same way
+        List<Item> items = new ArrayList<>();
+        items.add(new Item("Foo", 10, true, List.of()));
+        items.add(null);
+        Map<String, Object> nullElement = Map.of("title", "Items", "tags", List.of(), "items", items);
+        TemplateException expected = assertThrows(TemplateException.class,
+                () -> render(interpreter, "fallback.html", TEMPLATE, nullElement));
+        TemplateException actual = assertThrows(TemplateException.class,
+                () -> render(engine, "fallback.html", TEMPLATE, nullElement));
+        assertEquals(expected.getMessage(), actual.getMessage());
+        // Parameter of unexpected type
+        Map<String, Object> data = Map.of("title", 42, "tags", List.of(), "items", List.of());
+        assertEquals(render(interpreter, "fallback.html", TEMPLATE, data),
+                render(engine, "fallback.html", TEMPLATE, data));
+        assertEquals("<h1>42</h1>\nNo items!", render(engine, "fallback.html", TEMPLATE, data));
+        assertEquals(0, compiled.rendered.get());
+        assertEquals(3, compiled.attempted.get());
+
+        // Template contents changed
+        assertEquals("<h1>42</h1>", render(engine, "fallback.html", "<h1>{title}</h1>", data));
+        assertEquals(3, compiled.attempted.get());
+    }
+
+    @Test
+    public void testAsyncValue() throws Exception {
+        String template = "{item.name}={item.price}";
+        CountingTemplate compiled = compile("async.html", template, Map.of("item", classType(AsyncItem.class)));
+        assertEquals("foo=10", render(engine(compiled), "async.html", template, Map.of("item", new AsyncItem())));
+        assertEquals(0, compiled.rendered.get());
+        assertEquals(1, compiled.attempted.get());
+    }
+
+    @Test
+    public void testUnsupportedTemplates() throws IOException {
+        Map<String, Type> params = itemsParams();
+        assertNull(generate("unsupported1.html", "{#let foo=title}{foo}{/let}", params, name -> false));
+        assertNull(generate("unsupported2.html", "{title.toUpperCase}", params, name -> false));
+        assertNull(generate("unsupported3.html", "{#for item in items}{item_count}{/for}", params, name -> false));
+        assertNull(generate("unsupported4.html", "{#if title && items}ok{/if}", params, name -> false));
+        assertNull(generate("unsupported5.html", "{inject:foo.name}", params, name -> false));
+        assertNull(generate("unsupported6.html", "{#for item in items}{item.unknown}{/for}", params, name -> false));
+        assertNull(generate("unsupported7.html", "{#for item in items}{item.name}{/for}", params, "name"::equals));
+        assertNotNull(generate("supported.html", "{#for item in items}{item.name}{/for}", params, name -> false));
+    }
+
+    private static Map<String, Type> itemsParams() {
+        return Map.of("title", classType(String.class),
+                "tags", ParameterizedType.create(DotName.createSimple(List.class), new Type[] { classType(String.class) },
+                        null),
+                "items", ParameterizedType.create(DotName.createSimple(List.class), new Type[] { classType(Item.class) },
+                        null));
+    }
+
+    private static Type classType(Class<?> clazz) {
+        return ClassType.create(DotName.createSimple(clazz));
+    }
+
+    private static String render(Engine engine, String id, String content, Map<String, Object> data) {
+        Template template = engine.parse(content, null, id);
+        var instance = template.instance();
+        data.forEach(instance::data);
+        return instance.render();
+    }
+
+    private static Engine engine(CompiledTemplate compiled) {
+        var builder = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver());
+        if (compiled != null) {
+            builder.addCompiledTemplate(compiled);
+        }
+        return builder.build();
+    }
+
+    private static CountingTemplate compile(String id, String content, Map<String, Type> params) throws Exception {
+        String className = generate(id, content, params, name -> false);
+        assertNotNull(className);
+        CompiledTemplate compiled = (CompiledTemplate) CompiledTemplateGeneratorTest.class.getClassLoader()
+                .loadClass(className).getDeclaredConstructor().newInstance();
+        assertEquals(id, compiled.getTemplateId());
+        return new CountingTemplate(compiled);
+    }
+
+    private static String generate(String id, String content, Map<String, Type> params,
+            java.util.function.Predicate<String> skipProperty) throws IOException {
+        Index index = Index.of(Item.class, AsyncItem.class);
+        CompiledTemplateGenerator generator = CompiledTemplateGenerator.builder().setIndex(index)
+                .setClassOutput(new TestClassOutput()).setSkipProperty(skipProperty).build();
+        return generator.generate(Engine.builder().addDefaults().build().parse(content, null, id), params);
+    }
+
+    static class CountingTemplate implements CompiledTemplate {
+
+        final CompiledTemplate delegate;
+        final AtomicInteger attempted = new AtomicInteger();
+        final AtomicInteger rendered = new AtomicInteger();
+
+        CountingTemplate(CompiledTemplate delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String getTemplateId() {
+            return delegate.getTemplateId();
+        }
+
+        @Override
+        public List<String> getExpressions() {
+            return delegate.getExpressions();
+        }
+
+        @Override
+        public boolean render(Mapper data, Output output) {
+            attempted.incrementAndGet();
+            if (delegate.render(data, output)) {
+                rendered.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+
+    }
+
+    public static class Item {
+
+        private final String name;
+        public final int price;
+        private final boolean active;
+        private final List<String> tags;
+
+        public Item(String name, int price, boolean active, List<String> tags) {
+            this.name = name;
+            this.price = price;
+            this.active = active;
+            this.tags = tags;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public List<String> getTags() {
+            return Collections.unmodifiableList(tags);
+        }
+
+    }
+
+    public static class AsyncItem {
+
+        public String getName() {
+            return "foo";
+        }
+
+        public Object getPrice() {
+            return CompletableFuture.completedFuture(10);
+        }
+
+        public Set<String> getTags() {
+            return Set.of();
+        }
+
+    }
+
+}
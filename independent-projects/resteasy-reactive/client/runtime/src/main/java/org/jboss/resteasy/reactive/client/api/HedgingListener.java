@@ -0,0 +1,27 @@
+package org.jboss.resteasy.reactive.client.api;
+
+import java.net.URI;
+
+/**
+ * Notified about hedged requests, i.e. second attempts sent because the first one did not complete in time.
+ *
+ * @see QuarkusRestClientProperties#HEDGING_PERCENTILE
+ */
+public interface HedgingListener {
+
+    /**
+     * A hedged request was sent.
+     *
+     * @param httpMethod the HTTP method of the request
+     * @param uri the URI of the request, before a service instance was selected
+     */
+    void hedgeFired(String httpMethod, URI uri);
+
+    /**
+     * The hedged request completed before the original one, which was cancelled.
+     *
+     * @param httpMethod the HTTP method of the request
+     * @param uri the URI of the request, before a service instance was selected
+     */
+    void hedgeWon(String httpMethod, URI uri);
+}
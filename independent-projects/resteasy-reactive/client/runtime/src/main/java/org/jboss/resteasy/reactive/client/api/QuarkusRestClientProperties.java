@@ -28,6 +28,22 @@ public class QuarkusRestClientProperties {
 
     public static final String READ_TIMEOUT = "io.quarkus.rest.client.read-timeout";
 
+    /**
+     * Enables hedged requests: if an idempotent request returning a {@code Uni} did not complete within the given
+     * percentile (1-99) of the recently observed response times, a second attempt is sent and the first response wins.
+     */
+    public static final String HEDGING_PERCENTILE = "io.quarkus.rest.client.hedging-percentile";
+
+    /**
+     * The minimum delay in ms before a hedged request is sent. Also used until enough response times were observed.
+     */
+    public static final String HEDGING_MIN_DELAY = "io.quarkus.rest.client.hedging-min-delay";
+
+    /**
+     * The {@link HedgingListener} notified about hedged requests.
+     */
+    public static final String HEDGING_LISTENER = "io.quarkus.rest.client.hedging-listener";
+
     /**
      * See {@link PausableHttpPostRequestEncoder.EncoderMode}, RFC1738 by default
      */
@@ -51,9 +67,15 @@ public class QuarkusRestClientProperties {
     public static final String STATIC_HEADERS = "io.quarkus.rest.client.static-headers";
 
     /**
-     * Set to true to share the HTTP client between REST clients.
+     * The maximum number of requests waiting for a connection of the rest client connection pool, {@code -1} means
+     * unbounded. Requests exceeding this limit fail immediately.
+     */
+    public static final String MAX_WAIT_QUEUE_SIZE = "io.quarkus.rest.client.max-wait-queue-size";
+
+    /**
+     * Set to true to share the HTTP client, and therefore its per-host connection pools, between REST clients.
      * There can be multiple shared clients distinguished by <em>name</em>, when no specific name is set,
-     * the name <code>__vertx.DEFAULT</code> is used.
+     * the REST clients with the same HTTP client options share a client.
      */
     public static final String SHARED = "io.quarkus.rest.client.shared";
 
@@ -75,6 +97,11 @@ public class QuarkusRestClientProperties {
      */
     public static final String HTTP2 = "io.quarkus.rest.client.http2";
 
+    /**
+     * The maximum number of concurrent streams of an HTTP/2 connection, {@code -1} means the value sent by the server.
+     */
+    public static final String HTTP2_MULTIPLEXING_LIMIT = "io.quarkus.rest.client.http2-multiplexing-limit";
+
     /**
      * Set to true to explicitly use the Application-Layer Protocol Negotiation extension.
      */
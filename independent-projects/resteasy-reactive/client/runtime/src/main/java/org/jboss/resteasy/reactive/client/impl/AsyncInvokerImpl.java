@@ -277,11 +277,19 @@ private <T> CompletableFuture<Response> performRequestInternal(String httpMethod
 
     RestClientRequestContext performRequestInternal(String httpMethodName, Entity<?> entity, GenericType<?> responseType,
             boolean registerBodyHandler) {
+        return performRequestInternal(httpMethodName, entity, responseType, registerBodyHandler, Map.of());
+    }
+
+    RestClientRequestContext performRequestInternal(String httpMethodName, Entity<?> entity, GenericType<?> responseType,
+            boolean registerBodyHandler, Map<String, Object> additionalProperties) {
         RestClientRequestContext restClientRequestContext = new RestClientRequestContext(restClient, httpClient, httpMethodName,
                 uri, requestSpec.configuration, requestSpec.headers,
                 entity, responseType, registerBodyHandler, properties, handlerChain.createHandlerChain(configuration),
                 handlerChain.createAbortHandlerChain(configuration),
                 handlerChain.createAbortHandlerChainWithoutResponseFilters(), requestContext);
+        if (!additionalProperties.isEmpty()) {
+            restClientRequestContext.getProperties().putAll(additionalProperties);
+        }
         restClientRequestContext.run();
         return restClientRequestContext;
     }
@@ -4,10 +4,12 @@
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECTION_POOL_SIZE;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECTION_TTL;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECT_TIMEOUT;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HTTP2_MULTIPLEXING_LIMIT;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.KEEP_ALIVE_ENABLED;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_HEADER_SIZE;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_INITIAL_LINE_LENGTH;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_REDIRECTS;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_WAIT_QUEUE_SIZE;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.NAME;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.SHARED;
 
@@ -102,6 +104,7 @@ public class ClientImpl implements Client {
     final Vertx vertx;
     private final MultiQueryParamMode multiQueryParamMode;
     private final String userAgent;
+    final HedgingPolicy hedgingPolicy;
 
     public ClientImpl(HttpClientOptions options, ConfigurationImpl configuration, ClientContext clientContext,
             HostnameVerifier hostnameVerifier,
@@ -166,6 +169,17 @@ public Vertx get() {
         options.setMaxPoolSize((int) connectionPoolSize);
         options.setHttp2MaxPoolSize((int) connectionPoolSize);
 
+        Object maxWaitQueueSize = configuration.getProperty(MAX_WAIT_QUEUE_SIZE);
+        if (maxWaitQueueSize != null) {
+            log.debugf("Setting maxWaitQueueSize to %d", maxWaitQueueSize);
+            options.setMaxWaitQueueSize((int) maxWaitQueueSize);
+        }
+
+        Object http2MultiplexingLimit = configuration.getProperty(HTTP2_MULTIPLEXING_LIMIT);
+        if (http2MultiplexingLimit != null) {
+            options.setHttp2MultiplexingLimit((int) http2MultiplexingLimit);
+        }
+
         Object keepAliveEnabled = configuration.getProperty(KEEP_ALIVE_ENABLED);
         if (keepAliveEnabled != null) {
             Boolean enabled = (Boolean) keepAliveEnabled;
@@ -188,8 +202,16 @@ public Vertx get() {
 
         Object shared = configuration.getProperty(SHARED);
         if (shared != null && (boolean) shared) {
+            if (name == null) {
+                options.setName(SharedHttpClientNames.nameFor(options));
+            }
             log.debugf("Sharing of the HTTP client '%s' enabled", options.getName());
             options.setShared(true);
+            if (options.getMetricsName() == null || options.getMetricsName().isEmpty()) {
+                // the connection pools are shared by multiple REST clients, so they are monitored by the client name
+                // Vert.x defaults the metrics name to an empty string
+                options.setMetricsName("rest-client|" + options.getName());
+            }
         }
 
         var httpClientBuilder = this.vertx.httpClientBuilder().with(options).with(options.getPoolOptions());
@@ -218,6 +240,7 @@ public Vertx get() {
                 followRedirects,
                 loggingScope,
                 clientContext.getMultipartResponsesData(), clientLogger);
+        hedgingPolicy = HedgingPolicy.of(configuration);
     }
 
     public HttpClient getVertxHttpClient() {
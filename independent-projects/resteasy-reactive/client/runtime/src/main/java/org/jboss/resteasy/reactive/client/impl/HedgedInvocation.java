@@ -0,0 +1,183 @@
+package org.jboss.resteasy.reactive.client.impl;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.core.GenericType;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpClientRequest;
+
+/**
+ * A request that is sent a second time if it does not complete within the delay of the {@link HedgingPolicy}. The first
+ * successful response wins and the other attempt is cancelled. If the request targets a Stork service, the hedged
+ * request goes to a different service instance, if there is one.
+ */
+final class HedgedInvocation<R> {
+
+    private final AsyncInvokerImpl invoker;
+    private final HedgingPolicy policy;
+    private final String httpMethod;
+    private final GenericType<?> responseType;
+    private final Class<?> rawResponseType;
+
+    private UniEmitter<? super R> emitter;
+    // guarded by this
+    private final Attempt[] attempts = new Attempt[2];
+    private int pending;
+    private long timerId = -1;
+    private boolean done;
+
+    HedgedInvocation(AsyncInvokerImpl invoker, HedgingPolicy policy, String httpMethod, GenericType<R> responseType) {
+        this.invoker = invoker;
+        this.policy = policy;
+        this.httpMethod = httpMethod;
+        this.responseType = responseType == null ? new GenericType<>(String.class) : responseType;
+        this.rawResponseType = responseType == null ? String.class : responseType.getRawType();
+    }
+
+    Uni<R> uni() {
+        return Uni.createFrom().emitter(new Consumer<UniEmitter<? super R>>() {
+            @Override
+            public void accept(UniEmitter<? super R> emitter) {
+                HedgedInvocation.this.emitter = emitter;
+                emitter.onTermination(new Runnable() {
+                    @Override
+                    public void run() {
+                        cancel();
+                    }
+                });
+                synchronized (HedgedInvocation.this) {
+                    pending = 1;
+                }
+                send(0, Map.of());
+                synchronized (HedgedInvocation.this) {
+                    if (!done) {
+                        timerId = invoker.restClient.getVertx().setTimer(policy.delayMillis(), new Handler<Long>() {
+                            @Override
+                            public void handle(Long id) {
+                                hedge();
+                            }
+                        });
+                    }
+                }
+            }
+        });
+    }
+
+    private void hedge() {
+        Object selectedInstanceId;
+        synchronized (this) {
+            timerId = -1;
+            if (done) {
+                return;
+            }
+            // reserve the hedged attempt, so that a failure of the original one is not reported in the meantime
+            pending++;
+            selectedInstanceId = attempts[0].context.getProperties().get(StorkClientRequestFilter.SELECTED_INSTANCE_ID);
+        }
+        policy.hedgeFired(httpMethod, invoker.uri);
+        send(1, selectedInstanceId == null ? Map.of()
+                : Map.of(StorkClientRequestFilter.EXCLUDED_INSTANCE_ID, selectedInstanceId));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private void send(int index, Map<String, Object> additionalProperties) {
+        long start = System.nanoTime();
+        RestClientRequestContext context = invoker.performRequestInternal(httpMethod, null, responseType, true,
+                additionalProperties);
+        Attempt attempt = new Attempt(context, start);
+        boolean cancelled;
+        synchronized (this) {
+            attempts[index] = attempt;
+            cancelled = done;
+        }
+        if (cancelled) {
+            attempt.cancel();
+        }
+        CompletableFuture response = context.getResult();
+        invoker.mapResponse(response, rawResponseType).whenComplete(new BiConsumer<Object, Throwable>() {
+            @Override
+            public void accept(Object result, Throwable failure) {
+                complete(index, (R) result, failure);
+            }
+        });
+    }
+
+    private void complete(int index, R result, Throwable failure) {
+        synchronized (this) {
+            pending--;
+            attempts[index].completed = true;
+            // a failed attempt is only reported if there is no other attempt that could still succeed
+            if (done || (failure != null && pending > 0)) {
+                return;
+            }
+            done = true;
+        }
+        // the termination of the emitter cancels the timer and the other attempt
+        if (failure == null) {
+            policy.recordResponseTime(System.nanoTime() - attempts[index].start);
+            if (index == 1) {
+                policy.hedgeWon(httpMethod, invoker.uri);
+            }
+            emitter.complete(result);
+        } else {
+            emitter.fail(unwrap(failure));
+        }
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        if (failure instanceof CompletionException && failure.getCause() != null) {
+            failure = failure.getCause();
+        }
+        if (failure instanceof ProcessingException && failure.getCause() != null) {
+            failure = failure.getCause();
+        }
+        return failure;
+    }
+
+    private void cancel() {
+        Attempt[] outstanding;
+        synchronized (this) {
+            if (timerId != -1) {
+                invoker.restClient.getVertx().cancelTimer(timerId);
+                timerId = -1;
+            }
+            done = true;
+            outstanding = attempts.clone();
+        }
+        for (Attempt attempt : outstanding) {
+            if (attempt != null) {
+                attempt.cancel();
+            }
+        }
+    }
+
+    private static final class Attempt {
+
+        final RestClientRequestContext context;
+        final long start;
+        volatile boolean completed;
+
+        Attempt(RestClientRequestContext context, long start) {
+            this.context = context;
+            this.start = start;
+        }
+
+        void cancel() {
+            if (completed) {
+                return;
+            }
+            HttpClientRequest httpClientRequest = context.getHttpClientRequest();
+            if (httpClientRequest != null) {
+                httpClientRequest.reset();
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.jboss.resteasy.reactive.client.impl;
+
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HEDGING_LISTENER;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HEDGING_MIN_DELAY;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HEDGING_PERCENTILE;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.jboss.resteasy.reactive.client.api.HedgingListener;
+import org.jboss.resteasy.reactive.common.jaxrs.ConfigurationImpl;
+
+/**
+ * Decides when a hedged request is sent, based on the response times recently observed by a client.
+ * <p>
+ * The response times are kept in a fixed size window; the delay is the configured percentile of the window, recomputed
+ * every {@link #RECOMPUTE_INTERVAL} samples so that computing it stays off the hot path.
+ */
+final class HedgingPolicy {
+
+    static final long DEFAULT_MIN_DELAY = 50;
+    static final int WINDOW_SIZE = 256;
+    static final int RECOMPUTE_INTERVAL = 32;
+
+    private final int percentile;
+    private final long minDelayMillis;
+    private final HedgingListener listener;
+
+    private final AtomicLongArray window = new AtomicLongArray(WINDOW_SIZE);
+    private final AtomicLong samples = new AtomicLong();
+    private volatile long delayMillis;
+
+    HedgingPolicy(int percentile, long minDelayMillis, HedgingListener listener) {
+        if (percentile < 1 || percentile > 99) {
+            throw new IllegalArgumentException("The hedging percentile must be between 1 and 99, was " + percentile);
+        }
+        this.percentile = percentile;
+        this.minDelayMillis = minDelayMillis;
+        this.listener = listener;
+        this.delayMillis = minDelayMillis;
+    }
+
+    /**
+     * @return the policy configured by the client properties, or {@code null} if hedging is not enabled
+     */
+    static HedgingPolicy of(ConfigurationImpl configuration) {
+        Object percentile = configuration.getProperty(HEDGING_PERCENTILE);
+        if (percentile == null) {
+            return null;
+        }
+        Object minDelay = configuration.getProperty(HEDGING_MIN_DELAY);
+        return new HedgingPolicy((int) percentile, minDelay == null ? DEFAULT_MIN_DELAY : ((Number) minDelay).longValue(),
+                (HedgingListener) configuration.getProperty(HEDGING_LISTENER));
+    }
+
+    /**
+     * Only requests that can safely be sent twice are hedged.
+     */
+    boolean appliesTo(String httpMethod, Object entity) {
+        return entity == null
+                && ("GET".equals(httpMethod) || "HEAD".equals(httpMethod) || "OPTIONS".equals(httpMethod));
+    }
+
+    long delayMillis() {
+        return delayMillis;
+    }
+
+    void recordResponseTime(long nanos) {
+        long sample = samples.getAndIncrement();
+        window.set((int) (sample % WINDOW_SIZE), nanos);
+        if ((sample + 1) % RECOMPUTE_INTERVAL == 0) {
+            recomputeDelay(Math.min(sample + 1, WINDOW_SIZE));
+        }
+    }
+
+    private void recomputeDelay(long size) {
+        long[] sorted = new long[(int) size];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = window.get(i);
+        }
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        delayMillis = Math.max(minDelayMillis, TimeUnit.NANOSECONDS.toMillis(sorted[index]));
+    }
+
+    void hedgeFired(String httpMethod, URI uri) {
+        if (listener != null) {
+            listener.hedgeFired(httpMethod, uri);
+        }
+    }
+
+    void hedgeWon(String httpMethod, URI uri) {
+        if (listener != null) {
+            listener.hedgeWon(httpMethod, uri);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.jboss.resteasy.reactive.client.impl;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.net.KeyCertOptions;
+import io.vertx.core.net.TrustOptions;
+
+/**
+ * Derives the name of a shared HTTP client if the REST client does not declare one.
+ * <p>
+ * Vert.x shares a client between all users of the same name, using the options of the first one. Therefore, only REST
+ * clients with the same options get the same name. The key and trust options are not part of the JSON representation
+ * and are compared by value, so that REST clients that create equal TLS options per instance share the client and do
+ * not register a new name each. Vert.x does not override {@code hashCode()} for these options, only their class is
+ * hashed. Options that do not implement {@code equals()}, e.g. the ones wrapping a {@code KeyManagerFactory}, are
+ * compared by identity.
+ */
+final class SharedHttpClientNames {
+
+    static final String PREFIX = "__rest-client.shared.";
+
+    private static final ConcurrentMap<Key, String> NAMES = new ConcurrentHashMap<>();
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    private SharedHttpClientNames() {
+    }
+
+    static String nameFor(HttpClientOptions options) {
+        Key key = new Key(options.toJson().encode(), options.getKeyCertOptions(), options.getTrustOptions());
+        return NAMES.computeIfAbsent(key, new Function<>() {
+            @Override
+            public String apply(Key key) {
+                return PREFIX + COUNTER.getAndIncrement();
+            }
+        });
+    }
+
+    private record Key(String options, KeyCertOptions keyCertOptions, TrustOptions trustOptions) {
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            return obj instanceof Key other
+                    && options.equals(other.options)
+                    && Objects.equals(keyCertOptions, other.keyCertOptions)
+                    && Objects.equals(trustOptions, other.trustOptions);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * options.hashCode() + classHash(keyCertOptions)) + classHash(trustOptions);
+        }
+
+        private static int classHash(Object tlsOptions) {
+            return tlsOptions == null ? 0 : tlsOptions.getClass().hashCode();
+        }
+    }
+
+}
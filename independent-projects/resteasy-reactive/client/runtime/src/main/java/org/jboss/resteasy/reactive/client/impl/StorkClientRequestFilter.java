@@ -2,7 +2,10 @@
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 import jakarta.annotation.Priority;
 import jakarta.ws.rs.Priorities;
@@ -15,7 +18,10 @@
 import org.jboss.resteasy.reactive.client.spi.ResteasyReactiveClientRequestFilter;
 
 import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
 import io.smallrye.stork.Stork;
+import io.smallrye.stork.api.Service;
+import io.smallrye.stork.api.ServiceInstance;
 
 @Priority(Priorities.AUTHENTICATION)
 @Provider
@@ -23,6 +29,16 @@ public class StorkClientRequestFilter implements ResteasyReactiveClientRequestFi
 
     private static final Logger log = Logger.getLogger(StorkClientRequestFilter.class);
 
+    /**
+     * The id of the service instance selected for the request.
+     */
+    static final String SELECTED_INSTANCE_ID = "io.quarkus.rest.client.stork.selected-instance-id";
+    /**
+     * The id of a service instance that should not be selected for the request if there are other instances, e.g.
+     * because a hedged request should go to a different instance than the original one.
+     */
+    static final String EXCLUDED_INSTANCE_ID = "io.quarkus.rest.client.stork.excluded-instance-id";
+
     private final Stork stork;
 
     public StorkClientRequestFilter() {
@@ -51,8 +67,12 @@ public void filter(ResteasyReactiveClientRequestContext requestContext) {
             requestContext.suspend();
             boolean measureTime = shouldMeasureTime(requestContext.getResponseType());
             try {
-                stork.getService(serviceName)
-                        .selectInstanceAndRecordStart(measureTime)
+                Service service = stork.getService(serviceName);
+                Object excludedInstanceId = requestContext.getProperty(EXCLUDED_INSTANCE_ID);
+                Uni<ServiceInstance> selectedInstance = excludedInstanceId == null
+                        ? service.selectInstanceAndRecordStart(measureTime)
+                        : selectOtherInstance(service, (long) excludedInstanceId, measureTime);
+                selectedInstance
                         .subscribe()
                         .with(instance -> {
                             boolean isHttps = instance.isSecure() || "storks".equals(uri.getScheme());
@@ -93,6 +113,7 @@ public void filter(ResteasyReactiveClientRequestContext requestContext) {
                                         null, uri.getQuery(), uri.getFragment());
                                 URI build = UriBuilder.fromUri(newUri).path(actualPath).build();
                                 requestContext.setUri(build);
+                                requestContext.setProperty(SELECTED_INSTANCE_ID, instance.getId());
                                 if (measureTime && instance.gatherStatistics()) {
                                     requestContext.setCallStatsCollector(instance);
                                 }
@@ -110,6 +131,22 @@ public void filter(ResteasyReactiveClientRequestContext requestContext) {
 
     }
 
+    private Uni<ServiceInstance> selectOtherInstance(Service service, long excludedInstanceId, boolean measureTime) {
+        return service.getInstances().map(new Function<List<ServiceInstance>, ServiceInstance>() {
+            @Override
+            public ServiceInstance apply(List<ServiceInstance> instances) {
+                List<ServiceInstance> others = new ArrayList<>(instances.size());
+                for (ServiceInstance instance : instances) {
+                    if (instance.getId() != excludedInstanceId) {
+                        others.add(instance);
+                    }
+                }
+                // fall back to all the instances if the excluded one is the only one
+                return service.selectInstanceAndRecordStart(others.isEmpty() ? instances : others, measureTime);
+            }
+        });
+    }
+
     private boolean shouldMeasureTime(GenericType<?> responseType) {
         return !Multi.class.equals(responseType.getRawType());
     }
@@ -25,6 +25,10 @@ public UniInvoker(InvocationBuilderImpl invocationBuilder) {
     @Override
     public <R> Uni<R> method(String name, Entity<?> entity, GenericType<R> responseType) {
         AsyncInvokerImpl invoker = (AsyncInvokerImpl) invocationBuilder.rx();
+        HedgingPolicy hedgingPolicy = invoker.restClient.hedgingPolicy;
+        if (hedgingPolicy != null && hedgingPolicy.appliesTo(name, entity)) {
+            return new HedgedInvocation<>(invoker, hedgingPolicy, name, responseType).uni();
+        }
         AtomicReference<RestClientRequestContext> restClientRequestContextRef = new AtomicReference<>();
         return Uni.createFrom().completionStage(new Supplier<CompletionStage<R>>() {
             @Override
@@ -1,5 +1,6 @@
 package org.jboss.resteasy.reactive.client.impl;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -11,9 +12,13 @@
 import jakarta.ws.rs.client.ClientRequestContext;
 import jakarta.ws.rs.client.ClientRequestFilter;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ContextResolver;
 
+import org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties;
 import org.junit.jupiter.api.Test;
 
+import io.vertx.core.http.HttpClientOptions;
+
 public class ClientBuilderTest {
 
     @Test
@@ -36,6 +41,46 @@ void configurationCopiedOnBuild() {
         }
     }
 
+    @Test
+    void sharedClientMonitoredByName() {
+        HttpClientOptions options = new HttpClientOptions();
+        Client client = ClientBuilder.newBuilder()
+                .register(new FixedHttpClientOptions(options))
+                .property(QuarkusRestClientProperties.NAME, "my-client")
+                .property(QuarkusRestClientProperties.SHARED, true)
+                .build();
+        try (client) {
+            assertEquals("rest-client|my-client", options.getMetricsName());
+        }
+    }
+
+    @Test
+    void sharedClientKeepsExplicitMetricsName() {
+        HttpClientOptions options = new HttpClientOptions().setMetricsName("my-metrics");
+        Client client = ClientBuilder.newBuilder()
+                .register(new FixedHttpClientOptions(options))
+                .property(QuarkusRestClientProperties.NAME, "my-client")
+                .property(QuarkusRestClientProperties.SHARED, true)
+                .build();
+        try (client) {
+            assertEquals("my-metrics", options.getMetricsName());
+        }
+    }
+
+    public static class FixedHttpClientOptions implements ContextResolver<HttpClientOptions> {
+
+        private final HttpClientOptions options;
+
+        public FixedHttpClientOptions(HttpClientOptions options) {
+            this.options = options;
+        }
+
+        @Override
+        public HttpClientOptions getContext(Class<?> type) {
+            return options;
+        }
+    }
+
     public static class Always500 implements ClientRequestFilter {
 
         @Override
@@ -0,0 +1,52 @@
+package org.jboss.resteasy.reactive.client.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class HedgingPolicyTest {
+
+    @Test
+    void minDelayUntilEnoughSamples() {
+        HedgingPolicy policy = new HedgingPolicy(90, 20, null);
+        for (int i = 0; i < HedgingPolicy.RECOMPUTE_INTERVAL - 1; i++) {
+            policy.recordResponseTime(TimeUnit.MILLISECONDS.toNanos(500));
+        }
+        assertEquals(20, policy.delayMillis());
+        policy.recordResponseTime(TimeUnit.MILLISECONDS.toNanos(500));
+        assertEquals(500, policy.delayMillis());
+    }
+
+    @Test
+    void percentileOfRecentResponseTimes() {
+        HedgingPolicy policy = new HedgingPolicy(90, 1, null);
+        for (int i = 1; i <= HedgingPolicy.WINDOW_SIZE; i++) {
+            policy.recordResponseTime(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        assertEquals(231, policy.delayMillis());
+        // the oldest samples are replaced
+        for (int i = 0; i < HedgingPolicy.WINDOW_SIZE; i++) {
+            policy.recordResponseTime(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        assertEquals(10, policy.delayMillis());
+    }
+
+    @Test
+    void onlyIdempotentRequestsWithoutBody() {
+        HedgingPolicy policy = new HedgingPolicy(90, 1, null);
+        assertTrue(policy.appliesTo("GET", null));
+        assertTrue(policy.appliesTo("HEAD", null));
+        assertFalse(policy.appliesTo("POST", null));
+        assertFalse(policy.appliesTo("GET", "body"));
+    }
+
+    @Test
+    void invalidPercentile() {
+        assertThrows(IllegalArgumentException.class, () -> new HedgingPolicy(100, 1, null));
+    }
+}
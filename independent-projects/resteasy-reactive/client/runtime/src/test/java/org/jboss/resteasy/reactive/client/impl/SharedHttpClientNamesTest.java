@@ -0,0 +1,43 @@
+package org.jboss.resteasy.reactive.client.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.net.JksOptions;
+import io.vertx.core.net.PemKeyCertOptions;
+
+public class SharedHttpClientNamesTest {
+
+    @Test
+    void sameOptionsSameName() {
+        String name = SharedHttpClientNames.nameFor(new HttpClientOptions().setMaxPoolSize(42));
+        assertTrue(name.startsWith(SharedHttpClientNames.PREFIX));
+        assertEquals(name, SharedHttpClientNames.nameFor(new HttpClientOptions().setMaxPoolSize(42)));
+    }
+
+    @Test
+    void differentOptionsDifferentName() {
+        assertNotEquals(SharedHttpClientNames.nameFor(new HttpClientOptions().setMaxPoolSize(43)),
+                SharedHttpClientNames.nameFor(new HttpClientOptions().setMaxPoolSize(44)));
+    }
+
+    @Test
+    void tlsOptionsComparedByValue() {
+        String name = SharedHttpClientNames.nameFor(new HttpClientOptions()
+                .setTrustOptions(new JksOptions().setPath("truststore.jks"))
+                .setKeyCertOptions(new PemKeyCertOptions().setCertPath("cert.pem").setKeyPath("key.pem")));
+        // Options created per client instance get the same name
+        assertEquals(name, SharedHttpClientNames.nameFor(new HttpClientOptions()
+                .setTrustOptions(new JksOptions().setPath("truststore.jks"))
+                .setKeyCertOptions(new PemKeyCertOptions().setCertPath("cert.pem").setKeyPath("key.pem"))));
+        assertNotEquals(name, SharedHttpClientNames.nameFor(new HttpClientOptions()
+                .setTrustOptions(new JksOptions().setPath("other-truststore.jks"))
+                .setKeyCertOptions(new PemKeyCertOptions().setCertPath("cert.pem").setKeyPath("key.pem"))));
+        assertNotEquals(name, SharedHttpClientNames.nameFor(new HttpClientOptions()
+                .setTrustOptions(new JksOptions().setPath("truststore.jks"))));
+    }
+}
@@ -0,0 +1,121 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper.RequestMatch;
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper.RequestPath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the {@link RequestMapper}.
+ * <p>
+ * The synthetic application consists of {@code resources} resources, each with {@link #TEMPLATES} endpoints, i.e. the
+ * default value results in 1200 endpoints. Every invocation maps {@link #PATHS} random request paths.
+ * <p>
+ * Build the module with {@code -Dbaseline} to benchmark the mapper of the released version pinned in the
+ * {@code resteasy-reactive.baseline.version} property and compare the results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestMapperBenchmark {
+
+    static final String[] TEMPLATES = {
+            "",
+            "/",
+            "/{id}",
+            "/{id}/items",
+            "/{id}/items/{itemId}",
+            "/{id}/items/{itemId}/details",
+            "/{id:\\d+}/history",
+            "/search",
+            "/search/{term}",
+            "/{id}-{version}",
+            "/export/csv",
+            "/export/json",
+    };
+
+    static final int PATHS = 1024;
+
+    @Param({ "10", "100" })
+    int resources;
+
+    private RequestMapper<String> mapper;
+    private String[] paths;
+
+    @Setup
+    public void setup() {
+        ArrayList<RequestPath<String>> templates = new ArrayList<>();
+        for (int i = 0; i < resources; i++) {
+            for (String template : TEMPLATES) {
+                String path = "/api/resource" + i + template;
+                templates.add(new RequestPath<>(false, new URITemplate(path, false), path));
+            }
+        }
+        mapper = new RequestMapper<>(templates);
+
+        Random random = new Random(42);
+        List<String> requestPaths = new ArrayList<>();
+        for (int i = 0; i < PATHS; i++) {
+            String resource = "/api/resource" + random.nextInt(resources);
+            int id = random.nextInt(100_000);
+            switch (random.nextInt(8)) {
+                case 0:
+                    requestPaths.add(resource);
+                    break;
+                case 1:
+                    requestPaths.add(resource + "/" + id);
+                    break;
+                case 2:
+                    requestPaths.add(resource + "/" + id + "/items");
+                    break;
+                case 3:
+                    requestPaths.add(resource + "/" + id + "/items/" + random.nextInt(100) + "/details");
+                    break;
+                case 4:
+                    requestPaths.add(resource + "/" + id + "/history");
+                    break;
+                case 5:
+                    requestPaths.add(resource + "/search/foo");
+                    break;
+                case 6:
+                    requestPaths.add(resource + "/" + id + "-" + random.nextInt(10));
+                    break;
+                default:
+                    // Not found
+                    requestPaths.add(resource + "/" + id + "/unknown/path");
+                    break;
+            }
+        }
+        paths = requestPaths.toArray(new String[0]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PATHS)
+    public void map(Blackhole blackhole) {
+        RequestMapper<String> mapper = this.mapper;
+        for (String path : paths) {
+            RequestMatch<String> match = mapper.map(path);
+            blackhole.consume(match);
+        }
+    }
+
+}
@@ -0,0 +1,115 @@
+package org.jboss.resteasy.reactive.server.vertx;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.buffer.impl.VertxByteBufAllocator;
+
+/**
+ * Compares serializing a JSON response into an intermediate {@code byte[]} that is then copied into a pooled buffer,
+ * with serializing it straight into a pooled buffer via {@link BufferedResponseOutputStream}.
+ * <p>
+ * The interesting metric is the allocation rate per response, i.e. run with the GC profiler:
+ * {@code java -jar target/benchmarks.jar JsonResponseBenchmark -prof gc} and compare {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonResponseBenchmark {
+
+    @Param({ "1024", "65536", "1048576" })
+    int payloadSize;
+
+    private ObjectWriter writer;
+    private List<Item> payload;
+
+    @Setup
+    public void setup() throws IOException {
+        writer = new ObjectMapper().writer();
+        payload = new ArrayList<>();
+        // Every item is serialized to roughly 64 bytes
+        for (int i = 0; i < payloadSize / 64; i++) {
+            payload.add(new Item(i, "item-" + i, "description of item " + i));
+        }
+    }
+
+    @Benchmark
+    public int byteArray() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.writeValue(out, payload);
+        byte[] bytes = out.toByteArray();
+        ByteBuf buffer = VertxByteBufAllocator.POOLED_ALLOCATOR.directBuffer(bytes.length);
+        buffer.writeBytes(bytes);
+        return consume(buffer);
+    }
+
+    @Benchmark
+    public int directBuffer() throws IOException {
+        BodyHolder holder = new BodyHolder();
+        writer.writeValue(holder.stream, payload);
+        holder.stream.close();
+        return consume(holder.body);
+    }
+
+    private static int consume(ByteBuf buffer) {
+        int size = buffer.readableBytes();
+        buffer.release();
+        return size;
+    }
+
+    static final class BodyHolder {
+
+        ByteBuf body;
+
+        final BufferedResponseOutputStream stream = new BufferedResponseOutputStream(VertxByteBufAllocator.POOLED_ALLOCATOR,
+                Integer.MAX_VALUE) {
+
+            @Override
+            protected void endResponse(ByteBuf body) {
+                BodyHolder.this.body = body;
+            }
+
+            @Override
+            protected OutputStream createOverflowStream() {
+                throw new IllegalStateException();
+            }
+        };
+    }
+
+    public static class Item {
+
+        public final int id;
+        public final String name;
+        public final String description;
+
+        Item(int id, String name, String description) {
+            this.id = id;
+            this.name = name;
+            this.description = description;
+        }
+    }
+
+}
@@ -0,0 +1,173 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An immutable radix tree used to find the longest registered prefix of a path.
+ * <p>
+ * The lookup is done in a single pass over the path, i.e. no hash is computed for every registered prefix length, and
+ * no objects are allocated.
+ */
+final class PrefixTrie<T> implements Dumpable {
+
+    private final Node<T> root;
+
+    private PrefixTrie(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * @param path the request path
+     * @return the node of the longest registered prefix of the given path, or {@code null} if no prefix matches
+     */
+    Node<T> longestPrefix(String path) {
+        Node<T> match = null;
+        Node<T> current = root;
+        int pos = 0;
+        int pathLength = path.length();
+        while (pos < pathLength) {
+            Node<T> next = current.child(path.charAt(pos));
+            if (next == null) {
+                break;
+            }
+            String label = next.label;
+            if (!path.regionMatches(pos, label, 0, label.length())) {
+                break;
+            }
+            pos += label.length();
+            if (next.value != null) {
+                match = next;
+            }
+            current = next;
+        }
+        return match;
+    }
+
+    @Override
+    public void dump(int level) {
+        dump(root, "", level);
+    }
+
+    private void dump(Node<T> node, String prefix, int level) {
+        String path = prefix + node.label;
+        if (node.value != null) {
+            indent(level);
+            System.err.println(path + ": ");
+            if (node.value instanceof Collection) {
+                for (Object value : (Collection<?>) node.value) {
+                    if (value instanceof Dumpable) {
+                        ((Dumpable) value).dump(level + 1);
+                    }
+                }
+            } else if (node.value instanceof Dumpable) {
+                ((Dumpable) node.value).dump(level + 1);
+            }
+        }
+        for (Node<T> child : node.children) {
+            dump(child, path, level);
+        }
+    }
+
+    static final class Node<T> {
+
+        private final String label;
+        private final char[] firstChars;
+        private final Node<T>[] children;
+
+        /**
+         * The registered value, or {@code null} if this node represents a common prefix only.
+         */
+        final T value;
+
+        /**
+         * The length of the prefix represented by this node.
+         */
+        final int length;
+
+        Node(String label, char[] firstChars, Node<T>[] children, T value, int length) {
+            this.label = label;
+            this.firstChars = firstChars;
+            this.children = children;
+            this.value = value;
+            this.length = length;
+        }
+
+        private Node<T> child(char c) {
+            char[] firstChars = this.firstChars;
+            if (firstChars.length < 8) {
+                for (int i = 0; i < firstChars.length; i++) {
+                    if (firstChars[i] == c) {
+                        return children[i];
+                    }
+                }
+                return null;
+            }
+            int idx = Arrays.binarySearch(firstChars, c);
+            return idx < 0 ? null : children[idx];
+        }
+
+    }
+
+    static final class Builder<T> {
+
+        private final TreeMap<String, T> entries = new TreeMap<>();
+
+        Builder<T> put(String prefix, T value) {
+            if (prefix.isEmpty()) {
+                throw new IllegalArgumentException("Prefix must not be empty");
+            }
+            entries.put(prefix, value);
+            return this;
+        }
+
+        PrefixTrie<T> build() {
+            return new PrefixTrie<>(buildNode("", 0, new ArrayList<>(entries.entrySet()), null));
+        }
+
+        /**
+         * @param entries the sorted entries that share the first {@code offset} characters
+         */
+        @SuppressWarnings("unchecked")
+        private Node<T> buildNode(String label, int offset, List<Map.Entry<String, T>> entries, T value) {
+            List<Character> firstChars = new ArrayList<>();
+            List<Node<T>> children = new ArrayList<>();
+            int start = 0;
+            while (start < entries.size()) {
+                char c = entries.get(start).getKey().charAt(offset);
+                int end = start + 1;
+                while (end < entries.size() && entries.get(end).getKey().charAt(offset) == c) {
+                    end++;
+                }
+                List<Map.Entry<String, T>> group = entries.subList(start, end);
+                // The keys are sorted - the common prefix of the group is the common prefix of the first and the last key
+                String first = group.get(0).getKey();
+                String last = group.get(group.size() - 1).getKey();
+                int prefixEnd = offset + 1;
+                while (prefixEnd < first.length() && prefixEnd < last.length()
+                        && first.charAt(prefixEnd) == last.charAt(prefixEnd)) {
+                    prefixEnd++;
+                }
+                T childValue = null;
+                if (first.length() == prefixEnd) {
+                    childValue = group.get(0).getValue();
+                    group = group.subList(1, group.size());
+                }
+                firstChars.add(c);
+                children.add(buildNode(first.substring(offset, prefixEnd), prefixEnd, group, childValue));
+                start = end;
+            }
+            char[] chars = new char[firstChars.size()];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = firstChars.get(i);
+            }
+            return new Node<>(label, chars, children.toArray(new Node[0]), value, offset);
+        }
+
+    }
+
+}
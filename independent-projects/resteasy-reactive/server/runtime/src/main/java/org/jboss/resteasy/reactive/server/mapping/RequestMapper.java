@@ -11,14 +11,15 @@
 public class RequestMapper<T> {
 
     private static final String[] EMPTY_STRING_ARRAY = new String[0];
+    private static final String ROOT = "/";
 
-    private final PathMatcher<ArrayList<RequestPath<T>>> requestPaths;
-    private final PathMatcher.Builder<ArrayList<RequestPath<T>>> pathMatcherBuilder;
+    private final PrefixTrie<ArrayList<RequestPath<T>>> stems;
+    private final ArrayList<RequestPath<T>> rootPaths;
     private final ArrayList<RequestPath<T>> templates;
     final int maxParams;
 
     public RequestMapper(ArrayList<RequestPath<T>> templates) {
-        pathMatcherBuilder = new PathMatcher.Builder<>();
+        PrefixTrie.Builder<ArrayList<RequestPath<T>>> stemsBuilder = new PrefixTrie.Builder<>();
         this.templates = templates;
         int max = 0;
         Map<String, ArrayList<RequestPath<T>>> aggregates = new HashMap<>();
@@ -34,11 +35,14 @@ public RequestMapper(ArrayList<RequestPath<T>> templates) {
             @Override
             public void accept(String stem, ArrayList<RequestPath<T>> list) {
                 Collections.sort(list);
-                pathMatcherBuilder.addPrefixPath(stem, list);
+                if (!ROOT.equals(stem)) {
+                    stemsBuilder.put(stem, list);
+                }
             }
         });
         maxParams = max;
-        requestPaths = pathMatcherBuilder.build();
+        stems = stemsBuilder.build();
+        rootPaths = aggregates.get(ROOT);
     }
 
     /**
@@ -48,13 +52,16 @@ public void accept(String stem, ArrayList<RequestPath<T>> list) {
      * @return best RequestMatch, or null if the path has no match
      */
     public RequestMatch<T> map(String path) {
-        var result = mapFromPathMatcher(path, requestPaths.match(path), 0);
-        if (result != null) {
-            return result;
+        PrefixTrie.Node<ArrayList<RequestPath<T>>> stem = stems.longestPrefix(path);
+        if (stem != null) {
+            var result = mapFromCandidates(path, stem.value, stem.length, 0);
+            if (result != null) {
+                return result;
+            }
         }
 
         // the following code is meant to handle cases like https://github.com/quarkusio/quarkus/issues/30667
-        return mapFromPathMatcher(path, requestPaths.defaultMatch(path), 0);
+        return mapFromCandidates(path, rootPaths, ROOT.length(), 0);
     }
 
     /**
@@ -68,33 +75,29 @@ public RequestMatch<T> continueMatching(String path, RequestMatch<T> lastMatch)
             return null;
         }
 
-        var initialMatches = requestPaths.match(path);
-        var result = mapFromPathMatcher(path, initialMatches, 0);
-        if (result != null) {
-            int idx = nextMatchStartingIndex(initialMatches, lastMatch);
-            return mapFromPathMatcher(path, initialMatches, idx);
+        PrefixTrie.Node<ArrayList<RequestPath<T>>> stem = stems.longestPrefix(path);
+        if (stem != null && mapFromCandidates(path, stem.value, stem.length, 0) != null) {
+            int idx = nextMatchStartingIndex(stem.value, lastMatch);
+            return mapFromCandidates(path, stem.value, stem.length, idx);
         }
 
         // the following code is meant to handle cases like https://github.com/quarkusio/quarkus/issues/30667
-        initialMatches = requestPaths.defaultMatch(path);
-        result = mapFromPathMatcher(path, initialMatches, 0);
-        if (result != null) {
-            int idx = nextMatchStartingIndex(initialMatches, lastMatch);
-            return mapFromPathMatcher(path, initialMatches, idx);
+        if (mapFromCandidates(path, rootPaths, ROOT.length(), 0) != null) {
+            int idx = nextMatchStartingIndex(rootPaths, lastMatch);
+            return mapFromCandidates(path, rootPaths, ROOT.length(), idx);
         }
         return null;
     }
 
-    private int nextMatchStartingIndex(PathMatcher.PathMatch<ArrayList<RequestPath<T>>> initialMatches,
-            RequestMatch<T> current) {
-        if (initialMatches.getValue() == null || initialMatches.getValue().isEmpty()) {
+    private int nextMatchStartingIndex(ArrayList<RequestPath<T>> candidates, RequestMatch<T> current) {
+        if (candidates == null || candidates.isEmpty()) {
             return -1;
         }
-        for (int i = 0; i < initialMatches.getValue().size(); i++) {
-            if (initialMatches.getValue().get(i).template == current.template) {
+        for (int i = 0; i < candidates.size(); i++) {
+            if (candidates.get(i).template == current.template) {
                 i++;
 
-                if (i < initialMatches.getValue().size()) {
+                if (i < candidates.size()) {
                     return i;
                 }
                 return -1;
@@ -104,21 +107,27 @@ private int nextMatchStartingIndex(PathMatcher.PathMatch<ArrayList<RequestPath<T
         return -1;
     }
 
+    /**
+     * The values of {@link URITemplate.Type#DEFAULT_REGEX} components are not extracted until a template matches. Instead,
+     * the boundaries of each value are stored in the {@code bounds} array; {@code -1} means that the value was already
+     * extracted by a {@link Matcher}. The params array is shared by all candidates and the unused slots are cleared before
+     * the match is returned.
+     */
     @SuppressWarnings({ "rawtypes", "unchecked" })
-    private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<ArrayList<RequestPath<T>>> initialMatches,
+    private RequestMatch<T> mapFromCandidates(String path, ArrayList<RequestPath<T>> candidates, int stemLength,
             int startIdx) {
-        var value = initialMatches.getValue();
-        if (value == null || startIdx < 0) {
+        if (candidates == null || startIdx < 0) {
             return null;
         }
         int pathLength = path.length();
-        for (int index = startIdx; index < value.size(); index++) {
-            RequestPath<T> potentialMatch = value.get(index);
-            String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+        String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+        int[] bounds = null;
+        for (int index = startIdx; index < candidates.size(); index++) {
+            RequestPath<T> potentialMatch = candidates.get(index);
             int paramCount = 0;
             boolean matched = true;
             boolean prefixAllowed = potentialMatch.prefixTemplate;
-            int matchPos = initialMatches.getMatched().length();
+            int matchPos = stemLength;
             for (int i = 1; i < potentialMatch.template.components.length; ++i) {
                 URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
                 if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
@@ -135,23 +144,20 @@ private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<Ar
                         matchPos++;
                     }
                     for (String group : segment.groups) {
+                        if (bounds == null) {
+                            bounds = new int[params.length * 2];
+                        }
+                        bounds[paramCount * 2] = -1;
                         params[paramCount++] = matcher.group(group);
                     }
                 } else if (segment.type == URITemplate.Type.LITERAL) {
                     //make sure the literal text is the same
-                    if (matchPos + segment.literalText.length() > pathLength) {
+                    String literal = segment.literalText;
+                    if (!path.regionMatches(matchPos, literal, 0, literal.length())) {
                         matched = false;
-                        break; //too long
-                    }
-                    for (int pos = 0; pos < segment.literalText.length(); ++pos) {
-                        if (path.charAt(matchPos++) != segment.literalText.charAt(pos)) {
-                            matched = false;
-                            break;
-                        }
-                    }
-                    if (!matched) {
                         break;
                     }
+                    matchPos += literal.length();
                 } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
                     if (matchPos == pathLength) {
                         matched = false;
@@ -161,15 +167,17 @@ private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<Ar
                     while (matchPos < pathLength && path.charAt(matchPos) != '/') {
                         matchPos++;
                     }
-                    params[paramCount++] = path.substring(start, matchPos);
+                    if (bounds == null) {
+                        bounds = new int[params.length * 2];
+                    }
+                    bounds[paramCount * 2] = start;
+                    bounds[paramCount * 2 + 1] = matchPos;
+                    paramCount++;
                 }
             }
             if (!matched) {
                 continue;
             }
-            if (paramCount < params.length) {
-                params[paramCount] = null;
-            }
             boolean fullMatch = matchPos == pathLength;
             boolean doPrefixMatch = false;
             if (!fullMatch) {
@@ -181,6 +189,15 @@ private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<Ar
                 }
             }
             if (fullMatch || doPrefixMatch) {
+                for (int i = 0; i < paramCount; i++) {
+                    int start = bounds[i * 2];
+                    if (start != -1) {
+                        params[i] = path.substring(start, bounds[i * 2 + 1]);
+                    }
+                }
+                if (paramCount < params.length) {
+                    Arrays.fill(params, paramCount, params.length, null);
+                }
                 String remaining;
                 if (fullMatch) {
                     remaining = "";
@@ -256,11 +273,13 @@ public String toString() {
     }
 
     public void dump() {
-        this.requestPaths.dump(0);
-    }
-
-    public PathMatcher<ArrayList<RequestPath<T>>> getRequestPaths() {
-        return requestPaths;
+        stems.dump(0);
+        System.err.println("Root paths: ");
+        if (rootPaths != null) {
+            for (RequestPath<T> path : rootPaths) {
+                path.dump(1);
+            }
+        }
     }
 
     public ArrayList<RequestPath<T>> getTemplates() {
@@ -0,0 +1,84 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper.RequestMatch;
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper.RequestPath;
+import org.junit.jupiter.api.Test;
+
+public class RequestMapperTest {
+
+    @Test
+    public void testLiteralAndParams() {
+        RequestMapper<String> mapper = mapper("/users", "/users/{id}", "/users/{id}/orders/{orderId}", "/users/me",
+                "/products/{id}-{version}");
+        assertMatch(mapper.map("/users"), "/users", "");
+        assertMatch(mapper.map("/users/me"), "/users/me", "");
+        assertMatch(mapper.map("/users/42"), "/users/{id}", "", "42");
+        assertMatch(mapper.map("/users/42/orders/7"), "/users/{id}/orders/{orderId}", "", "42", "7");
+        assertMatch(mapper.map("/products/foo-2"), "/products/{id}-{version}", "", "foo", "2");
+        assertNull(mapper.map("/users/42/orders"));
+        assertNull(mapper.map("/other"));
+        assertNull(mapper.map("/use"));
+    }
+
+    @Test
+    public void testCustomRegex() {
+        RequestMapper<String> mapper = mapper("/items/{id:\\d+}", "/items/{name}", "/files/{path:.*}");
+        assertMatch(mapper.map("/items/123"), "/items/{id:\\d+}", "", "123");
+        assertMatch(mapper.map("/items/abc"), "/items/{name}", "", "abc");
+        assertMatch(mapper.map("/files/a/b/c.txt"), "/files/{path:.*}", "", "a/b/c.txt");
+    }
+
+    @Test
+    public void testLongestPrefixAndRoot() {
+        RequestMapper<String> mapper = prefixMapper("/", "/api", "/api/v1", "/apis");
+        assertMatch(mapper.map("/api/v1/foo"), "/api/v1", "/foo");
+        assertMatch(mapper.map("/api/v2"), "/api", "/v2");
+        assertMatch(mapper.map("/apis/foo"), "/apis", "/foo");
+        assertMatch(mapper.map("/other"), "/", "/other");
+        assertMatch(mapper.map("/"), "/", "");
+    }
+
+    @Test
+    public void testContinueMatching() {
+        RequestMapper<String> mapper = prefixMapper("/", "/a/{id}", "/a/{id}/b");
+        RequestMatch<String> match = mapper.map("/a/1/b/c");
+        assertMatch(match, "/a/{id}/b", "/c", "1");
+        match = mapper.continueMatching("/a/1/b/c", match);
+        assertMatch(match, "/a/{id}", "/b/c", "1");
+        assertNull(mapper.continueMatching("/a/1/b/c", match));
+    }
+
+    private static RequestMapper<String> mapper(String... templates) {
+        return mapper(false, templates);
+    }
+
+    private static RequestMapper<String> prefixMapper(String... templates) {
+        return mapper(true, templates);
+    }
+
+    private static RequestMapper<String> mapper(boolean prefix, String... templates) {
+        ArrayList<RequestPath<String>> paths = new ArrayList<>();
+        for (String template : templates) {
+            paths.add(new RequestPath<>(prefix, new URITemplate(template, prefix), template));
+        }
+        return new RequestMapper<>(paths);
+    }
+
+    private static void assertMatch(RequestMatch<String> match, String expectedValue, String expectedRemaining,
+            String... expectedParams) {
+        assertEquals(expectedValue, match.value);
+        assertEquals(expectedRemaining, match.remaining);
+        assertArrayEquals(expectedParams, Arrays.copyOf(match.pathParamValues, expectedParams.length));
+        for (int i = expectedParams.length; i < match.pathParamValues.length; i++) {
+            assertNull(match.pathParamValues[i]);
+        }
+    }
+
+}
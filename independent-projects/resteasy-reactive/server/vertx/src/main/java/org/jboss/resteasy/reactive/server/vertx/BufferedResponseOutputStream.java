@@ -0,0 +1,141 @@
+package org.jboss.resteasy.reactive.server.vertx;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+
+/**
+ * An {@link OutputStream} that collects the response body in a single pooled {@link ByteBuf} and ends the response with
+ * it when closed. Unlike the stream returned by {@link VertxResteasyReactiveRequestContext#createResponseOutputStream()}
+ * no per-response handlers or intermediate chunks are needed, and the {@code Content-Length} of the response is known.
+ * <p>
+ * Once the body exceeds the given limit, the bytes collected so far are written to the
+ * {@link #createOverflowStream() overflow stream} which then receives the rest of the body, i.e. large bodies are still
+ * streamed in chunks.
+ */
+public abstract class BufferedResponseOutputStream extends OutputStream {
+
+    // The initial capacity of the buffer if the body starts with a single byte, the buffer grows as needed
+    private static final int SINGLE_BYTE_INITIAL_CAPACITY = 256;
+
+    private final ByteBufAllocator allocator;
+    private final int limit;
+
+    private ByteBuf buffer;
+    private OutputStream overflow;
+    private boolean closed;
+
+    /**
+     * @param allocator the allocator used for the body buffer
+     * @param limit the maximum number of bytes collected before switching to the overflow stream
+     */
+    protected BufferedResponseOutputStream(ByteBufAllocator allocator, int limit) {
+        this.allocator = allocator;
+        this.limit = limit;
+    }
+
+    /**
+     * Ends the response with the collected body. The ownership of the buffer is transferred to this method.
+     *
+     * @param body the collected body, or {@code null} if nothing was written
+     */
+    protected abstract void endResponse(ByteBuf body) throws IOException;
+
+    /**
+     * @return the stream used for the rest of the body once the limit is exceeded
+     */
+    protected abstract OutputStream createOverflowStream() throws IOException;
+
+    @Override
+    public void write(int b) throws IOException {
+        if (closed) {
+            throw new IOException("Stream is closed");
+        }
+        if (overflow == null) {
+            int size = buffer == null ? 0 : buffer.readableBytes();
+            if (size < limit) {
+                if (buffer == null) {
+                    buffer = allocator.directBuffer(Math.min(SINGLE_BYTE_INITIAL_CAPACITY, limit), limit);
+                }
+                buffer.writeByte(b);
+                return;
+            }
+            switchToOverflow();
+        }
+        overflow.write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (closed) {
+            throw new IOException("Stream is closed");
+        }
+        if (len < 1) {
+            return;
+        }
+        if (overflow == null) {
+            int size = buffer == null ? 0 : buffer.readableBytes();
+            if (size + len <= limit) {
+                if (buffer == null) {
+                    // Jackson and most other serializers flush their own buffer only once, so this is usually the whole body
+                    buffer = allocator.directBuffer(len, limit);
+                }
+                buffer.writeBytes(b, off, len);
+                return;
+            }
+            switchToOverflow();
+        }
+        overflow.write(b, off, len);
+    }
+
+    private void switchToOverflow() throws IOException {
+        overflow = createOverflowStream();
+        ByteBuf collected = buffer;
+        if (collected != null) {
+            buffer = null;
+            try {
+                collected.readBytes(overflow, collected.readableBytes());
+            } finally {
+                collected.release();
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        // the collected bytes are only written when the stream is closed
+        if (overflow != null) {
+            overflow.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (overflow != null) {
+            overflow.close();
+        } else {
+            ByteBuf body = buffer;
+            buffer = null;
+            endResponse(body);
+        }
+    }
+
+    /**
+     * Releases the collected bytes without ending the response, e.g. if the serialization failed and the exception is
+     * about to be mapped to a different response.
+     */
+    public void discard() {
+        closed = true;
+        if (buffer != null) {
+            buffer.release();
+            buffer = null;
+        }
+    }
+
+}
@@ -33,6 +33,7 @@
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
 import org.jboss.resteasy.reactive.spi.ThreadSetupAction;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.EventLoop;
@@ -213,6 +214,9 @@ public void closeConnection() {
         request.connection().close();
     }
 
+    // The query params are not decoded per name from the raw query string: the RoutingContext decodes the query string on
+    // first access only, into a case-insensitive MultiMap that route handlers and setQueryParamsFrom() may modify, so the
+    // MultiMap is the only consistent view of the params
     @Override
     public String getQueryParam(String name) {
         return context.queryParams().get(name);
@@ -508,6 +512,35 @@ public OutputStream createResponseOutputStream() {
                         config.getOutputBufferSize()));
     }
 
+    /**
+     * Returns a stream that ends the response with a single pooled buffer when closed, or the output stream that was
+     * already set, e.g. by a {@link jakarta.ws.rs.container.ContainerResponseFilter}.
+     * <p>
+     * Bodies larger than the output buffer size are written to {@link #getOrCreateOutputStream()}.
+     */
+    public OutputStream createBufferedResponseOutputStream() {
+        OutputStream outputStream = getOutputStream();
+        if (outputStream != null) {
+            return outputStream;
+        }
+        return new BufferedResponseOutputStream(VertxByteBufAllocator.POOLED_ALLOCATOR,
+                getDeployment().getResteasyReactiveConfig().getOutputBufferSize()) {
+            @Override
+            protected void endResponse(ByteBuf body) {
+                if (body == null) {
+                    end();
+                } else {
+                    response.end(new NoBoundChecksBuffer(body), null);
+                }
+            }
+
+            @Override
+            protected OutputStream createOverflowStream() {
+                return getOrCreateOutputStream();
+            }
+        };
+    }
+
     @Override
     public void setPreCommitListener(Consumer<ResteasyReactiveRequestContext> task) {
         preCommitTask = task;
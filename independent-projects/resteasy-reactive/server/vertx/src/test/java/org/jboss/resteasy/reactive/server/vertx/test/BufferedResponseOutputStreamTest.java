@@ -0,0 +1,109 @@
+package org.jboss.resteasy.reactive.server.vertx.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.jboss.resteasy.reactive.server.vertx.BufferedResponseOutputStream;
+import org.junit.jupiter.api.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+
+public class BufferedResponseOutputStreamTest {
+
+    @Test
+    public void testBodyWithinLimit() throws IOException {
+        TestStream stream = new TestStream(8);
+        stream.write("abc".getBytes(StandardCharsets.UTF_8));
+        stream.write('d');
+        stream.flush();
+        assertNull(stream.body);
+        stream.close();
+        assertEquals("abcd", stream.body.toString(StandardCharsets.UTF_8));
+        assertEquals(0, stream.overflow.size());
+        stream.body.release();
+    }
+
+    @Test
+    public void testEmptyBody() throws IOException {
+        TestStream stream = new TestStream(8);
+        stream.close();
+        assertTrue(stream.ended);
+        assertNull(stream.body);
+    }
+
+    @Test
+    public void testBodyExceedingLimit() throws IOException {
+        TestStream stream = new TestStream(8);
+        stream.write("abcdef".getBytes(StandardCharsets.UTF_8));
+        stream.write("ghijkl".getBytes(StandardCharsets.UTF_8));
+        stream.write('m');
+        stream.close();
+        assertFalse(stream.ended);
+        assertTrue(stream.overflowClosed);
+        assertArrayEquals("abcdefghijklm".getBytes(StandardCharsets.UTF_8), stream.overflow.toByteArray());
+    }
+
+    @Test
+    public void testSingleBytes() throws IOException {
+        TestStream stream = new TestStream(4);
+        for (byte b : "abcd".getBytes(StandardCharsets.UTF_8)) {
+            stream.write(b);
+        }
+        assertEquals(0, stream.overflow.size());
+        stream.write('e');
+        stream.write('f');
+        stream.close();
+        assertFalse(stream.ended);
+        assertTrue(stream.overflowClosed);
+        assertArrayEquals("abcdef".getBytes(StandardCharsets.UTF_8), stream.overflow.toByteArray());
+    }
+
+    @Test
+    public void testDiscard() throws IOException {
+        TestStream stream = new TestStream(8);
+        stream.write("abc".getBytes(StandardCharsets.UTF_8));
+        stream.discard();
+        stream.close();
+        assertFalse(stream.ended);
+        assertThrows(IOException.class, () -> stream.write('a'));
+    }
+
+    static class TestStream extends BufferedResponseOutputStream {
+
+        final ByteArrayOutputStream overflow = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                overflowClosed = true;
+            }
+        };
+        ByteBuf body;
+        boolean ended;
+        boolean overflowClosed;
+
+        TestStream(int limit) {
+            super(UnpooledByteBufAllocator.DEFAULT, limit);
+        }
+
+        @Override
+        protected void endResponse(ByteBuf body) {
+            this.ended = true;
+            this.body = body;
+        }
+
+        @Override
+        protected OutputStream createOverflowStream() {
+            return overflow;
+        }
+    }
+
+}
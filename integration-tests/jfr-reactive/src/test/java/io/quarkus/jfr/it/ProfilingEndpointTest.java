@@ -0,0 +1,65 @@
+package io.quarkus.jfr.it;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+public class ProfilingEndpointTest {
+
+    private static final String ENDPOINT = "/q/jfr";
+
+    @Test
+    public void startDumpStop() {
+        given()
+                .when().get(ENDPOINT)
+                .then()
+                .statusCode(404);
+
+        given()
+                .when().post(ENDPOINT)
+                .then()
+                .statusCode(201);
+
+        given()
+                .when().post(ENDPOINT)
+                .then()
+                .statusCode(200);
+
+        given()
+                .when().get("/app/blocking")
+                .then()
+                .statusCode(200);
+
+        byte[] recording = given()
+                .when().get(ENDPOINT)
+                .then()
+                .statusCode(200)
+                .header("Content-Type", is("application/octet-stream"))
+                .extract()
+                .asByteArray();
+
+        // magic bytes of the JFR file format
+        Assertions.assertTrue(recording.length > 4);
+        Assertions.assertEquals("FLR\0", new String(recording, 0, 4));
+
+        given()
+                .when().delete(ENDPOINT)
+                .then()
+                .statusCode(204);
+
+        given()
+                .when().delete(ENDPOINT)
+                .then()
+                .statusCode(404);
+
+        given()
+                .when().put(ENDPOINT)
+                .then()
+                .statusCode(405);
+    }
+}